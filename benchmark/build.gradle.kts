@@ -0,0 +1,8 @@
+import defined.SimpleIniBenchmarkProject
+
+plugins {
+	id("common-java-library")
+	application
+}
+
+SimpleIniBenchmarkProject.configureAll(project)
\ No newline at end of file
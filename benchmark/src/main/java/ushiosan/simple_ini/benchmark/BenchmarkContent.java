@@ -0,0 +1,153 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Properties;
+
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Utility class used to generate the content of the benchmarks.
+ * <p>
+ * The content is generated with {@link IniCorpus} and the default seed, so the results of different
+ * executions can be compared.
+ */
+final class BenchmarkContent {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private BenchmarkContent() {
+	}
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Number of entries of each section
+	 */
+	static final int ENTRIES_PER_SECTION = 20;
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the number of sections required to generate the given number of lines
+	 *
+	 * @param lines the number of lines
+	 * @return the number of sections
+	 */
+	static int sectionsOf(int lines) {
+		return Math.max(1, lines / (ENTRIES_PER_SECTION + 2));
+	}
+
+	/**
+	 * Returns the corpus that generates approximately the given number of lines
+	 *
+	 * @param lines the approximate number of lines
+	 * @param shape the content shape
+	 * @return the content corpus
+	 */
+	static @NotNull IniCorpus corpus(int lines, @NotNull Shape shape) {
+		IniCorpus.Builder builder = IniCorpus.builder()
+			.setSections(sectionsOf(lines))
+			.setKeysPerSection(ENTRIES_PER_SECTION);
+		switch (shape) {
+			case ADVANCED:
+				builder.setAdvancedHeaders(true);
+				break;
+			case MULTILINE:
+				builder.setMultilineRatio(0.5);
+				break;
+			case GODOT:
+				builder.setStyle(IniCorpus.Style.GODOT);
+				break;
+			default:
+				break;
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Generates the ini content
+	 *
+	 * @param lines the approximate number of lines
+	 * @param shape the content shape
+	 * @return the ini content
+	 */
+	static byte @NotNull [] ini(int lines, @NotNull Shape shape) {
+		return corpus(lines, shape).toBytes();
+	}
+
+	/**
+	 * Generates the same entries of {@link #ini(int, Shape)} with the {@link Properties} format.
+	 * The entry names have the format {@code section.key}.
+	 *
+	 * @param lines the approximate number of lines
+	 * @return the properties content
+	 */
+	static byte @NotNull [] properties(int lines) {
+		return corpus(lines, Shape.SIMPLE).toPropertiesBytes();
+	}
+
+	/**
+	 * Load the content into a new ini object
+	 *
+	 * @param content the ini content
+	 * @param shape   the content shape
+	 * @return the loaded ini object
+	 * @throws IOException error if something goes wrong
+	 */
+	static @NotNull SimpleIni<Section> load(byte @NotNull [] content, @NotNull Shape shape) throws IOException {
+		SimpleIni<Section> result = new SimpleIni<>();
+		result.load(new ByteArrayInputStream(content), corpus(0, shape).getOptions());
+		return result;
+	}
+
+	/**
+	 * Load the content into a new properties object
+	 *
+	 * @param content the properties content
+	 * @return the loaded properties object
+	 * @throws IOException error if something goes wrong
+	 */
+	static @NotNull Properties loadProperties(byte @NotNull [] content) throws IOException {
+		Properties result = new Properties();
+		result.load(new ByteArrayInputStream(content));
+		return result;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Content shape
+	 */
+	enum Shape {
+		/**
+		 * Simple sections and entries
+		 */
+		SIMPLE,
+		/**
+		 * Sections with attributes
+		 */
+		ADVANCED,
+		/**
+		 * Entries with multiple lines
+		 */
+		MULTILINE,
+		/**
+		 * Godot scene
+		 */
+		GODOT
+	}
+
+}
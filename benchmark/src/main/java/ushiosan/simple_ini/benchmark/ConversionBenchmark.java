@@ -0,0 +1,140 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import ushiosan.simple_ini.conversion.CollectionConverter;
+import ushiosan.simple_ini.conversion.ConverterRegistry;
+import ushiosan.simple_ini.conversion.NumberConverter;
+
+/**
+ * Benchmarks of the value converters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Plain text separator
+	 */
+	private static final String LITERAL_SEPARATOR = ",";
+
+	/**
+	 * Regular expression separator
+	 */
+	private static final String REGEX_SEPARATOR = "\\s*,\\s*";
+
+	/**
+	 * Number of list elements
+	 */
+	@Param({"8", "128"})
+	public int elements;
+
+	/**
+	 * List content
+	 */
+	private String listContent;
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Generates the list content
+	 */
+	@Setup
+	public void setup() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < elements; i++) {
+			if (i > 0) builder.append(", ");
+			builder.append(i * 37);
+		}
+		listContent = builder.toString();
+	}
+
+	/**
+	 * Split the content with a plain text separator
+	 *
+	 * @return all elements
+	 */
+	@Benchmark
+	public List<String> toList() {
+		return CollectionConverter.toList(listContent, LITERAL_SEPARATOR);
+	}
+
+	/**
+	 * Split the content with a regular expression separator
+	 *
+	 * @return all elements
+	 */
+	@Benchmark
+	public List<String> toListRegex() {
+		return CollectionConverter.toList(listContent, REGEX_SEPARATOR);
+	}
+
+	/**
+	 * Iterate the elements without generating a collection
+	 *
+	 * @param blackhole the element consumer
+	 */
+	@Benchmark
+	public void iterate(Blackhole blackhole) {
+		for (String element : CollectionConverter.iterate(listContent, LITERAL_SEPARATOR)) {
+			blackhole.consume(element);
+		}
+	}
+
+	/**
+	 * Convert the content to an int array
+	 *
+	 * @return all elements
+	 */
+	@Benchmark
+	public Optional<int[]> toIntArray() {
+		return CollectionConverter.toIntArray(listContent, LITERAL_SEPARATOR);
+	}
+
+	/**
+	 * Convert a single number
+	 *
+	 * @return the converted number
+	 */
+	@Benchmark
+	public Optional<Number> toNumber() {
+		return NumberConverter.toNumber("123456.75");
+	}
+
+	/**
+	 * Convert a duration with the default registry
+	 *
+	 * @return the converted duration
+	 */
+	@Benchmark
+	public Duration toDuration() {
+		return ConverterRegistry.getDefault().convert("1h 30m", Duration.class);
+	}
+
+}
@@ -0,0 +1,669 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import ushiosan.simple_ini.IniOptions;
+
+/**
+ * Deterministic generator of synthetic ini content.
+ * <p>
+ * The same configuration (including the seed) always generates the same content, so the corpus can be used
+ * to compare benchmark results and as input of stress tests. The content is written while it is generated,
+ * so very large files (millions of entries) do not need to be stored in memory.
+ * <p>
+ * Each entry has a type that depends on its position ({@link #keyName(int)}): text, boolean, integer,
+ * decimal or a comma separated list of integers.
+ */
+public final class IniCorpus {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Number of entry types
+	 */
+	public static final int ENTRY_TYPES = 5;
+
+	/**
+	 * Entry name prefixes by type
+	 */
+	private static final String[] KEY_PREFIXES = {"text_", "flag_", "count_", "ratio_", "list_"};
+
+	/**
+	 * Words used to generate text values
+	 */
+	private static final String[] WORDS = {
+		"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel", "india", "juliet",
+		"kilo", "lima", "mike", "november", "oscar", "papa", "quebec", "romeo", "sierra", "tango"
+	};
+
+	/**
+	 * Godot node types
+	 */
+	private static final String[] NODE_TYPES = {"Node2D", "Sprite", "Label", "Control", "Area2D", "CollisionShape2D"};
+
+	/**
+	 * Random generator seed
+	 */
+	private final long seed;
+
+	/**
+	 * Number of sections
+	 */
+	private final int sections;
+
+	/**
+	 * Number of entries of each section
+	 */
+	private final int keysPerSection;
+
+	/**
+	 * Minimum length of the text values
+	 */
+	private final int minValueLength;
+
+	/**
+	 * Maximum length of the text values
+	 */
+	private final int maxValueLength;
+
+	/**
+	 * Distribution of the text value lengths
+	 */
+	private final LengthDistribution distribution;
+
+	/**
+	 * Probability (from 0 to 1) that a text value is split into multiple lines
+	 */
+	private final double multilineRatio;
+
+	/**
+	 * Determines if the section headers have attributes
+	 */
+	private final boolean advancedHeaders;
+
+	/**
+	 * Content style
+	 */
+	private final Style style;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param builder the configured builder
+	 */
+	private IniCorpus(@NotNull Builder builder) {
+		this.seed = builder.seed;
+		this.sections = builder.sections;
+		this.keysPerSection = builder.keysPerSection;
+		this.minValueLength = builder.minValueLength;
+		this.maxValueLength = builder.maxValueLength;
+		this.distribution = builder.distribution;
+		this.multilineRatio = builder.multilineRatio;
+		this.advancedHeaders = builder.advancedHeaders;
+		this.style = builder.style;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the random generator seed
+	 *
+	 * @return the generator seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the number of generated sections (the default section is not included)
+	 *
+	 * @return the number of sections
+	 */
+	public int getSections() {
+		return sections;
+	}
+
+	/**
+	 * Returns the number of entries of each section
+	 *
+	 * @return the number of entries of each section
+	 */
+	public int getKeysPerSection() {
+		return keysPerSection;
+	}
+
+	/**
+	 * Returns the total number of generated entries
+	 *
+	 * @return the number of entries
+	 */
+	public long getEntries() {
+		return (long) sections * keysPerSection;
+	}
+
+	/**
+	 * Returns the content style
+	 *
+	 * @return the content style
+	 */
+	public @NotNull Style getStyle() {
+		return style;
+	}
+
+	/**
+	 * Returns the options required to load the generated content
+	 *
+	 * @return the load options
+	 */
+	public @NotNull IniOptions getOptions() {
+		return IniOptions.createBuilder()
+			.setAdvanced(advancedHeaders || style == Style.GODOT)
+			.setMultiline(multilineRatio > 0 || style == Style.GODOT)
+			.build();
+	}
+
+	/**
+	 * Write the ini content
+	 *
+	 * @param writer the output element (it is flushed but not closed)
+	 * @throws IOException error if something goes wrong
+	 */
+	public void writeTo(@NotNull Writer writer) throws IOException {
+		BufferedWriter output = writer instanceof BufferedWriter ? (BufferedWriter) writer:
+			new BufferedWriter(writer, 1 << 16);
+		Random random = new Random(seed);
+		if (style == Style.GODOT) {
+			writeGodot(output, random);
+		} else {
+			for (int i = 0; i < sections; i++) {
+				writeSection(output, random, i);
+			}
+		}
+		output.flush();
+	}
+
+	/**
+	 * Write the ini content to a file
+	 *
+	 * @param location the file location
+	 * @throws IOException error if something goes wrong
+	 */
+	public void writeTo(@NotNull Path location) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(location, StandardCharsets.UTF_8)) {
+			writeTo(writer);
+		}
+	}
+
+	/**
+	 * Write the same entries with the {@link java.util.Properties} format. The entry names have the format
+	 * {@code section.key} and all values are written in a single line. Only the {@link Style#PLAIN} style
+	 * generates exactly the same entries.
+	 *
+	 * @param writer the output element (it is flushed but not closed)
+	 * @throws IOException error if something goes wrong
+	 */
+	public void writePropertiesTo(@NotNull Writer writer) throws IOException {
+		BufferedWriter output = writer instanceof BufferedWriter ? (BufferedWriter) writer:
+			new BufferedWriter(writer, 1 << 16);
+		Random random = new Random(seed);
+		for (int i = 0; i < sections; i++) {
+			String section = sectionName(i);
+			for (int j = 0; j < keysPerSection; j++) {
+				output.append(section).append('.').append(keyName(j)).append(" = ")
+					.append(String.join(" ", valueOf(random, j)));
+				output.newLine();
+			}
+		}
+		output.flush();
+	}
+
+	/**
+	 * Generates the ini content in memory
+	 *
+	 * @return the content bytes (UTF-8)
+	 */
+	public byte @NotNull [] toBytes() {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try {
+			writeTo(new OutputStreamWriter(result, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result.toByteArray();
+	}
+
+	/**
+	 * Generates the properties content in memory
+	 *
+	 * @return the content bytes (ISO-8859-1 compatible)
+	 * @see #writePropertiesTo(Writer)
+	 */
+	public byte @NotNull [] toPropertiesBytes() {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try {
+			writePropertiesTo(new OutputStreamWriter(result, StandardCharsets.ISO_8859_1));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result.toByteArray();
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return String.format("IniCorpus{seed=%d, sections=%d, keysPerSection=%d, style=%s}",
+			seed, sections, keysPerSection, style);
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Generates a new instance of the {@link Builder} class
+	 *
+	 * @return a new builder instance
+	 */
+	@Contract(" -> new")
+	public static @NotNull Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the name of the section at the given position
+	 *
+	 * @param index the section position
+	 * @return the section name
+	 */
+	public static @NotNull String sectionName(int index) {
+		return "section_" + index;
+	}
+
+	/**
+	 * Returns the name of the entry at the given position. The prefix of the name
+	 * determines the value type ({@code text_}, {@code flag_}, {@code count_}, {@code ratio_} or {@code list_}).
+	 *
+	 * @param index the entry position
+	 * @return the entry name
+	 */
+	public static @NotNull String keyName(int index) {
+		return KEY_PREFIXES[index % ENTRY_TYPES] + index;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Write a single section
+	 *
+	 * @param output the output element
+	 * @param random the random generator
+	 * @param index  the section position
+	 * @throws IOException error if something goes wrong
+	 */
+	private void writeSection(@NotNull BufferedWriter output, @NotNull Random random, int index) throws IOException {
+		output.append('[').append(sectionName(index));
+		if (advancedHeaders) {
+			output.append(" id=").append(String.valueOf(index))
+				.append(" type=\"").append(WORDS[index % WORDS.length]).append('"');
+		}
+		output.append(']');
+		output.newLine();
+		// Section entries
+		for (int j = 0; j < keysPerSection; j++) {
+			writeEntry(output, keyName(j), valueOf(random, j));
+		}
+		output.newLine();
+	}
+
+	/**
+	 * Write a scene with the format used by the Godot engine
+	 *
+	 * @param output the output element
+	 * @param random the random generator
+	 * @throws IOException error if something goes wrong
+	 */
+	private void writeGodot(@NotNull BufferedWriter output, @NotNull Random random) throws IOException {
+		int resources = Math.max(1, sections / 10);
+		output.append("[gd_scene load_steps=").append(String.valueOf(resources + 1)).append(" format=2]");
+		output.newLine();
+		output.newLine();
+		// External resources
+		for (int i = 1; i <= resources; i++) {
+			output.append("[ext_resource path=\"res://assets/").append(WORDS[i % WORDS.length]).append('_')
+				.append(String.valueOf(i)).append(".tres\" type=\"Texture\" id=").append(String.valueOf(i)).append(']');
+			output.newLine();
+		}
+		output.newLine();
+		// Scene nodes
+		for (int i = 0; i < sections; i++) {
+			output.append("[node name=\"").append(sectionName(i)).append("\" type=\"")
+				.append(NODE_TYPES[random.nextInt(NODE_TYPES.length)]).append('"');
+			if (i > 0) output.append(" parent=\".\"");
+			output.append(']');
+			output.newLine();
+			output.append("position = Vector2( ").append(String.valueOf(random.nextInt(2048))).append(", ")
+				.append(String.valueOf(random.nextInt(2048))).append(" )");
+			output.newLine();
+			output.append("texture = ExtResource( ").append(String.valueOf(1 + random.nextInt(resources))).append(" )");
+			output.newLine();
+			for (int j = 0; j < keysPerSection - 3; j++) {
+				writeEntry(output, keyName(j), valueOf(random, j));
+			}
+			output.append("__meta__ = {");
+			output.newLine();
+			output.append("\"_edit_lock_\" : true");
+			output.newLine();
+			output.append('}');
+			output.newLine();
+			output.newLine();
+		}
+	}
+
+	/**
+	 * Write a single entry
+	 *
+	 * @param output the output element
+	 * @param key    the entry name
+	 * @param lines  the entry value lines
+	 * @throws IOException error if something goes wrong
+	 */
+	private static void writeEntry(@NotNull BufferedWriter output, @NotNull String key, String @NotNull [] lines) throws IOException {
+		output.append(key).append(" = ").append(lines[0]);
+		output.newLine();
+		for (int i = 1; i < lines.length; i++) {
+			output.append(lines[i]);
+			output.newLine();
+		}
+	}
+
+	/**
+	 * Generates the value of the entry at the given position
+	 *
+	 * @param random the random generator
+	 * @param index  the entry position
+	 * @return the value lines (text values can have multiple lines)
+	 */
+	private String @NotNull [] valueOf(@NotNull Random random, int index) {
+		switch (index % ENTRY_TYPES) {
+			case 1:
+				return new String[]{String.valueOf(random.nextBoolean())};
+			case 2:
+				return new String[]{String.valueOf(random.nextInt(1_000_000))};
+			case 3:
+				return new String[]{String.valueOf(random.nextInt(1_000_000) / 1000.0)};
+			case 4:
+				StringBuilder list = new StringBuilder();
+				int size = 1 + random.nextInt(16);
+				for (int i = 0; i < size; i++) {
+					if (i > 0) list.append(", ");
+					list.append(random.nextInt(1000));
+				}
+				return new String[]{list.toString()};
+			default:
+				return textOf(random);
+		}
+	}
+
+	/**
+	 * Generates a text value
+	 *
+	 * @param random the random generator
+	 * @return the value lines
+	 */
+	private String @NotNull [] textOf(@NotNull Random random) {
+		int length = distribution.next(random, minValueLength, maxValueLength);
+		StringBuilder builder = new StringBuilder(length + 16);
+		while (builder.length() < length) {
+			if (builder.length() > 0) builder.append(' ');
+			builder.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		builder.setLength(Math.max(length, 1));
+		String content = builder.toString().trim();
+		if (content.isEmpty()) content = WORDS[0];
+		// Split the value into multiple lines (the continuation lines never look like entries)
+		int split = content.indexOf(' ', content.length() / 2);
+		if (random.nextDouble() >= multilineRatio || split == -1) return new String[]{content};
+		return new String[]{content.substring(0, split), content.substring(split + 1)};
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Content style
+	 */
+	public enum Style {
+		/**
+		 * Sections and entries
+		 */
+		PLAIN,
+		/**
+		 * Godot scene with external resources and nodes ({@code [node name="..." type="..."]})
+		 */
+		GODOT
+	}
+
+	/**
+	 * Distribution of the text value lengths
+	 */
+	public enum LengthDistribution {
+		/**
+		 * All lengths have the same probability
+		 */
+		UNIFORM,
+		/**
+		 * Short values are more common, but there are some long values
+		 */
+		SKEWED;
+
+		/**
+		 * Generates the next length
+		 *
+		 * @param random the random generator
+		 * @param min    the minimum length
+		 * @param max    the maximum length
+		 * @return the generated length
+		 */
+		int next(@NotNull Random random, int min, int max) {
+			double value = random.nextDouble();
+			if (this == SKEWED) value = value * value * value;
+			return min + (int) Math.round(value * (max - min));
+		}
+	}
+
+	/**
+	 * {@link IniCorpus} builder
+	 */
+	public static final class Builder {
+
+		/**
+		 * Random generator seed
+		 */
+		private long seed = 0x51A7E1L;
+
+		/**
+		 * Number of sections
+		 */
+		private int sections = 100;
+
+		/**
+		 * Number of entries of each section
+		 */
+		private int keysPerSection = 10;
+
+		/**
+		 * Minimum length of the text values
+		 */
+		private int minValueLength = 4;
+
+		/**
+		 * Maximum length of the text values
+		 */
+		private int maxValueLength = 32;
+
+		/**
+		 * Distribution of the text value lengths
+		 */
+		private LengthDistribution distribution = LengthDistribution.UNIFORM;
+
+		/**
+		 * Probability that a text value is split into multiple lines
+		 */
+		private double multilineRatio = 0;
+
+		/**
+		 * Determines if the section headers have attributes
+		 */
+		private boolean advancedHeaders = false;
+
+		/**
+		 * Content style
+		 */
+		private Style style = Style.PLAIN;
+
+		/**
+		 * This class can only be created with {@link IniCorpus#builder()}.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Change the random generator seed
+		 *
+		 * @param seed the generator seed
+		 * @return the current builder instance
+		 */
+		public @NotNull Builder setSeed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		/**
+		 * Change the number of sections
+		 *
+		 * @param sections the number of sections
+		 * @return the current builder instance
+		 * @throws IllegalArgumentException if the number is negative
+		 */
+		public @NotNull Builder setSections(int sections) {
+			if (sections < 0) throw new IllegalArgumentException("Invalid number of sections: " + sections);
+			this.sections = sections;
+			return this;
+		}
+
+		/**
+		 * Change the number of entries of each section
+		 *
+		 * @param keysPerSection the number of entries
+		 * @return the current builder instance
+		 * @throws IllegalArgumentException if the number is negative
+		 */
+		public @NotNull Builder setKeysPerSection(int keysPerSection) {
+			if (keysPerSection < 0) throw new IllegalArgumentException("Invalid number of entries: " + keysPerSection);
+			this.keysPerSection = keysPerSection;
+			return this;
+		}
+
+		/**
+		 * Change the number of sections to generate approximately the given number of entries
+		 *
+		 * @param entries the total number of entries
+		 * @return the current builder instance
+		 */
+		public @NotNull Builder setEntries(long entries) {
+			return setSections((int) Math.max(1, entries / Math.max(1, keysPerSection)));
+		}
+
+		/**
+		 * Change the length of the text values
+		 *
+		 * @param min          the minimum length
+		 * @param max          the maximum length
+		 * @param distribution the length distribution
+		 * @return the current builder instance
+		 * @throws IllegalArgumentException if the range is not valid
+		 */
+		public @NotNull Builder setValueLength(int min, int max, @NotNull LengthDistribution distribution) {
+			if (min < 1 || max < min)
+				throw new IllegalArgumentException(String.format("Invalid length range: [%d, %d]", min, max));
+			this.minValueLength = min;
+			this.maxValueLength = max;
+			this.distribution = distribution;
+			return this;
+		}
+
+		/**
+		 * Change the probability that a text value is split into multiple lines
+		 *
+		 * @param multilineRatio the probability (from 0 to 1)
+		 * @return the current builder instance
+		 * @throws IllegalArgumentException if the probability is not valid
+		 */
+		public @NotNull Builder setMultilineRatio(double multilineRatio) {
+			if (multilineRatio < 0 || multilineRatio > 1)
+				throw new IllegalArgumentException("Invalid multiline ratio: " + multilineRatio);
+			this.multilineRatio = multilineRatio;
+			return this;
+		}
+
+		/**
+		 * Change if the section headers have attributes
+		 *
+		 * @param advancedHeaders the value to set
+		 * @return the current builder instance
+		 */
+		public @NotNull Builder setAdvancedHeaders(boolean advancedHeaders) {
+			this.advancedHeaders = advancedHeaders;
+			return this;
+		}
+
+		/**
+		 * Change the content style
+		 *
+		 * @param style the content style
+		 * @return the current builder instance
+		 */
+		public @NotNull Builder setStyle(@NotNull Style style) {
+			this.style = style;
+			return this;
+		}
+
+		/**
+		 * Build the corpus with the provided values or default values instead.
+		 *
+		 * @return a configured instance of {@link IniCorpus}
+		 */
+		public @NotNull IniCorpus build() {
+			return new IniCorpus(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,95 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Benchmarks of the {@link SimpleIni#load(java.io.InputStream, ushiosan.simple_ini.IniOptions)} method.
+ * The {@link Properties} benchmark loads the same entries and is used as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Approximate number of lines
+	 */
+	@Param({"1000", "100000", "1000000"})
+	public int lines;
+
+	/**
+	 * Content shape
+	 */
+	@Param({"SIMPLE", "ADVANCED", "MULTILINE", "GODOT"})
+	public BenchmarkContent.Shape shape;
+
+	/**
+	 * Ini content
+	 */
+	private byte[] content;
+
+	/**
+	 * Properties content
+	 */
+	private byte[] propertiesContent;
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Generates the benchmark content
+	 */
+	@Setup
+	public void setup() {
+		content = BenchmarkContent.ini(lines, shape);
+		propertiesContent = BenchmarkContent.properties(lines);
+	}
+
+	/**
+	 * Load the ini content
+	 *
+	 * @return the loaded object
+	 * @throws IOException error if something goes wrong
+	 */
+	@Benchmark
+	public SimpleIni<Section> load() throws IOException {
+		return BenchmarkContent.load(content, shape);
+	}
+
+	/**
+	 * Load the same entries with {@link Properties}
+	 *
+	 * @return the loaded object
+	 * @throws IOException error if something goes wrong
+	 */
+	@Benchmark
+	public Properties loadProperties() throws IOException {
+		return BenchmarkContent.loadProperties(propertiesContent);
+	}
+
+}
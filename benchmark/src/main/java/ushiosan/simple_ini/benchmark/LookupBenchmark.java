@@ -0,0 +1,237 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Benchmarks of the section search and the typed getters. Each thread reads the sections in order,
+ * so the multithreaded benchmarks measure concurrent reads of the same object.
+ * The {@link Properties} benchmarks read the same entries and are used as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LookupBenchmark {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Approximate number of lines
+	 */
+	@Param({"1000", "100000"})
+	public int lines;
+
+	/**
+	 * Loaded ini object
+	 */
+	private SimpleIni<Section> ini;
+
+	/**
+	 * Loaded properties object
+	 */
+	private Properties properties;
+
+	/**
+	 * All section names
+	 */
+	private String[] names;
+
+	/**
+	 * All sections in the same order as the names
+	 */
+	private Section[] sections;
+
+	/**
+	 * Property names of the integer entries
+	 */
+	private String[] countKeys;
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Load the benchmark content
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	@Setup
+	public void setup() throws IOException {
+		ini = BenchmarkContent.load(BenchmarkContent.ini(lines, BenchmarkContent.Shape.SIMPLE), BenchmarkContent.Shape.SIMPLE);
+		properties = BenchmarkContent.loadProperties(BenchmarkContent.properties(lines));
+		int size = BenchmarkContent.sectionsOf(lines);
+		names = new String[size];
+		sections = new Section[size];
+		countKeys = new String[size];
+		for (int i = 0; i < size; i++) {
+			names[i] = IniCorpus.sectionName(i);
+			sections[i] = ini.getSection(names[i]).orElseThrow();
+			countKeys[i] = names[i] + '.' + IniCorpus.keyName(2);
+		}
+	}
+
+	/**
+	 * Search a section by its name
+	 *
+	 * @param cursor the thread position
+	 * @return the found section
+	 */
+	@Benchmark
+	public Optional<Section> getSection(Cursor cursor) {
+		return ini.getSection(names[cursor.next(names.length)]);
+	}
+
+	/**
+	 * Read an entry as text
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	public Optional<String> getString(Cursor cursor) {
+		return sections[cursor.next(sections.length)].get(IniCorpus.keyName(0));
+	}
+
+	/**
+	 * Read an entry with the typed getter
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	public Optional<Integer> getInteger(Cursor cursor) {
+		return sections[cursor.next(sections.length)].get(IniCorpus.keyName(2), Integer.class);
+	}
+
+	/**
+	 * Read an entry as number
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	public Optional<Number> getNumber(Cursor cursor) {
+		return sections[cursor.next(sections.length)].getAsNumber(IniCorpus.keyName(3));
+	}
+
+	/**
+	 * Read an entry as boolean
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	public Optional<Boolean> getBoolean(Cursor cursor) {
+		return sections[cursor.next(sections.length)].getAsBoolean(IniCorpus.keyName(1));
+	}
+
+	/**
+	 * Read an entry as int array
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	public Optional<int[]> getIntArray(Cursor cursor) {
+		return sections[cursor.next(sections.length)].getAsIntArray(IniCorpus.keyName(4));
+	}
+
+	/**
+	 * Read and convert the same entry with {@link Properties}
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	public int getPropertiesInteger(Cursor cursor) {
+		return Integer.parseInt(properties.getProperty(countKeys[cursor.next(countKeys.length)]));
+	}
+
+	/**
+	 * Read an entry with the typed getter from multiple threads
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Optional<Integer> getIntegerShared(Cursor cursor) {
+		return getInteger(cursor);
+	}
+
+	/**
+	 * Search a section by its name from multiple threads
+	 *
+	 * @param cursor the thread position
+	 * @return the found section
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Optional<Section> getSectionShared(Cursor cursor) {
+		return getSection(cursor);
+	}
+
+	/**
+	 * Read and convert the same entry with {@link Properties} from multiple threads
+	 *
+	 * @param cursor the thread position
+	 * @return the entry value
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public int getPropertiesIntegerShared(Cursor cursor) {
+		return getPropertiesInteger(cursor);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Position of each thread
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		/**
+		 * Current position
+		 */
+		private int position;
+
+		/**
+		 * Returns the next position
+		 *
+		 * @param size the number of elements
+		 * @return the next position
+		 */
+		int next(int size) {
+			if (++position >= size) position = 0;
+			return position;
+		}
+
+	}
+
+}
@@ -0,0 +1,97 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Benchmarks of the ini writer ({@link SimpleIni#store(Writer)} uses {@code IniWriter.storeAll()}).
+ * The output is discarded, so only the serialization is measured. The {@link Properties} benchmark
+ * writes the same entries and is used as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoreBenchmark {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Approximate number of lines
+	 */
+	@Param({"1000", "100000"})
+	public int lines;
+
+	/**
+	 * Content shape
+	 */
+	@Param({"SIMPLE", "ADVANCED"})
+	public BenchmarkContent.Shape shape;
+
+	/**
+	 * Loaded ini object
+	 */
+	private SimpleIni<Section> ini;
+
+	/**
+	 * Loaded properties object
+	 */
+	private Properties properties;
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Load the benchmark content
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	@Setup
+	public void setup() throws IOException {
+		ini = BenchmarkContent.load(BenchmarkContent.ini(lines, shape), shape);
+		properties = BenchmarkContent.loadProperties(BenchmarkContent.properties(lines));
+	}
+
+	/**
+	 * Write all ini content
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	@Benchmark
+	public void store() throws IOException {
+		ini.store(Writer.nullWriter());
+	}
+
+	/**
+	 * Write the same entries with {@link Properties}
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	@Benchmark
+	public void storeProperties() throws IOException {
+		properties.store(Writer.nullWriter(), null);
+	}
+
+}
@@ -0,0 +1,53 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import ushiosan.simple_ini.IniFootprint;
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Compares the estimations of {@link IniFootprint} with the real object graph measured by JOL.
+ */
+public class FootprintTest {
+
+	@Test
+	public void simpleEstimationTest() throws IOException {
+		checkEstimation(IniCorpus.builder()
+			.setSections(200)
+			.setKeysPerSection(20)
+			.build());
+	}
+
+	@Test
+	public void advancedEstimationTest() throws IOException {
+		checkEstimation(IniCorpus.builder()
+			.setSections(100)
+			.setKeysPerSection(15)
+			.setValueLength(1, 200, IniCorpus.LengthDistribution.SKEWED)
+			.setAdvancedHeaders(true)
+			.setMultilineRatio(0.2)
+			.build());
+	}
+
+	private static void checkEstimation(IniCorpus corpus) throws IOException {
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream(corpus.toBytes()), corpus.getOptions());
+
+		// The options are shared with other objects, so they are not part of the estimation
+		GraphLayout layout = GraphLayout.parseInstance(ini)
+			.subtract(GraphLayout.parseInstance(ini.getOptions()));
+		IniFootprint footprint = ini.estimateFootprint();
+		double ratio = footprint.getTotal() / (double) layout.totalSize();
+
+		System.out.printf("Estimated: %d bytes, measured: %d bytes (%.3f)\n",
+			footprint.getTotal(), layout.totalSize(), ratio);
+		Assert.assertTrue("Estimation error is greater than 5%: " + ratio, Math.abs(1.0 - ratio) <= 0.05);
+	}
+
+}
\ No newline at end of file
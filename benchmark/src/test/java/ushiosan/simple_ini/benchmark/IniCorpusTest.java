@@ -0,0 +1,114 @@
+package ushiosan.simple_ini.benchmark;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Properties;
+
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+public class IniCorpusTest {
+
+	@Test
+	public void deterministicTest() {
+		IniCorpus.Builder builder = IniCorpus.builder()
+			.setSections(50)
+			.setMultilineRatio(0.3)
+			.setValueLength(1, 200, IniCorpus.LengthDistribution.SKEWED);
+
+		byte[] first = builder.build().toBytes();
+		byte[] second = builder.build().toBytes();
+		byte[] other = builder.setSeed(42).build().toBytes();
+		Assert.assertArrayEquals(first, second);
+		Assert.assertFalse(Arrays.equals(first, other));
+
+		System.out.printf("Corpus size: %d bytes\n", first.length);
+	}
+
+	@Test
+	public void plainTest() throws IOException {
+		IniCorpus corpus = IniCorpus.builder()
+			.setEntries(1000)
+			.setKeysPerSection(10)
+			.build();
+		SimpleIni<Section> ini = load(corpus);
+		Properties properties = new Properties();
+		properties.load(new ByteArrayInputStream(corpus.toPropertiesBytes()));
+
+		Assert.assertEquals(corpus.getSections(), ini.realSize());
+		Assert.assertEquals(corpus.getEntries(), properties.size());
+		for (Section section : ini.getSections()) {
+			if (section == ini.getDefaultSection()) continue;
+			Assert.assertEquals(corpus.getKeysPerSection(), section.size());
+			Assert.assertTrue(section.getAsBoolean(IniCorpus.keyName(1)).isPresent());
+			Assert.assertTrue(section.getAsInteger(IniCorpus.keyName(2)).isPresent());
+			Assert.assertTrue(section.getAsIntArray(IniCorpus.keyName(4)).isPresent());
+			Assert.assertEquals(
+				properties.getProperty(section.getName() + '.' + IniCorpus.keyName(0)),
+				section.get(IniCorpus.keyName(0)).orElseThrow());
+		}
+	}
+
+	@Test
+	public void advancedTest() throws IOException {
+		IniCorpus corpus = IniCorpus.builder()
+			.setSections(20)
+			.setAdvancedHeaders(true)
+			.setMultilineRatio(1)
+			.setValueLength(20, 40, IniCorpus.LengthDistribution.UNIFORM)
+			.build();
+		SimpleIni<Section> ini = load(corpus);
+		SectionAdvanced section = (SectionAdvanced) ini.getSection(IniCorpus.sectionName(3)).orElseThrow();
+
+		Assert.assertEquals(corpus.getSections(), ini.realSize());
+		Assert.assertEquals(corpus.getKeysPerSection(), section.size());
+		Assert.assertEquals("3", section.getAttributes().get("id").orElseThrow());
+		Assert.assertTrue(section.get(IniCorpus.keyName(0)).orElseThrow().length() >= 20);
+	}
+
+	@Test
+	public void godotTest() throws IOException {
+		IniCorpus corpus = IniCorpus.builder()
+			.setSections(30)
+			.setStyle(IniCorpus.Style.GODOT)
+			.build();
+		String content = new String(corpus.toBytes(), StandardCharsets.UTF_8);
+		SimpleIni<Section> ini = load(corpus);
+
+		Assert.assertTrue(content.startsWith("[gd_scene"));
+		Assert.assertTrue(ini.realSize() > 0);
+
+		System.out.printf("Godot sections: %d\n", ini.realSize());
+	}
+
+	@Test
+	public void roundTripTest() throws IOException {
+		IniCorpus corpus = IniCorpus.builder()
+			.setSections(100)
+			.build();
+		SimpleIni<Section> ini = load(corpus);
+		StringWriter writer = new StringWriter();
+		ini.store(writer);
+
+		SimpleIni<Section> stored = new SimpleIni<>();
+		stored.load(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8)), corpus.getOptions());
+		Assert.assertEquals(ini.realSize(), stored.realSize());
+		for (Section section : ini.getSections()) {
+			Assert.assertEquals(section.pairSet(), stored.getSection(section.getName()).orElseThrow().pairSet());
+		}
+	}
+
+	private SimpleIni<Section> load(IniCorpus corpus) throws IOException {
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream(corpus.toBytes()), corpus.getOptions());
+		return ini;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package defined
+
+import defined.common.dependencyOf
+import org.gradle.api.Project
+import project.SimpleJavaProject
+import project.TypeDependency
+
+// JMH version used by the benchmarks
+private const val jmhVersion = "1.37"
+
+// JOL version used to validate the memory estimations
+private const val jolVersion = "0.17"
+
+object SimpleIniBenchmarkProject : SimpleJavaProject {
+	private lateinit var projectImpl: Project
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Project name
+	 */
+	override val projectName: String
+		get() = "Simple INI Benchmark"
+
+	/**
+	 * project group id
+	 */
+	override val projectGroup: String
+		get() = SimpleIniProject.projectGroup
+
+	/**
+	 * project artifact name. The benchmarks are not published
+	 */
+	override val artifactId: String?
+		get() = null
+
+	/**
+	 * project version string
+	 */
+	override val artifactVersion: String?
+		get() = SimpleIniProject.artifactVersion
+
+	/**
+	 * main class application. All benchmarks are executed with the JMH runner:
+	 * `gradle :benchmark:run --args="LoadBenchmark -f 1"`
+	 */
+	override val mainClassApp: String
+		get() = "org.openjdk.jmh.Main"
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * project dependency map
+	 *
+	 * @return All dependency map
+	 */
+	override fun dependencyMap(): Map<Any, List<*>?> = dependencyOf(
+		TypeDependency.IMPLEMENTATION to listOf<Any>(
+			currentProject().project(":library"),
+			"org.openjdk.jmh:jmh-core:$jmhVersion"
+		),
+		TypeDependency.ANNOTATION_PROCESSOR to listOf<Any>(
+			"org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion"
+		),
+		TypeDependency.TEST_IMPLEMENTATION to listOf<Any>(
+			"org.openjdk.jol:jol-core:$jolVersion"
+		)
+	)
+
+	/**
+	 * Returns the current project
+	 */
+	override fun currentProject(): Project =
+		projectImpl
+
+	/**
+	 * Define current project
+	 */
+	override fun setCurrentProject(project: Project) {
+		projectImpl = project
+	}
+
+	/**
+	 * Abstract project configuration
+	 */
+	override fun configureProject() = Unit
+
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package defined
+
+import defined.common.dependencyOf
+import defined.common.developersOf
+import defined.common.javadocLinksOf
+import defined.common.licensesOf
+import org.gradle.api.Project
+import org.gradle.api.plugins.ExtensionContainer
+import org.gradle.api.plugins.PluginContainer
+import org.gradle.api.tasks.TaskContainer
+import project.SimpleJavaProject
+import project.TypeDependency
+import publishing.*
+
+val SimpleIniProcessorProject.releasePublication
+	get() = PublicationInfo(
+		name = "release",
+		version = SimpleIniProject.releasePublication.version,
+		pom = PublicationPom(
+			artifactUrl = "https://github.com/Ushiosan23/simple_ini",
+			description = "Annotation processor that generates the binding code of simple-ini sections",
+			licenses = licensesOf(),
+			developers = developersOf(),
+			scm = ScmConnection()
+		)
+	)
+
+object SimpleIniProcessorProject : SimpleJavaProject, SimpleMavenProject {
+	private lateinit var projectImpl: Project
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Project name
+	 */
+	override val projectName: String
+		get() = "Simple INI Processor"
+
+	/**
+	 * project group id
+	 */
+	override val projectGroup: String
+		get() = SimpleIniProject.projectGroup
+
+	/**
+	 * project artifact name
+	 */
+	override val artifactId: String
+		get() = "simple-ini-processor"
+
+	/**
+	 * project version string
+	 */
+	override val artifactVersion: String?
+		get() = releasePublication.version
+
+	/**
+	 * All maven publications
+	 */
+	override val registeredPublications: List<PublicationInfo>
+		get() = listOf(releasePublication)
+
+	/**
+	 * project javadoc information
+	 */
+	override val javadocInfo: SimpleJavaProject.JavadocInfo
+		get() = SimpleJavaProject.JavadocInfo(
+			urls = javadocLinksOf()
+		)
+
+	/**
+	 * Generate automatically extra maven tasks
+	 */
+	override val autoGenerateMavenTasks: Boolean
+		get() = true
+
+	/**
+	 * Signing information
+	 */
+	override val signingInfo: SigningInfo
+		get() = SigningInfo(
+			getEnv("SIGNING_KEY_ID", ""),
+			getEnv("SIGNING_PASSWORD", ""),
+			getEnv("SIGNING_PGP_B64", "")
+		)
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * project dependency map. The processor does not depend on the library,
+	 * the library is only used to compile the generated code in the tests.
+	 *
+	 * @return All dependency map
+	 */
+	override fun dependencyMap(): Map<Any, List<*>?> = dependencyOf(
+		TypeDependency.TEST_IMPLEMENTATION to listOf<Any>(
+			currentProject().project(":library")
+		)
+	)
+
+	/**
+	 * Returns the current project
+	 */
+	override fun currentProject(): Project =
+		projectImpl
+
+	/**
+	 * Define current project
+	 */
+	override fun setCurrentProject(project: Project) {
+		projectImpl = project
+	}
+
+	/**
+	 * Abstract project configuration
+	 */
+	override fun configureProject() = Unit
+
+	/**
+	 * Configure all plugins per project
+	 *
+	 * @param project current project
+	 */
+	override fun configurePluginsProject(plugins: PluginContainer, extensions: ExtensionContainer) {
+		super<SimpleJavaProject>.configurePluginsProject(plugins, extensions)
+		super<SimpleMavenProject>.configurePluginsProject(plugins, extensions)
+	}
+
+	/**
+	 * Configure all task per project
+	 *
+	 * @param project current project
+	 */
+	override fun configureTaskProject(tasks: TaskContainer) {
+		super<SimpleJavaProject>.configureTaskProject(tasks)
+		super<SimpleMavenProject>.configureTaskProject(tasks)
+	}
+
+}
\ No newline at end of file
@@ -4,5 +4,6 @@ enum class TypeDependency(val entry: String) {
     IMPLEMENTATION("implementation"),
     COMPILE_ONLY("compileOnly"),
     TEST_IMPLEMENTATION("testImplementation"),
-    TEST_COMPILE_ONLY("testCompileOnly")
+    TEST_COMPILE_ONLY("testCompileOnly"),
+    ANNOTATION_PROCESSOR("annotationProcessor")
 }
\ No newline at end of file
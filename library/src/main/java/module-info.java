@@ -8,9 +8,12 @@
  */
 module com.github.ushiosan.simple_ini {
 	requires com.github.ushiosan.jvm_utilities;
+	requires java.management;
+	requires jdk.jfr;
 	requires static org.jetbrains.annotations;
 
 	exports ushiosan.simple_ini;
+	exports ushiosan.simple_ini.binding;
 	exports ushiosan.simple_ini.conversion;
 	exports ushiosan.simple_ini.section;
 }
\ No newline at end of file
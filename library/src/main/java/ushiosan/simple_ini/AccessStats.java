@@ -0,0 +1,350 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.TrackedSection;
+
+/**
+ * Class used to count the entry accesses of {@link Ini} and {@link Section} objects.
+ * <p>
+ * The objects are not modified, the accesses are only counted through the decorators returned by
+ * {@link #track(Ini)} and {@link #track(Section)}. Each entry uses {@link LongAdder} counters, so
+ * the decorated objects can be read by many threads without contention.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * AccessStats stats = new AccessStats();
+ * Ini<Section> tracked = stats.track(ini);
+ * // ... use the tracked object
+ * stats.report(System.out, 20);
+ * }</pre>
+ */
+public final class AccessStats {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Comparator used to rank the entries (most accessed first)
+	 */
+	private static final Comparator<KeyStats> RANK_COMPARATOR = Comparator
+		.comparingLong(KeyStats::getTotal).reversed()
+		.thenComparing(KeyStats::getSection)
+		.thenComparing(KeyStats::getKey);
+
+	/**
+	 * Counters by section and entry name
+	 */
+	private final Map<String, Map<String, Counters>> counters = new ConcurrentHashMap<>();
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns a decorator of the ini object that counts the entry accesses of all its sections
+	 *
+	 * @param ini the ini object to track
+	 * @return the tracked ini object
+	 */
+	@Contract("_ -> new")
+	public @NotNull Ini<Section> track(@NotNull Ini<?> ini) {
+		return new TrackedIni(ini, this);
+	}
+
+	/**
+	 * Returns a decorator of the section that counts its entry accesses
+	 *
+	 * @param section the section to track
+	 * @return the tracked section
+	 */
+	public @NotNull Section track(@NotNull Section section) {
+		if (section instanceof TrackedSection && ((TrackedSection) section).getStats() == this) return section;
+		return new TrackedSection(section, this);
+	}
+
+	/**
+	 * Register an entry access
+	 *
+	 * @param section    the section name
+	 * @param key        the entry name
+	 * @param conversion determines if the value was converted to another type
+	 * @param found      determines if the entry exists
+	 */
+	public void record(@NotNull String section, @NotNull CharSequence key, boolean conversion, boolean found) {
+		Counters result = counters(section, key.toString());
+		if (conversion) {
+			result.conversions.increment();
+		} else {
+			result.reads.increment();
+		}
+		if (!found) result.misses.increment();
+	}
+
+	/**
+	 * Returns the statistics of a single entry
+	 *
+	 * @param section the section name
+	 * @param key     the entry name
+	 * @return the entry statistics (all counters are zero if the entry was never accessed)
+	 */
+	public @NotNull KeyStats get(@NotNull CharSequence section, @NotNull CharSequence key) {
+		Map<String, Counters> entries = counters.get(section.toString());
+		Counters result = entries == null ? null:entries.get(key.toString());
+		return result == null ? new KeyStats(section.toString(), key.toString(), 0L, 0L, 0L):
+			result.snapshot(section.toString(), key.toString());
+	}
+
+	/**
+	 * Returns the statistics of all accessed entries, the most accessed entries first
+	 *
+	 * @return the ranked entry statistics
+	 */
+	public @NotNull List<KeyStats> ranking() {
+		List<KeyStats> result = new ArrayList<>();
+		for (Map.Entry<String, Map<String, Counters>> section : counters.entrySet()) {
+			for (Map.Entry<String, Counters> entry : section.getValue().entrySet()) {
+				result.add(entry.getValue().snapshot(section.getKey(), entry.getKey()));
+			}
+		}
+		result.sort(RANK_COMPARATOR);
+		return result;
+	}
+
+	/**
+	 * Returns the entries of the ini object that were never accessed
+	 *
+	 * @param ini the ini object to check
+	 * @return the unused entries with the format {@code section.key}
+	 */
+	public @NotNull List<String> unusedKeys(@NotNull Ini<?> ini) {
+		List<String> result = new ArrayList<>();
+		for (Section section : ini.getSections()) {
+			Map<String, Counters> entries = counters.get(section.getName());
+			for (String key : section.keys()) {
+				if (entries == null || !entries.containsKey(key)) {
+					result.add(section.getName() + '.' + key);
+				}
+			}
+		}
+		result.sort(Comparator.naturalOrder());
+		return result;
+	}
+
+	/**
+	 * Write the ranking of the most accessed entries
+	 *
+	 * @param output the report destination
+	 * @param limit  the maximum number of entries
+	 * @throws IOException error if something goes wrong
+	 */
+	public void report(@NotNull Appendable output, int limit) throws IOException {
+		List<KeyStats> ranking = ranking();
+		output.append(String.format("%-40s %12s %12s %12s%n", "entry", "reads", "conversions", "misses"));
+		for (int i = 0; i < Math.min(limit, ranking.size()); i++) {
+			KeyStats stats = ranking.get(i);
+			output.append(String.format("%-40s %12d %12d %12d%n", stats.getSection() + '.' + stats.getKey(),
+				stats.getReads(), stats.getConversions(), stats.getMisses()));
+		}
+	}
+
+	/**
+	 * Discard all counters
+	 */
+	public void reset() {
+		counters.clear();
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the counters of the entry. The maps are only modified the first time the entry is accessed.
+	 *
+	 * @param section the section name
+	 * @param key     the entry name
+	 * @return the entry counters
+	 */
+	private @NotNull Counters counters(@NotNull String section, @NotNull String key) {
+		Map<String, Counters> entries = counters.get(section);
+		if (entries == null) entries = counters.computeIfAbsent(section, it -> new ConcurrentHashMap<>());
+		Counters result = entries.get(key);
+		return result != null ? result:entries.computeIfAbsent(key, it -> new Counters());
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Access counters of a single entry
+	 */
+	private static final class Counters {
+
+		/**
+		 * Plain value reads
+		 */
+		final LongAdder reads = new LongAdder();
+
+		/**
+		 * Reads with type conversion
+		 */
+		final LongAdder conversions = new LongAdder();
+
+		/**
+		 * Reads of entries that do not exist
+		 */
+		final LongAdder misses = new LongAdder();
+
+		/**
+		 * Returns the current values of the counters
+		 *
+		 * @param section the section name
+		 * @param key     the entry name
+		 * @return the entry statistics
+		 */
+		@NotNull KeyStats snapshot(@NotNull String section, @NotNull String key) {
+			return new KeyStats(section, key, reads.sum(), conversions.sum(), misses.sum());
+		}
+
+	}
+
+	/**
+	 * Access statistics of a single entry
+	 */
+	@PrintOpts(getterAccess = true)
+	public static final class KeyStats {
+
+		/**
+		 * Section name
+		 */
+		private final String section;
+
+		/**
+		 * Entry name
+		 */
+		private final String key;
+
+		/**
+		 * Plain value reads
+		 */
+		private final long reads;
+
+		/**
+		 * Reads with type conversion
+		 */
+		private final long conversions;
+
+		/**
+		 * Reads of entries that do not exist
+		 */
+		private final long misses;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param section     the section name
+		 * @param key         the entry name
+		 * @param reads       the plain value reads
+		 * @param conversions the reads with type conversion
+		 * @param misses      the reads of entries that do not exist
+		 */
+		KeyStats(@NotNull String section, @NotNull String key, long reads, long conversions, long misses) {
+			this.section = section;
+			this.key = key;
+			this.reads = reads;
+			this.conversions = conversions;
+			this.misses = misses;
+		}
+
+		/**
+		 * Returns the section name
+		 *
+		 * @return the section name
+		 */
+		public @NotNull String getSection() {
+			return section;
+		}
+
+		/**
+		 * Returns the entry name
+		 *
+		 * @return the entry name
+		 */
+		public @NotNull String getKey() {
+			return key;
+		}
+
+		/**
+		 * Returns the number of plain value reads
+		 *
+		 * @return the number of plain value reads
+		 */
+		public long getReads() {
+			return reads;
+		}
+
+		/**
+		 * Returns the number of reads with type conversion ({@code getAs*} methods)
+		 *
+		 * @return the number of reads with type conversion
+		 */
+		public long getConversions() {
+			return conversions;
+		}
+
+		/**
+		 * Returns the number of reads of the entry when it did not exist
+		 *
+		 * @return the number of missing reads
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * Returns the total number of reads
+		 *
+		 * @return the total number of reads
+		 */
+		public long getTotal() {
+			return reads + conversions;
+		}
+
+		/**
+		 * Object string representation
+		 *
+		 * @return object string representation
+		 */
+		@Override
+		public @NotNull String toString() {
+			return Obj.toInstanceString(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,443 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.internal.jfr.IniEvents;
+
+/**
+ * Class used to write an {@link Ini} object in the background.
+ * <p>
+ * All store requests made within the same time window are combined into a single write operation,
+ * so a burst of modifications only rewrites the file once. Each request returns a {@link CompletableFuture}
+ * that is completed when the content has been written to the file.
+ * <p>
+ * The write operation is made while holding the monitor of the {@link Ini} object,
+ * if the object is modified from other threads those modifications must be synchronized on the same object.
+ */
+@PrintOpts(getterAccess = true, getterPrefix = "^(get|is)")
+public final class AsyncIniStore implements AutoCloseable {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default time window
+	 */
+	public static final Duration DEFAULT_WINDOW = Duration.ofMillis(250);
+
+	/**
+	 * Temporary file suffix
+	 */
+	private static final String TMP_SUFFIX = ".tmp";
+
+	/**
+	 * Target ini object
+	 */
+	private final Ini<?> ini;
+
+	/**
+	 * Target file location
+	 */
+	private final Path location;
+
+	/**
+	 * Time window used to combine requests
+	 */
+	private final long windowNanos;
+
+	/**
+	 * Executor used to write the content
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * Determines if the executor belongs to this object
+	 */
+	private final boolean ownExecutor;
+
+	/**
+	 * Number of completed store operations
+	 */
+	private final AtomicLong storeCount = new AtomicLong();
+
+	/**
+	 * Lock used to write only one file at a time
+	 */
+	private final Object storeLock = new Object();
+
+	/**
+	 * Pending store operation
+	 */
+	private CompletableFuture<Void> pending;
+
+	/**
+	 * Shutdown hook thread
+	 */
+	private Thread shutdownHook;
+
+	/**
+	 * Determines if the object is closed
+	 */
+	private boolean closed;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Primary constructor.
+	 *
+	 * @param ini      the ini object to store
+	 * @param location the file location
+	 * @param window   the time window used to combine requests
+	 * @param executor the executor used to write the content or {@code null} to use an internal one
+	 */
+	public AsyncIniStore(
+		@NotNull Ini<?> ini,
+		@NotNull Path location,
+		@NotNull Duration window,
+		@Nullable ScheduledExecutorService executor
+	) {
+		if (window.isNegative())
+			throw new IllegalArgumentException("Invalid time window. Negative duration given.");
+		this.ini = ini;
+		this.location = location;
+		this.windowNanos = window.toNanos();
+		this.ownExecutor = executor == null;
+		this.executor = executor != null ? executor:Executors.newSingleThreadScheduledExecutor(it -> {
+			Thread thread = new Thread(it, "simple-ini-store");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Secondary constructor. This constructor uses an internal executor.
+	 *
+	 * @param ini      the ini object to store
+	 * @param location the file location
+	 * @param window   the time window used to combine requests
+	 */
+	public AsyncIniStore(@NotNull Ini<?> ini, @NotNull Path location, @NotNull Duration window) {
+		this(ini, location, window, null);
+	}
+
+	/**
+	 * Secondary constructor. This constructor uses an internal executor
+	 * and the {@link #DEFAULT_WINDOW} time window.
+	 *
+	 * @param ini      the ini object to store
+	 * @param location the file location
+	 */
+	public AsyncIniStore(@NotNull Ini<?> ini, @NotNull Path location) {
+		this(ini, location, DEFAULT_WINDOW);
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Request a store operation. If there is already a pending operation,
+	 * the request is combined with it.
+	 *
+	 * @return a future that is completed when the content is written
+	 * @throws IllegalStateException      if the object is closed
+	 * @throws RejectedExecutionException if the executor does not accept the operation
+	 */
+	public synchronized @NotNull CompletableFuture<Void> requestStore() {
+		if (closed) throw new IllegalStateException("The store object is closed");
+		// Combine with the pending request
+		if (pending != null) return pending;
+		// Schedule a new operation. The request is only published if the operation is scheduled
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		executor.schedule(this::runPending, windowNanos, TimeUnit.NANOSECONDS);
+		pending = result;
+		return result;
+	}
+
+	/**
+	 * Writes all pending content immediately in the current thread.
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	public void flush() throws IOException {
+		CompletableFuture<Void> current = takePending();
+		if (current == null) return;
+		// Write the content
+		try {
+			storeImpl();
+			current.complete(null);
+		} catch (IOException | RuntimeException e) {
+			current.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Register a shutdown hook that writes the pending content when the JVM exits.
+	 *
+	 * @return the current instance
+	 */
+	@Contract("-> this")
+	public synchronized @NotNull AsyncIniStore flushOnExit() {
+		if (shutdownHook != null || closed) return this;
+		shutdownHook = new Thread(this::closeQuietly, "simple-ini-store-shutdown");
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+		return this;
+	}
+
+	/**
+	 * Returns the number of completed store operations
+	 *
+	 * @return the number of store operations
+	 */
+	public long getStoreCount() {
+		return storeCount.get();
+	}
+
+	/**
+	 * Returns the target file location
+	 *
+	 * @return the file location
+	 */
+	public @NotNull Path getLocation() {
+		return location;
+	}
+
+	/**
+	 * Check if the object has a pending store operation
+	 *
+	 * @return {@code true} if there is a pending operation or {@code false} otherwise
+	 */
+	public synchronized boolean isPending() {
+		return pending != null;
+	}
+
+	/**
+	 * Writes all pending content and releases all resources.
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void close() throws IOException {
+		Thread hook;
+		synchronized (this) {
+			if (closed) return;
+			closed = true;
+			hook = shutdownHook;
+		}
+		// Remove the shutdown hook (not possible if the JVM is already shutting down)
+		if (hook != null && hook != Thread.currentThread()) {
+			try {
+				Runtime.getRuntime().removeShutdownHook(hook);
+			} catch (IllegalStateException ignored) {
+			}
+		}
+		try {
+			flush();
+		} finally {
+			if (ownExecutor) executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Wait for a store request and throws the store error if it fails.
+	 *
+	 * @param future the future to wait
+	 * @throws IOException          error if the store operation fails
+	 * @throws InterruptedException if the current thread was interrupted
+	 */
+	public static void await(@NotNull CompletableFuture<Void> future) throws IOException, InterruptedException {
+		try {
+			future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) throw (IOException) cause;
+			if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+			throw new IOException(cause);
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Scheduled action. Writes the pending content.
+	 */
+	private void runPending() {
+		try {
+			flush();
+		} catch (IOException | RuntimeException ignored) {
+			// The error is reported by the future
+		}
+	}
+
+	/**
+	 * Close the object without errors. Used by the shutdown hook.
+	 */
+	private void closeQuietly() {
+		try {
+			close();
+		} catch (IOException ignored) {
+		}
+	}
+
+	/**
+	 * Returns and removes the pending operation
+	 *
+	 * @return the pending operation or {@code null} if there is nothing to write
+	 */
+	private synchronized @Nullable CompletableFuture<Void> takePending() {
+		CompletableFuture<Void> result = pending;
+		pending = null;
+		return result;
+	}
+
+	/**
+	 * Writes the content to a temporary file and replaces the target file,
+	 * so the file never contains partial content. The temporary file is forced to
+	 * the storage device before it replaces the target file, and it is deleted if
+	 * something goes wrong. The compression is selected with the target location,
+	 * not with the temporary file name.
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	private void storeImpl() throws IOException {
+		Path absolute = location.toAbsolutePath();
+		Path tmpLocation = absolute.resolveSibling(absolute.getFileName() + TMP_SUFFIX);
+		IniCompression compression = IniCompression.ofLocation(absolute);
+
+		synchronized (storeLock) {
+			try {
+				// Write the content
+				try (FileChannel channel = FileChannel.open(tmpLocation, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+					String previous = IniEvents.enterLocation(absolute);
+					try {
+						synchronized (ini) {
+							ini.store(compression.compress(new ChannelOutputStream(channel)));
+						}
+					} finally {
+						IniEvents.exitLocation(previous);
+					}
+					channel.force(true);
+				}
+				// Replace the file
+				try {
+					Files.move(tmpLocation, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tmpLocation, absolute, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} catch (IOException | RuntimeException e) {
+				try {
+					Files.deleteIfExists(tmpLocation);
+				} catch (IOException deleteError) {
+					e.addSuppressed(deleteError);
+				}
+				throw e;
+			}
+			storeCount.incrementAndGet();
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Stream that writes to a file channel without closing it,
+	 * so the channel can be forced after the content is written.
+	 */
+	private static final class ChannelOutputStream extends OutputStream {
+
+		/**
+		 * Target file channel
+		 */
+		private final FileChannel channel;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param channel the target file channel
+		 */
+		ChannelOutputStream(@NotNull FileChannel channel) {
+			this.channel = channel;
+		}
+
+		/**
+		 * Write a single byte
+		 *
+		 * @param value the byte to write
+		 * @throws IOException error if something goes wrong
+		 */
+		@Override
+		public void write(int value) throws IOException {
+			write(new byte[]{(byte) value}, 0, 1);
+		}
+
+		/**
+		 * Write a region of the buffer
+		 *
+		 * @param buffer the data to write
+		 * @param offset the region start
+		 * @param length the region length
+		 * @throws IOException error if something goes wrong
+		 */
+		@Override
+		public void write(byte @NotNull [] buffer, int offset, int length) throws IOException {
+			ByteBuffer source = ByteBuffer.wrap(buffer, offset, length);
+			while (source.hasRemaining()) {
+				channel.write(source);
+			}
+		}
+
+		/**
+		 * The channel is closed by the store operation
+		 */
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
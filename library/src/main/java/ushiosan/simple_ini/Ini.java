@@ -3,6 +3,7 @@ package ushiosan.simple_ini;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -11,12 +12,19 @@ import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import ushiosan.jvm_utilities.lang.collection.Collections;
 import ushiosan.jvm_utilities.lang.io.IO;
+import ushiosan.simple_ini.binding.SectionBinder;
+import ushiosan.simple_ini.internal.jfr.IniEvents;
+import ushiosan.simple_ini.internal.reader.IncludeCache;
+import ushiosan.simple_ini.internal.utilities.DigestUtils;
 import ushiosan.simple_ini.section.Section;
 
 /**
@@ -134,6 +142,100 @@ public interface Ini<T extends Section> {
 		}
 	}
 
+	/**
+	 * Extract the entry of all sections (included the default section) as long values.
+	 *
+	 * @param key          the entry name
+	 * @param defaultValue the value used by sections without a valid value
+	 * @param parallel     determines if the sections are processed in parallel
+	 * @return a column with the values of all sections
+	 */
+	default @NotNull IniColumn.OfLong longColumn(@NotNull CharSequence key, long defaultValue, boolean parallel) {
+		return IniColumn.extractLong(this, key, defaultValue, parallel);
+	}
+
+	/**
+	 * Extract the entry of all sections (included the default section) as long values.
+	 *
+	 * @param key      the entry name
+	 * @param parallel determines if the sections are processed in parallel
+	 * @return a column with the values of all sections
+	 * @see #longColumn(CharSequence, long, boolean)
+	 */
+	default @NotNull IniColumn.OfLong longColumn(@NotNull CharSequence key, boolean parallel) {
+		return longColumn(key, 0L, parallel);
+	}
+
+	/**
+	 * Extract the entry of all sections (included the default section) as double values.
+	 *
+	 * @param key          the entry name
+	 * @param defaultValue the value used by sections without a valid value
+	 * @param parallel     determines if the sections are processed in parallel
+	 * @return a column with the values of all sections
+	 */
+	default @NotNull IniColumn.OfDouble doubleColumn(@NotNull CharSequence key, double defaultValue, boolean parallel) {
+		return IniColumn.extractDouble(this, key, defaultValue, parallel);
+	}
+
+	/**
+	 * Extract the entry of all sections (included the default section) as double values.
+	 *
+	 * @param key      the entry name
+	 * @param parallel determines if the sections are processed in parallel
+	 * @return a column with the values of all sections
+	 * @see #doubleColumn(CharSequence, double, boolean)
+	 */
+	default @NotNull IniColumn.OfDouble doubleColumn(@NotNull CharSequence key, boolean parallel) {
+		return doubleColumn(key, Double.NaN, parallel);
+	}
+
+	/**
+	 * Generates a new object with the content of the selected section.
+	 *
+	 * @param key  the section name
+	 * @param type the object class
+	 * @param <B>  generic object type
+	 * @return a new object with the section content or {@link Optional#empty()} if the section does not exist
+	 * @see SectionBinder
+	 */
+	default <B> @NotNull Optional<B> bind(@NotNull CharSequence key, @NotNull Class<B> type) {
+		SectionBinder<B> binder = SectionBinder.of(type);
+		return getSection(key).map(binder::read);
+	}
+
+	/**
+	 * Generates an object for each section (the default section is not included).
+	 *
+	 * @param type the object class
+	 * @param <B>  generic object type
+	 * @return all generated objects
+	 * @see SectionBinder
+	 */
+	default <B> @NotNull List<B> bindAll(@NotNull Class<B> type) {
+		SectionBinder<B> binder = SectionBinder.of(type);
+		T defaultSection = getDefaultSection();
+		List<B> result = new ArrayList<>(size());
+		for (T section : getSections()) {
+			if (section != defaultSection) result.add(binder.read(section));
+		}
+		return result;
+	}
+
+	/**
+	 * Insert a new section with all properties of the object.
+	 *
+	 * @param key    the section name
+	 * @param source the object to write
+	 * @param <B>    generic object type
+	 * @see SectionBinder
+	 */
+	@SuppressWarnings("unchecked")
+	default <B> void putObject(@NotNull CharSequence key, @NotNull B source) {
+		SectionBinder<B> binder = SectionBinder.of((Class<B>) source.getClass());
+		put(binder.toSection(source, key));
+	}
+
 	/**
 	 * All accepted file extensions.
 	 *
@@ -144,7 +246,20 @@ public interface Ini<T extends Section> {
 	}
 
 	/**
-	 * Load content from file location
+	 * Estimate the heap memory retained by the sections of the object
+	 * (names, entries, attributes and containers).
+	 *
+	 * @return the memory estimation
+	 * @see IniFootprint
+	 */
+	default @NotNull IniFootprint estimateFootprint() {
+		return IniFootprint.estimate(this);
+	}
+
+	/**
+	 * Load content from file location.
+	 * <p>
+	 * Compressed files ({@code .ini.gz} or {@code .ini.deflate}) are decompressed while they are read.
 	 *
 	 * @param location the file location
 	 * @param options  settings for data upload
@@ -153,12 +268,22 @@ public interface Ini<T extends Section> {
 	default void load(@NotNull Path location, @NotNull IniOptions options) throws IOException {
 		if (Files.isDirectory(location))
 			throw new IOException("Invalid regular file. Directory given.");
-		// Check extensions
-		Optional<String> extension = IO.getExtension(location);
+		// Check extensions (compression extensions are ignored)
+		Path realLocation = IniCompression.ofLocation(location)
+			.removeExtension(location);
+		Optional<String> extension = IO.getExtension(realLocation);
 		if (extension.isEmpty() || !acceptedExtensions().contains(extension.get()))
 			throw new IOException(String.format("Invalid file extension. Only \"%s\" accepted", acceptedExtensions()));
-		// Load content
-		load(Files.newInputStream(location), options);
+		// Load content. Compressed content is detected by its magic bytes
+		String previous = IniEvents.enterLocation(location);
+		// The file location is also used to resolve the include directives
+		IncludeCache.Chain previousFile = options.supportIncludes() ? IncludeCache.enterFile(location):null;
+		try {
+			load(IniCompression.decompressDetected(Files.newInputStream(location)), options);
+		} finally {
+			if (options.supportIncludes()) IncludeCache.exitFile(previousFile);
+			IniEvents.exitLocation(previous);
+		}
 	}
 
 	/**
@@ -192,13 +317,50 @@ public interface Ini<T extends Section> {
 
 	/**
 	 * Writes the content of the object to an external source.
+	 * <p>
+	 * The content is compressed if the file has a compression extension ({@code .gz} or {@code .deflate}).
 	 *
 	 * @param location the file to write
 	 * @throws IOException error if something goes wrong. Error to store
 	 *                     file information
+	 * @see IniCompression
 	 */
 	default void store(@NotNull Path location) throws IOException {
-		store(Files.newOutputStream(location, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+		String previous = IniEvents.enterLocation(location);
+		// The file is closed even if the compression stream cannot be created
+		try (OutputStream stream = Files.newOutputStream(location, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			store(IniCompression.ofLocation(location).compress(stream));
+		} finally {
+			IniEvents.exitLocation(previous);
+		}
+	}
+
+	/**
+	 * Writes the content of the object to an external source only if the content is different.
+	 * <p>
+	 * The content hash is calculated while the content is serialized and compared with the hash of the
+	 * current file. If both are the same the file is not modified. This only works if the output is
+	 * deterministic, so the date header must be disabled (see {@link IniOptions#isTimestampHeader()}).
+	 *
+	 * @param location the file to write
+	 * @return {@code true} if the file was written or {@code false} if the content did not change
+	 * @throws IOException error if something goes wrong. Error to store
+	 *                     file information
+	 */
+	default boolean storeIfChanged(@NotNull Path location) throws IOException {
+		MessageDigest digest = DigestUtils.newDigest();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		// Serialize the content and calculate its hash
+		store(IniCompression.ofLocation(location).compress(new DigestOutputStream(buffer, digest)));
+		byte[] hash = digest.digest();
+		// Compare with the current file
+		if (Files.isRegularFile(location) && Files.size(location) == buffer.size() &&
+			MessageDigest.isEqual(hash, DigestUtils.digest(location))) return false;
+		// Write the content
+		try (OutputStream stream = Files.newOutputStream(location, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			buffer.writeTo(stream);
+		}
+		return true;
 	}
 
 	/**
@@ -0,0 +1,453 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ushiosan.simple_ini.internal.reader.IncludeCache;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Process-wide cache of parsed ini files.
+ * <p>
+ * The cached objects are read only (all modification methods throw an {@link UnsupportedOperationException}),
+ * so the same instance is shared by all callers. The entries are identified by the real file location and
+ * the options, and each entry remembers the size and modification time of the file: the file is only
+ * parsed again when it changes. If many threads request the same file at the same time, it is parsed once.
+ * <p>
+ * The most recently used entries are kept in memory (see {@link #setMaximumSize(int)}). The older entries are
+ * only kept through soft references, so they can be reused until the garbage collector needs the memory.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * Ini<Section> ini = IniCache.get(Path.of("app.ini"), IniOptions.DEFAULT);
+ * }</pre>
+ */
+public final class IniCache {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private IniCache() {
+	}
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default number of entries kept in memory
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+	/**
+	 * Lock used to access the entries
+	 */
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Recently used entries (least recently used first)
+	 */
+	private static final LinkedHashMap<Key, Entry> RECENT = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Evicted entries that the garbage collector has not discarded yet
+	 */
+	private static final Map<Key, SoftEntry> EVICTED = new HashMap<>();
+
+	/**
+	 * Queue of the discarded evicted entries
+	 */
+	private static final ReferenceQueue<Entry> DISCARDED = new ReferenceQueue<>();
+
+	/**
+	 * Files that are being parsed
+	 */
+	private static final Map<Key, CompletableFuture<Entry>> LOADING = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of entries kept in memory
+	 */
+	private static int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the parsed content of the file. The file is only parsed if it is not cached or if it
+	 * was modified since it was parsed.
+	 * <p>
+	 * The load listener of the options is only notified when the file is parsed.
+	 *
+	 * @param location the file location
+	 * @param options  settings for data upload
+	 * @return the read-only content of the file
+	 * @throws IOException error if something goes wrong. Invalid file, invalid extension, etc...
+	 */
+	public static @NotNull Ini<Section> get(@NotNull Path location, @NotNull IniOptions options) throws IOException {
+		Path realLocation = location.toRealPath();
+		// The stamp is taken before reading, a concurrent modification causes another parse later
+		BasicFileAttributes attributes = Files.readAttributes(realLocation, BasicFileAttributes.class);
+		Key key = new Key(realLocation, options);
+		Entry entry = lookup(key);
+		if (entry != null && entry.isFresh(attributes)) return entry.ini;
+
+		// Only one thread parses the file, the others wait for its result
+		CompletableFuture<Entry> task = new CompletableFuture<>();
+		CompletableFuture<Entry> running = LOADING.putIfAbsent(key, task);
+		if (running != null) return await(running).ini;
+		try {
+			entry = parse(realLocation, options, attributes);
+			synchronized (LOCK) {
+				EVICTED.remove(key);
+				RECENT.put(key, entry);
+				trim();
+			}
+			task.complete(entry);
+			return entry.ini;
+		} catch (IOException | RuntimeException e) {
+			task.completeExceptionally(e);
+			throw e;
+		} finally {
+			LOADING.remove(key, task);
+		}
+	}
+
+	/**
+	 * Returns the parsed content of the file using the default options.
+	 *
+	 * @param location the file location
+	 * @return the read-only content of the file
+	 * @throws IOException error if something goes wrong. Invalid file, invalid extension, etc...
+	 * @see #get(Path, IniOptions)
+	 */
+	public static @NotNull Ini<Section> get(@NotNull Path location) throws IOException {
+		return get(location, IniOptions.DEFAULT);
+	}
+
+	/**
+	 * Change the number of entries kept in memory. The entries that exceed the size are only kept
+	 * through soft references.
+	 *
+	 * @param size the number of entries
+	 * @throws IllegalArgumentException if the size is negative
+	 */
+	public static void setMaximumSize(int size) {
+		if (size < 0)
+			throw new IllegalArgumentException("Invalid cache size. Negative size given.");
+		synchronized (LOCK) {
+			maximumSize = size;
+			trim();
+		}
+	}
+
+	/**
+	 * Returns the number of entries kept in memory
+	 *
+	 * @return the number of entries
+	 */
+	public static int getMaximumSize() {
+		synchronized (LOCK) {
+			return maximumSize;
+		}
+	}
+
+	/**
+	 * Returns the number of entries kept in memory (the soft referenced entries are not included)
+	 *
+	 * @return the number of entries
+	 */
+	public static int size() {
+		synchronized (LOCK) {
+			return RECENT.size();
+		}
+	}
+
+	/**
+	 * Discard all entries of the file
+	 *
+	 * @param location the file location
+	 */
+	public static void invalidate(@NotNull Path location) {
+		Path realLocation;
+		try {
+			realLocation = location.toRealPath();
+		} catch (IOException e) {
+			realLocation = location.toAbsolutePath().normalize();
+		}
+		Path target = realLocation;
+		synchronized (LOCK) {
+			RECENT.keySet().removeIf(it -> it.location.equals(target));
+			EVICTED.keySet().removeIf(it -> it.location.equals(target));
+		}
+	}
+
+	/**
+	 * Discard all entries
+	 */
+	public static void clear() {
+		synchronized (LOCK) {
+			RECENT.clear();
+			EVICTED.clear();
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Search the entry in memory or in the evicted entries. The evicted entries are moved back.
+	 *
+	 * @param key the entry key
+	 * @return the entry or {@code null} if it is not cached
+	 */
+	private static @Nullable Entry lookup(@NotNull Key key) {
+		synchronized (LOCK) {
+			expunge();
+			Entry result = RECENT.get(key);
+			if (result != null) return result;
+			SoftEntry reference = EVICTED.remove(key);
+			result = reference == null ? null:reference.get();
+			if (result != null) {
+				RECENT.put(key, result);
+				trim();
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Move the least recently used entries to the soft references. Must be called holding the lock.
+	 */
+	private static void trim() {
+		Iterator<Map.Entry<Key, Entry>> iterator = RECENT.entrySet().iterator();
+		while (RECENT.size() > maximumSize && iterator.hasNext()) {
+			Map.Entry<Key, Entry> eldest = iterator.next();
+			EVICTED.put(eldest.getKey(), new SoftEntry(eldest.getKey(), eldest.getValue()));
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Remove the evicted entries discarded by the garbage collector. Must be called holding the lock.
+	 */
+	private static void expunge() {
+		Reference<? extends Entry> reference;
+		while ((reference = DISCARDED.poll()) != null) {
+			SoftEntry entry = (SoftEntry) reference;
+			EVICTED.remove(entry.key, entry);
+		}
+	}
+
+	/**
+	 * Parse the file
+	 *
+	 * @param location   the real file location
+	 * @param options    settings for data upload
+	 * @param attributes the file attributes before reading
+	 * @return the cache entry
+	 * @throws IOException error if something goes wrong
+	 */
+	private static @NotNull Entry parse(
+		@NotNull Path location,
+		@NotNull IniOptions options,
+		@NotNull BasicFileAttributes attributes
+	) throws IOException {
+		SimpleIni<Section> ini = new SimpleIni<>();
+		// The included files are collected to detect their changes
+		IncludeCache.Chain previous = options.supportIncludes() ? IncludeCache.enterFile(location):null;
+		IncludeCache.Chain includes = options.supportIncludes() ? IncludeCache.current():null;
+		try {
+			ini.load(location, options);
+		} finally {
+			if (options.supportIncludes()) IncludeCache.exitFile(previous);
+		}
+		return new Entry(new UnmodifiableIni(ini), attributes.size(), attributes.lastModifiedTime(), includes);
+	}
+
+	/**
+	 * Wait for the parse task of another thread
+	 *
+	 * @param task the task to wait
+	 * @return the cache entry
+	 * @throws IOException error if the file cannot be read
+	 */
+	private static @NotNull Entry await(@NotNull CompletableFuture<Entry> task) throws IOException {
+		try {
+			return task.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) throw (IOException) cause;
+			if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Parsed file and its state when it was parsed
+	 */
+	private static final class Entry {
+
+		/**
+		 * Read-only content
+		 */
+		final Ini<Section> ini;
+
+		/**
+		 * File size
+		 */
+		final long size;
+
+		/**
+		 * File modification time
+		 */
+		final FileTime modified;
+
+		/**
+		 * Included files or {@code null} if the include directives are disabled
+		 */
+		final @Nullable IncludeCache.Chain includes;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param ini      the read-only content
+		 * @param size     the file size
+		 * @param modified the file modification time
+		 * @param includes the included files
+		 */
+		Entry(@NotNull Ini<Section> ini, long size, @NotNull FileTime modified, @Nullable IncludeCache.Chain includes) {
+			this.ini = ini;
+			this.size = size;
+			this.modified = modified;
+			this.includes = includes;
+		}
+
+		/**
+		 * Determines if the file (and its included files) was not modified
+		 *
+		 * @param attributes the current file attributes
+		 * @return {@code true} if the content is up-to-date or {@code false} otherwise
+		 */
+		boolean isFresh(@NotNull BasicFileAttributes attributes) {
+			return size == attributes.size() && modified.equals(attributes.lastModifiedTime()) &&
+				(includes == null || includes.isFresh());
+		}
+
+	}
+
+	/**
+	 * Soft reference of an evicted entry
+	 */
+	private static final class SoftEntry extends SoftReference<Entry> {
+
+		/**
+		 * Entry key
+		 */
+		final Key key;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param key   the entry key
+		 * @param entry the evicted entry
+		 */
+		SoftEntry(@NotNull Key key, @NotNull Entry entry) {
+			super(entry, DISCARDED);
+			this.key = key;
+		}
+
+	}
+
+	/**
+	 * Cache key. The options that change the content or the behavior of the object are compared,
+	 * the load listener is ignored.
+	 */
+	private static final class Key {
+
+		/**
+		 * Real file location
+		 */
+		final Path location;
+
+		/**
+		 * Option flags
+		 */
+		final int flags;
+
+		/**
+		 * Custom header comment
+		 */
+		final @Nullable String header;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param location the real file location
+		 * @param options  the load options
+		 */
+		Key(@NotNull Path location, @NotNull IniOptions options) {
+			this.location = location;
+			this.header = options.getHeader();
+			this.flags = (options.isAdvanced() ? 1:0) |
+				(options.supportMultilineValues() ? 1 << 1:0) |
+				(options.isPreserveValues() ? 1 << 2:0) |
+				(options.isInterpolation() ? 1 << 3:0) |
+				(options.supportIncludes() ? 1 << 4:0) |
+				(options.isTimestampHeader() ? 1 << 5:0) |
+				(options.isEscapes() ? 1 << 6:0);
+		}
+
+		/**
+		 * Check if both objects are equals
+		 *
+		 * @param obj the object to compare
+		 * @return {@code true} if both objects are equals or {@code false} otherwise
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof Key)) return false;
+			Key other = (Key) obj;
+			return flags == other.flags && location.equals(other.location) && Objects.equals(header, other.header);
+		}
+
+		/**
+		 * Object hash code
+		 *
+		 * @return object hash code
+		 */
+		@Override
+		public int hashCode() {
+			return (location.hashCode() * 31 + flags) * 31 + Objects.hashCode(header);
+		}
+
+	}
+
+}
@@ -0,0 +1,334 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import ushiosan.simple_ini.conversion.NumberConverter;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Values of the same entry extracted from all sections of an {@link Ini} object.
+ * <p>
+ * The values are stored in primitive arrays (in the same order as the section names) and a bitmap
+ * determines which sections contain a valid value, so no value is boxed.
+ *
+ * @see Ini#longColumn(CharSequence, boolean)
+ * @see Ini#doubleColumn(CharSequence, boolean)
+ */
+public abstract class IniColumn {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Entry name
+	 */
+	private final String key;
+
+	/**
+	 * Section names
+	 */
+	private final String[] sectionNames;
+
+	/**
+	 * Sections with a valid value
+	 */
+	private final BitSet presence;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param key          the entry name
+	 * @param sectionNames the section names
+	 * @param present      the sections with a valid value
+	 */
+	IniColumn(@NotNull String key, String @NotNull [] sectionNames, boolean @NotNull [] present) {
+		this.key = key;
+		this.sectionNames = sectionNames;
+		this.presence = new BitSet(present.length);
+		for (int i = 0; i < present.length; i++) {
+			if (present[i]) presence.set(i);
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the entry name
+	 *
+	 * @return the entry name
+	 */
+	public @NotNull String getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the number of sections in the column
+	 *
+	 * @return the number of sections
+	 */
+	public int size() {
+		return sectionNames.length;
+	}
+
+	/**
+	 * Returns the number of sections with a valid value
+	 *
+	 * @return the number of valid values
+	 */
+	public int presentCount() {
+		return presence.cardinality();
+	}
+
+	/**
+	 * Returns the section name at the given position
+	 *
+	 * @param index the section position
+	 * @return the section name
+	 */
+	public @NotNull String getSectionName(int index) {
+		return sectionNames[index];
+	}
+
+	/**
+	 * Returns the position of the section
+	 *
+	 * @param sectionName the section name
+	 * @return the section position or {@code -1} if the section is not in the column
+	 */
+	public int indexOf(@NotNull CharSequence sectionName) {
+		for (int i = 0; i < sectionNames.length; i++) {
+			if (sectionNames[i].contentEquals(sectionName)) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Check if the section at the given position has a valid value
+	 *
+	 * @param index the section position
+	 * @return {@code true} if the section has a valid value or {@code false} otherwise
+	 */
+	public boolean isPresent(int index) {
+		return presence.get(index);
+	}
+
+	/**
+	 * Returns a copy of the presence bitmap
+	 *
+	 * @return the presence bitmap
+	 */
+	public @NotNull BitSet getPresence() {
+		return (BitSet) presence.clone();
+	}
+
+	/**
+	 * Returns the positions of all valid values
+	 *
+	 * @return the valid value positions
+	 */
+	@NotNull IntStream presenceStream() {
+		return presence.stream();
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Extract the entry of all sections as long values
+	 *
+	 * @param ini          the source ini object
+	 * @param key          the entry name
+	 * @param defaultValue the value used by sections without valid value
+	 * @param parallel     determines if the sections are processed in parallel
+	 * @return a column with all values
+	 */
+	static @NotNull OfLong extractLong(@NotNull Ini<?> ini, @NotNull CharSequence key, long defaultValue, boolean parallel) {
+		Section[] sections = ini.getSections().toArray(new Section[0]);
+		long[] values = new long[sections.length];
+		boolean[] present = new boolean[sections.length];
+		// Extract all values
+		rangeOf(sections.length, parallel).forEach(i -> {
+			long[] result = new long[1];
+			Optional<String> content = sections[i].get(key);
+			present[i] = content.isPresent() && NumberConverter.tryParseLong(content.get(), result);
+			values[i] = present[i] ? result[0]:defaultValue;
+		});
+		return new OfLong(key.toString(), namesOf(sections), present, values);
+	}
+
+	/**
+	 * Extract the entry of all sections as double values
+	 *
+	 * @param ini          the source ini object
+	 * @param key          the entry name
+	 * @param defaultValue the value used by sections without valid value
+	 * @param parallel     determines if the sections are processed in parallel
+	 * @return a column with all values
+	 */
+	static @NotNull OfDouble extractDouble(@NotNull Ini<?> ini, @NotNull CharSequence key, double defaultValue, boolean parallel) {
+		Section[] sections = ini.getSections().toArray(new Section[0]);
+		double[] values = new double[sections.length];
+		boolean[] present = new boolean[sections.length];
+		// Extract all values
+		rangeOf(sections.length, parallel).forEach(i -> {
+			double[] result = new double[1];
+			Optional<String> content = sections[i].get(key);
+			present[i] = content.isPresent() && NumberConverter.tryParseDouble(content.get(), result);
+			values[i] = present[i] ? result[0]:defaultValue;
+		});
+		return new OfDouble(key.toString(), namesOf(sections), present, values);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the section positions stream
+	 *
+	 * @param size     the section count
+	 * @param parallel determines if the stream is parallel
+	 * @return the position stream
+	 */
+	private static @NotNull IntStream rangeOf(int size, boolean parallel) {
+		IntStream result = IntStream.range(0, size);
+		return parallel ? result.parallel():result;
+	}
+
+	/**
+	 * Returns the names of all sections
+	 *
+	 * @param sections the sections to check
+	 * @return the section names
+	 */
+	private static String @NotNull [] namesOf(Section @NotNull [] sections) {
+		String[] result = new String[sections.length];
+		for (int i = 0; i < sections.length; i++) {
+			result[i] = sections[i].getName();
+		}
+		return result;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Column with long values
+	 */
+	public static final class OfLong extends IniColumn {
+
+		/**
+		 * Column values
+		 */
+		private final long[] values;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param key          the entry name
+		 * @param sectionNames the section names
+		 * @param present      the sections with a valid value
+		 * @param values       the column values
+		 */
+		OfLong(@NotNull String key, String @NotNull [] sectionNames, boolean @NotNull [] present, long @NotNull [] values) {
+			super(key, sectionNames, present);
+			this.values = values;
+		}
+
+		/**
+		 * Returns the value at the given position
+		 *
+		 * @param index the section position
+		 * @return the section value or the default value if the section has no valid value
+		 */
+		public long get(int index) {
+			return values[index];
+		}
+
+		/**
+		 * Returns a copy of all values
+		 *
+		 * @return all column values
+		 */
+		public long @NotNull [] toArray() {
+			return values.clone();
+		}
+
+		/**
+		 * Returns only the valid values
+		 *
+		 * @return all valid column values
+		 */
+		public long @NotNull [] toPresentArray() {
+			return presenceStream().mapToLong(it -> values[it]).toArray();
+		}
+
+	}
+
+	/**
+	 * Column with double values
+	 */
+	public static final class OfDouble extends IniColumn {
+
+		/**
+		 * Column values
+		 */
+		private final double[] values;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param key          the entry name
+		 * @param sectionNames the section names
+		 * @param present      the sections with a valid value
+		 * @param values       the column values
+		 */
+		OfDouble(@NotNull String key, String @NotNull [] sectionNames, boolean @NotNull [] present, double @NotNull [] values) {
+			super(key, sectionNames, present);
+			this.values = values;
+		}
+
+		/**
+		 * Returns the value at the given position
+		 *
+		 * @param index the section position
+		 * @return the section value or the default value if the section has no valid value
+		 */
+		public double get(int index) {
+			return values[index];
+		}
+
+		/**
+		 * Returns a copy of all values
+		 *
+		 * @return all column values
+		 */
+		public double @NotNull [] toArray() {
+			return values.clone();
+		}
+
+		/**
+		 * Returns only the valid values
+		 *
+		 * @return all valid column values
+		 */
+		public double @NotNull [] toPresentArray() {
+			return presenceStream().mapToDouble(it -> values[it]).toArray();
+		}
+
+	}
+
+}
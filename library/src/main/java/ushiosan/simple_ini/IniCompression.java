@@ -0,0 +1,192 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression formats supported when loading or storing ini files.
+ * <p>
+ * The content is compressed or decompressed while it is written or read,
+ * so the entire file is never kept in memory.
+ */
+public enum IniCompression {
+
+	/**
+	 * Uncompressed content
+	 */
+	NONE(""),
+
+	/**
+	 * GZIP compressed content ({@code .ini.gz} files)
+	 */
+	GZIP("gz"),
+
+	/**
+	 * Deflate compressed content with zlib header ({@code .ini.deflate} files)
+	 */
+	DEFLATE("deflate");
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Stream buffer size
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Extension separator
+	 */
+	private static final char EXTENSION_SEPARATOR = '.';
+
+	/**
+	 * Compression file extension
+	 */
+	private final String extension;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param extension the file extension
+	 */
+	IniCompression(@NotNull String extension) {
+		this.extension = extension;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the compression file extension
+	 *
+	 * @return the file extension or empty string if the content is not compressed
+	 */
+	public @NotNull String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * Wraps the stream to decompress its content while it is read.
+	 *
+	 * @param stream the stream to wrap
+	 * @return a decompression stream
+	 * @throws IOException error if something goes wrong
+	 */
+	public @NotNull InputStream decompress(@NotNull InputStream stream) throws IOException {
+		switch (this) {
+			case GZIP:
+				return new GZIPInputStream(stream, BUFFER_SIZE);
+			case DEFLATE:
+				return new InflaterInputStream(stream, new Inflater(), BUFFER_SIZE);
+			default:
+				return stream;
+		}
+	}
+
+	/**
+	 * Wraps the stream to compress its content while it is written.
+	 *
+	 * @param stream the stream to wrap
+	 * @return a compression stream
+	 * @throws IOException error if something goes wrong
+	 */
+	public @NotNull OutputStream compress(@NotNull OutputStream stream) throws IOException {
+		switch (this) {
+			case GZIP:
+				return new GZIPOutputStream(stream, BUFFER_SIZE);
+			case DEFLATE:
+				return new DeflaterOutputStream(stream, new Deflater(), BUFFER_SIZE);
+			default:
+				return stream;
+		}
+	}
+
+	/**
+	 * Returns the location without the compression extension.
+	 *
+	 * @param location the location to check
+	 * @return the location without the compression extension
+	 */
+	public @NotNull Path removeExtension(@NotNull Path location) {
+		if (this == NONE) return location;
+		String name = location.getFileName().toString();
+		return location.resolveSibling(name.substring(0, name.length() - extension.length() - 1));
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the compression format depending on the file extension.
+	 *
+	 * @param location the file location
+	 * @return the compression format or {@link #NONE} if the extension is not a compression extension
+	 */
+	public static @NotNull IniCompression ofLocation(@NotNull Path location) {
+		Path fileName = location.getFileName();
+		if (fileName == null) return NONE;
+		String name = fileName.toString();
+		// Check all extensions
+		for (IniCompression compression : values()) {
+			if (compression == NONE) continue;
+			int index = name.length() - compression.extension.length() - 1;
+			if (index > 0 && name.charAt(index) == EXTENSION_SEPARATOR &&
+				name.regionMatches(true, index + 1, compression.extension, 0, compression.extension.length()))
+				return compression;
+		}
+		return NONE;
+	}
+
+	/**
+	 * Returns the compression format depending on the first bytes of the content.
+	 *
+	 * @param first  the first content byte
+	 * @param second the second content byte
+	 * @return the compression format or {@link #NONE} if the content is not compressed
+	 */
+	public static @NotNull IniCompression ofMagic(int first, int second) {
+		// GZIP magic number
+		if (first == 0x1F && second == 0x8B) return GZIP;
+		// Zlib header (32K window) with any compression level. Other headers are valid text content
+		if (first == 0x78 && (second == 0x01 || second == 0x5E || second == 0x9C || second == 0xDA))
+			return DEFLATE;
+		return NONE;
+	}
+
+	/**
+	 * Wraps the stream to decompress its content depending on its first bytes.
+	 *
+	 * @param stream the stream to wrap
+	 * @return the stream that decompresses the content if necessary
+	 * @throws IOException error if something goes wrong
+	 */
+	public static @NotNull InputStream decompressDetected(@NotNull InputStream stream) throws IOException {
+		InputStream buffered = stream.markSupported() ? stream:new BufferedInputStream(stream, BUFFER_SIZE);
+		// Read the magic bytes
+		buffered.mark(2);
+		int first = buffered.read();
+		int second = buffered.read();
+		buffered.reset();
+		// Wrap the content
+		return ofMagic(first, second).decompress(buffered);
+	}
+
+}
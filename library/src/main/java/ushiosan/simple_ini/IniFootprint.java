@@ -0,0 +1,428 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+/**
+ * Estimation of the heap memory retained by an {@link Ini} object.
+ * <p>
+ * The estimation uses the object layout of a 64-bit HotSpot JVM with compressed references
+ * (the default for heaps smaller than 32 GB), compact strings and hash based containers.
+ * Each string instance is only counted once, even if it is used by many entries. Objects shared
+ * with other instances (like the options) are not included.
+ *
+ * @see Ini#estimateFootprint()
+ */
+@PrintOpts(getterAccess = true)
+public final class IniFootprint {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Object header size
+	 */
+	static final int OBJECT_HEADER = 12;
+
+	/**
+	 * Array header size
+	 */
+	static final int ARRAY_HEADER = 16;
+
+	/**
+	 * Reference size
+	 */
+	static final int REFERENCE = 4;
+
+	/**
+	 * Object alignment
+	 */
+	static final int ALIGNMENT = 8;
+
+	/**
+	 * Shallow size of a {@link String} object (without its content array)
+	 */
+	static final long STRING = align(OBJECT_HEADER + REFERENCE + Integer.BYTES + 2);
+
+	/**
+	 * Shallow size of a {@link java.util.HashMap} object (without its table)
+	 */
+	static final long HASH_MAP = align(OBJECT_HEADER + REFERENCE * 4 + Integer.BYTES * 3 + Float.BYTES);
+
+	/**
+	 * Size of a {@link java.util.HashMap} entry
+	 */
+	static final long HASH_MAP_NODE = align(OBJECT_HEADER + Integer.BYTES + REFERENCE * 3);
+
+	/**
+	 * Shallow size of a {@link java.util.HashSet} object (without its map)
+	 */
+	static final long HASH_SET = align(OBJECT_HEADER + REFERENCE);
+
+	/**
+	 * Shallow size of an ini object ({@link SimpleIni} fields)
+	 */
+	static final long INI = align(OBJECT_HEADER + REFERENCE * 4);
+
+	/**
+	 * Shallow size of a section object ({@link ushiosan.simple_ini.section.AbstractSection} fields and the
+	 * attributes reference)
+	 */
+	static final long SECTION = align(OBJECT_HEADER + REFERENCE * 5);
+
+	/**
+	 * Sections estimation
+	 */
+	private final List<SectionFootprint> sections;
+
+	/**
+	 * Ini object and section container size
+	 */
+	private final long container;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param sections  the sections estimation
+	 * @param container the ini object and section container size
+	 */
+	private IniFootprint(@NotNull List<SectionFootprint> sections, long container) {
+		this.sections = Collections.unmodifiableList(sections);
+		this.container = container;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the estimation of each section, including the default section
+	 *
+	 * @return the sections estimation
+	 */
+	public @NotNull List<SectionFootprint> getSections() {
+		return sections;
+	}
+
+	/**
+	 * Returns the size of the ini object and its section container
+	 *
+	 * @return the container size in bytes
+	 */
+	public long getContainer() {
+		return container;
+	}
+
+	/**
+	 * Returns the estimated size of all sections and their container
+	 *
+	 * @return the total size in bytes
+	 */
+	public long getTotal() {
+		long result = container;
+		for (SectionFootprint section : sections) {
+			result += section.getTotal();
+		}
+		return result;
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Estimate the memory retained by the ini object
+	 *
+	 * @param ini the ini object to estimate
+	 * @return the memory estimation
+	 */
+	public static @NotNull IniFootprint estimate(@NotNull Ini<?> ini) {
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<SectionFootprint> sections = new ArrayList<>(ini.size());
+		// The default section is not always stored in the container
+		Section defaultSection = ini.getDefaultSection();
+		sections.add(estimate(defaultSection, visited));
+		int containerSize = 0;
+		for (Section section : ini.getSections()) {
+			containerSize++;
+			if (section != defaultSection) sections.add(estimate(section, visited));
+		}
+		return new IniFootprint(sections, INI + HASH_SET + HASH_MAP + hashTable(containerSize));
+	}
+
+	/**
+	 * Estimate the memory retained by a single section
+	 *
+	 * @param section the section to estimate
+	 * @return the memory estimation
+	 */
+	public static @NotNull SectionFootprint estimate(@NotNull Section section) {
+		return estimate(section, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Estimate the memory retained by a single section
+	 *
+	 * @param section the section to estimate
+	 * @param visited the strings that were already counted
+	 * @return the memory estimation
+	 */
+	private static @NotNull SectionFootprint estimate(@NotNull Section section, @NotNull Set<Object> visited) {
+		long[] content = entries(section, visited);
+		long attributes = 0L;
+		if (section instanceof SectionAdvanced) {
+			Section attributeSection = ((SectionAdvanced) section).getAttributes();
+			long[] attributeContent = entries(attributeSection, visited);
+			// The attributes always use an empty name
+			attributes = SECTION + string("", visited) + attributeContent[0] + attributeContent[1] + attributeContent[2];
+		}
+		long object = SECTION + string(section.getName(), visited);
+		return new SectionFootprint(section.getName(), section.size(), object, content[0], content[1],
+			content[2], attributes);
+	}
+
+	/**
+	 * Estimate the size of the section entries
+	 *
+	 * @param section the section to estimate
+	 * @param visited the strings that were already counted
+	 * @return the size of the keys, the values and the map structure
+	 */
+	private static long @NotNull [] entries(@NotNull Section section, @NotNull Set<Object> visited) {
+		long keys = 0L;
+		long values = 0L;
+		for (String key : section.keys()) {
+			keys += string(key, visited);
+			Optional<String> value = section.getRaw(key);
+			if (value.isPresent()) values += string(value.get(), visited);
+		}
+		return new long[]{keys, values, HASH_MAP + hashTable(section.size())};
+	}
+
+	/**
+	 * Estimate the size of the table and nodes of a hash map
+	 *
+	 * @param size the number of elements
+	 * @return the table size in bytes
+	 */
+	private static long hashTable(int size) {
+		// The table is created with the first element
+		if (size == 0) return 0L;
+		int capacity = 16;
+		while (size > capacity * 0.75) {
+			capacity <<= 1;
+		}
+		return align(ARRAY_HEADER + (long) REFERENCE * capacity) + HASH_MAP_NODE * size;
+	}
+
+	/**
+	 * Estimate the size of a string
+	 *
+	 * @param content the string to estimate
+	 * @param visited the strings that were already counted
+	 * @return the string size or {@code 0} if it was already counted
+	 */
+	private static long string(@NotNull String content, @NotNull Set<Object> visited) {
+		if (!visited.add(content)) return 0L;
+		// Compact strings use a single byte per character if possible
+		int bytesPerChar = 1;
+		for (int i = 0; i < content.length(); i++) {
+			if (content.charAt(i) > 0xFF) {
+				bytesPerChar = 2;
+				break;
+			}
+		}
+		return STRING + align(ARRAY_HEADER + (long) content.length() * bytesPerChar);
+	}
+
+	/**
+	 * Round the size to the object alignment
+	 *
+	 * @param size the size to round
+	 * @return the aligned size
+	 */
+	private static long align(long size) {
+		return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Estimation of the heap memory retained by a single section
+	 */
+	@PrintOpts(getterAccess = true)
+	public static final class SectionFootprint {
+
+		/**
+		 * Section name
+		 */
+		private final String name;
+
+		/**
+		 * Number of entries
+		 */
+		private final int entries;
+
+		/**
+		 * Section object and name size
+		 */
+		private final long object;
+
+		/**
+		 * Entry names size
+		 */
+		private final long keys;
+
+		/**
+		 * Entry values size
+		 */
+		private final long values;
+
+		/**
+		 * Entry map size
+		 */
+		private final long map;
+
+		/**
+		 * Section attributes size
+		 */
+		private final long attributes;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param name       the section name
+		 * @param entries    the number of entries
+		 * @param object     the section object and name size
+		 * @param keys       the entry names size
+		 * @param values     the entry values size
+		 * @param map        the entry map size
+		 * @param attributes the section attributes size
+		 */
+		SectionFootprint(@NotNull String name, int entries, long object, long keys, long values, long map, long attributes) {
+			this.name = name;
+			this.entries = entries;
+			this.object = object;
+			this.keys = keys;
+			this.values = values;
+			this.map = map;
+			this.attributes = attributes;
+		}
+
+		/**
+		 * Returns the section name
+		 *
+		 * @return the section name
+		 */
+		public @NotNull String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the number of entries
+		 *
+		 * @return the number of entries
+		 */
+		public int getEntries() {
+			return entries;
+		}
+
+		/**
+		 * Returns the size of the section object and its name
+		 *
+		 * @return the object size in bytes
+		 */
+		public long getObject() {
+			return object;
+		}
+
+		/**
+		 * Returns the size of the entry names
+		 *
+		 * @return the entry names size in bytes
+		 */
+		public long getKeys() {
+			return keys;
+		}
+
+		/**
+		 * Returns the size of the entry values
+		 *
+		 * @return the entry values size in bytes
+		 */
+		public long getValues() {
+			return values;
+		}
+
+		/**
+		 * Returns the size of the map structure (map object, table and nodes)
+		 *
+		 * @return the map size in bytes
+		 */
+		public long getMap() {
+			return map;
+		}
+
+		/**
+		 * Returns the size of the section attributes (object, map, names and values)
+		 *
+		 * @return the attributes size in bytes
+		 */
+		public long getAttributes() {
+			return attributes;
+		}
+
+		/**
+		 * Returns the estimated size of the section
+		 *
+		 * @return the total size in bytes
+		 */
+		public long getTotal() {
+			return object + keys + values + map + attributes;
+		}
+
+		/**
+		 * Object string representation
+		 *
+		 * @return object string representation
+		 */
+		@Override
+		public @NotNull String toString() {
+			return Obj.toInstanceString(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,23 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener notified each time the content of an {@link Ini} object is loaded.
+ * <p>
+ * The metrics are only collected when a listener is defined in the load options
+ * (see {@link IniOptions.Builder#setLoadListener(IniLoadListener)}), so the load process
+ * has no additional cost when the listener is not used.
+ */
+@FunctionalInterface
+public interface IniLoadListener {
+
+	/**
+	 * Method called when the load process finishes. This method is also called if the
+	 * load process fails, in which case {@link IniLoadStats#isCompleted()} returns {@code false}.
+	 *
+	 * @param stats the collected metrics
+	 */
+	void onLoad(@NotNull IniLoadStats stats);
+
+}
@@ -0,0 +1,110 @@
+package ushiosan.simple_ini;
+
+/**
+ * Interface that contains the metrics collected while the content of an {@link Ini} object is loaded.
+ * <p>
+ * The time of each phase is measured per line:
+ * <ul>
+ *     <li>Classification: detect comments, sections, entries and continuation lines</li>
+ *     <li>Extraction: parse the section names, attributes and entry values</li>
+ *     <li>Storage: insert the sections and entries and merge the multiline values</li>
+ * </ul>
+ * The time spent reading and decoding the stream is not part of any phase, but it is included
+ * in the total time.
+ *
+ * @see IniLoadListener
+ */
+public interface IniLoadStats {
+
+	/**
+	 * Returns the number of bytes read from the source stream
+	 *
+	 * @return the number of bytes read
+	 */
+	long getBytes();
+
+	/**
+	 * Returns the number of lines processed
+	 *
+	 * @return the number of lines processed
+	 */
+	long getLines();
+
+	/**
+	 * Returns the number of sections created
+	 *
+	 * @return the number of sections created
+	 */
+	long getSections();
+
+	/**
+	 * Returns the number of entries created
+	 *
+	 * @return the number of entries created
+	 */
+	long getEntries();
+
+	/**
+	 * Returns the number of continuation lines merged into multiline values
+	 *
+	 * @return the number of merged continuation lines
+	 */
+	long getContinuationMerges();
+
+	/**
+	 * Returns the time spent classifying the lines
+	 *
+	 * @return the classification time in nanoseconds
+	 */
+	long getClassificationNanos();
+
+	/**
+	 * Returns the time spent extracting the section and entry information
+	 *
+	 * @return the extraction time in nanoseconds
+	 */
+	long getExtractionNanos();
+
+	/**
+	 * Returns the time spent inserting the content into the object
+	 *
+	 * @return the storage time in nanoseconds
+	 */
+	long getStorageNanos();
+
+	/**
+	 * Returns the total load time
+	 *
+	 * @return the total load time in nanoseconds
+	 */
+	long getTotalNanos();
+
+	/**
+	 * Determines if the whole stream was processed. The value is {@code false}
+	 * if the load was interrupted by an error.
+	 *
+	 * @return {@code true} if the load finished or {@code false} otherwise
+	 */
+	boolean isCompleted();
+
+	/**
+	 * Returns the number of bytes processed per second
+	 *
+	 * @return the load throughput in bytes per second
+	 */
+	default double getBytesPerSecond() {
+		long total = getTotalNanos();
+		return total <= 0L ? 0.0:getBytes() * 1e9 / total;
+	}
+
+	/**
+	 * Returns the number of lines processed per second
+	 *
+	 * @return the load throughput in lines per second
+	 */
+	default double getLinesPerSecond() {
+		long total = getTotalNanos();
+		return total <= 0L ? 0.0:getLines() * 1e9 / total;
+	}
+
+}
@@ -0,0 +1,113 @@
+package ushiosan.simple_ini;
+
+/**
+ * Management interface of the {@link Ini} objects registered with {@link IniMonitor#register(SimpleIni, CharSequence)}.
+ * <p>
+ * The section and entry counts are computed from the current content each time they are read.
+ */
+public interface IniMXBean {
+
+	/**
+	 * Returns the number of sections (the default section is also counted)
+	 *
+	 * @return the number of sections
+	 */
+	int getSectionCount();
+
+	/**
+	 * Returns the number of entries of all sections
+	 *
+	 * @return the number of entries
+	 */
+	long getEntryCount();
+
+	/**
+	 * Returns the number of completed loads
+	 *
+	 * @return the number of loads
+	 */
+	long getLoadCount();
+
+	/**
+	 * Returns the number of completed loads after the first one
+	 *
+	 * @return the number of reloads
+	 */
+	long getReloadCount();
+
+	/**
+	 * Returns the time of the last completed load
+	 *
+	 * @return the time in milliseconds since the epoch or {@code 0} if the content was never loaded
+	 */
+	long getLastLoadTime();
+
+	/**
+	 * Returns the duration of the last completed load
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	long getLastLoadDuration();
+
+	/**
+	 * Returns the number of bytes read by all loads
+	 *
+	 * @return the number of bytes read
+	 */
+	long getLoadedBytes();
+
+	/**
+	 * Returns the number of completed stores
+	 *
+	 * @return the number of stores
+	 */
+	long getStoreCount();
+
+	/**
+	 * Returns the duration of the last completed store
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	long getLastStoreDuration();
+
+	/**
+	 * Returns the number of characters written by all stores
+	 *
+	 * @return the number of characters written
+	 */
+	long getStoredCharacters();
+
+	/**
+	 * Returns the number of section lookups
+	 *
+	 * @return the number of section lookups
+	 */
+	long getSectionLookups();
+
+	/**
+	 * Returns the ratio of interpolated values read from the stored results
+	 *
+	 * @return the hit ratio (between {@code 0} and {@code 1}) or {@code 0} if no value was interpolated
+	 */
+	double getInterpolationHitRatio();
+
+	/**
+	 * Returns the number of failed loads and stores
+	 *
+	 * @return the number of errors
+	 */
+	long getErrorCount();
+
+	/**
+	 * Returns the message of the last error
+	 *
+	 * @return the last error message or {@code null} if there are no errors
+	 */
+	String getLastError();
+
+	/**
+	 * Reset all counters
+	 */
+	void reset();
+
+}
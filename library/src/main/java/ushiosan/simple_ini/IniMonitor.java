@@ -0,0 +1,436 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.section.Interpolator;
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Management bean that exposes the metrics of a {@link SimpleIni} object through JMX.
+ * <p>
+ * The registration is optional, objects without a monitor are not measured. All counters are
+ * updated without locks ({@link LongAdder} and volatile fields), so the monitored object can be
+ * used by many threads. The monitor only keeps a weak reference to the ini object.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * IniMonitor monitor = IniMonitor.register(ini, "application");
+ * // ... use the ini object
+ * monitor.unregister();
+ * }</pre>
+ */
+@PrintOpts(getterAccess = true, getterPrefix = "^(get|is)")
+public final class IniMonitor implements IniMXBean {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Domain of the registered beans
+	 */
+	public static final String DOMAIN = "ushiosan.simple_ini";
+
+	/**
+	 * Maximum number of attempts to count the entries while the object is modified
+	 */
+	private static final int MAX_COUNT_ATTEMPTS = 3;
+
+	/**
+	 * Bean name
+	 */
+	private final ObjectName objectName;
+
+	/**
+	 * Monitored object
+	 */
+	private final WeakReference<SimpleIni<?>> target;
+
+	/**
+	 * Completed loads
+	 */
+	private final LongAdder loads = new LongAdder();
+
+	/**
+	 * Bytes read by all loads
+	 */
+	private final LongAdder loadedBytes = new LongAdder();
+
+	/**
+	 * Completed stores
+	 */
+	private final LongAdder stores = new LongAdder();
+
+	/**
+	 * Characters written by all stores
+	 */
+	private final LongAdder storedCharacters = new LongAdder();
+
+	/**
+	 * Section lookups
+	 */
+	private final LongAdder sectionLookups = new LongAdder();
+
+	/**
+	 * Failed loads and stores
+	 */
+	private final LongAdder errors = new LongAdder();
+
+	/**
+	 * Time of the last completed load (milliseconds since the epoch)
+	 */
+	private volatile long lastLoadTime;
+
+	/**
+	 * Duration of the last completed load in nanoseconds
+	 */
+	private volatile long lastLoadDuration;
+
+	/**
+	 * Duration of the last completed store in nanoseconds
+	 */
+	private volatile long lastStoreDuration;
+
+	/**
+	 * Message of the last error
+	 */
+	private volatile @Nullable String lastError;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param ini        the monitored object
+	 * @param objectName the bean name
+	 */
+	private IniMonitor(@NotNull SimpleIni<?> ini, @NotNull ObjectName objectName) {
+		this.target = new WeakReference<>(ini);
+		this.objectName = objectName;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the name used to register the bean
+	 *
+	 * @return the bean name
+	 */
+	public @NotNull ObjectName getObjectName() {
+		return objectName;
+	}
+
+	/**
+	 * Returns the current number of sections (the default section is also counted)
+	 *
+	 * @return the number of sections or {@code 0} if the object was collected
+	 */
+	@Override
+	public int getSectionCount() {
+		SimpleIni<?> ini = target.get();
+		return ini == null ? 0:ini.size();
+	}
+
+	/**
+	 * Returns the current number of entries of all sections. The sections are counted again
+	 * if the object is modified while they are counted.
+	 *
+	 * @return the number of entries or {@code 0} if the object was collected
+	 */
+	@Override
+	public long getEntryCount() {
+		SimpleIni<?> ini = target.get();
+		if (ini == null) return 0L;
+		for (int attempt = 1; ; attempt++) {
+			try {
+				long result = 0L;
+				for (Section section : ini.getSections()) {
+					result += section.size();
+				}
+				return result;
+			} catch (ConcurrentModificationException e) {
+				if (attempt == MAX_COUNT_ATTEMPTS) throw e;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of completed loads
+	 *
+	 * @return the number of loads
+	 */
+	@Override
+	public long getLoadCount() {
+		return loads.sum();
+	}
+
+	/**
+	 * Returns the number of completed loads after the first one
+	 *
+	 * @return the number of reloads
+	 */
+	@Override
+	public long getReloadCount() {
+		return Math.max(0L, loads.sum() - 1L);
+	}
+
+	/**
+	 * Returns the time of the last completed load
+	 *
+	 * @return the time in milliseconds since the epoch or {@code 0} if the content was never loaded
+	 */
+	@Override
+	public long getLastLoadTime() {
+		return lastLoadTime;
+	}
+
+	/**
+	 * Returns the duration of the last completed load
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	@Override
+	public long getLastLoadDuration() {
+		return lastLoadDuration;
+	}
+
+	/**
+	 * Returns the number of bytes read by all loads
+	 *
+	 * @return the number of bytes read
+	 */
+	@Override
+	public long getLoadedBytes() {
+		return loadedBytes.sum();
+	}
+
+	/**
+	 * Returns the number of completed stores
+	 *
+	 * @return the number of stores
+	 */
+	@Override
+	public long getStoreCount() {
+		return stores.sum();
+	}
+
+	/**
+	 * Returns the duration of the last completed store
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	@Override
+	public long getLastStoreDuration() {
+		return lastStoreDuration;
+	}
+
+	/**
+	 * Returns the number of characters written by all stores
+	 *
+	 * @return the number of characters written
+	 */
+	@Override
+	public long getStoredCharacters() {
+		return storedCharacters.sum();
+	}
+
+	/**
+	 * Returns the number of section lookups
+	 *
+	 * @return the number of section lookups
+	 */
+	@Override
+	public long getSectionLookups() {
+		return sectionLookups.sum();
+	}
+
+	/**
+	 * Returns the ratio of interpolated values read from the stored results. The ratio covers
+	 * the whole life of the current interpolator and is not affected by {@link #reset()}.
+	 *
+	 * @return the hit ratio (between {@code 0} and {@code 1}) or {@code 0} if no value was interpolated
+	 */
+	@Override
+	public double getInterpolationHitRatio() {
+		SimpleIni<?> ini = target.get();
+		Interpolator interpolator = ini == null ? null:ini.getInterpolator();
+		if (interpolator == null) return 0D;
+		long hits = interpolator.getHitCount();
+		long total = hits + interpolator.getMissCount();
+		return total == 0L ? 0D:(double) hits / total;
+	}
+
+	/**
+	 * Returns the number of failed loads and stores
+	 *
+	 * @return the number of errors
+	 */
+	@Override
+	public long getErrorCount() {
+		return errors.sum();
+	}
+
+	/**
+	 * Returns the message of the last error
+	 *
+	 * @return the last error message or {@code null} if there are no errors
+	 */
+	@Override
+	public @Nullable String getLastError() {
+		return lastError;
+	}
+
+	/**
+	 * Reset all counters. The section and entry counts are kept.
+	 */
+	@Override
+	public void reset() {
+		loads.reset();
+		loadedBytes.reset();
+		stores.reset();
+		storedCharacters.reset();
+		sectionLookups.reset();
+		errors.reset();
+		lastLoadTime = 0L;
+		lastLoadDuration = 0L;
+		lastStoreDuration = 0L;
+		lastError = null;
+	}
+
+	/**
+	 * Remove the bean from the platform server and stop measuring the ini object.
+	 * Calling this method more than once has no effect.
+	 */
+	public void unregister() {
+		SimpleIni<?> ini = target.get();
+		if (ini != null && ini.getMonitor() == this) ini.setMonitor(null);
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (InstanceNotFoundException ignored) {
+			// Already unregistered
+		} catch (JMException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Register a monitor of the ini object in the platform server. The bean uses the name
+	 * {@code ushiosan.simple_ini:type=Ini,name=<name>}. If the object already has a monitor, it
+	 * is unregistered first.
+	 *
+	 * @param ini  the object to monitor
+	 * @param name the bean name
+	 * @return the registered monitor
+	 * @throws IllegalArgumentException if the name is already registered
+	 */
+	@Contract("_, _ -> new")
+	public static @NotNull IniMonitor register(@NotNull SimpleIni<?> ini, @NotNull CharSequence name) {
+		IniMonitor monitor = new IniMonitor(ini, objectName(name));
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(monitor, monitor.objectName);
+		} catch (InstanceAlreadyExistsException e) {
+			throw new IllegalArgumentException("The name \"" + name + "\" is already registered", e);
+		} catch (JMException e) {
+			throw new IllegalStateException(e);
+		}
+		IniMonitor previous = ini.getMonitor();
+		if (previous != null) previous.unregister();
+		ini.setMonitor(monitor);
+		return monitor;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Register a finished load
+	 *
+	 * @param stats the load metrics
+	 */
+	void loadFinished(@NotNull IniLoadStats stats) {
+		// Failed loads are registered by the error method
+		if (!stats.isCompleted()) return;
+		loads.increment();
+		loadedBytes.add(stats.getBytes());
+		lastLoadDuration = stats.getTotalNanos();
+		lastLoadTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Register a finished store
+	 *
+	 * @param characters the number of characters written
+	 * @param nanos      the store duration
+	 */
+	void storeFinished(long characters, long nanos) {
+		stores.increment();
+		storedCharacters.add(characters);
+		lastStoreDuration = nanos;
+	}
+
+	/**
+	 * Register a section lookup
+	 */
+	void sectionLookup() {
+		sectionLookups.increment();
+	}
+
+	/**
+	 * Register a failed load or store
+	 *
+	 * @param error the error cause
+	 */
+	void error(@NotNull Throwable error) {
+		errors.increment();
+		lastError = error.getClass().getName() + ": " + error.getMessage();
+	}
+
+	/**
+	 * Create the bean name
+	 *
+	 * @param name the instance name
+	 * @return the bean name
+	 */
+	private static @NotNull ObjectName objectName(@NotNull CharSequence name) {
+		try {
+			return new ObjectName(DOMAIN + ":type=Ini,name=" + ObjectName.quote(name.toString()));
+		} catch (MalformedObjectNameException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+}
@@ -2,6 +2,7 @@ package ushiosan.simple_ini;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import ushiosan.simple_ini.internal.reader.SimpleIniOptions;
 
@@ -30,6 +31,77 @@ public interface IniOptions {
 	 */
 	boolean supportMultilineValues();
 
+	/**
+	 * Determines if the entry values are read verbatim. By default, the whitespace
+	 * inside unquoted values is collapsed to a single space.
+	 *
+	 * @return {@code true} if the values are preserved or {@code false} otherwise
+	 */
+	default boolean isPreserveValues() {
+		return false;
+	}
+
+	/**
+	 * Determines if the quoted values can contain backslash escape sequences
+	 * ({@code \n}, {@code \t}, {@code \"}, {@code \\} and unicode escapes). By default, the
+	 * backslashes are read verbatim, so values such as Windows paths do not change.
+	 *
+	 * @return {@code true} if the escape sequences are processed or {@code false} otherwise
+	 */
+	default boolean isEscapes() {
+		return false;
+	}
+
+	/**
+	 * Determines if the entry values can reference other entries ({@code ${key}} or {@code ${section.key}})
+	 * and environment variables ({@code ${env:NAME}}). The references are resolved when the values are read.
+	 *
+	 * @return {@code true} if the references are resolved or {@code false} otherwise
+	 * @see ushiosan.simple_ini.section.Interpolator
+	 */
+	default boolean isInterpolation() {
+		return false;
+	}
+
+	/**
+	 * Determines if the content can include other files with the {@code #include path} directive.
+	 * The path is relative to the file that contains the directive and each included file is only
+	 * parsed once per process (until the file is modified).
+	 *
+	 * @return {@code true} if the directives are processed or {@code false} otherwise
+	 */
+	default boolean supportIncludes() {
+		return false;
+	}
+
+	/**
+	 * Determines if the stored content starts with a comment that contains the current date.
+	 * Disable this option to generate the same output for the same content.
+	 *
+	 * @return {@code true} if the date header is written or {@code false} otherwise
+	 */
+	default boolean isTimestampHeader() {
+		return false;
+	}
+
+	/**
+	 * Custom comment written at the beginning of the stored content.
+	 *
+	 * @return the header comment or {@code null} if no custom header is defined
+	 */
+	default @Nullable String getHeader() {
+		return null;
+	}
+
+	/**
+	 * Listener notified with the metrics collected while the content is loaded.
+	 *
+	 * @return the load listener or {@code null} if the metrics are not collected
+	 */
+	default @Nullable IniLoadListener getLoadListener() {
+		return null;
+	}
+
 	/**
 	 * Generates a new instance of the {@link Builder} class
 	 *
@@ -61,6 +133,90 @@ public interface IniOptions {
 		 */
 		Builder setMultiline(boolean status);
 
+		/**
+		 * Change the preserve values mode settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 * @throws UnsupportedOperationException if the builder does not support the preserve values mode
+		 */
+		default Builder setPreserveValues(boolean status) {
+			if (status) throw new UnsupportedOperationException("Preserve values mode is not supported");
+			return this;
+		}
+
+		/**
+		 * Change the escape sequences mode settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 * @throws UnsupportedOperationException if the builder does not support the escape sequences
+		 */
+		default Builder setEscapes(boolean status) {
+			if (status) throw new UnsupportedOperationException("Escape sequences are not supported");
+			return this;
+		}
+
+		/**
+		 * Change the interpolation mode settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 * @throws UnsupportedOperationException if the builder does not support the interpolation mode
+		 */
+		default Builder setInterpolation(boolean status) {
+			if (status) throw new UnsupportedOperationException("Interpolation is not supported");
+			return this;
+		}
+
+		/**
+		 * Change the include directives mode on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 * @throws UnsupportedOperationException if the builder does not support the include directives
+		 */
+		default Builder setIncludes(boolean status) {
+			if (status) throw new UnsupportedOperationException("Include directives are not supported");
+			return this;
+		}
+
+		/**
+		 * Change the date header settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 * @throws UnsupportedOperationException if the builder does not support the date header
+		 */
+		default Builder setTimestampHeader(boolean status) {
+			if (status) throw new UnsupportedOperationException("Date header is not supported");
+			return this;
+		}
+
+		/**
+		 * Change the custom header comment on the object.
+		 *
+		 * @param header the header comment or {@code null} to omit it
+		 * @return the current builder instance
+		 * @throws UnsupportedOperationException if the builder does not support the custom header
+		 */
+		default Builder setHeader(@Nullable CharSequence header) {
+			if (header != null) throw new UnsupportedOperationException("Custom header is not supported");
+			return this;
+		}
+
+		/**
+		 * Change the load listener on the object.
+		 *
+		 * @param listener the load listener or {@code null} to disable the metrics
+		 * @return the current builder instance
+		 * @throws UnsupportedOperationException if the builder does not support load listeners
+		 */
+		default Builder setLoadListener(@Nullable IniLoadListener listener) {
+			if (listener != null) throw new UnsupportedOperationException("Load listener is not supported");
+			return this;
+		}
+
 		/**
 		 * Build the configuration with the provided values or default values instead.
 		 *
@@ -0,0 +1,716 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+import static ushiosan.jvm_utilities.lang.Obj.canCast;
+import static ushiosan.jvm_utilities.lang.Obj.cast;
+import ushiosan.jvm_utilities.lang.collection.elements.Pair;
+import ushiosan.simple_ini.internal.reader.IncludeCache;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.SimpleSection;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+/**
+ * Utility used to save and load {@link Ini} objects in a compact binary format.
+ * <p>
+ * The binary format contains a string table (every distinct name, key and value is saved only once)
+ * and a section table that references the strings by index, so it can be loaded without parsing the text.
+ * <p>
+ * The {@link #load(Ini, Path, IniOptions)} method uses a sidecar snapshot file next to the source file.
+ * The snapshot is only used if the size, modification time and content hash of the source
+ * file match, otherwise the text file is parsed and the snapshot is generated again. If the include
+ * directives are enabled, the snapshot also saves the size and modification time of the included
+ * files, and it is only used if none of them was modified.
+ */
+public final class IniSnapshot {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private IniSnapshot() {
+	}
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Snapshot file extension
+	 */
+	public static final String SNAPSHOT_EXTENSION = "snapshot";
+
+	/**
+	 * Snapshot magic number ("SINI")
+	 */
+	private static final int MAGIC = 0x53494E49;
+
+	/**
+	 * Snapshot format version
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Advanced option flag
+	 */
+	private static final int FLAG_ADVANCED = 1;
+
+	/**
+	 * Multiline option flag
+	 */
+	private static final int FLAG_MULTILINE = 1 << 1;
+
+	/**
+	 * Preserve values option flag
+	 */
+	private static final int FLAG_PRESERVE_VALUES = 1 << 2;
+
+	/**
+	 * Escape sequences option flag
+	 */
+	private static final int FLAG_ESCAPES = 1 << 3;
+
+	/**
+	 * Include directives option flag
+	 */
+	private static final int FLAG_INCLUDES = 1 << 4;
+
+	/**
+	 * Minimum size of an included file (location length, size and modification time)
+	 */
+	private static final int INCLUDE_SIZE = Short.BYTES + Long.BYTES * 2;
+
+	/**
+	 * Minimum size of a section (name index, attribute count and entry count)
+	 */
+	private static final int SECTION_SIZE = Integer.BYTES * 3;
+
+	/**
+	 * Size of a pair (key index and value index)
+	 */
+	private static final int PAIR_SIZE = Integer.BYTES * 2;
+
+	/**
+	 * Index used for {@code null} values
+	 */
+	private static final int NULL_INDEX = -1;
+
+	/**
+	 * Stream buffer size
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Write the ini content in binary format.
+	 *
+	 * @param ini    the ini to write
+	 * @param stream the target stream
+	 * @throws IOException error if something goes wrong
+	 */
+	public static void write(@NotNull Ini<?> ini, @NotNull OutputStream stream) throws IOException {
+		writeImpl(ini, stream, Fingerprint.EMPTY, List.of());
+	}
+
+	/**
+	 * Read the binary content and insert it to the ini object.
+	 *
+	 * @param ini     the target ini object
+	 * @param stream  the source stream
+	 * @param options the ini options
+	 * @throws IOException error if the content is not a valid snapshot
+	 */
+	public static void read(@NotNull Ini<?> ini, @NotNull InputStream stream, @NotNull IniOptions options)
+		throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(stream.readAllBytes()));
+		readHeader(input);
+		// Read the content
+		readContent(input).apply(ini, options);
+	}
+
+	/**
+	 * Load the content of the file using its snapshot if it is up-to-date.
+	 * If the snapshot is missing or outdated the text file is parsed and
+	 * the snapshot is generated again.
+	 *
+	 * @param ini      the target ini object
+	 * @param location the source file location
+	 * @param options  the ini options
+	 * @return {@code true} if the content was loaded from the snapshot or {@code false} otherwise
+	 * @throws IOException error if the source file cannot be read
+	 */
+	public static boolean load(@NotNull Ini<?> ini, @NotNull Path location, @NotNull IniOptions options)
+		throws IOException {
+		Fingerprint fingerprint = Fingerprint.of(location);
+		Path snapshotLocation = snapshotLocation(location);
+		// Try to use the snapshot
+		SnapshotContent content = readSnapshot(snapshotLocation, fingerprint, options);
+		if (content != null) {
+			content.apply(ini, options);
+			return true;
+		}
+		// Parse the text file and generate the snapshot. The included files are collected to detect their changes
+		IncludeCache.Chain previous = options.supportIncludes() ? IncludeCache.enterFile(location):null;
+		IncludeCache.Chain includes = options.supportIncludes() ? IncludeCache.current():null;
+		try {
+			ini.load(location, options);
+		} finally {
+			if (options.supportIncludes()) IncludeCache.exitFile(previous);
+		}
+		writeSnapshot(ini, snapshotLocation, fingerprint, includes != null ? includes.getSources():List.of());
+		return false;
+	}
+
+	/**
+	 * Returns the sidecar snapshot location of the file
+	 *
+	 * @param location the source file location
+	 * @return the snapshot location
+	 */
+	public static @NotNull Path snapshotLocation(@NotNull Path location) {
+		Path absolute = location.toAbsolutePath();
+		return absolute.resolveSibling(absolute.getFileName() + "." + SNAPSHOT_EXTENSION);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Read the snapshot file only if it matches the source fingerprint.
+	 *
+	 * @param location    the snapshot location
+	 * @param fingerprint the source fingerprint
+	 * @param options     the ini options
+	 * @return the snapshot content or {@code null} if the snapshot is not valid
+	 */
+	private static @Nullable SnapshotContent readSnapshot(
+		@NotNull Path location,
+		@NotNull Fingerprint fingerprint,
+		@NotNull IniOptions options
+	) {
+		if (!Files.isRegularFile(location)) return null;
+		// Invalid or outdated snapshots are ignored
+		try {
+			DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(location)));
+			Header header = readHeader(input);
+			if (!header.fingerprint.equals(fingerprint) || header.flags != flagsOf(options)) return null;
+			// Modified or deleted included files
+			for (IncludeCache.Stamp include : header.includes) {
+				if (!include.isFresh()) return null;
+			}
+			return readContent(input);
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Write the snapshot file. Errors are ignored because the snapshot
+	 * is only used as cache. Each write uses its own temporary file, so concurrent
+	 * writers never replace the snapshot with a partial file.
+	 *
+	 * @param ini         the ini to write
+	 * @param location    the snapshot location
+	 * @param fingerprint the source fingerprint
+	 * @param includes    the included files
+	 */
+	private static void writeSnapshot(
+		@NotNull Ini<?> ini,
+		@NotNull Path location,
+		@NotNull Fingerprint fingerprint,
+		@NotNull List<IncludeCache.Stamp> includes
+	) {
+		Path tmpLocation = null;
+		try {
+			tmpLocation = Files.createTempFile(location.getParent(), location.getFileName().toString(), ".tmp");
+			try (OutputStream stream = Files.newOutputStream(tmpLocation)) {
+				writeImpl(ini, stream, fingerprint, includes);
+			}
+			try {
+				Files.move(tmpLocation, location, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpLocation, location, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException ignored) {
+			if (tmpLocation == null) return;
+			try {
+				Files.deleteIfExists(tmpLocation);
+			} catch (IOException ignoredAgain) {
+			}
+		}
+	}
+
+	/**
+	 * Write the ini content in binary format.
+	 *
+	 * @param ini         the ini to write
+	 * @param stream      the target stream
+	 * @param fingerprint the source fingerprint
+	 * @param includes    the included files
+	 * @throws IOException error if something goes wrong
+	 */
+	private static void writeImpl(
+		@NotNull Ini<?> ini,
+		@NotNull OutputStream stream,
+		@NotNull Fingerprint fingerprint,
+		@NotNull List<IncludeCache.Stamp> includes
+	) throws IOException {
+		// The default section is always the first section
+		List<Section> sections = new ArrayList<>(ini.size());
+		Section defaultSection = ini.getDefaultSection();
+		sections.add(defaultSection);
+		for (Section section : ini.getSections()) {
+			if (section != defaultSection) sections.add(section);
+		}
+		// Generate the string table
+		StringTable table = new StringTable();
+		for (Section section : sections) {
+			table.add(section.getName());
+			for (Pair<String, String> pair : pairsOf(section)) table.add(pair.first, pair.second);
+			for (Pair<String, String> pair : attributesOf(section)) table.add(pair.first, pair.second);
+		}
+
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+		// Header
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeInt(flagsOf(ini.getOptions()));
+		output.writeLong(fingerprint.size);
+		output.writeLong(fingerprint.modified);
+		output.writeLong(fingerprint.hash);
+		output.writeInt(includes.size());
+		for (IncludeCache.Stamp include : includes) {
+			output.writeUTF(include.getLocation().toString());
+			output.writeLong(include.getSize());
+			output.writeLong(include.getModified().to(TimeUnit.NANOSECONDS));
+		}
+		// String table
+		output.writeInt(table.strings.size());
+		for (String string : table.strings) {
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		}
+		// Section table
+		output.writeInt(sections.size());
+		for (Section section : sections) {
+			output.writeInt(table.indexOf(section.getName()));
+			writePairs(output, table, attributesOf(section));
+			writePairs(output, table, pairsOf(section));
+		}
+		output.flush();
+	}
+
+	/**
+	 * Write a pair table
+	 *
+	 * @param output the target stream
+	 * @param table  the string table
+	 * @param pairs  the pairs to write
+	 * @throws IOException error if something goes wrong
+	 */
+	private static void writePairs(
+		@NotNull DataOutputStream output,
+		@NotNull StringTable table,
+		@NotNull List<Pair<String, String>> pairs
+	) throws IOException {
+		output.writeInt(pairs.size());
+		for (Pair<String, String> pair : pairs) {
+			output.writeInt(table.indexOf(pair.first));
+			output.writeInt(table.indexOf(pair.second));
+		}
+	}
+
+	/**
+	 * Read and validate the snapshot header. The stream must read a byte array,
+	 * so the number of remaining bytes is known.
+	 *
+	 * @param input the source stream
+	 * @return the snapshot header
+	 * @throws IOException error if the content is not a valid snapshot
+	 */
+	private static @NotNull Header readHeader(@NotNull DataInputStream input) throws IOException {
+		if (input.readInt() != MAGIC) throw new IOException("Invalid snapshot content");
+		if (input.readInt() != VERSION) throw new IOException("Unsupported snapshot version");
+		// Header data
+		int flags = input.readInt();
+		Fingerprint fingerprint = new Fingerprint(input.readLong(), input.readLong(), input.readLong());
+		int includeCount = readCount(input, INCLUDE_SIZE);
+		List<IncludeCache.Stamp> includes = new ArrayList<>(includeCount);
+		for (int i = 0; i < includeCount; i++) {
+			Path location = Path.of(input.readUTF());
+			long size = input.readLong();
+			includes.add(new IncludeCache.Stamp(location, size, FileTime.from(input.readLong(), TimeUnit.NANOSECONDS)));
+		}
+		return new Header(flags, fingerprint, includes);
+	}
+
+	/**
+	 * Read the snapshot content. The stream must read a byte array,
+	 * so the number of remaining bytes is known.
+	 *
+	 * @param input the source stream
+	 * @return the snapshot content
+	 * @throws IOException error if the content is not a valid snapshot
+	 */
+	private static @NotNull SnapshotContent readContent(@NotNull DataInputStream input) throws IOException {
+		// String table
+		String[] strings = new String[readCount(input, Integer.BYTES)];
+		for (int i = 0; i < strings.length; i++) {
+			byte[] bytes = new byte[readCount(input, 1)];
+			input.readFully(bytes);
+			strings[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		// Section table
+		int sectionCount = readCount(input, SECTION_SIZE);
+		if (sectionCount < 1) throw new IOException("Invalid snapshot content");
+		SnapshotContent content = new SnapshotContent(sectionCount);
+		for (int i = 0; i < sectionCount; i++) {
+			content.names[i] = stringOf(strings, input.readInt());
+			content.attributes[i] = readPairs(input, strings);
+			content.entries[i] = readPairs(input, strings);
+		}
+		return content;
+	}
+
+	/**
+	 * Read a pair table
+	 *
+	 * @param input   the source stream
+	 * @param strings the string table
+	 * @return all table pairs as key, value array
+	 * @throws IOException error if the content is not a valid snapshot
+	 */
+	private static String @NotNull [] readPairs(@NotNull DataInputStream input, String @NotNull [] strings)
+		throws IOException {
+		String[] result = new String[readCount(input, PAIR_SIZE) * 2];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = stringOf(strings, input.readInt());
+		}
+		return result;
+	}
+
+	/**
+	 * Read the number of elements of a table. Each element uses at least the given
+	 * number of bytes, so invalid counts are rejected before any memory is allocated.
+	 *
+	 * @param input       the source stream
+	 * @param elementSize the minimum size of each element in bytes
+	 * @return the number of elements
+	 * @throws IOException error if the count is negative or greater than the remaining content
+	 */
+	private static int readCount(@NotNull DataInputStream input, int elementSize) throws IOException {
+		int count = input.readInt();
+		if (count < 0 || (long) count * elementSize > input.available())
+			throw new IOException("Invalid snapshot content");
+		return count;
+	}
+
+	/**
+	 * Returns the string of the table
+	 *
+	 * @param strings the string table
+	 * @param index   the string index
+	 * @return the selected string
+	 * @throws IOException error if the index is not valid
+	 */
+	private static @Nullable String stringOf(String @NotNull [] strings, int index) throws IOException {
+		if (index == NULL_INDEX) return null;
+		if (index < 0 || index >= strings.length) throw new IOException("Invalid snapshot content");
+		return strings[index];
+	}
+
+	/**
+	 * Returns the section entries
+	 *
+	 * @param section the section to check
+	 * @return the section entries
+	 */
+	private static @NotNull List<Pair<String, String>> pairsOf(@NotNull Section section) {
+		return new ArrayList<>(section.pairSet());
+	}
+
+	/**
+	 * Returns the section attributes
+	 *
+	 * @param section the section to check
+	 * @return the section attributes or empty list if the section has no attributes
+	 */
+	private static @NotNull List<Pair<String, String>> attributesOf(@NotNull Section section) {
+		if (!canCast(section, SectionAdvanced.class)) return new ArrayList<>();
+		SectionAdvanced advanced = cast(section);
+		return new ArrayList<>(advanced.getAttributes().pairSet());
+	}
+
+	/**
+	 * Returns the snapshot flags of the options
+	 *
+	 * @param options the options to convert
+	 * @return the snapshot flags
+	 */
+	private static int flagsOf(@NotNull IniOptions options) {
+		return (options.isAdvanced() ? FLAG_ADVANCED:0) |
+			(options.supportMultilineValues() ? FLAG_MULTILINE:0) |
+			(options.isPreserveValues() ? FLAG_PRESERVE_VALUES:0) |
+			(options.isEscapes() ? FLAG_ESCAPES:0) |
+			(options.supportIncludes() ? FLAG_INCLUDES:0);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Source file information used to validate the snapshots
+	 */
+	private static final class Fingerprint {
+
+		/**
+		 * Empty fingerprint. Used by snapshots without source file
+		 */
+		static final Fingerprint EMPTY = new Fingerprint(0, 0, 0);
+
+		/**
+		 * Source file size
+		 */
+		final long size;
+
+		/**
+		 * Source modification time
+		 */
+		final long modified;
+
+		/**
+		 * Source content hash
+		 */
+		final long hash;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param size     the file size
+		 * @param modified the modification time
+		 * @param hash     the content hash
+		 */
+		Fingerprint(long size, long modified, long hash) {
+			this.size = size;
+			this.modified = modified;
+			this.hash = hash;
+		}
+
+		/**
+		 * Generates the fingerprint of the file
+		 *
+		 * @param location the file location
+		 * @return the file fingerprint
+		 * @throws IOException error if the file cannot be read
+		 */
+		static @NotNull Fingerprint of(@NotNull Path location) throws IOException {
+			BasicFileAttributes attributes = Files.readAttributes(location, BasicFileAttributes.class);
+			CRC32C checksum = new CRC32C();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			// Hash the entire content
+			try (InputStream stream = Files.newInputStream(location)) {
+				int count;
+				while ((count = stream.read(buffer)) != -1) {
+					checksum.update(buffer, 0, count);
+				}
+			}
+			return new Fingerprint(attributes.size(), attributes.lastModifiedTime().toMillis(), checksum.getValue());
+		}
+
+		/**
+		 * Check if both objects are equals
+		 *
+		 * @param obj the object to compare
+		 * @return {@code true} if both objects are equals or {@code false} otherwise
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof Fingerprint)) return false;
+			Fingerprint other = (Fingerprint) obj;
+			return size == other.size && modified == other.modified && hash == other.hash;
+		}
+
+		/**
+		 * Object hash code
+		 *
+		 * @return object hash code
+		 */
+		@Override
+		public int hashCode() {
+			return Long.hashCode(size) * 31 + Long.hashCode(hash);
+		}
+
+	}
+
+	/**
+	 * Snapshot header information
+	 */
+	private static final class Header {
+
+		/**
+		 * Option flags
+		 */
+		final int flags;
+
+		/**
+		 * Source fingerprint
+		 */
+		final Fingerprint fingerprint;
+
+		/**
+		 * Included files
+		 */
+		final List<IncludeCache.Stamp> includes;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param flags       the option flags
+		 * @param fingerprint the source fingerprint
+		 * @param includes    the included files
+		 */
+		Header(int flags, @NotNull Fingerprint fingerprint, @NotNull List<IncludeCache.Stamp> includes) {
+			this.flags = flags;
+			this.fingerprint = fingerprint;
+			this.includes = includes;
+		}
+
+	}
+
+	/**
+	 * Table with all distinct strings
+	 */
+	private static final class StringTable {
+
+		/**
+		 * All strings in insertion order
+		 */
+		final List<String> strings = new ArrayList<>();
+
+		/**
+		 * String indexes
+		 */
+		final Map<String, Integer> indexes = new HashMap<>();
+
+		/**
+		 * Insert multiple strings to the table
+		 *
+		 * @param values the strings to insert
+		 */
+		void add(String @NotNull ... values) {
+			for (String value : values) {
+				if (value == null || indexes.containsKey(value)) continue;
+				indexes.put(value, strings.size());
+				strings.add(value);
+			}
+		}
+
+		/**
+		 * Returns the string index
+		 *
+		 * @param value the string to check
+		 * @return the string index
+		 */
+		int indexOf(@Nullable String value) {
+			return value == null ? NULL_INDEX:indexes.get(value);
+		}
+
+	}
+
+	/**
+	 * Content read from the snapshot
+	 */
+	private static final class SnapshotContent {
+
+		/**
+		 * Section names
+		 */
+		final String[] names;
+
+		/**
+		 * Section attributes as key, value array
+		 */
+		final String[][] attributes;
+
+		/**
+		 * Section entries as key, value array
+		 */
+		final String[][] entries;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param size the section count
+		 */
+		SnapshotContent(int size) {
+			names = new String[size];
+			attributes = new String[size][];
+			entries = new String[size][];
+		}
+
+		/**
+		 * Insert all content to the ini object
+		 *
+		 * @param ini     the target ini object
+		 * @param options the ini options
+		 * @throws IOException error if something goes wrong
+		 */
+		void apply(@NotNull Ini<?> ini, @NotNull IniOptions options) throws IOException {
+			// Apply the options without content
+			ini.load(InputStream.nullInputStream(), options);
+			// The first section is always the default section
+			Section defaultSection = ini.getDefaultSection();
+			putAll(defaultSection, entries[0]);
+			for (int i = 1; i < names.length; i++) {
+				SimpleSection section = new SimpleSection(names[i], defaultSection);
+				putAll(section.getAttributes(), attributes[i]);
+				putAll(section, entries[i]);
+				ini.put(section);
+			}
+		}
+
+		/**
+		 * Insert all pairs to the section
+		 *
+		 * @param section the target section
+		 * @param pairs   the pairs as key, value array
+		 */
+		private static void putAll(@NotNull Section section, String @NotNull [] pairs) {
+			for (int i = 0; i < pairs.length; i += 2) {
+				section.put(pairs[i], pairs[i + 1]);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,379 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import ushiosan.jvm_utilities.lang.io.IO;
+import ushiosan.simple_ini.section.AbstractSection;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.SectionRenameListener;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+/**
+ * Ini object composed of multiple layers (a base file and its drop-in overrides).
+ * <p>
+ * Sections with the same name are merged instead of duplicated: the entries and attributes of the
+ * later layers replace the entries of the previous layers. All sections are stored in a single
+ * index, so the lookups cost the same regardless of the number of layers.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * LayeredIni ini = new LayeredIni();
+ * // Loads "app.ini" and then all "conf.d/*.ini" files in name order
+ * ini.loadLayers(Path.of("app.ini"), Path.of("conf.d"), IniOptions.DEFAULT);
+ * }</pre>
+ * <p>
+ * The index is updated when the object is modified: the sections based on {@link AbstractSection}
+ * notify the object when they are renamed, so the lookups never modify the index. Other
+ * section implementations must be inserted again after they are renamed.
+ */
+public class LayeredIni extends SimpleIni<Section> {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Comparator used to sort the drop-in files (file name order)
+	 */
+	private static final Comparator<Path> DROP_IN_COMPARATOR = Comparator.comparing(it -> it.getFileName().toString());
+
+	/**
+	 * Sections by name
+	 */
+	private final Map<String, Section> index = new HashMap<>();
+
+	/**
+	 * Listener used to update the index when a section is renamed
+	 */
+	private final SectionRenameListener renameListener = this::renamed;
+
+	/**
+	 * Loaded file layers in precedence order
+	 */
+	private final List<Path> layers = new ArrayList<>();
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 */
+	public LayeredIni() {
+		index.put(DEFAULT_NAME, getDefaultSection());
+		attachRenameListener(getDefaultSection(), renameListener);
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the files loaded as layers, the last file has the highest precedence
+	 *
+	 * @return the loaded files
+	 */
+	public @NotNull @Unmodifiable List<Path> getLayers() {
+		return Collections.unmodifiableList(layers);
+	}
+
+	/**
+	 * Insert a new section. If a section with the same name already exists, the content of the
+	 * new section is merged into it (the new entries and attributes replace the current ones).
+	 *
+	 * @param section the section to insert
+	 */
+	@Override
+	public void put(Section section) {
+		put(section, lookup(section.getName()));
+	}
+
+	/**
+	 * Remove the specify section
+	 *
+	 * @param name the section name
+	 */
+	@Override
+	public void remove(@NotNull CharSequence name) {
+		String nameStr = name
+			.toString()
+			.trim();
+		// The default section cannot be removed
+		if (nameStr.equals(DEFAULT_NAME)) return;
+		for (Section section : getSections()) {
+			if (section.getName().equals(nameStr)) attachRenameListener(section, null);
+		}
+		super.remove(nameStr);
+		index.remove(nameStr);
+	}
+
+	/**
+	 * Load content from stream as a new layer. The content replaces the entries that already exist.
+	 *
+	 * @param stream        the source stream
+	 * @param targetOptions load options
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void load(@NotNull InputStream stream, @NotNull IniOptions targetOptions) throws IOException {
+		SimpleIni<Section> layer = new SimpleIni<>();
+		layer.load(stream, targetOptions);
+		setOptions(targetOptions);
+		apply(layer);
+	}
+
+	/**
+	 * Load all files as layers. The files are parsed in parallel and applied in the given order,
+	 * so the last file has the highest precedence.
+	 *
+	 * @param files    the files to load
+	 * @param options  settings for data upload
+	 * @param executor the executor used to parse the files
+	 * @throws IOException error if something goes wrong. Invalid file, invalid extension, etc...
+	 */
+	public void loadLayers(
+		@NotNull List<Path> files,
+		@NotNull IniOptions options,
+		@NotNull Executor executor
+	) throws IOException {
+		List<CompletableFuture<SimpleIni<Section>>> tasks = new ArrayList<>(files.size());
+		for (Path file : files) {
+			tasks.add(CompletableFuture.supplyAsync(() -> parse(file, options), executor));
+		}
+		// Wait for all files before modifying the object
+		List<SimpleIni<Section>> parsed = new ArrayList<>(tasks.size());
+		for (CompletableFuture<SimpleIni<Section>> task : tasks) {
+			parsed.add(await(task));
+		}
+		setOptions(options);
+		for (int i = 0; i < parsed.size(); i++) {
+			apply(parsed.get(i));
+			layers.add(files.get(i));
+		}
+	}
+
+	/**
+	 * Load all files as layers using the common pool.
+	 *
+	 * @param files   the files to load
+	 * @param options settings for data upload
+	 * @throws IOException error if something goes wrong. Invalid file, invalid extension, etc...
+	 * @see #loadLayers(List, IniOptions, Executor)
+	 */
+	public void loadLayers(@NotNull List<Path> files, @NotNull IniOptions options) throws IOException {
+		loadLayers(files, options, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Load the base file and all drop-in files of the directory. The drop-in files are the regular
+	 * files with an accepted extension and are applied in file name order (for example {@code 10-network.ini}
+	 * before {@code 20-logging.ini}). The directory is optional.
+	 *
+	 * @param base      the base file
+	 * @param directory the drop-in directory (for example {@code conf.d})
+	 * @param options   settings for data upload
+	 * @throws IOException error if something goes wrong. Invalid file, invalid extension, etc...
+	 */
+	public void loadLayers(@NotNull Path base, @NotNull Path directory, @NotNull IniOptions options) throws IOException {
+		List<Path> files = new ArrayList<>();
+		files.add(base);
+		files.addAll(dropInsOf(directory));
+		loadLayers(files, options);
+	}
+
+	/**
+	 * Search the selected section in the index
+	 *
+	 * @param key the section name
+	 * @return the selected section or {@link Optional#empty()} if not exists
+	 */
+	@Override
+	protected @NotNull Optional<Section> findSection(@NotNull CharSequence key) {
+		return Optional.ofNullable(lookup(key.toString()));
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Insert a new section or merge it into the current section
+	 *
+	 * @param section the section to insert
+	 * @param current the section with the same name or {@code null} if not exists
+	 */
+	private void put(@NotNull Section section, @Nullable Section current) {
+		if (current == section) return;
+		if (current != null) {
+			merge(current, section);
+			return;
+		}
+		// Sections of other objects use their own default section
+		if (section.getDefaultSection().isPresent()) section.setDefaultSection(getDefaultSection());
+		super.put(section);
+		index.put(section.getName(), section);
+		attachRenameListener(section, renameListener);
+	}
+
+	/**
+	 * Insert all sections of the layer (the default section is merged too)
+	 *
+	 * @param layer the layer to apply
+	 */
+	private void apply(@NotNull Ini<?> layer) {
+		merge(getDefaultSection(), layer.getDefaultSection());
+		for (Section section : layer.getSections()) {
+			if (section != layer.getDefaultSection()) put(section, lookup(section.getName()));
+		}
+	}
+
+	/**
+	 * Search the section in the index. The index is never modified by the lookups.
+	 *
+	 * @param name the section name
+	 * @return the selected section or {@code null} if not exists
+	 */
+	private @Nullable Section lookup(@NotNull String name) {
+		Section result = index.get(name);
+		// Sections that do not notify the renames are not returned with other name
+		return result != null && result.getName().equals(name) ? result:null;
+	}
+
+	/**
+	 * Update the index after a section is renamed. If other section has the previous name, that
+	 * section takes its place in the index. The first section inserted with a name keeps the name.
+	 *
+	 * @param section      the renamed section
+	 * @param previousName the previous section name
+	 */
+	private void renamed(@NotNull Section section, @NotNull String previousName) {
+		if (index.get(previousName) == section) {
+			index.remove(previousName);
+			for (Section other : getSections()) {
+				if (other == section || !other.getName().equals(previousName)) continue;
+				index.put(previousName, other);
+				break;
+			}
+		}
+		index.putIfAbsent(section.getName(), section);
+	}
+
+	/**
+	 * Returns the drop-in files of the directory, sorted by name
+	 *
+	 * @param directory the directory to check
+	 * @return the drop-in files or empty list if the directory does not exist
+	 * @throws IOException error if the directory cannot be read
+	 */
+	private @NotNull List<Path> dropInsOf(@NotNull Path directory) throws IOException {
+		List<Path> result = new ArrayList<>();
+		if (!Files.isDirectory(directory)) return result;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+			for (Path file : stream) {
+				// Compression extensions are ignored
+				Optional<String> extension = IO.getExtension(IniCompression.ofLocation(file).removeExtension(file));
+				if (Files.isRegularFile(file) && extension.isPresent() && acceptedExtensions().contains(extension.get())) {
+					result.add(file);
+				}
+			}
+		}
+		result.sort(DROP_IN_COMPARATOR);
+		return result;
+	}
+
+	/**
+	 * Parse a single layer
+	 *
+	 * @param file    the file to parse
+	 * @param options settings for data upload
+	 * @return the parsed layer
+	 * @throws UncheckedIOException error if the file cannot be read
+	 */
+	private static @NotNull SimpleIni<Section> parse(@NotNull Path file, @NotNull IniOptions options) {
+		try {
+			SimpleIni<Section> layer = new SimpleIni<>();
+			layer.load(file, options);
+			return layer;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Wait for the parse task
+	 *
+	 * @param task the task to wait
+	 * @return the parsed layer
+	 * @throws IOException error if the file cannot be read
+	 */
+	private static @NotNull SimpleIni<Section> await(@NotNull CompletableFuture<SimpleIni<Section>> task)
+		throws IOException {
+		try {
+			return task.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Change the rename listener of the section. Only the sections based on {@link AbstractSection}
+	 * notify the renames.
+	 *
+	 * @param section  the section to update
+	 * @param listener the listener or {@code null} to stop the notifications
+	 */
+	private static void attachRenameListener(@NotNull Section section, @Nullable SectionRenameListener listener) {
+		if (section instanceof AbstractSection) {
+			((AbstractSection) section).setRenameListener(listener);
+		}
+	}
+
+	/**
+	 * Copy the entries and attributes of the source section
+	 *
+	 * @param target the section to update
+	 * @param source the section to copy
+	 */
+	private static void merge(@NotNull Section target, @NotNull Section source) {
+		copy(target, source);
+		if (target instanceof SectionAdvanced && source instanceof SectionAdvanced) {
+			copy(((SectionAdvanced) target).getAttributes(), ((SectionAdvanced) source).getAttributes());
+		}
+	}
+
+	/**
+	 * Copy all raw entries of the source section
+	 *
+	 * @param target the section to update
+	 * @param source the section to copy
+	 */
+	private static void copy(@NotNull Section target, @NotNull Section source) {
+		for (String key : source.keys()) {
+			target.put(key, source.getRaw(key).orElse(null));
+		}
+	}
+
+}
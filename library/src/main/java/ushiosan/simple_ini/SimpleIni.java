@@ -1,6 +1,7 @@
 package ushiosan.simple_ini;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.IOException;
@@ -14,8 +15,14 @@ import static ushiosan.jvm_utilities.lang.Obj.cast;
 import ushiosan.jvm_utilities.lang.collection.Collections;
 import ushiosan.jvm_utilities.lang.print.annotations.PrintExclude;
 import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.internal.jfr.CountingWriter;
+import ushiosan.simple_ini.internal.jfr.IniEvents;
+import ushiosan.simple_ini.internal.jfr.LookupEvent;
+import ushiosan.simple_ini.internal.jfr.StoreEvent;
 import ushiosan.simple_ini.internal.reader.IniReader;
 import ushiosan.simple_ini.internal.reader.IniWriter;
+import ushiosan.simple_ini.section.AbstractSection;
+import ushiosan.simple_ini.section.Interpolator;
 import ushiosan.simple_ini.section.Section;
 import ushiosan.simple_ini.section.SimpleSection;
 import ushiosan.simple_ini.section.advanced.SectionAdvanced;
@@ -55,6 +62,18 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 	 */
 	private final Set<T> sectionContainer = Collections.mutableSetOf();
 
+	/**
+	 * Object used to resolve the entry references or {@code null} if interpolation is disabled
+	 */
+	@PrintExclude
+	private @Nullable Interpolator interpolator;
+
+	/**
+	 * Management bean of the object or {@code null} if the object is not monitored
+	 */
+	@PrintExclude
+	private volatile @Nullable IniMonitor monitor;
+
 	/* -----------------------------------------------------
 	 * Constructors
 	 * ----------------------------------------------------- */
@@ -80,6 +99,17 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 		return options;
 	}
 
+	/**
+	 * Change the ini (reader/writer) options. The options are also
+	 * changed when the content is loaded.
+	 *
+	 * @param targetOptions the new options
+	 */
+	public void setOptions(@NotNull IniOptions targetOptions) {
+		options = targetOptions;
+		updateInterpolator();
+	}
+
 	/**
 	 * The default section element
 	 *
@@ -130,6 +160,29 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 	 */
 	@Override
 	public @NotNull Optional<T> getSection(@NotNull CharSequence key) {
+		IniMonitor current = monitor;
+		if (current != null) current.sectionLookup();
+		LookupEvent event = new LookupEvent();
+		event.begin();
+		Optional<T> result = findSection(key);
+		// Notify the flight recorder
+		event.end();
+		if (event.shouldCommit()) {
+			event.section = key.toString();
+			event.found = result.isPresent();
+			event.commit();
+		}
+		return result;
+	}
+
+	/**
+	 * Search the selected section. Subclasses can override this method to use a faster lookup,
+	 * the lookups are still measured by {@link #getSection(CharSequence)}.
+	 *
+	 * @param key the section name
+	 * @return the selected section or {@link Optional#empty()} if not exists
+	 */
+	protected @NotNull Optional<T> findSection(@NotNull CharSequence key) {
 		return sectionContainer.stream()
 			.filter(it -> it.getName().contentEquals(key))
 			.findFirst();
@@ -154,6 +207,9 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 	@Override
 	public void put(Section section) {
 		sectionContainer.add(cast(section));
+		attachInterpolator(section);
+		// New sections can resolve references that did not exist
+		if (interpolator != null) interpolator.invalidateAll();
 	}
 
 	/**
@@ -170,6 +226,7 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 		if (nameStr.equals(DEFAULT_NAME)) return;
 		// Remove the section
 		sectionContainer.removeIf(it -> it.getName().equals(nameStr));
+		if (interpolator != null) interpolator.invalidateAll();
 	}
 
 	/**
@@ -182,13 +239,18 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 	@Override
 	public void load(@NotNull InputStream stream, @NotNull IniOptions targetOptions) throws IOException {
 		// Auto close resources
+		IniMonitor current = monitor;
 		try (stream) {
 			// Change the options
 			options = targetOptions;
+			updateInterpolator();
 			// Initialize elements
-			IniReader reader = new IniReader(stream, this);
+			IniReader reader = new IniReader(stream, this, current == null ? null:current::loadFinished);
 			// Process all content
 			reader.processAll();
+		} catch (IOException | RuntimeException e) {
+			if (current != null) current.error(e);
+			throw e;
 		}
 	}
 
@@ -201,10 +263,28 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 	@Override
 	public void store(@NotNull Writer writer) throws IOException {
 		// Auto close resources
+		IniMonitor current = monitor;
 		try (writer) {
+			long start = System.nanoTime();
+			StoreEvent event = new StoreEvent();
+			event.begin();
+			// The characters are only counted when the event is recorded or the object is monitored
+			CountingWriter counter = event.isEnabled() || current != null ? new CountingWriter(writer):null;
 			// Initialize elements
-			IniWriter iniWriter = new IniWriter(this, writer);
+			IniWriter iniWriter = new IniWriter(this, counter == null ? writer:counter);
 			iniWriter.storeAll();
+			// Notify the flight recorder
+			event.end();
+			if (counter != null && event.shouldCommit()) {
+				event.location = IniEvents.location();
+				event.characters = counter.getCount();
+				event.sections = size();
+				event.commit();
+			}
+			if (current != null) current.storeFinished(counter.getCount(), System.nanoTime() - start);
+		} catch (IOException | RuntimeException e) {
+			if (current != null) current.error(e);
+			throw e;
 		}
 	}
 
@@ -218,4 +298,59 @@ public class SimpleIni<T extends Section> implements Ini<T> {
 		return Obj.toInstanceString(this);
 	}
 
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the management bean of the object
+	 *
+	 * @return the current monitor or {@code null} if the object is not monitored
+	 */
+	@PrintExclude
+	@Nullable IniMonitor getMonitor() {
+		return monitor;
+	}
+
+	/**
+	 * Change the management bean of the object
+	 *
+	 * @param monitor the new monitor or {@code null} to stop the measurements
+	 */
+	void setMonitor(@Nullable IniMonitor monitor) {
+		this.monitor = monitor;
+	}
+
+	/**
+	 * Returns the object used to resolve the entry references
+	 *
+	 * @return the current interpolator or {@code null} if interpolation is disabled
+	 */
+	@PrintExclude
+	@Nullable Interpolator getInterpolator() {
+		return interpolator;
+	}
+
+	/**
+	 * Create or remove the interpolator object depending on the current options
+	 */
+	private void updateInterpolator() {
+		if (options.isInterpolation() == (interpolator != null)) return;
+		interpolator = options.isInterpolation() ? new Interpolator(this):null;
+		for (T section : sectionContainer) {
+			attachInterpolator(section);
+		}
+	}
+
+	/**
+	 * Assigns the current interpolator to the section
+	 *
+	 * @param section the section to update
+	 */
+	private void attachInterpolator(@NotNull Section section) {
+		if (section instanceof AbstractSection) {
+			((AbstractSection) section).setInterpolator(interpolator);
+		}
+	}
+
 }
@@ -0,0 +1,210 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.TrackedSection;
+
+/**
+ * {@link Ini} decorator that returns its sections wrapped in {@link TrackedSection} objects.
+ * All other operations are delegated without changes.
+ *
+ * @see AccessStats#track(Ini)
+ */
+final class TrackedIni implements Ini<Section> {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Decorated ini object
+	 */
+	private final Ini<?> delegate;
+
+	/**
+	 * Access counters
+	 */
+	private final AccessStats stats;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param delegate the decorated ini object
+	 * @param stats    the access counters
+	 */
+	TrackedIni(@NotNull Ini<?> delegate, @NotNull AccessStats stats) {
+		this.delegate = delegate;
+		this.stats = stats;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the ini (reader/writer) options
+	 *
+	 * @return the ini options
+	 */
+	@Override
+	public @NotNull IniOptions getOptions() {
+		return delegate.getOptions();
+	}
+
+	/**
+	 * The default section element
+	 *
+	 * @return the default section
+	 */
+	@Override
+	public @NotNull Section getDefaultSection() {
+		return stats.track(delegate.getDefaultSection());
+	}
+
+	/**
+	 * Returns the number of sections within the object, the default section is also counted.
+	 *
+	 * @return the number of sections
+	 */
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	/**
+	 * Returns {@code true} if object is empty
+	 *
+	 * @return {@code true} if object is empty or {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	/**
+	 * Check if a section exists.
+	 *
+	 * @param key the section name
+	 * @return {@code true} if section exists or {@code false} otherwise
+	 */
+	@Override
+	public boolean sectionExists(@NotNull CharSequence key) {
+		return delegate.sectionExists(key);
+	}
+
+	/**
+	 * Returns the selected section, only if it exists.
+	 *
+	 * @param key the section name
+	 * @return the selected section or {@link Optional#empty()} if not exists
+	 */
+	@Override
+	public @NotNull Optional<Section> getSection(@NotNull CharSequence key) {
+		return delegate.getSection(key).map(stats::track);
+	}
+
+	/**
+	 * Returns all ini sections. Included the default section
+	 *
+	 * @return all ini sections
+	 */
+	@Override
+	public @NotNull @Unmodifiable Set<Section> getSections() {
+		Set<Section> result = new LinkedHashSet<>();
+		for (Section section : delegate.getSections()) {
+			result.add(stats.track(section));
+		}
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * Insert a new section
+	 *
+	 * @param section the section to insert
+	 */
+	@Override
+	public void put(Section section) {
+		// The decorated object only accepts its own section types
+		delegate.put(section instanceof TrackedSection ? ((TrackedSection) section).getDelegate():section);
+	}
+
+	/**
+	 * Remove a section by name
+	 *
+	 * @param name the section name
+	 */
+	@Override
+	public void remove(@NotNull CharSequence name) {
+		delegate.remove(name);
+	}
+
+	/**
+	 * All accepted file extensions.
+	 *
+	 * @return all accepted extensions
+	 */
+	@Override
+	public @NotNull List<String> acceptedExtensions() {
+		return delegate.acceptedExtensions();
+	}
+
+	/**
+	 * Estimate the heap memory retained by the sections of the decorated object.
+	 *
+	 * @return the memory estimation
+	 */
+	@Override
+	public @NotNull IniFootprint estimateFootprint() {
+		return delegate.estimateFootprint();
+	}
+
+	/**
+	 * Load content from stream
+	 *
+	 * @param stream  the source stream
+	 * @param options settings for data upload
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void load(@NotNull InputStream stream, @NotNull IniOptions options) throws IOException {
+		delegate.load(stream, options);
+	}
+
+	/**
+	 * Writes the content of the object to an external source.
+	 *
+	 * @param writer the object to write
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void store(@NotNull Writer writer) throws IOException {
+		delegate.store(writer);
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+}
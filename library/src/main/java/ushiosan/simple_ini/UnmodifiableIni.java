@@ -0,0 +1,255 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.UnmodifiableSection;
+
+/**
+ * {@link Ini} decorator that only allows read operations. The sections are decorated once with
+ * {@link UnmodifiableSection} objects and indexed by name, so the object can be shared by many threads.
+ *
+ * @see IniCache
+ */
+final class UnmodifiableIni implements Ini<Section> {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Decorated ini object
+	 */
+	private final Ini<?> delegate;
+
+	/**
+	 * Read-only default section
+	 */
+	private final Section defaultSection;
+
+	/**
+	 * Read-only sections
+	 */
+	private final Set<Section> sections;
+
+	/**
+	 * Read-only sections by name (the first section wins if the name is repeated)
+	 */
+	private final Map<String, Section> index;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param delegate the decorated ini object
+	 */
+	UnmodifiableIni(@NotNull Ini<?> delegate) {
+		this.delegate = delegate;
+		this.defaultSection = UnmodifiableSection.of(delegate.getDefaultSection());
+		Set<Section> result = new LinkedHashSet<>();
+		Map<String, Section> names = new HashMap<>();
+		for (Section section : delegate.getSections()) {
+			Section readOnly = section == delegate.getDefaultSection() ? defaultSection:
+				section.getDefaultSection().isPresent() ? UnmodifiableSection.of(section, defaultSection):
+					UnmodifiableSection.of(section);
+			result.add(readOnly);
+			names.putIfAbsent(readOnly.getName(), readOnly);
+		}
+		this.sections = Collections.unmodifiableSet(result);
+		this.index = names;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the ini (reader/writer) options
+	 *
+	 * @return the ini options
+	 */
+	@Override
+	public @NotNull IniOptions getOptions() {
+		return delegate.getOptions();
+	}
+
+	/**
+	 * The default section element
+	 *
+	 * @return the read-only default section
+	 */
+	@Override
+	public @NotNull Section getDefaultSection() {
+		return defaultSection;
+	}
+
+	/**
+	 * Returns the number of sections within the object, the default section is also counted.
+	 *
+	 * @return the number of sections
+	 */
+	@Override
+	public int size() {
+		return sections.size();
+	}
+
+	/**
+	 * Returns {@code true} if object is empty
+	 *
+	 * @return {@code true} if object is empty or {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	/**
+	 * Check if a section exists.
+	 *
+	 * @param key the section name
+	 * @return {@code true} if section exists or {@code false} otherwise
+	 */
+	@Override
+	public boolean sectionExists(@NotNull CharSequence key) {
+		return index.containsKey(key.toString());
+	}
+
+	/**
+	 * Returns the selected section, only if it exists.
+	 *
+	 * @param key the section name
+	 * @return the read-only section or {@link Optional#empty()} if not exists
+	 */
+	@Override
+	public @NotNull Optional<Section> getSection(@NotNull CharSequence key) {
+		return Optional.ofNullable(index.get(key.toString()));
+	}
+
+	/**
+	 * Returns all ini sections. Included the default section
+	 *
+	 * @return all read-only sections
+	 */
+	@Override
+	public @NotNull @Unmodifiable Set<Section> getSections() {
+		return sections;
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param section the section to insert
+	 * @throws UnsupportedOperationException the object cannot be modified
+	 */
+	@Override
+	public void put(Section section) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param name the section name
+	 * @throws UnsupportedOperationException the object cannot be modified
+	 */
+	@Override
+	public void remove(@NotNull CharSequence name) {
+		throw unsupported();
+	}
+
+	/**
+	 * All accepted file extensions.
+	 *
+	 * @return all accepted extensions
+	 */
+	@Override
+	public @NotNull List<String> acceptedExtensions() {
+		return delegate.acceptedExtensions();
+	}
+
+	/**
+	 * Estimate the heap memory retained by the sections of the decorated object.
+	 *
+	 * @return the memory estimation
+	 */
+	@Override
+	public @NotNull IniFootprint estimateFootprint() {
+		return delegate.estimateFootprint();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param location the file location
+	 * @param options  settings for data upload
+	 * @throws UnsupportedOperationException the object cannot be modified
+	 */
+	@Override
+	public void load(@NotNull Path location, @NotNull IniOptions options) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param stream  the source stream
+	 * @param options settings for data upload
+	 * @throws UnsupportedOperationException the object cannot be modified
+	 */
+	@Override
+	public void load(@NotNull InputStream stream, @NotNull IniOptions options) {
+		throw unsupported();
+	}
+
+	/**
+	 * Writes the content of the object to an external source.
+	 *
+	 * @param writer the object to write
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void store(@NotNull Writer writer) throws IOException {
+		delegate.store(writer);
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Creates the modification error
+	 *
+	 * @return the modification error
+	 */
+	private static @NotNull UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("Read-only ini object");
+	}
+
+}
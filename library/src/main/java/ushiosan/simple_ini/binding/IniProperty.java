@@ -0,0 +1,41 @@
+package ushiosan.simple_ini.binding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to configure how a field is bound to a section entry.
+ * Fields without this annotation use the field name as entry name and have no default value.
+ *
+ * @see SectionBinder
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface IniProperty {
+
+	/**
+	 * Value used to determine that the property has no default value
+	 */
+	String NO_DEFAULT = "\u0000";
+
+	/**
+	 * Entry name. An empty name uses the field name.
+	 *
+	 * @return the entry name
+	 */
+	String name() default "";
+
+	/**
+	 * Value used when the entry does not exist or is not valid.
+	 * The value is validated only once, when the binder is generated. Mutable values
+	 * (arrays and collections) are converted again for each object, so the objects never share them.
+	 *
+	 * @return the default entry value
+	 */
+	String defaultValue() default NO_DEFAULT;
+
+}
@@ -0,0 +1,24 @@
+package ushiosan.simple_ini.binding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to generate the binding code of a class at compile time.
+ * <p>
+ * When the {@code simple-ini-processor} annotation processor is in the compiler path, a class named
+ * {@code <ClassName>IniBinding} is generated in the same package. The generated class reads and writes
+ * all fields with plain method calls (without reflection), following the same rules as {@link SectionBinder}.
+ * Private fields require {@code setXxx} and {@code getXxx}/{@code isXxx} methods.
+ *
+ * @see IniProperty
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface IniSection {
+
+}
@@ -0,0 +1,640 @@
+package ushiosan.simple_ini.binding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.IniOptions;
+import ushiosan.simple_ini.conversion.ConverterRegistry;
+import ushiosan.simple_ini.conversion.ValueConverter;
+import ushiosan.simple_ini.internal.reader.IniWriter;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.SimpleSection;
+
+/**
+ * Class used to map the entries of a section to the fields of an object.
+ * <p>
+ * The binder of each class is generated only once: all field accessors are resolved as
+ * {@link MethodHandle} objects and the converters are searched in the
+ * {@link ConverterRegistry#getDefault() default registry}, so binding a section does not use reflection.
+ * <p>
+ * All non-static, non-transient fields of the class (and its superclasses) are bound. The value is assigned
+ * with the {@code setXxx} method if it exists, or directly to the field otherwise (final fields without setter
+ * are only written). In the same way, the value is read with the {@code getXxx} (or {@code isXxx}) method or
+ * directly from the field. The class must have a no-arg constructor to generate new instances. Classes in named
+ * modules must open their package to this module to bind private members.
+ *
+ * @param <T> generic object type
+ * @see IniProperty
+ */
+@PrintOpts(getterAccess = true, getterPrefix = "^(get|is)")
+public final class SectionBinder<T> {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Binders generated by class
+	 */
+	private static final ClassValue<SectionBinder<?>> BINDERS = new ClassValue<>() {
+		@Override
+		protected SectionBinder<?> computeValue(Class<?> type) {
+			return new SectionBinder<>(type);
+		}
+	};
+
+	/**
+	 * Setter method prefix
+	 */
+	private static final String SETTER_PREFIX = "set";
+
+	/**
+	 * Getter method prefixes
+	 */
+	private static final String[] GETTER_PREFIXES = {"get", "is"};
+
+	/**
+	 * Comparator used to sort the properties by its entry name
+	 */
+	private static final Comparator<Property> PROPERTY_COMPARATOR = Comparator.comparing(it -> it.key);
+
+	/**
+	 * Target class
+	 */
+	private final Class<T> type;
+
+	/**
+	 * No-arg constructor or {@code null} if the class cannot be instantiated
+	 */
+	private final @Nullable MethodHandle constructor;
+
+	/**
+	 * All bound properties
+	 */
+	private final Property[] properties;
+
+	/**
+	 * Readable properties sorted by its entry name (the same order used by the ini writer)
+	 */
+	private final Property[] sortedProperties;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param type the target class
+	 * @throws IllegalArgumentException if a field type has no converter
+	 */
+	private SectionBinder(@NotNull Class<T> type) {
+		MethodHandles.Lookup lookup = lookupOf(type);
+		this.type = type;
+		this.constructor = constructorOf(lookup, type);
+		this.properties = propertiesOf(lookup, type);
+		this.sortedProperties = Arrays.stream(properties)
+			.filter(it -> it.getter != null)
+			.sorted(PROPERTY_COMPARATOR)
+			.toArray(Property[]::new);
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the target class
+	 *
+	 * @return the target class
+	 */
+	public @NotNull Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the names of all bound entries
+	 *
+	 * @return the bound entry names
+	 */
+	public @NotNull @Unmodifiable List<String> getKeys() {
+		List<String> result = new ArrayList<>(properties.length);
+		for (Property property : properties) {
+			result.add(property.key);
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Generates a new object with the content of the section
+	 *
+	 * @param section the section to read
+	 * @return a new object with the section content
+	 * @throws IllegalStateException if the class does not have an accessible no-arg constructor
+	 */
+	public @NotNull T read(@NotNull Section section) {
+		if (constructor == null)
+			throw new IllegalStateException(type.getName() + " does not have an accessible no-arg constructor");
+		// Create the instance
+		Object instance;
+		try {
+			instance = constructor.invokeExact();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+		return readInto(section, type.cast(instance));
+	}
+
+	/**
+	 * Assigns the content of the section to an existing object.
+	 * The fields of entries that do not exist (and without default value) are not modified.
+	 *
+	 * @param section the section to read
+	 * @param target  the object to modify
+	 * @return the same target object
+	 */
+	public @NotNull T readInto(@NotNull Section section, @NotNull T target) {
+		for (Property property : properties) {
+			property.read(section, target);
+		}
+		return target;
+	}
+
+	/**
+	 * Writes all properties of the object to the section. Properties with {@code null} value are not written.
+	 *
+	 * @param source  the object to write
+	 * @param section the target section
+	 */
+	public void write(@NotNull T source, @NotNull Section section) {
+		for (Property property : properties) {
+			String value = property.format(source);
+			if (value != null) section.put(property.key, value);
+		}
+	}
+
+	/**
+	 * Generates a new section with all properties of the object
+	 *
+	 * @param source the object to write
+	 * @param name   the section name
+	 * @return a new section with the object content
+	 */
+	public @NotNull Section toSection(@NotNull T source, @NotNull CharSequence name) {
+		Section result = new SimpleSection(name);
+		write(source, result);
+		return result;
+	}
+
+	/**
+	 * Writes the objects directly to the output as ini sections, one section for each object.
+	 * <p>
+	 * No intermediate section or entry is generated, the property values are written as soon as they are read.
+	 * The output has the same format as {@link ushiosan.simple_ini.Ini#store(Writer)}: the entries are sorted
+	 * by its name and the document header depends on the options. The writer is flushed but not closed.
+	 *
+	 * @param sources    the objects to write
+	 * @param nameMapper function used to generate the section name of each object
+	 * @param writer     the output element
+	 * @param options    the write options
+	 * @throws IOException error if something goes wrong
+	 */
+	public void store(
+		@NotNull Iterable<? extends T> sources,
+		@NotNull Function<? super T, ? extends CharSequence> nameMapper,
+		@NotNull Writer writer,
+		@NotNull IniOptions options
+	) throws IOException {
+		IniWriter iniWriter = new IniWriter(options, writer);
+		iniWriter.storeHeader();
+		for (T source : sources) {
+			iniWriter.beginSection(nameMapper.apply(source));
+			for (Property property : sortedProperties) {
+				String value = property.format(source);
+				if (value != null) iniWriter.storeEntry(property.key, value);
+			}
+		}
+		iniWriter.flush();
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the binder of the given class. The binder is generated only once per class.
+	 *
+	 * @param type the target class
+	 * @param <T>  generic object type
+	 * @return the class binder
+	 * @throws IllegalArgumentException if a field type has no converter
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> @NotNull SectionBinder<T> of(@NotNull Class<T> type) {
+		return (SectionBinder<T>) BINDERS.get(type);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the lookup object used to access the class members
+	 *
+	 * @param type the target class
+	 * @return the lookup object with private access or the public lookup if private access is not allowed
+	 */
+	private static @NotNull MethodHandles.Lookup lookupOf(@NotNull Class<?> type) {
+		try {
+			return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+		} catch (IllegalAccessException | SecurityException e) {
+			return MethodHandles.publicLookup();
+		}
+	}
+
+	/**
+	 * Returns the no-arg constructor of the class
+	 *
+	 * @param lookup the lookup object
+	 * @param type   the target class
+	 * @return the constructor handle or {@code null} if the constructor is not accessible
+	 */
+	private static @Nullable MethodHandle constructorOf(@NotNull MethodHandles.Lookup lookup, @NotNull Class<?> type) {
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) return null;
+		try {
+			return lookup.findConstructor(type, MethodType.methodType(void.class))
+				.asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Search all properties of the class and its superclasses
+	 *
+	 * @param lookup the lookup object
+	 * @param type   the target class
+	 * @return all class properties
+	 */
+	private static Property @NotNull [] propertiesOf(@NotNull MethodHandles.Lookup lookup, @NotNull Class<?> type) {
+		Map<String, Property> result = new LinkedHashMap<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+				// Fields of subclasses hide the fields of superclasses
+				Property property = propertyOf(lookup, type, field);
+				if (property != null) result.putIfAbsent(property.key, property);
+			}
+		}
+		return result.values().toArray(new Property[0]);
+	}
+
+	/**
+	 * Generates the property of the field
+	 *
+	 * @param lookup the lookup object
+	 * @param type   the target class
+	 * @param field  the field to bind
+	 * @return the field property or {@code null} if the field cannot be accessed
+	 * @throws IllegalArgumentException if the field type has no converter
+	 */
+	private static @Nullable Property propertyOf(
+		@NotNull MethodHandles.Lookup lookup,
+		@NotNull Class<?> type,
+		@NotNull Field field
+	) {
+		MethodHandle setter = setterOf(lookup, type, field);
+		MethodHandle getter = getterOf(lookup, type, field);
+		if (setter == null && getter == null) return null;
+		// Property configuration
+		IniProperty annotation = field.getAnnotation(IniProperty.class);
+		String key = annotation == null || annotation.name().isEmpty() ? field.getName():annotation.name();
+		ValueConverter<?> converter = converterOf(field);
+		String defaultContent = null;
+		Object defaultValue = null;
+		if (annotation != null && !IniProperty.NO_DEFAULT.equals(annotation.defaultValue())) {
+			defaultContent = annotation.defaultValue();
+			defaultValue = converter.convert(defaultContent);
+			if (defaultValue == null)
+				throw new IllegalArgumentException(String.format(
+					"Invalid default value \"%s\" of %s.%s",
+					annotation.defaultValue(),
+					field.getDeclaringClass().getName(),
+					field.getName()));
+			// Mutable values are converted again on each read, so the objects never share them
+			if (isMutable(field.getType())) defaultValue = null;
+		}
+		return new Property(key, converter, defaultContent, defaultValue, setter, getter);
+	}
+
+	/**
+	 * Returns the converter of the field type. The elements of {@link List} and {@link Set} fields
+	 * are converted to the declared element type ({@code List<Integer>}, {@code Set<Duration>}, etc...).
+	 *
+	 * @param field the field to check
+	 * @return the field converter
+	 * @throws IllegalArgumentException if the field type (or its element type) has no converter
+	 */
+	private static @NotNull ValueConverter<?> converterOf(@NotNull Field field) {
+		ConverterRegistry registry = ConverterRegistry.getDefault();
+		if (!registry.isSupported(field.getType()))
+			throw new IllegalArgumentException(String.format(
+				"No converter registered for type %s of %s.%s",
+				field.getType().getName(),
+				field.getDeclaringClass().getName(),
+				field.getName()));
+		ValueConverter<?> converter = registry.find(field.getType());
+		if (field.getType() != List.class && field.getType() != Set.class) return converter;
+		// Collection elements
+		Class<?> elementType = elementTypeOf(field);
+		if (elementType == String.class || elementType == CharSequence.class) return converter;
+		if (elementType == null || !registry.isSupported(elementType))
+			throw new IllegalArgumentException(String.format(
+				"Unsupported element type %s of %s.%s",
+				field.getGenericType().getTypeName(),
+				field.getDeclaringClass().getName(),
+				field.getName()));
+		return elementConverter(converter, registry.find(elementType), field.getType() == Set.class);
+	}
+
+	/**
+	 * Returns the element type of a collection field
+	 *
+	 * @param field the field to check
+	 * @return the element type, {@link String} for raw collections or {@code null} if the
+	 * 	element type is not a class (type variables, nested parameterized types, etc...)
+	 */
+	private static @Nullable Class<?> elementTypeOf(@NotNull Field field) {
+		Type genericType = field.getGenericType();
+		if (!(genericType instanceof ParameterizedType)) return String.class;
+		Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+		// Wildcards use its upper bound (List<?> and List<? extends Object> contain strings)
+		if (argument instanceof WildcardType) {
+			WildcardType wildcard = (WildcardType) argument;
+			if (wildcard.getLowerBounds().length != 0) return null;
+			argument = wildcard.getUpperBounds()[0];
+			if (argument == Object.class) return String.class;
+		}
+		return argument instanceof Class<?> ? (Class<?>) argument:null;
+	}
+
+	/**
+	 * Generates a collection converter that converts each element of the text collection
+	 *
+	 * @param converter        the text collection converter
+	 * @param elementConverter the element converter
+	 * @param set              determines if the result is a {@link Set} or a {@link List}
+	 * @return the collection converter. The result is {@code null} if any element is not valid
+	 */
+	private static @NotNull ValueConverter<?> elementConverter(
+		@NotNull ValueConverter<?> converter,
+		@NotNull ValueConverter<?> elementConverter,
+		boolean set
+	) {
+		return it -> {
+			Collection<?> elements = (Collection<?>) converter.convert(it);
+			if (elements == null) return null;
+			Collection<Object> result = set ? new LinkedHashSet<>():new ArrayList<>(elements.size());
+			for (Object element : elements) {
+				Object value = elementConverter.convert(String.valueOf(element));
+				if (value == null) return null;
+				result.add(value);
+			}
+			return set ? Collections.unmodifiableSet((Set<?>) result):
+				Collections.unmodifiableList((List<?>) result);
+		};
+	}
+
+	/**
+	 * Check if the values of the type can be modified (arrays and collections)
+	 *
+	 * @param type the type to check
+	 * @return {@code true} if the values can be modified or {@code false} otherwise
+	 */
+	private static boolean isMutable(@NotNull Class<?> type) {
+		return type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+	}
+
+	/**
+	 * Search the setter method of the field or the field setter itself
+	 *
+	 * @param lookup the lookup object
+	 * @param type   the target class
+	 * @param field  the field to check
+	 * @return the setter handle with type {@code (Object, Object)void} or {@code null} if the field cannot be modified
+	 */
+	private static @Nullable MethodHandle setterOf(
+		@NotNull MethodHandles.Lookup lookup,
+		@NotNull Class<?> type,
+		@NotNull Field field
+	) {
+		MethodType genericType = MethodType.methodType(void.class, Object.class, Object.class);
+		String name = field.getName();
+		String setterName = SETTER_PREFIX + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		// Setter method
+		try {
+			return lookup.findVirtual(type, setterName, MethodType.methodType(void.class, field.getType()))
+				.asType(genericType);
+		} catch (NoSuchMethodException | IllegalAccessException ignored) {
+		}
+		// Field access
+		if (Modifier.isFinal(field.getModifiers())) return null;
+		try {
+			return lookup.unreflectSetter(field)
+				.asType(genericType);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Search the getter method of the field or the field getter itself
+	 *
+	 * @param lookup the lookup object
+	 * @param type   the target class
+	 * @param field  the field to check
+	 * @return the getter handle with type {@code (Object)Object} or {@code null} if the field cannot be read
+	 */
+	private static @Nullable MethodHandle getterOf(
+		@NotNull MethodHandles.Lookup lookup,
+		@NotNull Class<?> type,
+		@NotNull Field field
+	) {
+		MethodType genericType = MethodType.methodType(Object.class, Object.class);
+		String name = field.getName();
+		String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		// Getter method
+		for (String prefix : GETTER_PREFIXES) {
+			try {
+				return lookup.findVirtual(type, prefix + suffix, MethodType.methodType(field.getType()))
+					.asType(genericType);
+			} catch (NoSuchMethodException | IllegalAccessException ignored) {
+			}
+		}
+		// Field access
+		try {
+			return lookup.unreflectGetter(field)
+				.asType(genericType);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Bound property information
+	 */
+	private static final class Property {
+
+		/**
+		 * Entry name
+		 */
+		final String key;
+
+		/**
+		 * Entry value converter
+		 */
+		final ValueConverter<?> converter;
+
+		/**
+		 * Default entry value or {@code null} if the property has no default value
+		 */
+		final @Nullable String defaultContent;
+
+		/**
+		 * Converted default value or {@code null} if the default value must be converted on each read
+		 */
+		final @Nullable Object defaultValue;
+
+		/**
+		 * Value setter with type {@code (Object, Object)void} or {@code null} if the property cannot be modified
+		 */
+		final @Nullable MethodHandle setter;
+
+		/**
+		 * Value getter with type {@code (Object)Object} or {@code null} if the property cannot be read
+		 */
+		final @Nullable MethodHandle getter;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param key          the entry name
+		 * @param converter      the value converter
+		 * @param defaultContent the default entry value
+		 * @param defaultValue   the shared default value
+		 * @param setter         the value setter
+		 * @param getter         the value getter
+		 */
+		Property(
+			@NotNull String key,
+			@NotNull ValueConverter<?> converter,
+			@Nullable String defaultContent,
+			@Nullable Object defaultValue,
+			@Nullable MethodHandle setter,
+			@Nullable MethodHandle getter
+		) {
+			this.key = key;
+			this.converter = converter;
+			this.defaultContent = defaultContent;
+			this.defaultValue = defaultValue;
+			this.setter = setter;
+			this.getter = getter;
+		}
+
+		/**
+		 * Assigns the entry value to the target object
+		 *
+		 * @param section the section to read
+		 * @param target  the object to modify
+		 */
+		void read(@NotNull Section section, @NotNull Object target) {
+			if (setter == null) return;
+			Optional<String> content = section.get(key);
+			Object value = content.isPresent() ? converter.convert(content.get()):null;
+			if (value == null) value = defaultValue();
+			if (value == null) return;
+			// Assign the value
+			try {
+				setter.invokeExact(target, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * Returns the default value. Mutable values (arrays and collections) are
+		 * converted again, so each object receives its own instance.
+		 *
+		 * @return the default value or {@code null} if the property has no default value
+		 */
+		@Nullable Object defaultValue() {
+			if (defaultValue != null || defaultContent == null) return defaultValue;
+			return converter.convert(defaultContent);
+		}
+
+		/**
+		 * Returns the entry text of the property value
+		 *
+		 * @param source the object to read
+		 * @return the entry text or {@code null} if the property cannot be read or its value is {@code null}
+		 */
+		@Nullable String format(@NotNull Object source) {
+			if (getter == null) return null;
+			try {
+				Object value = getter.invokeExact(source);
+				return ConverterRegistry.getDefault().format(value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
+}
@@ -1,26 +1,24 @@
 package ushiosan.simple_ini.conversion;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
-import ushiosan.jvm_utilities.lang.collection.Collections;
-import ushiosan.jvm_utilities.lang.collection.elements.Pair;
-
 /**
  * Utility used to convert elements of type {@link CharSequence} to valid {@link Boolean} type.
  */
 public final class BooleanConverter {
 
 	/**
-	 * All possible boolean values
+	 * All possible true values
 	 */
-	private static final Map<Character, List<String>> acceptedBooleanValues = Collections.mapOf(
-		Pair.of('t', Collections.listOf("true", "1", "yes", "y")),
-		Pair.of('f', Collections.listOf("false", "0", "no", "n"))
-	);
+	private static final String[] TRUE_VALUES = {"true", "1", "yes", "y"};
+
+	/**
+	 * All possible false values
+	 */
+	private static final String[] FALSE_VALUES = {"false", "0", "no", "n"};
 
 	/**
 	 * This class cannot be instantiated.
@@ -43,19 +41,54 @@ public final class BooleanConverter {
 	 * @return a valid boolean result or {@link Optional#empty()} if the content is not a valid boolean
 	 */
 	public static Optional<Boolean> toBoolean(@NotNull CharSequence content) {
-		// Clean value
-		String data = content
-			.toString()
-			.toLowerCase()
-			.trim();
+		return Optional.ofNullable(toBooleanImpl(content));
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Convert a text to a valid boolean without generating temporary objects.
+	 *
+	 * @param content the content to convert
+	 * @return a valid boolean result or {@code null} if the content is not a valid boolean
+	 */
+	static @Nullable Boolean toBooleanImpl(@NotNull CharSequence content) {
+		// Trim the content
+		int start = 0;
+		int end = content.length();
+		while (start < end && content.charAt(start) <= ' ') start++;
+		while (end > start && content.charAt(end - 1) <= ' ') end--;
 
 		// Check boolean values
-		if (acceptedBooleanValues.get('t').contains(data))
-			return Optional.of(true);
-		if (acceptedBooleanValues.get('f').contains(data))
-			return Optional.of(false);
+		if (matchesAny(content, start, end, TRUE_VALUES))
+			return Boolean.TRUE;
+		if (matchesAny(content, start, end, FALSE_VALUES))
+			return Boolean.FALSE;
 
-		return Optional.empty();
+		return null;
+	}
+
+	/**
+	 * Check if the content region is equal to any of the values (case-insensitive).
+	 *
+	 * @param content the content to check
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @param values  the values to compare
+	 * @return {@code true} if the region matches a value or {@code false} otherwise
+	 */
+	private static boolean matchesAny(@NotNull CharSequence content, int start, int end, String @NotNull [] values) {
+		for (String value : values) {
+			if (value.length() != end - start) continue;
+			boolean equals = true;
+			for (int i = 0; i < value.length() && equals; i++) {
+				equals = Character.toLowerCase(content.charAt(start + i)) == value.charAt(i);
+			}
+			if (equals) return true;
+		}
+		return false;
 	}
 
 }
@@ -7,6 +7,7 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import ushiosan.jvm_utilities.function.Apply;
@@ -75,16 +76,123 @@ public final class CollectionConverter {
 		@NotNull @RegExp String regex,
 		@NotNull Apply.Result<String[], T> apply
 	) {
-		String realContent = content.toString().trim();
 		// Generate content
-		try (var stream = Arrays.stream(realContent.split(regex))) {
-			return apply.apply(stream
-				.map(String::trim)
-				.toArray(String[]::new)
-			);
+		try {
+			return apply.apply(ValueSplitter.of(regex).split(content));
 		} catch (Exception e) {
 			return apply.apply(Arrs.of());
 		}
 	}
 
+	/**
+	 * Returns an object that generates the elements only when they are requested.
+	 *
+	 * @param content the content to convert
+	 * @param regex   regular expression separator
+	 * @return an iterable object with all the elements
+	 * @see ValueSplitter#iterate(CharSequence)
+	 */
+	public static @NotNull Iterable<String> iterate(
+		@NotNull CharSequence content,
+		@NotNull @RegExp String regex
+	) {
+		return ValueSplitter.of(regex).iterate(content);
+	}
+
+	/**
+	 * Generates an int array based on the content and the given separator.
+	 * The elements are parsed without generating intermediate strings.
+	 *
+	 * @param content the content to convert
+	 * @param regex   regular expression separator
+	 * @return an array with all elements or {@link Optional#empty()} if any element is not a valid integer
+	 */
+	public static @NotNull Optional<int[]> toIntArray(
+		@NotNull CharSequence content,
+		@NotNull @RegExp String regex
+	) {
+		if (isBlank(content)) return Optional.of(new int[0]);
+		int[][] values = {new int[8]};
+		long[] parsed = new long[1];
+		int[] size = new int[1];
+		// Parse all elements
+		boolean valid = ValueSplitter.of(regex).forEachRegion(content, (data, start, end) -> {
+			if (!NumberConverter.toIntegerImpl(data, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, parsed))
+				return false;
+			if (size[0] == values[0].length) values[0] = Arrays.copyOf(values[0], size[0] * 2);
+			values[0][size[0]++] = (int) parsed[0];
+			return true;
+		});
+		return valid ? Optional.of(Arrays.copyOf(values[0], size[0])):Optional.empty();
+	}
+
+	/**
+	 * Generates a long array based on the content and the given separator.
+	 * The elements are parsed without generating intermediate strings.
+	 *
+	 * @param content the content to convert
+	 * @param regex   regular expression separator
+	 * @return an array with all elements or {@link Optional#empty()} if any element is not a valid integer
+	 */
+	public static @NotNull Optional<long[]> toLongArray(
+		@NotNull CharSequence content,
+		@NotNull @RegExp String regex
+	) {
+		if (isBlank(content)) return Optional.of(new long[0]);
+		long[][] values = {new long[8]};
+		long[] parsed = new long[1];
+		int[] size = new int[1];
+		// Parse all elements
+		boolean valid = ValueSplitter.of(regex).forEachRegion(content, (data, start, end) -> {
+			if (!NumberConverter.toIntegerImpl(data, start, end, Long.MIN_VALUE, Long.MAX_VALUE, parsed))
+				return false;
+			if (size[0] == values[0].length) values[0] = Arrays.copyOf(values[0], size[0] * 2);
+			values[0][size[0]++] = parsed[0];
+			return true;
+		});
+		return valid ? Optional.of(Arrays.copyOf(values[0], size[0])):Optional.empty();
+	}
+
+	/**
+	 * Generates a double array based on the content and the given separator.
+	 *
+	 * @param content the content to convert
+	 * @param regex   regular expression separator
+	 * @return an array with all elements or {@link Optional#empty()} if any element is not a valid number
+	 */
+	public static @NotNull Optional<double[]> toDoubleArray(
+		@NotNull CharSequence content,
+		@NotNull @RegExp String regex
+	) {
+		if (isBlank(content)) return Optional.of(new double[0]);
+		double[][] values = {new double[8]};
+		double[] parsed = new double[1];
+		int[] size = new int[1];
+		// Parse all elements
+		boolean valid = ValueSplitter.of(regex).forEachRegion(content, (data, start, end) -> {
+			if (!NumberConverter.toDoubleImpl(data, start, end, parsed)) return false;
+			if (size[0] == values[0].length) values[0] = Arrays.copyOf(values[0], size[0] * 2);
+			values[0][size[0]++] = parsed[0];
+			return true;
+		});
+		return valid ? Optional.of(Arrays.copyOf(values[0], size[0])):Optional.empty();
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Check if the content is empty or only contains whitespace
+	 *
+	 * @param content the content to check
+	 * @return {@code true} if the content is blank or {@code false} otherwise
+	 */
+	private static boolean isBlank(@NotNull CharSequence content) {
+		for (int i = 0; i < content.length(); i++) {
+			if (content.charAt(i) > ' ') return false;
+		}
+		return true;
+	}
+
 }
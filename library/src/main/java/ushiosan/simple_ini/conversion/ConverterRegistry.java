@@ -0,0 +1,355 @@
+package ushiosan.simple_ini.conversion;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry used to convert entry values to any type.
+ * <p>
+ * The converter of each target type is resolved only once and stored in a cache,
+ * so the following conversions of the same type are a single map lookup. The registry
+ * includes converters for primitive types (and their wrappers), {@link String}, {@link BigInteger},
+ * {@link BigDecimal}, {@link Duration}, {@link DataSize}, {@link Path}, {@link InetSocketAddress},
+ * all enum types and comma separated values ({@link List}, {@link Set}, {@code String[]}, {@code int[]},
+ * {@code long[]} and {@code double[]}).
+ */
+public final class ConverterRegistry {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Registry used by default
+	 */
+	private static final ConverterRegistry DEFAULT = new ConverterRegistry();
+
+	/**
+	 * Separator used by collection and array types
+	 */
+	private static final String DEFAULT_SEPARATOR = ",";
+
+	/**
+	 * Separator used to write collection and array types
+	 */
+	private static final String ELEMENT_JOINER = ", ";
+
+	/**
+	 * Marker used to cache types without converter
+	 */
+	private static final ValueConverter<?> UNSUPPORTED = it -> null;
+
+	/**
+	 * Converters registered by type
+	 */
+	private final Map<Class<?>, ValueConverter<?>> registered = new ConcurrentHashMap<>();
+
+	/**
+	 * Converters resolved by type
+	 */
+	private final Map<Class<?>, ValueConverter<?>> resolved = new ConcurrentHashMap<>();
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor. The registry includes all default converters.
+	 */
+	public ConverterRegistry() {
+		registerDefaults();
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Register a converter. If the type already has a converter, it is replaced.
+	 *
+	 * @param type      the target type
+	 * @param converter the converter to register
+	 * @param <T>       generic target type
+	 * @return the current instance
+	 */
+	@Contract("_, _ -> this")
+	public <T> @NotNull ConverterRegistry register(@NotNull Class<T> type, @NotNull ValueConverter<? extends T> converter) {
+		registered.put(wrapperOf(type), converter);
+		// Previous resolutions can depend on the replaced converter
+		resolved.clear();
+		return this;
+	}
+
+	/**
+	 * Check if the type can be converted
+	 *
+	 * @param type the type to check
+	 * @return {@code true} if the type has a converter or {@code false} otherwise
+	 */
+	public boolean isSupported(@NotNull Class<?> type) {
+		return resolve(type) != UNSUPPORTED;
+	}
+
+	/**
+	 * Returns the converter of the given type
+	 *
+	 * @param type the target type
+	 * @param <T>  generic target type
+	 * @return the type converter
+	 * @throws IllegalArgumentException if the type has no converter
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> @NotNull ValueConverter<T> find(@NotNull Class<T> type) {
+		ValueConverter<?> converter = resolve(type);
+		if (converter == UNSUPPORTED)
+			throw new IllegalArgumentException("No converter registered for type " + type.getName());
+		return (ValueConverter<T>) converter;
+	}
+
+	/**
+	 * Convert the content to the given type
+	 *
+	 * @param content the content to convert
+	 * @param type    the target type
+	 * @param <T>     generic target type
+	 * @return the converted value or {@code null} if the content is not valid
+	 * @throws IllegalArgumentException if the type has no converter
+	 */
+	public <T> @Nullable T convert(@NotNull String content, @NotNull Class<T> type) {
+		return find(type).convert(content);
+	}
+
+	/**
+	 * Convert a value to the entry text that the default converters can read back.
+	 * Enums are written with their constant name, collections and arrays as comma separated elements
+	 * and socket addresses with format {@code host:port}. Other values use their string representation.
+	 *
+	 * @param value the value to convert
+	 * @return the entry text or {@code null} if the value is {@code null}
+	 */
+	public @Nullable String format(@Nullable Object value) {
+		if (value == null) return null;
+		if (value instanceof CharSequence) return value.toString();
+		if (value instanceof Enum<?>) return ((Enum<?>) value).name();
+		if (value instanceof InetSocketAddress) return formatSocketAddress((InetSocketAddress) value);
+		if (value instanceof Collection<?>) {
+			StringJoiner joiner = new StringJoiner(ELEMENT_JOINER);
+			for (Object element : (Collection<?>) value) {
+				joiner.add(String.valueOf(format(element)));
+			}
+			return joiner.toString();
+		}
+		if (value.getClass().isArray()) {
+			StringJoiner joiner = new StringJoiner(ELEMENT_JOINER);
+			for (int i = 0; i < Array.getLength(value); i++) {
+				joiner.add(String.valueOf(format(Array.get(value, i))));
+			}
+			return joiner.toString();
+		}
+		return value.toString();
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the registry used by default.
+	 * Converters registered in this registry are available to all sections.
+	 *
+	 * @return the default registry
+	 */
+	public static @NotNull ConverterRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the cached converter of the type or resolves it
+	 *
+	 * @param type the target type
+	 * @return the type converter or {@link #UNSUPPORTED} if the type has no converter
+	 */
+	private @NotNull ValueConverter<?> resolve(@NotNull Class<?> type) {
+		ValueConverter<?> result = resolved.get(type);
+		return result != null ? result:resolved.computeIfAbsent(type, this::resolveImpl);
+	}
+
+	/**
+	 * Search the converter of the type
+	 *
+	 * @param type the target type
+	 * @return the type converter or {@link #UNSUPPORTED} if the type has no converter
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private @NotNull ValueConverter<?> resolveImpl(@NotNull Class<?> type) {
+		ValueConverter<?> result = registered.get(wrapperOf(type));
+		if (result != null) return result;
+		// Enum types
+		return type.isEnum() ? enumConverter((Class) type):UNSUPPORTED;
+	}
+
+	/**
+	 * Register all default converters
+	 */
+	private void registerDefaults() {
+		registered.put(String.class, it -> it);
+		registered.put(CharSequence.class, it -> it);
+		registered.put(Boolean.class, BooleanConverter::toBooleanImpl);
+		registered.put(Character.class, it -> it.length() == 1 ? it.charAt(0):null);
+		registered.put(Byte.class, it -> {
+			long[] result = new long[1];
+			return tryParseRange(it, Byte.MIN_VALUE, Byte.MAX_VALUE, result) ? (byte) result[0]:null;
+		});
+		registered.put(Short.class, it -> {
+			long[] result = new long[1];
+			return tryParseRange(it, Short.MIN_VALUE, Short.MAX_VALUE, result) ? (short) result[0]:null;
+		});
+		registered.put(Integer.class, it -> {
+			long[] result = new long[1];
+			return tryParseRange(it, Integer.MIN_VALUE, Integer.MAX_VALUE, result) ? (int) result[0]:null;
+		});
+		registered.put(Long.class, it -> {
+			long[] result = new long[1];
+			return NumberConverter.tryParseLong(it, result) ? result[0]:null;
+		});
+		registered.put(Float.class, it -> {
+			double[] result = new double[1];
+			return NumberConverter.tryParseDouble(it, result) ? (float) result[0]:null;
+		});
+		registered.put(Double.class, it -> {
+			double[] result = new double[1];
+			return NumberConverter.tryParseDouble(it, result) ? result[0]:null;
+		});
+		registered.put(Number.class, it -> NumberConverter.toNumber(it).orElse(null));
+		registered.put(BigInteger.class, it -> {
+			try {
+				return new BigInteger(it.trim());
+			} catch (NumberFormatException ignored) {
+				return null;
+			}
+		});
+		registered.put(BigDecimal.class, it -> {
+			try {
+				return new BigDecimal(it.trim());
+			} catch (NumberFormatException ignored) {
+				return null;
+			}
+		});
+		registered.put(Duration.class, DurationConverter::toDurationImpl);
+		registered.put(DataSize.class, DataSize::parseImpl);
+		registered.put(Path.class, it -> {
+			try {
+				return Path.of(it);
+			} catch (InvalidPathException ignored) {
+				return null;
+			}
+		});
+		registered.put(InetSocketAddress.class, ConverterRegistry::toSocketAddress);
+		// Comma separated elements
+		registered.put(String[].class, it -> ValueSplitter.of(DEFAULT_SEPARATOR).split(it));
+		registered.put(List.class, it -> CollectionConverter.toList(it, DEFAULT_SEPARATOR));
+		registered.put(Set.class, it -> CollectionConverter.toSet(it, DEFAULT_SEPARATOR));
+		registered.put(int[].class, it -> CollectionConverter.toIntArray(it, DEFAULT_SEPARATOR).orElse(null));
+		registered.put(long[].class, it -> CollectionConverter.toLongArray(it, DEFAULT_SEPARATOR).orElse(null));
+		registered.put(double[].class, it -> CollectionConverter.toDoubleArray(it, DEFAULT_SEPARATOR).orElse(null));
+	}
+
+	/**
+	 * Generates the converter of an enum type. The constant names are case-insensitive.
+	 *
+	 * @param type the enum type
+	 * @param <E>  generic enum type
+	 * @return the enum converter
+	 */
+	private static <E extends Enum<E>> @NotNull ValueConverter<E> enumConverter(@NotNull Class<E> type) {
+		E[] constants = type.getEnumConstants();
+		return it -> {
+			String content = it.trim();
+			for (E constant : constants) {
+				if (constant.name().equalsIgnoreCase(content)) return constant;
+			}
+			return null;
+		};
+	}
+
+	/**
+	 * Parse an integer value and check if the value is in the range
+	 *
+	 * @param content the content to convert
+	 * @param min     the minimum value
+	 * @param max     the maximum value
+	 * @param result  the array that receives the value
+	 * @return {@code true} if the content is a valid value or {@code false} otherwise
+	 */
+	private static boolean tryParseRange(@NotNull CharSequence content, long min, long max, long @NotNull [] result) {
+		return NumberConverter.tryParseLong(content, result) && result[0] >= min && result[0] <= max;
+	}
+
+	/**
+	 * Convert a text with format {@code host:port} to a socket address. The address is not resolved.
+	 *
+	 * @param content the content to convert
+	 * @return the socket address or {@code null} if the content is not valid
+	 */
+	private static @Nullable InetSocketAddress toSocketAddress(@NotNull String content) {
+		String data = content.trim();
+		int separator = data.lastIndexOf(':');
+		if (separator <= 0) return null;
+		long[] port = new long[1];
+		if (!tryParseRange(data.substring(separator + 1), 0, 0xFFFF, port)) return null;
+		// Remove IPv6 brackets
+		String host = data.charAt(0) == '[' && data.charAt(separator - 1) == ']' ?
+			data.substring(1, separator - 1):data.substring(0, separator);
+		return InetSocketAddress.createUnresolved(host, (int) port[0]);
+	}
+
+	/**
+	 * Convert a socket address to the text format {@code host:port}
+	 *
+	 * @param address the address to convert
+	 * @return the address text
+	 */
+	private static @NotNull String formatSocketAddress(@NotNull InetSocketAddress address) {
+		String host = address.getHostString();
+		return (host.indexOf(':') != -1 ? "[" + host + "]":host) + ":" + address.getPort();
+	}
+
+	/**
+	 * Returns the wrapper class of a primitive type
+	 *
+	 * @param type the type to check
+	 * @return the wrapper class or the same type if it is not primitive
+	 */
+	private static @NotNull Class<?> wrapperOf(@NotNull Class<?> type) {
+		if (!type.isPrimitive()) return type;
+		if (type == int.class) return Integer.class;
+		if (type == long.class) return Long.class;
+		if (type == boolean.class) return Boolean.class;
+		if (type == double.class) return Double.class;
+		if (type == float.class) return Float.class;
+		if (type == short.class) return Short.class;
+		if (type == byte.class) return Byte.class;
+		if (type == char.class) return Character.class;
+		return type;
+	}
+
+}
@@ -0,0 +1,206 @@
+package ushiosan.simple_ini.conversion;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Class used to represent a size of data in bytes, for example {@code 512KB} or {@code 10 MiB}.
+ * <p>
+ * All units are multiples of 1024 ({@code B}, {@code K}/{@code KB}/{@code KiB}, {@code M}/{@code MB}/{@code MiB},
+ * {@code G}, {@code T} and {@code P}). Numbers without unit are bytes.
+ */
+public final class DataSize implements Comparable<DataSize> {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Unit letters in ascending order
+	 */
+	private static final String UNIT_LETTERS = "BKMGTP";
+
+	/**
+	 * Size in bytes
+	 */
+	private final long bytes;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param bytes the size in bytes
+	 */
+	private DataSize(long bytes) {
+		this.bytes = bytes;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the size in bytes
+	 *
+	 * @return the size in bytes
+	 */
+	public long toBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Compare both sizes
+	 *
+	 * @param other the size to compare
+	 * @return the comparison result
+	 */
+	@Override
+	public int compareTo(@NotNull DataSize other) {
+		return Long.compare(bytes, other.bytes);
+	}
+
+	/**
+	 * Check if both objects are equals
+	 *
+	 * @param obj the object to compare
+	 * @return {@code true} if both objects are equals or {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof DataSize && ((DataSize) obj).bytes == bytes;
+	}
+
+	/**
+	 * Object hash code
+	 *
+	 * @return object hash code
+	 */
+	@Override
+	public int hashCode() {
+		return Long.hashCode(bytes);
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return bytes + "B";
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Generates a size object
+	 *
+	 * @param bytes the size in bytes
+	 * @return a new size object
+	 */
+	@Contract(value = "_ -> new", pure = true)
+	public static @NotNull DataSize ofBytes(long bytes) {
+		return new DataSize(bytes);
+	}
+
+	/**
+	 * Convert a text to a valid size.
+	 *
+	 * @param content the content to convert
+	 * @return a valid size or {@link Optional#empty()} if the content is not valid
+	 */
+	public static @NotNull Optional<DataSize> parse(@NotNull CharSequence content) {
+		return Optional.ofNullable(parseImpl(content));
+	}
+
+	/**
+	 * Convert a text to a valid size.
+	 *
+	 * @param content the content to convert
+	 * @return a valid size or {@code null} if the content is not valid
+	 */
+	static @Nullable DataSize parseImpl(@NotNull CharSequence content) {
+		// Trim the content without generating new objects
+		int start = 0;
+		int end = content.length();
+		while (start < end && content.charAt(start) <= ' ') start++;
+		while (end > start && content.charAt(end - 1) <= ' ') end--;
+		// Number part (decimal values are allowed, for example 1.5GB)
+		long integer = 0;
+		long fraction = 0;
+		long fractionScale = 1;
+		int index = start;
+		int digits = 0;
+		while (index < end && isDigit(content.charAt(index))) {
+			integer = integer * 10 + (content.charAt(index++) - '0');
+			if (integer < 0) return null;
+			digits++;
+		}
+		if (index < end && content.charAt(index) == '.') {
+			index++;
+			while (index < end && isDigit(content.charAt(index))) {
+				if (fractionScale < 1_000_000_000L) {
+					fraction = fraction * 10 + (content.charAt(index) - '0');
+					fractionScale *= 10;
+				}
+				index++;
+				digits++;
+			}
+		}
+		// At least one digit is required ("." is not a number)
+		if (digits == 0) return null;
+		while (index < end && content.charAt(index) == ' ') index++;
+		// Unit part
+		int shift = shiftOf(content, index, end);
+		if (shift == -1) return null;
+		// Check overflow
+		if (integer > (Long.MAX_VALUE >> shift)) return null;
+		long bytes = (integer << shift) + (long) ((double) fraction / fractionScale * (1L << shift));
+		return bytes < 0 ? null:new DataSize(bytes);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the bit shift of the unit
+	 *
+	 * @param content the content to check
+	 * @param start   the unit start (inclusive)
+	 * @param end     the unit end (exclusive)
+	 * @return the unit shift or {@code -1} if the unit is not valid
+	 */
+	private static int shiftOf(@NotNull CharSequence content, int start, int end) {
+		int length = end - start;
+		if (length == 0) return 0;
+		int unit = UNIT_LETTERS.indexOf(Character.toUpperCase(content.charAt(start)));
+		if (unit == -1) return -1;
+		// Bytes unit
+		if (unit == 0) return length == 1 ? 0:-1;
+		// Check suffix (K, KB or KiB)
+		boolean valid = length == 1 ||
+			(length == 2 && Character.toUpperCase(content.charAt(start + 1)) == 'B') ||
+			(length == 3 && content.charAt(start + 1) == 'i' && Character.toUpperCase(content.charAt(start + 2)) == 'B');
+		return valid ? unit * 10:-1;
+	}
+
+	/**
+	 * Check if the character is an ASCII digit
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is a digit or {@code false} otherwise
+	 */
+	private static boolean isDigit(char character) {
+		return character >= '0' && character <= '9';
+	}
+
+}
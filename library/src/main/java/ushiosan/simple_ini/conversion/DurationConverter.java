@@ -0,0 +1,142 @@
+package ushiosan.simple_ini.conversion;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Utility used to convert elements of type {@link CharSequence} to valid {@link Duration} type.
+ * <p>
+ * Accepted formats are ISO-8601 durations ({@code PT1H30M}) and sequences of numbers
+ * with unit ({@code 1h30m}, {@code 250ms}, {@code 2d}). The valid units are {@code ns}, {@code us},
+ * {@code ms}, {@code s}, {@code m}, {@code h} and {@code d}. Numbers without unit are milliseconds.
+ */
+public final class DurationConverter {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private DurationConverter() {
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Convert a text to a valid duration.
+	 *
+	 * @param content the content to convert
+	 * @return a valid duration or {@link Optional#empty()} if the content is not a valid duration
+	 */
+	public static @NotNull Optional<Duration> toDuration(@NotNull CharSequence content) {
+		return Optional.ofNullable(toDurationImpl(content));
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Convert a text to a valid duration.
+	 *
+	 * @param content the content to convert
+	 * @return a valid duration or {@code null} if the content is not a valid duration
+	 */
+	static @Nullable Duration toDurationImpl(@NotNull CharSequence content) {
+		// Trim the content without generating new objects
+		int start = 0;
+		int end = content.length();
+		while (start < end && content.charAt(start) <= ' ') start++;
+		while (end > start && content.charAt(end - 1) <= ' ') end--;
+		if (start == end) return null;
+		// ISO-8601 format
+		char first = content.charAt(start);
+		if (first == 'P' || first == 'p' || ((first == '-' || first == '+') && end - start > 1 &&
+			(content.charAt(start + 1) == 'P' || content.charAt(start + 1) == 'p'))) {
+			try {
+				return Duration.parse(content.subSequence(start, end));
+			} catch (DateTimeParseException ignored) {
+				return null;
+			}
+		}
+		// Unit format
+		boolean negative = first == '-';
+		if (first == '-' || first == '+') start++;
+		long totalNanos = 0;
+		int index = start;
+		while (index < end) {
+			// Number part
+			long amount = 0;
+			int numberStart = index;
+			while (index < end && content.charAt(index) >= '0' && content.charAt(index) <= '9') {
+				amount = amount * 10 + (content.charAt(index) - '0');
+				if (amount < 0) return null;
+				index++;
+			}
+			if (index == numberStart) return null;
+			while (index < end && content.charAt(index) == ' ') index++;
+			// Unit part
+			int unitStart = index;
+			while (index < end && Character.isLetter(content.charAt(index))) index++;
+			long unitNanos = unitNanosOf(content, unitStart, index);
+			if (unitNanos == -1) return null;
+			// Accumulate and check overflow
+			try {
+				totalNanos = Math.addExact(totalNanos, Math.multiplyExact(amount, unitNanos));
+			} catch (ArithmeticException ignored) {
+				return null;
+			}
+			while (index < end && content.charAt(index) == ' ') index++;
+		}
+		return Duration.ofNanos(negative ? -totalNanos:totalNanos);
+	}
+
+	/**
+	 * Returns the nanoseconds of the unit
+	 *
+	 * @param content the content to check
+	 * @param start   the unit start (inclusive)
+	 * @param end     the unit end (exclusive)
+	 * @return the unit nanoseconds or {@code -1} if the unit is not valid
+	 */
+	private static long unitNanosOf(@NotNull CharSequence content, int start, int end) {
+		switch (end - start) {
+			case 0:
+				return 1_000_000L;
+			case 1:
+				switch (Character.toLowerCase(content.charAt(start))) {
+					case 's':
+						return 1_000_000_000L;
+					case 'm':
+						return 60_000_000_000L;
+					case 'h':
+						return 3_600_000_000_000L;
+					case 'd':
+						return 86_400_000_000_000L;
+					default:
+						return -1;
+				}
+			case 2:
+				if (Character.toLowerCase(content.charAt(start + 1)) != 's') return -1;
+				switch (Character.toLowerCase(content.charAt(start))) {
+					case 'n':
+						return 1L;
+					case 'u':
+						return 1_000L;
+					case 'm':
+						return 1_000_000L;
+					default:
+						return -1;
+				}
+			default:
+				return -1;
+		}
+	}
+
+}
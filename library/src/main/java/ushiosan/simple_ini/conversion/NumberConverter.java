@@ -21,6 +21,16 @@ public final class NumberConverter {
 	private NumberConverter() {
 	}
 
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Maximum exponent scanned by the integral decimal values. Greater exponents
+	 * always generate zero or an overflow, so the exponent is saturated.
+	 */
+	private static final long MAX_EXPONENT = 100_000;
+
 	/* -----------------------------------------------------
 	 * Methods
 	 * ----------------------------------------------------- */
@@ -37,42 +47,113 @@ public final class NumberConverter {
 
 	/**
 	 * Converts a {@link CharSequence} object to a valid {@link Byte} object.
+	 * <p>
+	 * Integer values are parsed exactly, see {@link #parseLong(CharSequence, long)} for the accepted formats.
+	 * Values out of range are not valid.
 	 *
 	 * @param content the content to convert
 	 * @return a valid number object or {@link Optional#empty()} if the content is not valid
 	 */
 	public static @NotNull Optional<Byte> toByte(@NotNull CharSequence content) {
-		return toCustomNumberImpl(content, Number::byteValue);
+		long[] result = new long[1];
+		return toIntegerImpl(content, Byte.MIN_VALUE, Byte.MAX_VALUE, result) ?
+			Optional.of((byte) result[0]):Optional.empty();
 	}
 
 	/**
 	 * Converts a {@link CharSequence} object to a valid {@link Short} object.
+	 * <p>
+	 * Integer values are parsed exactly. Values out of range are not valid.
 	 *
 	 * @param content the content to convert
 	 * @return a valid number object or {@link Optional#empty()} if the content is not valid
 	 */
 	public static @NotNull Optional<Short> toShort(@NotNull CharSequence content) {
-		return toCustomNumberImpl(content, Number::shortValue);
+		long[] result = new long[1];
+		return toIntegerImpl(content, Short.MIN_VALUE, Short.MAX_VALUE, result) ?
+			Optional.of((short) result[0]):Optional.empty();
 	}
 
 	/**
 	 * Converts a {@link CharSequence} object to a valid {@link Integer} object.
+	 * <p>
+	 * Integer values are parsed exactly. Values out of range are not valid.
 	 *
 	 * @param content the content to convert
 	 * @return a valid number object or {@link Optional#empty()} if the content is not valid
 	 */
 	public static @NotNull Optional<Integer> toInt(@NotNull CharSequence content) {
-		return toCustomNumberImpl(content, Number::intValue);
+		long[] result = new long[1];
+		return toIntegerImpl(content, Integer.MIN_VALUE, Integer.MAX_VALUE, result) ?
+			Optional.of((int) result[0]):Optional.empty();
 	}
 
 	/**
 	 * Converts a {@link CharSequence} object to a valid {@link Long} object.
+	 * <p>
+	 * Integer values are parsed exactly. Values out of range are not valid.
 	 *
 	 * @param content the content to convert
 	 * @return a valid number object or {@link Optional#empty()} if the content is not valid
 	 */
 	public static @NotNull Optional<Long> toLong(@NotNull CharSequence content) {
-		return toCustomNumberImpl(content, Number::longValue);
+		long[] result = new long[1];
+		return toIntegerImpl(content, Long.MIN_VALUE, Long.MAX_VALUE, result) ?
+			Optional.of(result[0]):Optional.empty();
+	}
+
+	/**
+	 * Converts a {@link CharSequence} object to a primitive long value without throwing exceptions.
+	 * <p>
+	 * Accepted formats are decimal integers with optional sign, radix prefixes
+	 * ({@code 0x} hexadecimal, {@code 0o} octal and {@code 0b} binary) and {@code _} separators
+	 * between digits (for example {@code 1_000_000} or {@code 0xFF_FF}). Decimal values
+	 * without fractional part (for example {@code 1000.0} or {@code 1e3}) are also accepted.
+	 *
+	 * @param content      the content to convert
+	 * @param defaultValue the value returned if the content is not valid
+	 * @return the converted value or {@code defaultValue} if the content is not valid or is out of range
+	 */
+	public static long parseLong(@NotNull CharSequence content, long defaultValue) {
+		long[] result = new long[1];
+		return toIntegerImpl(content, Long.MIN_VALUE, Long.MAX_VALUE, result) ? result[0]:defaultValue;
+	}
+
+	/**
+	 * Converts a {@link CharSequence} object to a primitive int value without throwing exceptions.
+	 *
+	 * @param content      the content to convert
+	 * @param defaultValue the value returned if the content is not valid
+	 * @return the converted value or {@code defaultValue} if the content is not valid or is out of range
+	 * @see #parseLong(CharSequence, long)
+	 */
+	public static int parseInt(@NotNull CharSequence content, int defaultValue) {
+		long[] result = new long[1];
+		return toIntegerImpl(content, Integer.MIN_VALUE, Integer.MAX_VALUE, result) ? (int) result[0]:defaultValue;
+	}
+
+	/**
+	 * Converts a {@link CharSequence} object to a primitive long value without throwing exceptions
+	 * and without generating new objects.
+	 *
+	 * @param content the content to convert
+	 * @param result  the array where the result is stored (at index {@code 0})
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 * @see #parseLong(CharSequence, long)
+	 */
+	public static boolean tryParseLong(@NotNull CharSequence content, long @NotNull [] result) {
+		return toIntegerImpl(content, Long.MIN_VALUE, Long.MAX_VALUE, result);
+	}
+
+	/**
+	 * Converts a {@link CharSequence} object to a primitive double value without throwing exceptions.
+	 *
+	 * @param content the content to convert
+	 * @param result  the array where the result is stored (at index {@code 0})
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 */
+	public static boolean tryParseDouble(@NotNull CharSequence content, double @NotNull [] result) {
+		return toDoubleImpl(content, result);
 	}
 
 	/**
@@ -101,23 +182,358 @@ public final class NumberConverter {
 
 	/**
 	 * Converts a {@link CharSequence} object to a valid {@link Number} object.
+	 * The content is validated before parsing it, so invalid values do not throw exceptions.
 	 *
 	 * @param content the content to convert
 	 * @return a valid number object or {@code null} if the content is not valid
 	 */
 	private static @Nullable @Unmodifiable Number toNumberImpl(@NotNull CharSequence content) {
-		// Get content string
-		String data = content
-			.toString()
-			.trim();
-		// Try to convert the content
+		double[] result = new double[1];
+		return toDoubleImpl(content, result) ? result[0]:null;
+	}
+
+	/**
+	 * Converts a {@link CharSequence} object to a primitive double value.
+	 * The content is validated before parsing it, so invalid values do not throw exceptions.
+	 *
+	 * @param content the content to convert
+	 * @param result  the array where the result is stored
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 */
+	private static boolean toDoubleImpl(@NotNull CharSequence content, double @NotNull [] result) {
+		// Trim the content without generating new objects
+		int start = 0;
+		int end = content.length();
+		while (start < end && content.charAt(start) <= ' ') start++;
+		while (end > start && content.charAt(end - 1) <= ' ') end--;
+		return toDoubleImpl(content, start, end, result);
+	}
+
+	/**
+	 * Converts a region of a {@link CharSequence} object to a primitive double value.
+	 * The region must be already trimmed.
+	 *
+	 * @param content the content to convert
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @param result  the array where the result is stored
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 */
+	static boolean toDoubleImpl(@NotNull CharSequence content, int start, int end, double @NotNull [] result) {
+		// Regular decimal values
+		if (isDecimalImpl(content, start, end)) {
+			result[0] = Double.parseDouble(content.subSequence(start, end).toString());
+			return true;
+		}
+		// Special values (NaN, Infinity, hexadecimal floating values or type suffixes)
+		String data = content.subSequence(start, end).toString();
+		if (!hasSpecialNumberChars(data)) return false;
 		try {
-			return Double.parseDouble(data);
-		} catch (Exception ignored) {
-			return null;
+			result[0] = Double.parseDouble(data);
+			return true;
+		} catch (NumberFormatException ignored) {
+			return false;
 		}
 	}
 
+	/**
+	 * Converts a {@link CharSequence} object to an integer value in the given range.
+	 * Integer formats are parsed exactly and decimal formats are only valid without fractional part.
+	 *
+	 * @param content the content to convert
+	 * @param min     the minimum valid value
+	 * @param max     the maximum valid value
+	 * @param result  the array where the result is stored
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 */
+	private static boolean toIntegerImpl(@NotNull CharSequence content, long min, long max, long @NotNull [] result) {
+		// Trim the content without generating new objects
+		int start = 0;
+		int end = content.length();
+		while (start < end && content.charAt(start) <= ' ') start++;
+		while (end > start && content.charAt(end - 1) <= ' ') end--;
+		return toIntegerImpl(content, start, end, min, max, result);
+	}
+
+	/**
+	 * Converts a region of a {@link CharSequence} object to an integer value in the given range.
+	 * The region must be already trimmed.
+	 *
+	 * @param content the content to convert
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @param min     the minimum valid value
+	 * @param max     the maximum valid value
+	 * @param result  the array where the result is stored
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 */
+	static boolean toIntegerImpl(@NotNull CharSequence content, int start, int end, long min, long max, long @NotNull [] result) {
+		// Check integer formats first
+		return parseIntegerImpl(content, start, end, min, max, result) ||
+			parseIntegralDecimalImpl(content, start, end, min, max, result);
+	}
+
+	/**
+	 * Scan the integer digits of the content and detect overflow.
+	 * The value is accumulated as negative number (like {@link Long#parseLong(String)}),
+	 * so the minimum values are also supported.
+	 *
+	 * @param content the content to convert
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @param min     the minimum valid value
+	 * @param max     the maximum valid value
+	 * @param result  the array where the result is stored
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 */
+	private static boolean parseIntegerImpl(
+		@NotNull CharSequence content,
+		int start,
+		int end,
+		long min,
+		long max,
+		long @NotNull [] result
+	) {
+		if (start == end) return false;
+		// Check sign
+		boolean negative = false;
+		char first = content.charAt(start);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			start++;
+		}
+		// Check radix prefix
+		int radix = 10;
+		if (end - start > 2 && content.charAt(start) == '0') {
+			int prefixRadix = radixOf(content.charAt(start + 1));
+			if (prefixRadix != -1) {
+				radix = prefixRadix;
+				start += 2;
+			}
+		}
+		// Temporal variables
+		long limit = negative ? min:-max;
+		long multiplyLimit = limit / radix;
+		long value = 0;
+		boolean previousDigit = false;
+
+		for (int i = start; i < end; i++) {
+			char current = content.charAt(i);
+			// Separators are only valid between digits
+			if (current == '_') {
+				if (!previousDigit || i == end - 1) return false;
+				previousDigit = false;
+				continue;
+			}
+			// Check digit and overflow
+			int digit = digitOf(current, radix);
+			if (digit == -1 || value < multiplyLimit) return false;
+			value *= radix;
+			if (value < limit + digit) return false;
+			value -= digit;
+			previousDigit = true;
+		}
+		// Empty digits are not valid
+		if (!previousDigit) return false;
+		result[0] = negative ? value:-value;
+		return true;
+	}
+
+	/**
+	 * Converts a decimal content without fractional part to an integer value.
+	 * The digits and the exponent are scanned directly, so the digits beyond the {@code double}
+	 * precision are not rounded. The digits removed by a negative exponent must be zero and
+	 * the value is accumulated as negative number with overflow checks (like {@link #parseIntegerImpl}).
+	 *
+	 * @param content the content to convert
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @param min     the minimum valid value
+	 * @param max     the maximum valid value
+	 * @param result  the array where the result is stored
+	 * @return {@code true} if the content is valid or {@code false} otherwise
+	 */
+	private static boolean parseIntegralDecimalImpl(
+		@NotNull CharSequence content,
+		int start,
+		int end,
+		long min,
+		long max,
+		long @NotNull [] result
+	) {
+		if (!isDecimalImpl(content, start, end)) return false;
+		// Check sign
+		boolean negative = false;
+		char first = content.charAt(start);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			start++;
+		}
+		// Integer and fractional digits
+		int integerEnd = start;
+		while (integerEnd < end && isDigit(content.charAt(integerEnd))) integerEnd++;
+		int fractionStart = integerEnd < end && content.charAt(integerEnd) == '.' ? integerEnd + 1:integerEnd;
+		int fractionEnd = fractionStart;
+		while (fractionEnd < end && isDigit(content.charAt(fractionEnd))) fractionEnd++;
+		// Exponent (large exponents are saturated, the result is zero or an overflow anyway)
+		long exponent = 0;
+		boolean negativeExponent = false;
+		int index = fractionEnd + 1;
+		if (index < end && (content.charAt(index) == '-' || content.charAt(index) == '+')) {
+			negativeExponent = content.charAt(index) == '-';
+			index++;
+		}
+		for (; index < end; index++) {
+			exponent = Math.min(exponent * 10 + (content.charAt(index) - '0'), MAX_EXPONENT);
+		}
+		// Digits multiplied by 10^scale
+		int integerLength = integerEnd - start;
+		int length = integerLength + fractionEnd - fractionStart;
+		long scale = (negativeExponent ? -exponent:exponent) - (fractionEnd - fractionStart);
+		long used = Math.max(length + Math.min(scale, 0), 0);
+		// Temporal variables
+		long limit = negative ? min:-max;
+		long multiplyLimit = limit / 10;
+		long value = 0;
+
+		for (int i = 0; i < length; i++) {
+			char current = i < integerLength ? content.charAt(start + i):
+				content.charAt(fractionStart + i - integerLength);
+			int digit = current - '0';
+			// The removed digits are the fractional part
+			if (i >= used) {
+				if (digit != 0) return false;
+				continue;
+			}
+			if (value < multiplyLimit) return false;
+			value *= 10;
+			if (value < limit + digit) return false;
+			value -= digit;
+		}
+		for (long i = 0; i < scale && value != 0; i++) {
+			if (value < multiplyLimit) return false;
+			value *= 10;
+			if (value < limit) return false;
+		}
+		result[0] = negative ? value:-value;
+		return true;
+	}
+
+	/**
+	 * Check if the content region is a decimal number ({@code [+-]?(\d+(\.\d*)?|\.\d+)([eE][+-]?\d+)?}).
+	 * All valid values can be parsed by {@link Double#parseDouble(String)}.
+	 *
+	 * @param content the content to check
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @return {@code true} if the content is a decimal number or {@code false} otherwise
+	 */
+	private static boolean isDecimalImpl(@NotNull CharSequence content, int start, int end) {
+		int index = start;
+		if (index < end && (content.charAt(index) == '-' || content.charAt(index) == '+')) index++;
+		// Integer and fractional digits
+		int digits = 0;
+		while (index < end && isDigit(content.charAt(index))) {
+			index++;
+			digits++;
+		}
+		if (index < end && content.charAt(index) == '.') {
+			index++;
+			while (index < end && isDigit(content.charAt(index))) {
+				index++;
+				digits++;
+			}
+		}
+		if (digits == 0) return false;
+		// Exponent
+		if (index < end && (content.charAt(index) == 'e' || content.charAt(index) == 'E')) {
+			index++;
+			if (index < end && (content.charAt(index) == '-' || content.charAt(index) == '+')) index++;
+			int exponentStart = index;
+			while (index < end && isDigit(content.charAt(index))) index++;
+			if (index == exponentStart) return false;
+		}
+		return index == end;
+	}
+
+	/**
+	 * Check if the content contains characters used by special number formats
+	 *
+	 * @param content the content to check
+	 * @return {@code true} if the content can be a special number or {@code false} otherwise
+	 */
+	private static boolean hasSpecialNumberChars(@NotNull String content) {
+		for (int i = 0; i < content.length(); i++) {
+			switch (content.charAt(i)) {
+				case 'N':
+				case 'I':
+				case 'x':
+				case 'X':
+				case 'p':
+				case 'P':
+				case 'f':
+				case 'F':
+				case 'd':
+				case 'D':
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the radix of the prefix character
+	 *
+	 * @param prefix the prefix character
+	 * @return the prefix radix or {@code -1} if the character is not a valid prefix
+	 */
+	private static int radixOf(char prefix) {
+		switch (prefix) {
+			case 'x':
+			case 'X':
+				return 16;
+			case 'o':
+			case 'O':
+				return 8;
+			case 'b':
+			case 'B':
+				return 2;
+			default:
+				return -1;
+		}
+	}
+
+	/**
+	 * Returns the ASCII digit value
+	 *
+	 * @param character the character to convert
+	 * @param radix     the digit radix
+	 * @return the digit value or {@code -1} if the character is not a valid digit
+	 */
+	private static int digitOf(char character, int radix) {
+		int digit;
+		if (character >= '0' && character <= '9') {
+			digit = character - '0';
+		} else if (character >= 'a' && character <= 'z') {
+			digit = character - 'a' + 10;
+		} else if (character >= 'A' && character <= 'Z') {
+			digit = character - 'A' + 10;
+		} else {
+			return -1;
+		}
+		return digit < radix ? digit:-1;
+	}
+
+	/**
+	 * Check if the character is an ASCII digit
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is a digit or {@code false} otherwise
+	 */
+	private static boolean isDigit(char character) {
+		return character >= '0' && character <= '9';
+	}
+
 	/**
 	 * Converts a {@link CharSequence} object to any number object, depending on the action.
 	 *
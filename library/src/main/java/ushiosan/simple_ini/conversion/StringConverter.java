@@ -1,6 +1,5 @@
 package ushiosan.simple_ini.conversion;
 
-import org.intellij.lang.annotations.RegExp;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -21,10 +20,9 @@ public final class StringConverter {
 	 * ----------------------------------------------------- */
 
 	/**
-	 * Regular expression to detect multiple spaces on the string
+	 * String wrapper character
 	 */
-	@RegExp
-	private static final String MULTIPLE_SPACE_REGEX = "\\s+";
+	private static final char STR_WRAPPER = '"';
 
 	/* -----------------------------------------------------
 	 * Methods
@@ -37,7 +35,10 @@ public final class StringConverter {
 	 * @return {@code true} if the content is not empty or {@code false} otherwise
 	 */
 	public static boolean isNotEmpty(@NotNull CharSequence content) {
-		return !content.toString().isBlank();
+		for (int i = 0; i < content.length(); i++) {
+			if (!Character.isWhitespace(content.charAt(i))) return true;
+		}
+		return false;
 	}
 
 	/**
@@ -47,28 +48,90 @@ public final class StringConverter {
 	 * @return a clean content
 	 */
 	public static String cleanStringContent(@NotNull CharSequence content) {
-		String strContent = cleanMultipleSpaceContent(content
-			.toString()
-			.trim()
-		);
+		String strContent = cleanMultipleSpaceContent(content);
 		// Clean the string
-		return strContent.startsWith("\"") && strContent.endsWith("\"") ?
+		return strContent.length() > 1 &&
+			strContent.charAt(0) == STR_WRAPPER &&
+			strContent.charAt(strContent.length() - 1) == STR_WRAPPER ?
 			strContent.substring(1, strContent.length() - 1):
 			strContent;
 	}
 
 	/**
 	 * Check if the content has multiple unnecessary spaces and only keeps one.
+	 * The content is scanned only once and a new string is only generated if something changes.
 	 *
 	 * @param content the content to convert
 	 * @return a clean content
 	 */
 	public static @NotNull String cleanMultipleSpaceContent(@NotNull CharSequence content) {
-		String strContent = content
-			.toString()
-			.trim();
-		// Replace the content
-		return strContent.replaceAll(MULTIPLE_SPACE_REGEX, " ");
+		// Trim the content without generating new objects
+		int start = 0;
+		int end = content.length();
+		while (start < end && content.charAt(start) <= ' ') start++;
+		while (end > start && content.charAt(end - 1) <= ' ') end--;
+		// Search the first whitespace sequence that must be replaced
+		int first = firstReplacement(content, start, end);
+		if (first == -1) {
+			return start == 0 && end == content.length() ?
+				content.toString():content.subSequence(start, end).toString();
+		}
+		// Copy the content and collapse all whitespace sequences
+		StringBuilder builder = new StringBuilder(end - start);
+		builder.append(content, start, first);
+		boolean previousSpace = false;
+		for (int i = first; i < end; i++) {
+			char current = content.charAt(i);
+			if (isSpace(current)) {
+				if (!previousSpace) builder.append(' ');
+				previousSpace = true;
+			} else {
+				builder.append(current);
+				previousSpace = false;
+			}
+		}
+		return builder.toString();
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the position of the first whitespace sequence that is not a single space
+	 *
+	 * @param content the content to check
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @return the sequence position or {@code -1} if the content does not need changes
+	 */
+	private static int firstReplacement(@NotNull CharSequence content, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char current = content.charAt(i);
+			if (!isSpace(current)) continue;
+			if (current != ' ' || (i + 1 < end && isSpace(content.charAt(i + 1)))) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Check if the character is a whitespace character (same as the {@code \s} regular expression class)
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is a whitespace or {@code false} otherwise
+	 */
+	private static boolean isSpace(char character) {
+		switch (character) {
+			case ' ':
+			case '\t':
+			case '\n':
+			case '\u000B':
+			case '\f':
+			case '\r':
+				return true;
+			default:
+				return false;
+		}
 	}
 
 }
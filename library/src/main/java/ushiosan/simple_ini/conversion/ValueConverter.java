@@ -0,0 +1,23 @@
+package ushiosan.simple_ini.conversion;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface used to convert entry values to a specific type.
+ *
+ * @param <T> generic result type
+ * @see ConverterRegistry
+ */
+@FunctionalInterface
+public interface ValueConverter<T> {
+
+	/**
+	 * Convert the content to the target type.
+	 *
+	 * @param content the content to convert
+	 * @return the converted value or {@code null} if the content is not valid
+	 */
+	@Nullable T convert(@NotNull String content);
+
+}
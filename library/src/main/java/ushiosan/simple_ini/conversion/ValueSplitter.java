@@ -0,0 +1,392 @@
+package ushiosan.simple_ini.conversion;
+
+import org.intellij.lang.annotations.RegExp;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+
+/**
+ * Precompiled separator used to split entry values into elements.
+ * <p>
+ * The elements are generated with the same rules as {@link String#split(String)}, but each element is trimmed
+ * and the separator is compiled only once. Separators without special regular expression characters
+ * (for example {@code ,} or {@code ", "}) are searched as plain text, without regular expressions.
+ */
+@PrintOpts(getterAccess = true, getterPrefix = "^(get|is)")
+public final class ValueSplitter {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Maximum number of cached separators
+	 */
+	private static final int CACHE_LIMIT = 64;
+
+	/**
+	 * Regular expression special characters
+	 */
+	private static final String REGEX_META_CHARS = ".$|()[]{}^?*+\\";
+
+	/**
+	 * Cached separators
+	 */
+	private static final Map<String, ValueSplitter> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Original separator expression
+	 */
+	private final String separator;
+
+	/**
+	 * Plain text separator or {@code null} if the separator is a regular expression
+	 */
+	private final @Nullable String literal;
+
+	/**
+	 * Compiled separator or {@code null} if the separator is plain text
+	 */
+	private final @Nullable Pattern pattern;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param separator the separator regular expression
+	 * @throws java.util.regex.PatternSyntaxException if the separator is not a valid expression
+	 */
+	private ValueSplitter(@NotNull String separator) {
+		this.separator = separator;
+		this.literal = literalOf(separator);
+		this.pattern = literal == null ? Pattern.compile(separator):null;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the separator expression
+	 *
+	 * @return the separator expression
+	 */
+	public @NotNull String getSeparator() {
+		return separator;
+	}
+
+	/**
+	 * Check if the separator is searched as plain text
+	 *
+	 * @return {@code true} if the separator is plain text or {@code false} if it is a regular expression
+	 */
+	public boolean isLiteral() {
+		return literal != null;
+	}
+
+	/**
+	 * Split the content into trimmed elements
+	 *
+	 * @param content the content to split
+	 * @return all content elements
+	 */
+	public String @NotNull [] split(@NotNull CharSequence content) {
+		String data = content.toString();
+		int from = trimStart(data, 0, data.length());
+		int to = trimEnd(data, from, data.length());
+		// Regular expression separator
+		if (literal == null) return splitRegex(data, from, to);
+		// Plain text separator
+		String[] result = new String[countLiteral(data, from, to)];
+		int position = from;
+		for (int i = 0; i < result.length; i++) {
+			int index = indexOfLiteral(data, position, to);
+			int end = index == -1 ? to:index;
+			int start = trimStart(data, position, end);
+			result[i] = data.substring(start, trimEnd(data, start, end));
+			position = end + literal.length();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an object that generates the elements only when they are requested.
+	 * Plain text separators do not generate any intermediate object, regular expression
+	 * separators split the content when the iteration starts.
+	 *
+	 * @param content the content to split
+	 * @return an iterable object with all content elements
+	 */
+	public @NotNull Iterable<String> iterate(@NotNull CharSequence content) {
+		String data = content.toString();
+		return () -> literal == null ? Arrays.asList(split(data)).iterator():
+			new LiteralIterator(data);
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the splitter of the given separator. The splitter is compiled only once
+	 * and reused in the following calls.
+	 *
+	 * @param separator the separator regular expression
+	 * @return the separator splitter
+	 * @throws java.util.regex.PatternSyntaxException if the separator is not a valid expression
+	 */
+	public static @NotNull ValueSplitter of(@NotNull @RegExp String separator) {
+		ValueSplitter result = CACHE.get(separator);
+		if (result != null) return result;
+		// Discard all separators if there are too many dynamic separators
+		if (CACHE.size() >= CACHE_LIMIT) CACHE.clear();
+		return CACHE.computeIfAbsent(separator, ValueSplitter::new);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Visit the region of all trimmed elements without generating new objects.
+	 *
+	 * @param content the content to split
+	 * @param action  action executed for each element region
+	 * @return {@code true} if all elements were visited or {@code false} if the action stops the iteration
+	 */
+	boolean forEachRegion(@NotNull CharSequence content, @NotNull RegionAction action) {
+		String data = content.toString();
+		int from = trimStart(data, 0, data.length());
+		int to = trimEnd(data, from, data.length());
+		// Regular expression separator
+		if (literal == null) {
+			for (String element : splitRegex(data, from, to)) {
+				if (!action.accept(element, 0, element.length())) return false;
+			}
+			return true;
+		}
+		// Plain text separator
+		int count = countLiteral(data, from, to);
+		int position = from;
+		for (int i = 0; i < count; i++) {
+			int index = indexOfLiteral(data, position, to);
+			int end = index == -1 ? to:index;
+			int start = trimStart(data, position, end);
+			if (!action.accept(data, start, trimEnd(data, start, end))) return false;
+			position = end + literal.length();
+		}
+		return true;
+	}
+
+	/**
+	 * Split the content region with the compiled separator
+	 *
+	 * @param data the content to split
+	 * @param from the region start (inclusive)
+	 * @param to   the region end (exclusive)
+	 * @return all trimmed elements
+	 */
+	private String @NotNull [] splitRegex(@NotNull String data, int from, int to) {
+		String[] result = pattern.split(data.subSequence(from, to));
+		for (int i = 0; i < result.length; i++) {
+			result[i] = result[i].trim();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of elements of the region. Like {@link String#split(String)},
+	 * the empty elements at the end are discarded.
+	 *
+	 * @param data the content to check
+	 * @param from the region start (inclusive)
+	 * @param to   the region end (exclusive)
+	 * @return the number of elements
+	 */
+	private int countLiteral(@NotNull String data, int from, int to) {
+		int count = 0;
+		int effective = 0;
+		int position = from;
+		int index;
+		do {
+			index = indexOfLiteral(data, position, to);
+			int end = index == -1 ? to:index;
+			count++;
+			if (end > position) effective = count;
+			position = end + literal.length();
+		} while (index != -1);
+		// Content without separators is a single element
+		return count == 1 ? 1:effective;
+	}
+
+	/**
+	 * Search the plain text separator inside the region
+	 *
+	 * @param data     the content to check
+	 * @param position the search start
+	 * @param to       the region end (exclusive)
+	 * @return the separator position or {@code -1} if there are no more separators
+	 */
+	private int indexOfLiteral(@NotNull String data, int position, int to) {
+		int index = data.indexOf(literal, position);
+		return index != -1 && index + literal.length() <= to ? index:-1;
+	}
+
+	/**
+	 * Returns the plain text of the separator
+	 *
+	 * @param separator the separator regular expression
+	 * @return the plain text separator or {@code null} if the separator requires regular expressions
+	 */
+	private static @Nullable String literalOf(@NotNull String separator) {
+		if (separator.isEmpty()) return null;
+		// Escaped special character (for example "\\|")
+		if (separator.length() == 2 && separator.charAt(0) == '\\' &&
+			REGEX_META_CHARS.indexOf(separator.charAt(1)) != -1)
+			return String.valueOf(separator.charAt(1));
+		// Check special characters
+		for (int i = 0; i < separator.length(); i++) {
+			if (REGEX_META_CHARS.indexOf(separator.charAt(i)) != -1) return null;
+		}
+		return separator;
+	}
+
+	/**
+	 * Returns the first non-whitespace position of the region
+	 *
+	 * @param data  the content to check
+	 * @param start the region start (inclusive)
+	 * @param end   the region end (exclusive)
+	 * @return the trimmed region start
+	 */
+	private static int trimStart(@NotNull String data, int start, int end) {
+		while (start < end && data.charAt(start) <= ' ') start++;
+		return start;
+	}
+
+	/**
+	 * Returns the last non-whitespace position of the region
+	 *
+	 * @param data  the content to check
+	 * @param start the region start (inclusive)
+	 * @param end   the region end (exclusive)
+	 * @return the trimmed region end
+	 */
+	private static int trimEnd(@NotNull String data, int start, int end) {
+		while (end > start && data.charAt(end - 1) <= ' ') end--;
+		return end;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Action executed for each element region
+	 */
+	@FunctionalInterface
+	interface RegionAction {
+
+		/**
+		 * Process the element region
+		 *
+		 * @param content the element content
+		 * @param start   the element start (inclusive)
+		 * @param end     the element end (exclusive)
+		 * @return {@code true} to continue the iteration or {@code false} to stop it
+		 */
+		boolean accept(@NotNull String content, int start, int end);
+
+	}
+
+	/**
+	 * Iterator that generates the elements of a plain text separator when they are requested
+	 */
+	private final class LiteralIterator implements Iterator<String> {
+
+		/**
+		 * Content to split
+		 */
+		private final String data;
+
+		/**
+		 * Region end
+		 */
+		private final int to;
+
+		/**
+		 * Number of remaining elements
+		 */
+		private int remaining;
+
+		/**
+		 * Current position
+		 */
+		private int position;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param data the content to split
+		 */
+		LiteralIterator(@NotNull String data) {
+			this.data = data;
+			this.position = trimStart(data, 0, data.length());
+			this.to = trimEnd(data, position, data.length());
+			this.remaining = countLiteral(data, position, to);
+		}
+
+		/**
+		 * Check if there are more elements
+		 *
+		 * @return {@code true} if there are more elements or {@code false} otherwise
+		 */
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		/**
+		 * Returns the next element
+		 *
+		 * @return the next element
+		 * @throws NoSuchElementException if there are no more elements
+		 */
+		@Override
+		public String next() {
+			if (remaining == 0) throw new NoSuchElementException();
+			int index = indexOfLiteral(data, position, to);
+			int end = index == -1 ? to:index;
+			int start = trimStart(data, position, end);
+			String result = data.substring(start, trimEnd(data, start, end));
+			// Move to the next element
+			position = end + literal.length();
+			remaining--;
+			return result;
+		}
+
+	}
+
+}
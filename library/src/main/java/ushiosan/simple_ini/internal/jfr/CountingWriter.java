@@ -0,0 +1,89 @@
+package ushiosan.simple_ini.internal.jfr;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that counts the number of characters written
+ */
+public final class CountingWriter extends FilterWriter {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Number of characters written
+	 */
+	private long count;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param writer the target writer
+	 */
+	public CountingWriter(@NotNull Writer writer) {
+		super(writer);
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the number of characters written
+	 *
+	 * @return the number of characters written
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Write a single character
+	 *
+	 * @param character the character to write
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void write(int character) throws IOException {
+		super.write(character);
+		count++;
+	}
+
+	/**
+	 * Write a portion of an array of characters
+	 *
+	 * @param buffer the characters to write
+	 * @param offset the buffer offset
+	 * @param length the number of characters
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void write(char @NotNull [] buffer, int offset, int length) throws IOException {
+		super.write(buffer, offset, length);
+		count += length;
+	}
+
+	/**
+	 * Write a portion of a string
+	 *
+	 * @param content the string to write
+	 * @param offset  the string offset
+	 * @param length  the number of characters
+	 * @throws IOException error if something goes wrong
+	 */
+	@Override
+	public void write(@NotNull String content, int offset, int length) throws IOException {
+		super.write(content, offset, length);
+		count += length;
+	}
+
+}
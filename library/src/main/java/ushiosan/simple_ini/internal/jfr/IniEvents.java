@@ -0,0 +1,93 @@
+package ushiosan.simple_ini.internal.jfr;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Class used to share the information of the flight recorder events.
+ * <p>
+ * The file locations are only known by the {@link ushiosan.simple_ini.Ini} methods that receive a
+ * {@link Path}, so they are passed to the load and store events of the same thread. Nothing is
+ * stored if the flight recorder was never started.
+ */
+public final class IniEvents {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private IniEvents() {
+	}
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Event category
+	 */
+	static final String CATEGORY = "Simple INI";
+
+	/**
+	 * Event name prefix
+	 */
+	static final String NAME_PREFIX = "ushiosan.simple_ini.";
+
+	/**
+	 * File location of the current operation
+	 */
+	private static final ThreadLocal<String> LOCATION = new ThreadLocal<>();
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Register the file location of the operation that starts in the current thread
+	 *
+	 * @param location the file location
+	 * @return the previous location. It must be restored with {@link #exitLocation(String)}
+	 */
+	public static @Nullable String enterLocation(@NotNull Path location) {
+		String previous = LOCATION.get();
+		if (FlightRecorder.isInitialized()) LOCATION.set(location.toString());
+		return previous;
+	}
+
+	/**
+	 * Restore the file location of the previous operation
+	 *
+	 * @param previous the location returned by {@link #enterLocation(Path)}
+	 */
+	public static void exitLocation(@Nullable String previous) {
+		if (previous == null) {
+			LOCATION.remove();
+		} else {
+			LOCATION.set(previous);
+		}
+	}
+
+	/**
+	 * Returns the file location of the current operation
+	 *
+	 * @return the file location or {@code null} if the operation does not use a file
+	 */
+	public static @Nullable String location() {
+		return LOCATION.get();
+	}
+
+	/**
+	 * Determines if the load event is recorded
+	 *
+	 * @return {@code true} if the event is recorded or {@code false} otherwise
+	 */
+	public static boolean isLoadEnabled() {
+		return FlightRecorder.isInitialized() && new LoadEvent().isEnabled();
+	}
+
+}
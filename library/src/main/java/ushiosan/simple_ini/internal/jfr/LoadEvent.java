@@ -0,0 +1,60 @@
+package ushiosan.simple_ini.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted each time the content of an {@link ushiosan.simple_ini.Ini} object is loaded
+ */
+@Name(IniEvents.NAME_PREFIX + "Load")
+@Label("INI Load")
+@Category(IniEvents.CATEGORY)
+@Description("Content loaded into an ini object")
+@StackTrace(false)
+public final class LoadEvent extends Event {
+
+	/**
+	 * Source file location
+	 */
+	@Label("Location")
+	@Description("Source file or null if the content was loaded from a stream")
+	public String location;
+
+	/**
+	 * Number of bytes read
+	 */
+	@Label("Size")
+	@DataAmount
+	public long bytes;
+
+	/**
+	 * Number of lines processed
+	 */
+	@Label("Lines")
+	public long lines;
+
+	/**
+	 * Number of sections created
+	 */
+	@Label("Sections")
+	public long sections;
+
+	/**
+	 * Number of entries created
+	 */
+	@Label("Entries")
+	public long entries;
+
+	/**
+	 * Load finish status
+	 */
+	@Label("Completed")
+	@Description("False if the load was interrupted by an error")
+	public boolean completed;
+
+}
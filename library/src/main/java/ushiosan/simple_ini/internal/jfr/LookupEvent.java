@@ -0,0 +1,46 @@
+package ushiosan.simple_ini.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event emitted by the section and entry lookups.
+ * <p>
+ * Lookups are very frequent, so the event is disabled by default. Enable it in the recording
+ * settings with a threshold to only capture the slow lookups.
+ */
+@Name(IniEvents.NAME_PREFIX + "Lookup")
+@Label("INI Lookup")
+@Category(IniEvents.CATEGORY)
+@Description("Section or entry lookup")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public final class LookupEvent extends Event {
+
+	/**
+	 * Section name
+	 */
+	@Label("Section")
+	public String section;
+
+	/**
+	 * Entry name
+	 */
+	@Label("Key")
+	@Description("Entry name or null if the section was searched")
+	public String key;
+
+	/**
+	 * Lookup result
+	 */
+	@Label("Found")
+	public boolean found;
+
+}
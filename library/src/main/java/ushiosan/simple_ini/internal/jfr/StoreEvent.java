@@ -0,0 +1,40 @@
+package ushiosan.simple_ini.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted each time the content of an {@link ushiosan.simple_ini.Ini} object is stored
+ */
+@Name(IniEvents.NAME_PREFIX + "Store")
+@Label("INI Store")
+@Category(IniEvents.CATEGORY)
+@Description("Content of an ini object written to a file or writer")
+@StackTrace(false)
+public final class StoreEvent extends Event {
+
+	/**
+	 * Target file location
+	 */
+	@Label("Location")
+	@Description("Target file or null if the content was written to a stream")
+	public String location;
+
+	/**
+	 * Number of characters written
+	 */
+	@Label("Characters")
+	@Description("Number of characters written before the encoding and compression")
+	public long characters;
+
+	/**
+	 * Number of sections written
+	 */
+	@Label("Sections")
+	public long sections;
+
+}
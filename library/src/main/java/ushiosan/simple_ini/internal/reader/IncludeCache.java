@@ -0,0 +1,608 @@
+package ushiosan.simple_ini.internal.reader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import ushiosan.simple_ini.IniCompression;
+import ushiosan.simple_ini.IniOptions;
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+/**
+ * Process-wide cache of the files included with the {@code #include path} directive.
+ * <p>
+ * Each included file is parsed once and its content is shared (read only) by all the objects that
+ * include it. The cached content remembers the size and modification time of the file and of all the
+ * files that it includes, so it is parsed again when any of them changes.
+ * <p>
+ * Only the most recently used files are kept (see {@link #setMaximumSize(int)}), so the cache
+ * does not grow with every file included by the process.
+ * <p>
+ * The files that are being loaded by the current thread are tracked to detect cyclic includes
+ * and to resolve the relative include paths.
+ */
+public final class IncludeCache {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private IncludeCache() {
+	}
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Include directive
+	 */
+	public static final String DIRECTIVE = "#include";
+
+	/**
+	 * Default number of cached files
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+	/**
+	 * Lock used to access the cached files
+	 */
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Parsed files by location and parse options (least recently used first)
+	 */
+	private static final LinkedHashMap<Key, Fragment> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Number of cached files
+	 */
+	private static int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	/**
+	 * Files that are being loaded by the current thread
+	 */
+	private static final ThreadLocal<Chain> CHAIN = new ThreadLocal<>();
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Register the file that starts to be loaded in the current thread
+	 *
+	 * @param location the file location
+	 * @return the previous state. It must be restored with {@link #exitFile(Chain)}
+	 */
+	public static @Nullable Chain enterFile(@NotNull Path location) {
+		Chain previous = CHAIN.get();
+		CHAIN.set(new Chain(realOf(location), previous));
+		return previous;
+	}
+
+	/**
+	 * Restore the state of the previous load
+	 *
+	 * @param previous the state returned by {@link #enterFile(Path)}
+	 */
+	public static void exitFile(@Nullable Chain previous) {
+		// The including file depends on the same files
+		Chain current = CHAIN.get();
+		if (previous != null && current != null) previous.sources.addAll(current.sources);
+		if (previous == null) {
+			CHAIN.remove();
+		} else {
+			CHAIN.set(previous);
+		}
+	}
+
+	/**
+	 * Returns the state of the file that is being loaded by the current thread
+	 *
+	 * @return the current state or {@code null} if no file is being loaded
+	 */
+	public static @Nullable Chain current() {
+		return CHAIN.get();
+	}
+
+	/**
+	 * Discard the cached content of the file
+	 *
+	 * @param location the file location
+	 */
+	public static void invalidate(@NotNull Path location) {
+		Path real = realOf(location);
+		synchronized (LOCK) {
+			CACHE.keySet().removeIf(it -> it.location.equals(real));
+		}
+	}
+
+	/**
+	 * Discard all cached content
+	 */
+	public static void clear() {
+		synchronized (LOCK) {
+			CACHE.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached files
+	 *
+	 * @return the number of cached files
+	 */
+	public static int size() {
+		synchronized (LOCK) {
+			return CACHE.size();
+		}
+	}
+
+	/**
+	 * Change the number of cached files. The least recently used files are discarded first.
+	 *
+	 * @param size the number of files
+	 * @throws IllegalArgumentException if the size is negative
+	 */
+	public static void setMaximumSize(int size) {
+		if (size < 0)
+			throw new IllegalArgumentException("Invalid cache size. Negative size given.");
+		synchronized (LOCK) {
+			maximumSize = size;
+			trim();
+		}
+	}
+
+	/**
+	 * Returns the number of cached files
+	 *
+	 * @return the number of files
+	 */
+	public static int getMaximumSize() {
+		synchronized (LOCK) {
+			return maximumSize;
+		}
+	}
+
+	/**
+	 * Determines if the line is an include directive
+	 *
+	 * @param line the trimmed line
+	 * @return {@code true} if the line is a directive or {@code false} otherwise
+	 */
+	static boolean isDirective(@NotNull String line) {
+		return line.startsWith(DIRECTIVE) &&
+			(line.length() == DIRECTIVE.length() || Character.isWhitespace(line.charAt(DIRECTIVE.length())));
+	}
+
+	/**
+	 * Returns the content of the included file, parsing it only if it is not cached or if it was modified.
+	 *
+	 * @param line    the trimmed directive line
+	 * @param options the parse options
+	 * @return the file content
+	 * @throws IOException error if the file cannot be read or the include is cyclic
+	 */
+	static @NotNull Fragment get(@NotNull String line, @NotNull IniOptions options) throws IOException {
+		String target = line.substring(DIRECTIVE.length()).trim();
+		// Quotes are optional
+		if (target.length() > 1 && target.startsWith("\"") && target.endsWith("\"")) {
+			target = target.substring(1, target.length() - 1);
+		}
+		if (target.isBlank()) throw new IOException("Invalid include directive. File location is empty.");
+		// Relative paths use the directory of the current file
+		Chain current = CHAIN.get();
+		Path directory = current == null ? null:current.location.getParent();
+		Path location = (directory == null ? Path.of(""):directory).resolve(target).toRealPath();
+		checkCycle(current, location);
+
+		Key key = new Key(location, options);
+		Fragment result;
+		synchronized (LOCK) {
+			result = CACHE.get(key);
+		}
+		if (result == null || !result.isFresh()) {
+			// Two threads can parse the same file at the same time, both results are equivalent
+			result = parse(location, options);
+			synchronized (LOCK) {
+				CACHE.put(key, result);
+				trim();
+			}
+		} else if (current != null) {
+			// The including file depends on the same files (parsed files are added when they finish)
+			current.sources.addAll(result.sources);
+		}
+		return result;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Discard the least recently used files that exceed the size. Must be called holding the lock.
+	 */
+	private static void trim() {
+		Iterator<Key> iterator = CACHE.keySet().iterator();
+		while (CACHE.size() > maximumSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Parse the included file
+	 *
+	 * @param location the real file location
+	 * @param options  the parse options
+	 * @return the file content
+	 * @throws IOException error if the file cannot be read
+	 */
+	private static @NotNull Fragment parse(@NotNull Path location, @NotNull IniOptions options) throws IOException {
+		// The stamp is taken before reading, a concurrent modification causes another parse later
+		Stamp stamp = Stamp.of(location);
+		Chain previous = CHAIN.get();
+		Chain chain = new Chain(location, previous);
+		CHAIN.set(chain);
+		try {
+			RecordingIni ini = new RecordingIni();
+			ini.load(IniCompression.decompressDetected(Files.newInputStream(location)), options);
+			chain.sources.add(stamp);
+			return new Fragment(ini, chain.sources);
+		} finally {
+			exitFile(previous);
+		}
+	}
+
+	/**
+	 * Check that the file is not being loaded by the current thread
+	 *
+	 * @param current  the current state
+	 * @param location the included file
+	 * @throws IOException error if the include is cyclic
+	 */
+	private static void checkCycle(@Nullable Chain current, @NotNull Path location) throws IOException {
+		for (Chain it = current; it != null; it = it.parent) {
+			if (!it.location.equals(location)) continue;
+			// Describe the cycle from the first file
+			StringBuilder builder = new StringBuilder(location.toString());
+			for (Chain item = current; item != it.parent; item = item.parent) {
+				builder.insert(0, item.location + " -> ");
+			}
+			throw new IOException("Cyclic include: " + builder);
+		}
+	}
+
+	/**
+	 * Returns the real location of the file
+	 *
+	 * @param location the file location
+	 * @return the real location or the absolute location if the file does not exist
+	 */
+	private static @NotNull Path realOf(@NotNull Path location) {
+		try {
+			return location.toRealPath();
+		} catch (IOException e) {
+			return location.toAbsolutePath().normalize();
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * File loaded by the current thread and the file that includes it
+	 */
+	public static final class Chain {
+
+		/**
+		 * Real file location
+		 */
+		final Path location;
+
+		/**
+		 * Including file state or {@code null} if it is the first file
+		 */
+		final @Nullable Chain parent;
+
+		/**
+		 * Files used to generate the content
+		 */
+		final List<Stamp> sources = new ArrayList<>();
+
+		/**
+		 * Default constructor
+		 *
+		 * @param location the real file location
+		 * @param parent   the including file state
+		 */
+		private Chain(@NotNull Path location, @Nullable Chain parent) {
+			this.location = location;
+			this.parent = parent;
+		}
+
+		/**
+		 * Determines if none of the included files was modified
+		 *
+		 * @return {@code true} if the included files are up-to-date or {@code false} otherwise
+		 */
+		public boolean isFresh() {
+			for (Stamp source : sources) {
+				if (!source.isFresh()) return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the files used to generate the content
+		 *
+		 * @return the included files
+		 */
+		public @NotNull @Unmodifiable List<Stamp> getSources() {
+			return Collections.unmodifiableList(sources);
+		}
+
+	}
+
+	/**
+	 * Immutable content of an included file
+	 */
+	static final class Fragment {
+
+		/**
+		 * Entries written before the first section as key, value array
+		 */
+		final String[] defaults;
+
+		/**
+		 * Section names
+		 */
+		final String[] names;
+
+		/**
+		 * Section attributes as key, value array
+		 */
+		final String[][] attributes;
+
+		/**
+		 * Section entries as key, value array
+		 */
+		final String[][] entries;
+
+		/**
+		 * Files used to generate the content
+		 */
+		final List<Stamp> sources;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param ini     the parsed content
+		 * @param sources the files used to generate the content
+		 */
+		Fragment(@NotNull RecordingIni ini, @NotNull List<Stamp> sources) {
+			this.defaults = pairsOf(ini.getDefaultSection());
+			this.names = new String[ini.order.size()];
+			this.attributes = new String[names.length][];
+			this.entries = new String[names.length][];
+			for (int i = 0; i < names.length; i++) {
+				Section section = ini.order.get(i);
+				names[i] = section.getName();
+				attributes[i] = section instanceof SectionAdvanced ?
+					pairsOf(((SectionAdvanced) section).getAttributes()):new String[0];
+				entries[i] = pairsOf(section);
+			}
+			this.sources = Collections.unmodifiableList(new ArrayList<>(sources));
+		}
+
+		/**
+		 * Determines if none of the source files was modified
+		 *
+		 * @return {@code true} if the content is up-to-date or {@code false} otherwise
+		 */
+		boolean isFresh() {
+			for (Stamp source : sources) {
+				if (!source.isFresh()) return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the raw section entries
+		 *
+		 * @param section the section to convert
+		 * @return the entries as key, value array
+		 */
+		private static String @NotNull [] pairsOf(@NotNull Section section) {
+			List<String> result = new ArrayList<>(section.size() * 2);
+			for (String key : section.keys()) {
+				result.add(key);
+				result.add(section.getRaw(key).orElse(null));
+			}
+			return result.toArray(new String[0]);
+		}
+
+	}
+
+	/**
+	 * Size and modification time of a file
+	 */
+	public static final class Stamp {
+
+		/**
+		 * Real file location
+		 */
+		final Path location;
+
+		/**
+		 * File size
+		 */
+		final long size;
+
+		/**
+		 * Modification time
+		 */
+		final FileTime modified;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param location the real file location
+		 * @param size     the file size
+		 * @param modified the modification time
+		 */
+		public Stamp(@NotNull Path location, long size, @NotNull FileTime modified) {
+			this.location = location;
+			this.size = size;
+			this.modified = modified;
+		}
+
+		/**
+		 * Returns the real file location
+		 *
+		 * @return the file location
+		 */
+		public @NotNull Path getLocation() {
+			return location;
+		}
+
+		/**
+		 * Returns the file size
+		 *
+		 * @return the file size
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the modification time
+		 *
+		 * @return the modification time
+		 */
+		public @NotNull FileTime getModified() {
+			return modified;
+		}
+
+		/**
+		 * Generates the stamp of the file
+		 *
+		 * @param location the real file location
+		 * @return the file stamp
+		 * @throws IOException error if the file cannot be read
+		 */
+		static @NotNull Stamp of(@NotNull Path location) throws IOException {
+			BasicFileAttributes attributes = Files.readAttributes(location, BasicFileAttributes.class);
+			return new Stamp(location, attributes.size(), attributes.lastModifiedTime());
+		}
+
+		/**
+		 * Determines if the file was not modified
+		 *
+		 * @return {@code true} if the file was not modified or {@code false} otherwise
+		 */
+		public boolean isFresh() {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(location, BasicFileAttributes.class);
+				return attributes.size() == size && attributes.lastModifiedTime().equals(modified);
+			} catch (IOException e) {
+				// Deleted or unreadable files
+				return false;
+			}
+		}
+
+	}
+
+	/**
+	 * Cache key. The same file is parsed again with different parse options
+	 */
+	private static final class Key {
+
+		/**
+		 * Real file location
+		 */
+		final Path location;
+
+		/**
+		 * Parse option flags
+		 */
+		final int flags;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param location the real file location
+		 * @param options  the parse options
+		 */
+		Key(@NotNull Path location, @NotNull IniOptions options) {
+			this.location = location;
+			this.flags = (options.isAdvanced() ? 1:0) |
+				(options.supportMultilineValues() ? 1 << 1:0) |
+				(options.isPreserveValues() ? 1 << 2:0) |
+				(options.isEscapes() ? 1 << 3:0);
+		}
+
+		/**
+		 * Check if both objects are equals
+		 *
+		 * @param obj the object to compare
+		 * @return {@code true} if both objects are equals or {@code false} otherwise
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof Key)) return false;
+			Key other = (Key) obj;
+			return flags == other.flags && location.equals(other.location);
+		}
+
+		/**
+		 * Object hash code
+		 *
+		 * @return object hash code
+		 */
+		@Override
+		public int hashCode() {
+			return location.hashCode() * 31 + flags;
+		}
+
+	}
+
+	/**
+	 * Ini object that remembers the insertion order of the sections
+	 */
+	private static final class RecordingIni extends SimpleIni<Section> {
+
+		/**
+		 * Sections in insertion order
+		 */
+		final List<Section> order = new ArrayList<>();
+
+		/**
+		 * Insert a new section
+		 *
+		 * @param section the section to insert
+		 */
+		@Override
+		public void put(Section section) {
+			super.put(section);
+			order.add(section);
+		}
+
+	}
+
+}
@@ -7,14 +7,18 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Objects;
 import java.util.Optional;
 
-import ushiosan.jvm_utilities.function.Apply;
 import ushiosan.jvm_utilities.lang.collection.elements.Pair;
 import ushiosan.simple_ini.Ini;
+import ushiosan.simple_ini.IniLoadListener;
 import ushiosan.simple_ini.conversion.StringConverter;
+import ushiosan.simple_ini.internal.jfr.IniEvents;
+import ushiosan.simple_ini.internal.jfr.LoadEvent;
 import ushiosan.simple_ini.internal.utilities.SectionContentUtils;
 import ushiosan.simple_ini.internal.utilities.SectionUtils;
+import ushiosan.simple_ini.section.Section;
 import ushiosan.simple_ini.section.SimpleSection;
 import ushiosan.simple_ini.section.advanced.SectionAdvanced;
 import ushiosan.simple_ini.section.data.SectionInfoTmp;
@@ -48,6 +52,16 @@ public final class IniReader {
 	 */
 	private volatile String currentLine;
 
+	/**
+	 * Load metrics listener
+	 */
+	private final @Nullable IniLoadListener listener;
+
+	/**
+	 * Current load metrics or {@code null} if the metrics are not collected
+	 */
+	private final @Nullable LoadMetrics metrics;
+
 	/* -----------------------------------------------------
 	 * Constructors
 	 * ----------------------------------------------------- */
@@ -60,7 +74,29 @@ public final class IniReader {
 	 * @throws IOException error if something goes wrong
 	 */
 	public IniReader(@NotNull InputStream inputStream, @NotNull Ini<?> ini) throws IOException {
-		reader = new BufferedReader(new InputStreamReader(inputStream));
+		this(inputStream, ini, null);
+	}
+
+	/**
+	 * Constructor with an additional load listener. The listener is notified after the
+	 * listener of the options.
+	 *
+	 * @param inputStream the input stream reader
+	 * @param ini         the target ini object
+	 * @param extra       additional load listener or {@code null} to only use the listener of the options
+	 * @throws IOException error if something goes wrong
+	 */
+	public IniReader(@NotNull InputStream inputStream, @NotNull Ini<?> ini, @Nullable IniLoadListener extra) throws IOException {
+		IniLoadListener optionsListener = ini.getOptions().getLoadListener();
+		listener = optionsListener == null || extra == null ? (optionsListener == null ? extra:optionsListener):
+			stats -> {
+				optionsListener.onLoad(stats);
+				extra.onLoad(stats);
+			};
+		// The metrics are also used by the flight recorder event
+		metrics = listener == null && !IniEvents.isLoadEnabled() ? null:new LoadMetrics();
+		reader = new BufferedReader(new InputStreamReader(
+			metrics == null ? inputStream:metrics.count(inputStream)));
 		storage = IniStorage.of(ini);
 		targetIni = ini;
 	}
@@ -75,12 +111,24 @@ public final class IniReader {
 	 * @throws IOException error if something goes wrong
 	 */
 	public void processAll() throws IOException {
+		long start = metrics == null ? 0L:System.nanoTime();
+		LoadEvent event = metrics == null ? null:new LoadEvent();
+		if (event != null) event.begin();
+		boolean completed = false;
 		try (reader) {
 			while (nextLine()) {
 				processLine(currentLine);
 			}
 			// Check buffer another time
 			dynamicCheckBuffer();
+			completed = true;
+		} finally {
+			// Notify the metrics (also if the load fails)
+			if (metrics != null) {
+				metrics.finish(start, completed);
+				commitEvent(Objects.requireNonNull(event), metrics);
+				if (listener != null) listener.onLoad(metrics);
+			}
 		}
 	}
 
@@ -88,6 +136,24 @@ public final class IniReader {
 	 * Internal methods
 	 * ----------------------------------------------------- */
 
+	/**
+	 * Commit the flight recorder event with the collected metrics
+	 *
+	 * @param event   the load event
+	 * @param metrics the collected metrics
+	 */
+	private void commitEvent(@NotNull LoadEvent event, @NotNull LoadMetrics metrics) {
+		event.end();
+		if (!event.shouldCommit()) return;
+		event.location = IniEvents.location();
+		event.bytes = metrics.getBytes();
+		event.lines = metrics.getLines();
+		event.sections = metrics.getSections();
+		event.entries = metrics.getEntries();
+		event.completed = metrics.isCompleted();
+		event.commit();
+	}
+
 	/**
 	 * Check if stream contains more lines
 	 *
@@ -100,39 +166,53 @@ public final class IniReader {
 	}
 
 	/**
-	 * Process the current line
+	 * Process the current line.
+	 * <p>
+	 * Sections always start with {@code [} and entries with a letter or underscore, so
+	 * each line is classified only once.
 	 *
 	 * @param line the current line
+	 * @throws IOException error if an included file cannot be read
 	 */
-	private void processLine(@NotNull String line) {
+	private void processLine(@NotNull String line) throws IOException {
+		long mark = metrics == null ? 0L:System.nanoTime();
+		if (metrics != null) metrics.line();
 		// The buffer needs to be checked 2 times. One at the beginning and one at the end outside the loop
 		dynamicCheckBuffer();
+		if (metrics != null) mark = metrics.lap(mark, LoadMetrics.Phase.STORAGE);
+
 		// Check if current line is a comment or empty line
-		if (SectionUtils.isInvalidContent(line)) return;
-
-		// Check if line is a valid new section
-		validateLine(
-			line,
-			SectionUtils::isValidSection,
-			SectionContentUtils::getSectionInfo,
-			this::insertNewSection
-		);
-
-		// Check if line is a valid entry
-		validateLine(
-			line,
-			SectionUtils::isValidEntry,
-			SectionContentUtils::getEntryInfo,
-			this::insertNewEntry
-		);
-
-		// Check if all validations are negative
-		if (!SectionUtils.isValidSection(line) && !SectionUtils.isValidEntry(line)) {
-			// Check config
-			if (targetIni.getOptions().supportMultilineValues()) {
-				storage.getBuffer().append(line);
-			}
+		if (SectionUtils.isInvalidContent(line)) {
+			if (metrics != null) metrics.lap(mark, LoadMetrics.Phase.CLASSIFICATION);
+			return;
+		}
+		// Classify the line
+		String lineStr = line.trim();
+		if (targetIni.getOptions().supportIncludes() && IncludeCache.isDirective(lineStr)) {
+			if (metrics != null) mark = metrics.lap(mark, LoadMetrics.Phase.CLASSIFICATION);
+			insertInclude(lineStr);
+			if (metrics != null) metrics.lap(mark, LoadMetrics.Phase.STORAGE);
+			return;
+		}
+		boolean isSection = SectionUtils.isValidSection(lineStr);
+		boolean isEntry = !isSection && SectionUtils.isValidEntry(lineStr);
+		if (metrics != null) mark = metrics.lap(mark, LoadMetrics.Phase.CLASSIFICATION);
+
+		if (isSection) {
+			SectionInfoTmp sectionInfo = SectionContentUtils.getSectionInfo(lineStr,
+				targetIni.getOptions().isEscapes());
+			if (metrics != null) mark = metrics.lap(mark, LoadMetrics.Phase.EXTRACTION);
+			insertNewSection(sectionInfo);
+		} else if (isEntry) {
+			Pair<String, String> pair = SectionContentUtils.getEntryInfo(lineStr,
+				targetIni.getOptions().isPreserveValues(), targetIni.getOptions().isEscapes());
+			if (metrics != null) mark = metrics.lap(mark, LoadMetrics.Phase.EXTRACTION);
+			insertNewEntry(pair);
+		} else if (targetIni.getOptions().supportMultilineValues()) {
+			// Continuation line
+			storage.getBuffer().append(line);
 		}
+		if (metrics != null) metrics.lap(mark, LoadMetrics.Phase.STORAGE);
 	}
 
 	/**
@@ -155,67 +235,16 @@ public final class IniReader {
 			.getBufferContent()
 			.trim();
 		// Combine the content
-		String newContent = StringConverter.cleanStringContent(String.format(
-			"%s %s",
-			previousPartialContent,
-			newPartialContent
-		));
+		String combinedContent = previousPartialContent + ' ' + newPartialContent;
+		String newContent = targetIni.getOptions().isPreserveValues() ? combinedContent:
+			StringConverter.cleanStringContent(combinedContent);
 
 		// Change the entire entry content
 		storage.getCurrentSection()
 			.put(lastProperty.get(), newContent);
 		// Clear the buffer
 		storage.clearBuffer();
-	}
-
-	/**
-	 * Method used to validate lines depending on the given parameters.
-	 * The action will only be executed if the other actions are valid.
-	 *
-	 * @param line      the current line
-	 * @param validator validator action
-	 * @param transform transform action
-	 * @param action    final action
-	 * @param <T>       generic result type
-	 */
-	private <T> void validateLine(
-		@NotNull CharSequence line,
-		@NotNull Apply.Result<String, Boolean> validator,
-		@NotNull Apply.Result<String, T> transform,
-		@NotNull Apply.Empty<T> action
-	) {
-		// Clean content
-		String lineStr = line
-			.toString()
-			.trim();
-		// Check if line is valid what??
-		if (!validator.apply(lineStr)) return;
-		// Transform the line
-		action.apply(transform.apply(lineStr));
-	}
-
-	/**
-	 * Method used to validate lines depending on the given parameters,
-	 * this method does not transform the result.
-	 * The action will only be executed if the other actions are valid.
-	 *
-	 * @param line      the current line
-	 * @param validator validator action
-	 * @param action    final action
-	 */
-	private void validateLine(
-		@NotNull CharSequence line,
-		@NotNull Apply.Result<String, Boolean> validator,
-		@NotNull Apply.Empty<String> action
-	) {
-		// Clean content
-		String lineStr = line
-			.toString()
-			.trim();
-		// Check if line is valid what??
-		if (!validator.apply(lineStr)) return;
-		// Transform the line
-		action.apply(lineStr);
+		if (metrics != null) metrics.continuationMerge();
 	}
 
 	/* -----------------------------------------------------
@@ -236,9 +265,54 @@ public final class IniReader {
 		if (targetIni.getOptions().isAdvanced()) {
 			section.getAttributes().putAll(Pair.extractPairs(sectionInfo.attributes));
 		}
-		// Insert the section
+		insertSection(section);
+	}
+
+	/**
+	 * Insert the section to the object and use it as the current section
+	 *
+	 * @param section the section to insert
+	 */
+	private void insertSection(@NotNull SectionAdvanced section) {
 		targetIni.put(section);
 		storage.setCurrentSection(section);
+		if (metrics != null) metrics.section();
+	}
+
+	/**
+	 * Insert the content of an included file. The content is inserted as if it was written in place
+	 * of the directive: the entries before the first section belong to the current section and the
+	 * last included section becomes the current section.
+	 *
+	 * @param line the directive line
+	 * @throws IOException error if the file cannot be read or the include is cyclic
+	 */
+	private void insertInclude(@NotNull String line) throws IOException {
+		// The pending multiline content belongs to the previous entry
+		dynamicCheckBuffer();
+		IncludeCache.Fragment fragment = IncludeCache.get(line, targetIni.getOptions());
+		insertPairs(storage.getCurrentSection(), fragment.defaults);
+		for (int i = 0; i < fragment.names.length; i++) {
+			SectionAdvanced section = new SimpleSection(fragment.names[i], targetIni.getDefaultSection());
+			insertPairs(section.getAttributes(), fragment.attributes[i]);
+			insertSection(section);
+			insertPairs(section, fragment.entries[i]);
+		}
+		// Continuation lines cannot extend the included entries
+		storage.setLastAccessEntry(null);
+	}
+
+	/**
+	 * Insert the entries of an included file
+	 *
+	 * @param section the target section
+	 * @param pairs   the entries as key, value array
+	 */
+	private void insertPairs(@NotNull Section section, String @NotNull [] pairs) {
+		for (int i = 0; i < pairs.length; i += 2) {
+			section.put(pairs[i], pairs[i + 1]);
+			if (metrics != null) metrics.entry();
+		}
 	}
 
 	/**
@@ -253,6 +327,7 @@ public final class IniReader {
 		// Insert content
 		storage.getCurrentSection().putAll(pair);
 		storage.setLastAccessEntry(pair.first);
+		if (metrics != null) metrics.entry();
 	}
 
 }
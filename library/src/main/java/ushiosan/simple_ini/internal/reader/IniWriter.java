@@ -1,22 +1,26 @@
 package ushiosan.simple_ini.internal.reader;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static ushiosan.jvm_utilities.lang.Obj.canCast;
 import static ushiosan.jvm_utilities.lang.Obj.cast;
 import ushiosan.jvm_utilities.lang.collection.elements.Pair;
 import ushiosan.simple_ini.Ini;
+import ushiosan.simple_ini.IniOptions;
 import ushiosan.simple_ini.SimpleIni;
 import ushiosan.simple_ini.internal.utilities.SectionUtils;
+import ushiosan.simple_ini.internal.utilities.ValueUtils;
 import ushiosan.simple_ini.section.Section;
 import ushiosan.simple_ini.section.advanced.SectionAdvanced;
 
@@ -36,25 +40,30 @@ public final class IniWriter {
 	private static final String CHAR_SPACE = " ";
 
 	/**
-	 * String wrapper
+	 * Comparator used to sort the entries by its key
 	 */
-	private static final String STR_WRAPPER = "\"";
+	private static final Comparator<Pair<String, String>> PAIR_COMPARATOR = Comparator.comparing(it -> it.first);
 
 	/**
-	 * Regular expression to detect any number
+	 * Current ini instance or {@code null} if only the streaming methods are used
 	 */
-	private static final Pattern NUMBER_PATTERN = Pattern.compile("^\\d+(\\.\\d+)?$");
+	private final @Nullable Ini<?> ini;
 
 	/**
-	 * Current ini instance
+	 * Current write options
 	 */
-	private final Ini<?> ini;
+	private final IniOptions options;
 
 	/**
 	 * Current output element
 	 */
 	private final BufferedWriter writer;
 
+	/**
+	 * Number of sections written with {@link #beginSection(CharSequence)}
+	 */
+	private int sectionCount;
+
 	/* -----------------------------------------------------
 	 * Constructors
 	 * ----------------------------------------------------- */
@@ -66,7 +75,31 @@ public final class IniWriter {
 	 * @param writerObj current output element
 	 */
 	public IniWriter(Ini<?> iniObj, Writer writerObj) {
+		this(iniObj, iniObj.getOptions(), writerObj);
+	}
+
+	/**
+	 * Constructor used to write the content directly, without an {@link Ini} object.
+	 * Only the streaming methods can be used ({@link #storeHeader()}, {@link #beginSection(CharSequence)}
+	 * and {@link #storeEntry(String, String)}).
+	 *
+	 * @param options   current write options
+	 * @param writerObj current output element
+	 */
+	public IniWriter(@NotNull IniOptions options, Writer writerObj) {
+		this(null, options, writerObj);
+	}
+
+	/**
+	 * Internal constructor
+	 *
+	 * @param iniObj    current ini object
+	 * @param options   current write options
+	 * @param writerObj current output element
+	 */
+	private IniWriter(@Nullable Ini<?> iniObj, @NotNull IniOptions options, Writer writerObj) {
 		ini = iniObj;
+		this.options = options;
 		writer = writerObj instanceof BufferedWriter ? (BufferedWriter) writerObj:
 			new BufferedWriter(writerObj);
 	}
@@ -81,6 +114,8 @@ public final class IniWriter {
 	 * @throws IOException error if something goes wrong
 	 */
 	public void storeAll() throws IOException {
+		if (ini == null)
+			throw new IllegalStateException("The writer does not have an ini object");
 		// We must position the default section first.
 		Section[] outSectionOrder = getOrderedSections();
 		// Store a little header document
@@ -95,6 +130,54 @@ public final class IniWriter {
 		writer.flush();
 	}
 
+	/**
+	 * Write the document header (see {@link IniOptions#isTimestampHeader()} and {@link IniOptions#getHeader()})
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	public void storeHeader() throws IOException {
+		storeHeaderDocument();
+	}
+
+	/**
+	 * Write the header of a new section. An empty line is inserted before all sections except the first.
+	 *
+	 * @param name the section name
+	 * @throws IOException error if something goes wrong
+	 */
+	public void beginSection(@NotNull CharSequence name) throws IOException {
+		if (sectionCount++ > 0) writer.newLine();
+		writer.append(SectionUtils.SECTION_WRAPPERS[0])
+			.append(name)
+			.append(SectionUtils.SECTION_WRAPPERS[1]);
+		writer.newLine();
+	}
+
+	/**
+	 * Write a single entry with the same format used by {@link #storeAll()}
+	 *
+	 * @param key   the entry name
+	 * @param value the entry value
+	 * @throws IOException error if something goes wrong
+	 */
+	public void storeEntry(@NotNull String key, @Nullable String value) throws IOException {
+		writer.append(key)
+			.append(CHAR_SPACE)
+			.append(SectionUtils.ASSIGN_ELEMENT)
+			.append(CHAR_SPACE);
+		storeValue(value);
+		writer.newLine();
+	}
+
+	/**
+	 * Flush all buffered content
+	 *
+	 * @throws IOException error if something goes wrong
+	 */
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
 	/* -----------------------------------------------------
 	 * Internal methods
 	 * ----------------------------------------------------- */
@@ -105,6 +188,7 @@ public final class IniWriter {
 	 * @return an array of names in alphabetical order
 	 */
 	private Section @NotNull [] getOrderedSections() {
+		Ini<?> ini = Objects.requireNonNull(this.ini);
 		// Generate output array
 		final int size = ini.size();
 		Section[] result = new Section[size];
@@ -121,17 +205,46 @@ public final class IniWriter {
 	}
 
 	/**
-	 * Write the document header as a comment and used only
-	 * to inform the time the document was generated
+	 * Returns the pairs sorted by its key
+	 *
+	 * @param pairSet the pairs to sort
+	 * @return a list with all pairs sorted by its key
+	 */
+	private static @NotNull List<Pair<String, String>> sortedPairs(@NotNull Set<Pair<String, String>> pairSet) {
+		List<Pair<String, String>> result = new ArrayList<>(pairSet);
+		result.sort(PAIR_COMPARATOR);
+		return result;
+	}
+
+	/**
+	 * Write the document header as a comment. The header can contain the
+	 * time the document was generated and a custom comment, both depend on the ini options.
 	 *
 	 * @throws IOException error if something goes wrong
 	 */
 	private void storeHeaderDocument() throws IOException {
-		final Date date = new Date();
-		// Insert the header
+		// Insert the date header
+		if (options.isTimestampHeader()) {
+			storeComment(new Date().toString());
+		}
+		// Insert the custom header
+		String header = options.getHeader();
+		if (header == null) return;
+		for (String line : header.split("\\R", -1)) {
+			storeComment(line);
+		}
+	}
+
+	/**
+	 * Write a single line comment
+	 *
+	 * @param comment the comment content
+	 * @throws IOException error if something goes wrong
+	 */
+	private void storeComment(@NotNull String comment) throws IOException {
 		writer.append(SectionUtils.COMMENT_ELEMENT)
 			.append(CHAR_SPACE)
-			.append(date.toString());
+			.append(comment);
 		writer.newLine();
 	}
 
@@ -145,8 +258,8 @@ public final class IniWriter {
 		// Validate section
 		if (!section.getName().equals(SimpleIni.DEFAULT_NAME))
 			storeSectionHeader(section);
-		// The other sections
-		for (Pair<String, String> entry : section.pairSet()) {
+		// The entries are sorted to always generate the same output
+		for (Pair<String, String> entry : sortedPairs(section.pairSet())) {
 			storeEntry(entry);
 		}
 	}
@@ -162,7 +275,7 @@ public final class IniWriter {
 		writer.append(SectionUtils.SECTION_WRAPPERS[0])
 			.append(section.getName());
 		// Check if section is an advanced type
-		if (canCast(section, SectionAdvanced.class) && ini.getOptions().isAdvanced()) {
+		if (canCast(section, SectionAdvanced.class) && options.isAdvanced()) {
 			SectionAdvanced advanced = cast(section);
 			if (!advanced.getAttributes().isEmpty()) {
 				writer.append(CHAR_SPACE);
@@ -178,29 +291,31 @@ public final class IniWriter {
 	 * Write the section header attributes
 	 *
 	 * @param section the section to insert
-	 * @throws IOException error if something goes wrong
+	 * @throws IOException              error if something goes wrong
+	 * @throws IllegalArgumentException error if a value contains line breaks or quotes and the escape
+	 *                                  sequences are disabled
 	 */
 	private void storeEntryAttributes(@NotNull SectionAdvanced section) throws IOException {
 		// Temporal variables
-		Set<Pair<String, String>> pairSet = section
+		List<Pair<String, String>> pairs = sortedPairs(section
 			.getAttributes()
-			.pairSet();
-		int size = pairSet.size();
+			.pairSet());
+		int size = pairs.size();
 		int counter = 0;
 
-		for (Pair<String, String> entry : pairSet) {
-			Matcher matcher = NUMBER_PATTERN.matcher(entry.second);
+		for (Pair<String, String> entry : pairs) {
 			// Insert the key first
 			writer.append(entry.first)
 				.append(SectionUtils.ASSIGN_ELEMENT);
 
-			// Check if value is a number
-			if (matcher.find()) {
-				writer.append(entry.second);
+			// Check if value is a number. Attributes always need quotes otherwise
+			String value = Objects.requireNonNullElse(entry.second, "");
+			if (ValueUtils.classify(value) == ValueUtils.ValueType.NUMBER) {
+				writer.write(value);
+			} else if (options.isEscapes()) {
+				ValueUtils.writeQuoted(value, writer);
 			} else {
-				writer.append(STR_WRAPPER)
-					.append(entry.second)
-					.append(STR_WRAPPER);
+				ValueUtils.writeWrapped(value, writer, false);
 			}
 
 			if (counter++ < (size - 1)) writer.append(CHAR_SPACE);
@@ -214,12 +329,29 @@ public final class IniWriter {
 	 * @throws IOException error if something goes wrong
 	 */
 	private void storeEntry(@NotNull Pair<String, String> entry) throws IOException {
-		writer.append(entry.first)
-			.append(CHAR_SPACE)
-			.append(SectionUtils.ASSIGN_ELEMENT)
-			.append(CHAR_SPACE)
-			.append(entry.second);
-		writer.newLine();
+		storeEntry(entry.first, entry.second);
+	}
+
+	/**
+	 * Write an entry value. Values that cannot be read back as they are
+	 * (multiline, quoted or with special spaces) are quoted, and escaped only
+	 * if the escape sequences are enabled.
+	 *
+	 * @param value the value to insert
+	 * @throws IOException              error if something goes wrong
+	 * @throws IllegalArgumentException error if the value contains line breaks and the escape sequences
+	 *                                  are disabled
+	 */
+	private void storeValue(@Nullable String value) throws IOException {
+		// Empty entries are written without value
+		if (value == null) return;
+		if (ValueUtils.classify(value) != ValueUtils.ValueType.QUOTED) {
+			writer.write(value);
+		} else if (options.isEscapes()) {
+			ValueUtils.writeQuoted(value, writer);
+		} else {
+			ValueUtils.writeWrapped(value, writer, true);
+		}
 	}
 
 }
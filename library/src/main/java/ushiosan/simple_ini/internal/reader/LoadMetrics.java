@@ -0,0 +1,337 @@
+package ushiosan.simple_ini.internal.reader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.IniLoadStats;
+
+/**
+ * Class used to collect the metrics of a single load process.
+ * <p>
+ * The instance is only created when a load listener is defined, so the reader does not measure
+ * anything in the common case.
+ */
+@PrintOpts(getterAccess = true, getterPrefix = "^(get|is)")
+public final class LoadMetrics implements IniLoadStats {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Number of bytes read
+	 */
+	private long bytes;
+
+	/**
+	 * Number of lines processed
+	 */
+	private long lines;
+
+	/**
+	 * Number of sections created
+	 */
+	private long sections;
+
+	/**
+	 * Number of entries created
+	 */
+	private long entries;
+
+	/**
+	 * Number of merged continuation lines
+	 */
+	private long continuationMerges;
+
+	/**
+	 * Time of each load phase in nanoseconds
+	 */
+	private final long[] phaseNanos = new long[Phase.values().length];
+
+	/**
+	 * Total load time in nanoseconds
+	 */
+	private long totalNanos;
+
+	/**
+	 * Load finish status
+	 */
+	private boolean completed;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 */
+	LoadMetrics() {
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the number of bytes read from the source stream
+	 *
+	 * @return the number of bytes read
+	 */
+	@Override
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the number of lines processed
+	 *
+	 * @return the number of lines processed
+	 */
+	@Override
+	public long getLines() {
+		return lines;
+	}
+
+	/**
+	 * Returns the number of sections created
+	 *
+	 * @return the number of sections created
+	 */
+	@Override
+	public long getSections() {
+		return sections;
+	}
+
+	/**
+	 * Returns the number of entries created
+	 *
+	 * @return the number of entries created
+	 */
+	@Override
+	public long getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Returns the number of continuation lines merged into multiline values
+	 *
+	 * @return the number of merged continuation lines
+	 */
+	@Override
+	public long getContinuationMerges() {
+		return continuationMerges;
+	}
+
+	/**
+	 * Returns the time spent classifying the lines
+	 *
+	 * @return the classification time in nanoseconds
+	 */
+	@Override
+	public long getClassificationNanos() {
+		return phaseNanos[Phase.CLASSIFICATION.ordinal()];
+	}
+
+	/**
+	 * Returns the time spent extracting the section and entry information
+	 *
+	 * @return the extraction time in nanoseconds
+	 */
+	@Override
+	public long getExtractionNanos() {
+		return phaseNanos[Phase.EXTRACTION.ordinal()];
+	}
+
+	/**
+	 * Returns the time spent inserting the content into the object
+	 *
+	 * @return the storage time in nanoseconds
+	 */
+	@Override
+	public long getStorageNanos() {
+		return phaseNanos[Phase.STORAGE.ordinal()];
+	}
+
+	/**
+	 * Returns the total load time
+	 *
+	 * @return the total load time in nanoseconds
+	 */
+	@Override
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * Determines if the whole stream was processed.
+	 *
+	 * @return {@code true} if the load finished or {@code false} otherwise
+	 */
+	@Override
+	public boolean isCompleted() {
+		return completed;
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Wraps the stream to count the number of bytes read
+	 *
+	 * @param stream the source stream
+	 * @return the counting stream
+	 */
+	@NotNull InputStream count(@NotNull InputStream stream) {
+		return new CountingInputStream(stream);
+	}
+
+	/**
+	 * Register a processed line
+	 */
+	void line() {
+		lines++;
+	}
+
+	/**
+	 * Register a created section
+	 */
+	void section() {
+		sections++;
+	}
+
+	/**
+	 * Register a created entry
+	 */
+	void entry() {
+		entries++;
+	}
+
+	/**
+	 * Register a merged continuation line
+	 */
+	void continuationMerge() {
+		continuationMerges++;
+	}
+
+	/**
+	 * Add the time elapsed since the given mark to the phase
+	 *
+	 * @param mark  the phase start time
+	 * @param phase the load phase
+	 * @return the current time, used as the start of the next phase
+	 */
+	long lap(long mark, @NotNull Phase phase) {
+		long now = System.nanoTime();
+		phaseNanos[phase.ordinal()] += now - mark;
+		return now;
+	}
+
+	/**
+	 * Finish the metrics collection
+	 *
+	 * @param startNanos the load start time
+	 * @param completed  the load finish status
+	 */
+	void finish(long startNanos, boolean completed) {
+		this.totalNanos = System.nanoTime() - startNanos;
+		this.completed = completed;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Load phases
+	 */
+	enum Phase {
+		/**
+		 * Line classification
+		 */
+		CLASSIFICATION,
+		/**
+		 * Information extraction
+		 */
+		EXTRACTION,
+		/**
+		 * Content insertion
+		 */
+		STORAGE
+	}
+
+	/**
+	 * Stream that counts the number of bytes read
+	 */
+	private final class CountingInputStream extends FilterInputStream {
+
+		/**
+		 * Default constructor
+		 *
+		 * @param stream the source stream
+		 */
+		CountingInputStream(@NotNull InputStream stream) {
+			super(stream);
+		}
+
+		/**
+		 * Read a single byte
+		 *
+		 * @return the byte read or {@code -1} if the stream ends
+		 * @throws IOException error if something goes wrong
+		 */
+		@Override
+		public int read() throws IOException {
+			int result = super.read();
+			if (result != -1) bytes++;
+			return result;
+		}
+
+		/**
+		 * Read multiple bytes
+		 *
+		 * @param buffer the destination buffer
+		 * @param offset the buffer offset
+		 * @param length the maximum number of bytes
+		 * @return the number of bytes read or {@code -1} if the stream ends
+		 * @throws IOException error if something goes wrong
+		 */
+		@Override
+		public int read(byte @NotNull [] buffer, int offset, int length) throws IOException {
+			int result = super.read(buffer, offset, length);
+			if (result > 0) bytes += result;
+			return result;
+		}
+
+		/**
+		 * Skip bytes of the stream
+		 *
+		 * @param length the number of bytes to skip
+		 * @return the number of skipped bytes
+		 * @throws IOException error if something goes wrong
+		 */
+		@Override
+		public long skip(long length) throws IOException {
+			long result = super.skip(length);
+			bytes += result;
+			return result;
+		}
+
+	}
+
+}
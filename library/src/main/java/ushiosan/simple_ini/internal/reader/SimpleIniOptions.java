@@ -1,9 +1,11 @@
 package ushiosan.simple_ini.internal.reader;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import ushiosan.jvm_utilities.lang.Obj;
 import ushiosan.jvm_utilities.lang.print.annotations.PrintOpts;
+import ushiosan.simple_ini.IniLoadListener;
 import ushiosan.simple_ini.IniOptions;
 
 /**
@@ -26,6 +28,41 @@ public final class SimpleIniOptions implements IniOptions {
 	 */
 	private boolean advanced = false;
 
+	/**
+	 * Preserve values option mode
+	 */
+	private boolean preserveValues = false;
+
+	/**
+	 * Escape sequences option mode
+	 */
+	private boolean escapes = false;
+
+	/**
+	 * Interpolation option mode
+	 */
+	private boolean interpolation = false;
+
+	/**
+	 * Include directives option mode
+	 */
+	private boolean includes = false;
+
+	/**
+	 * Date header option mode
+	 */
+	private boolean timestampHeader = true;
+
+	/**
+	 * Custom header comment
+	 */
+	private String header = null;
+
+	/**
+	 * Load metrics listener
+	 */
+	private IniLoadListener loadListener = null;
+
 	/* -----------------------------------------------------
 	 * Constructors
 	 * ----------------------------------------------------- */
@@ -62,6 +99,76 @@ public final class SimpleIniOptions implements IniOptions {
 		return multiline;
 	}
 
+	/**
+	 * Determines if the entry values are read verbatim.
+	 *
+	 * @return {@code true} if the values are preserved or {@code false} otherwise
+	 */
+	@Override
+	public boolean isPreserveValues() {
+		return preserveValues;
+	}
+
+	/**
+	 * Determines if the quoted values can contain backslash escape sequences.
+	 *
+	 * @return {@code true} if the escape sequences are processed or {@code false} otherwise
+	 */
+	@Override
+	public boolean isEscapes() {
+		return escapes;
+	}
+
+	/**
+	 * Determines if the entry references are resolved when the values are read.
+	 *
+	 * @return {@code true} if the references are resolved or {@code false} otherwise
+	 */
+	@Override
+	public boolean isInterpolation() {
+		return interpolation;
+	}
+
+	/**
+	 * Determines if the content can include other files with the {@code #include path} directive.
+	 *
+	 * @return {@code true} if the directives are processed or {@code false} otherwise
+	 */
+	@Override
+	public boolean supportIncludes() {
+		return includes;
+	}
+
+	/**
+	 * Determines if the stored content starts with a comment that contains the current date.
+	 *
+	 * @return {@code true} if the date header is written or {@code false} otherwise
+	 */
+	@Override
+	public boolean isTimestampHeader() {
+		return timestampHeader;
+	}
+
+	/**
+	 * Custom comment written at the beginning of the stored content.
+	 *
+	 * @return the header comment or {@code null} if no custom header is defined
+	 */
+	@Override
+	public @Nullable String getHeader() {
+		return header;
+	}
+
+	/**
+	 * Listener notified with the metrics collected while the content is loaded.
+	 *
+	 * @return the load listener or {@code null} if the metrics are not collected
+	 */
+	@Override
+	public @Nullable IniLoadListener getLoadListener() {
+		return loadListener;
+	}
+
 	/**
 	 * Object string representation
 	 *
@@ -110,6 +217,90 @@ public final class SimpleIniOptions implements IniOptions {
 			return this;
 		}
 
+		/**
+		 * Change the preserve values mode settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 */
+		@Override
+		public IniOptions.Builder setPreserveValues(boolean status) {
+			result.preserveValues = status;
+			return this;
+		}
+
+		/**
+		 * Change the escape sequences mode settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 */
+		@Override
+		public IniOptions.Builder setEscapes(boolean status) {
+			result.escapes = status;
+			return this;
+		}
+
+		/**
+		 * Change the interpolation mode settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 */
+		@Override
+		public IniOptions.Builder setInterpolation(boolean status) {
+			result.interpolation = status;
+			return this;
+		}
+
+		/**
+		 * Change the include directives mode on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 */
+		@Override
+		public IniOptions.Builder setIncludes(boolean status) {
+			result.includes = status;
+			return this;
+		}
+
+		/**
+		 * Change the date header settings on the object.
+		 *
+		 * @param status the value to set
+		 * @return the current builder instance
+		 */
+		@Override
+		public IniOptions.Builder setTimestampHeader(boolean status) {
+			result.timestampHeader = status;
+			return this;
+		}
+
+		/**
+		 * Change the custom header comment on the object.
+		 *
+		 * @param header the header comment or {@code null} to omit it
+		 * @return the current builder instance
+		 */
+		@Override
+		public IniOptions.Builder setHeader(@Nullable CharSequence header) {
+			result.header = header == null ? null:header.toString();
+			return this;
+		}
+
+		/**
+		 * Change the load listener on the object.
+		 *
+		 * @param listener the load listener or {@code null} to disable the metrics
+		 * @return the current builder instance
+		 */
+		@Override
+		public IniOptions.Builder setLoadListener(@Nullable IniLoadListener listener) {
+			result.loadListener = listener;
+			return this;
+		}
+
 		/**
 		 * Build the configuration with the provided values or default values instead.
 		 *
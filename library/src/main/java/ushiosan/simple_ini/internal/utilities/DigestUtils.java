@@ -0,0 +1,76 @@
+package ushiosan.simple_ini.internal.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utilities class used to calculate content hashes
+ */
+public final class DigestUtils {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private DigestUtils() {
+	}
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Hash algorithm
+	 */
+	public static final String ALGORITHM = "SHA-256";
+
+	/**
+	 * Stream buffer size
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Generates a new digest instance
+	 *
+	 * @return a new digest instance
+	 */
+	public static @NotNull MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			// All java platforms must support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Calculates the hash of the file content
+	 *
+	 * @param location the file location
+	 * @return the file content hash
+	 * @throws IOException error if something goes wrong
+	 */
+	public static byte @NotNull [] digest(@NotNull Path location) throws IOException {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		// Read the entire content
+		try (InputStream stream = new DigestInputStream(Files.newInputStream(location), digest)) {
+			//noinspection StatementWithEmptyBody
+			while (stream.read(buffer) != -1) ;
+		}
+		return digest.digest();
+	}
+
+}
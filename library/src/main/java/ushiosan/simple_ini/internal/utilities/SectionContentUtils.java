@@ -37,7 +37,13 @@ public final class SectionContentUtils {
 	 * Regular expression used to manage section attributes
 	 */
 	@RegExp
-	static final String ATTRIBUTE_REGEX = "(\\w+)=(\"(.*?)\"|(\\d+\\.?\\d*))";
+	static final String ATTRIBUTE_REGEX = "(\\w+)=(\"([^\"]*)\"|(\\d+\\.?\\d*))";
+
+	/**
+	 * Regular expression used to manage section attributes with escape sequences
+	 */
+	@RegExp
+	static final String ESCAPED_ATTRIBUTE_REGEX = "(\\w+)=(\"((?:\\\\.|[^\"\\\\])*)\"|(\\d+\\.?\\d*))";
 
 	/**
 	 * Regular expression used to detect an entry element
@@ -46,11 +52,25 @@ public final class SectionContentUtils {
 	static final String FULL_ENTRY_REGEX = "^([A-Za-z_][\\w/]+)\\s?=\\s?(.*+)$";
 
 	/**
-	 * Cached entry pattern
+	 * Assign character used to split the entry key and value
+	 *
+	 * @see SectionUtils#ASSIGN_ELEMENT
+	 */
+	private static final char ASSIGN_CHAR = SectionUtils.ASSIGN_ELEMENT.charAt(0);
+
+	/**
+	 * Cached attribute pattern
 	 *
-	 * @see #FULL_ENTRY_REGEX
+	 * @see #ATTRIBUTE_REGEX
 	 */
-	static final Pattern ENTRY_PATTERN = Pattern.compile(FULL_ENTRY_REGEX);
+	static final Pattern ATTRIBUTE_PATTERN = Pattern.compile(ATTRIBUTE_REGEX);
+
+	/**
+	 * Cached attribute pattern with escape sequences
+	 *
+	 * @see #ESCAPED_ATTRIBUTE_REGEX
+	 */
+	static final Pattern ESCAPED_ATTRIBUTE_PATTERN = Pattern.compile(ESCAPED_ATTRIBUTE_REGEX);
 
 	/* -----------------------------------------------------
 	 * Methods
@@ -63,15 +83,26 @@ public final class SectionContentUtils {
 	 * @return a section object info
 	 */
 	public static @NotNull SectionInfoTmp getSectionInfo(final @NotNull String content) {
+		return getSectionInfo(content, false);
+	}
+
+	/**
+	 * Returns the information of the selected section.
+	 *
+	 * @param content the content to check
+	 * @param escapes determines if the quoted attribute values can contain escape sequences
+	 * @return a section object info
+	 */
+	public static @NotNull SectionInfoTmp getSectionInfo(final @NotNull String content, boolean escapes) {
 		// Clean content
-		final String result = StringConverter.cleanMultipleSpaceContent(
-			content
-				.substring(1, content.length() - 1)
-				.trim()
-		);
-		// Get results
-		String sectionName = getSectionName(result);
-		Map<String, String> sectionAttributes = getSectionAttributes(result);
+		final String rawResult = content
+			.substring(1, content.length() - 1)
+			.trim();
+		final String result = StringConverter.cleanMultipleSpaceContent(rawResult);
+		final Pattern pattern = escapes ? ESCAPED_ATTRIBUTE_PATTERN:ATTRIBUTE_PATTERN;
+		// Get results. Attribute values are taken from the original content
+		String sectionName = getSectionName(result, pattern);
+		Map<String, String> sectionAttributes = getSectionAttributes(rawResult, pattern, escapes);
 		// Returns the result
 		return new SectionInfoTmp(sectionName, sectionAttributes);
 	}
@@ -83,36 +114,160 @@ public final class SectionContentUtils {
 	 * @return an entry info content or {@code null} if the content is not valid
 	 */
 	public static @Nullable Pair<String, String> getEntryInfo(final @NotNull String content) {
-		final String result = StringConverter
-			.cleanMultipleSpaceContent(content);
-		Matcher matcher = ENTRY_PATTERN
-			.matcher(result);
+		return getEntryInfo(content, false, false);
+	}
 
-		// Invalid entry
-		if (!matcher.find()) return null;
+	/**
+	 * Inspect the content and return the entry information if it is valid.
+	 * <p>
+	 * The key and value bounds are found in a single scan of the original content
+	 * and each region is normalized only once.
+	 *
+	 * @param content        the content to inspect
+	 * @param preserveValues determines if the unquoted values are kept verbatim
+	 * @param escapes        determines if the quoted values can contain escape sequences
+	 * @return an entry info content or {@code null} if the content is not valid
+	 */
+	public static @Nullable Pair<String, String> getEntryInfo(
+		final @NotNull String content,
+		boolean preserveValues,
+		boolean escapes
+	) {
+		final int end = content.length();
+		int start = 0;
+		while (start < end && content.charAt(start) <= ' ') start++;
+		// Key bounds ([A-Za-z_][\w/]+)
+		if (start == end || !isKeyStart(content.charAt(start))) return null;
+		int keyEnd = start + 1;
+		while (keyEnd < end && isKeyPart(content.charAt(keyEnd))) keyEnd++;
+		if (keyEnd - start < 2) return null;
+		// Assign element
+		int assign = keyEnd;
+		while (assign < end && content.charAt(assign) <= ' ') assign++;
+		if (assign == end || content.charAt(assign) != ASSIGN_CHAR) return null;
 
 		// Store temporal results
-		String key = StringConverter
-			.cleanStringContent(matcher.group(1));
-		String value = StringConverter
-			.cleanStringContent(matcher.group(2));
+		String key = content.substring(start, keyEnd);
+		String value = getEntryValue(content, assign + 1, preserveValues, escapes);
 		// Return the result
 		return Pair.of(key, value);
 	}
 
+	/**
+	 * Check if the content matches {@link #FULL_ENTRY_REGEX}. The content is scanned
+	 * character by character, so no matcher is allocated for each line.
+	 *
+	 * @param content the trimmed content to check
+	 * @return {@code true} if the content is a valid entry or {@code false} otherwise
+	 */
+	static boolean isEntry(final @NotNull String content) {
+		final int end = content.length();
+		// Key bounds ([A-Za-z_][\w/]+)
+		if (end == 0 || !isKeyStart(content.charAt(0))) return false;
+		int keyEnd = 1;
+		while (keyEnd < end && isKeyPart(content.charAt(keyEnd))) keyEnd++;
+		if (keyEnd < 2) return false;
+		// Assign element (\s?=\s?)
+		int assign = keyEnd;
+		if (assign < end && isWhitespace(content.charAt(assign))) assign++;
+		if (assign == end || content.charAt(assign) != ASSIGN_CHAR) return false;
+		int value = assign + 1;
+		if (value < end && isWhitespace(content.charAt(value))) value++;
+		// Value (.*+$). Only the last character can be a line terminator
+		for (int i = value; i < end - 1; i++) {
+			if (isLineTerminator(content.charAt(i))) return false;
+		}
+		return true;
+	}
+
 	/* -----------------------------------------------------
 	 * Internal methods
 	 * ----------------------------------------------------- */
 
+	/**
+	 * Get the entry value. Quoted values are taken from the original content
+	 * (and unescaped if enabled), so they are read exactly as they were written.
+	 *
+	 * @param content        the original entry content
+	 * @param start          the value start (the first character after the assign element)
+	 * @param preserveValues determines if the unquoted values are kept verbatim
+	 * @param escapes        determines if the quoted values can contain escape sequences
+	 * @return the entry value
+	 */
+	private static @NotNull String getEntryValue(
+		final @NotNull String content,
+		int start,
+		boolean preserveValues,
+		boolean escapes
+	) {
+		// Trim the value region
+		int end = content.length();
+		while (start < end && content.charAt(start) <= ' ') start++;
+		while (end > start && content.charAt(end - 1) <= ' ') end--;
+		String rawValue = content.substring(start, end);
+
+		String quotedValue = ValueUtils.unquote(rawValue, escapes);
+		if (quotedValue != null) return quotedValue;
+		// Return the result
+		return preserveValues ? rawValue:
+			StringConverter.cleanStringContent(rawValue);
+	}
+
+	/**
+	 * Check if the character can start an entry key
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is valid or {@code false} otherwise
+	 */
+	private static boolean isKeyStart(char character) {
+		return (character >= 'A' && character <= 'Z') ||
+			(character >= 'a' && character <= 'z') ||
+			character == '_';
+	}
+
+	/**
+	 * Check if the character can be part of an entry key
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is valid or {@code false} otherwise
+	 */
+	private static boolean isKeyPart(char character) {
+		return isKeyStart(character) ||
+			(character >= '0' && character <= '9') ||
+			character == '/';
+	}
+
+	/**
+	 * Check if the character is a whitespace of the regular expressions ({@code \s})
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is a whitespace or {@code false} otherwise
+	 */
+	private static boolean isWhitespace(char character) {
+		return character == ' ' || (character >= '\t' && character <= '\r');
+	}
+
+	/**
+	 * Check if the character is a line terminator of the regular expressions
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is a line terminator or {@code false} otherwise
+	 */
+	private static boolean isLineTerminator(char character) {
+		return character == '\n' || character == '\r' ||
+			character == '\u0085' || character == '\u2028' || character == '\u2029';
+	}
+
 	/**
 	 * Get the current section name
 	 *
 	 * @param content the content to check
+	 * @param pattern the attribute pattern
 	 * @return the section name
 	 */
-	private static @NotNull String getSectionName(final @NotNull String content) {
+	private static @NotNull String getSectionName(final @NotNull String content, final @NotNull Pattern pattern) {
 		// Get the attributes and discard that content
-		String[] elements = Arrays.stream(content.split(ATTRIBUTE_REGEX))
+		String[] elements = Arrays.stream(pattern.split(content))
 			.map(String::trim)
 			.filter(StringConverter::isNotEmpty)
 			.toArray(String[]::new);
@@ -124,30 +279,27 @@ public final class SectionContentUtils {
 	 * Get the current section attributes
 	 *
 	 * @param content the content to check
+	 * @param pattern the attribute pattern
+	 * @param escapes determines if the quoted values can contain escape sequences
 	 * @return the section name
 	 */
 	@Contract(pure = true)
-	private static @Unmodifiable @NotNull Map<String, String> getSectionAttributes(final @NotNull String content) {
+	private static @Unmodifiable @NotNull Map<String, String> getSectionAttributes(
+		final @NotNull String content,
+		final @NotNull Pattern pattern,
+		boolean escapes
+	) {
 		// Temporal variables
-		Pattern pattern = Pattern.compile(ATTRIBUTE_REGEX);
 		Matcher matcher = pattern.matcher(content);
 		Map<String, String> result = Collections.mutableMapOf();
 
 		// Find all attributes
 		while (matcher.find()) {
-			String[] groupValues = matcher
-				.group()
-				.trim()
-				.split(SectionUtils.ASSIGN_ELEMENT);
-
-			// Check if array has 2 values
-			if (groupValues.length < 2) continue;
-
-			String key = StringConverter.cleanStringContent(groupValues[0]);
-			String value = StringConverter.cleanStringContent(String.join(
-				SectionUtils.ASSIGN_ELEMENT,
-				Arrays.copyOfRange(groupValues, 1, groupValues.length)
-			));
+			String key = matcher.group(1);
+			String quotedValue = matcher.group(3);
+			// Quoted values can contain escape sequences
+			String value = quotedValue == null ? matcher.group(4):
+				escapes ? ValueUtils.unescape(quotedValue):quotedValue;
 			// Insert the content
 			result.put(key, value);
 		}
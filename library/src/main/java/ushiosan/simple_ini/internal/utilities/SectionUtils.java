@@ -2,7 +2,7 @@ package ushiosan.simple_ini.internal.utilities;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import ushiosan.jvm_utilities.lang.collection.Arrs;
 
@@ -39,6 +39,11 @@ public final class SectionUtils {
 	 */
 	public static final String[] SECTION_WRAPPERS = Arrs.of("[", "]");
 
+	/**
+	 * Pattern used to replace the spaces of the names
+	 */
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
 	/* -----------------------------------------------------
 	 * Methods
 	 * ----------------------------------------------------- */
@@ -53,8 +58,13 @@ public final class SectionUtils {
 		String data = name
 			.toString()
 			.trim();
-		// Replace all spaces
-		return data.replaceAll("\\s+", "-");
+		// Most names do not contain spaces, so the pattern is only used if necessary
+		for (int i = 0; i < data.length(); i++) {
+			if (Character.isWhitespace(data.charAt(i))) {
+				return WHITESPACE_PATTERN.matcher(data).replaceAll("-");
+			}
+		}
+		return data;
 	}
 
 	/**
@@ -100,18 +110,14 @@ public final class SectionUtils {
 	 *
 	 * @param content the content to check
 	 * @return {@code true} if the content is a valid entry or {@code false} otherwise
-	 * @see SectionContentUtils#ENTRY_PATTERN
+	 * @see SectionContentUtils#FULL_ENTRY_REGEX
 	 */
 	public static boolean isValidEntry(final @NotNull CharSequence content) {
 		String contentStr = content
 			.toString()
 			.trim();
-		Matcher matcher = SectionContentUtils
-			.ENTRY_PATTERN
-			.matcher(contentStr);
-
 		// Validate
-		return matcher.find();
+		return SectionContentUtils.isEntry(contentStr);
 	}
 
 }
@@ -0,0 +1,308 @@
+package ushiosan.simple_ini.internal.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Utilities class used to classify and escape entry or attribute values.
+ * <p>
+ * All checks are made by scanning the content only once and without regular expressions,
+ * so no temporary objects are generated while the values are written.
+ */
+public final class ValueUtils {
+
+	/**
+	 * This class cannot be instantiated.
+	 * <p>
+	 * Singleton or utility class mode.
+	 */
+	private ValueUtils() {
+	}
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * String wrapper character
+	 */
+	public static final char STR_WRAPPER = '"';
+
+	/**
+	 * Escape character
+	 */
+	public static final char ESCAPE_CHAR = '\\';
+
+	/**
+	 * Hexadecimal digits used to escape control characters
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Determines how a value must be written to be read back identically.
+	 *
+	 * @param content the content to check
+	 * @return the value type of the content
+	 */
+	public static @NotNull ValueType classify(@NotNull CharSequence content) {
+		final int length = content.length();
+		if (length == 0) return ValueType.PLAIN;
+		// Temporal variables
+		boolean number = true;
+		boolean decimal = false;
+		boolean quoted = isSpace(content.charAt(0)) || isSpace(content.charAt(length - 1));
+		boolean previousSpace = false;
+
+		for (int i = 0; i < length; i++) {
+			char current = content.charAt(i);
+			// Check number format (\d+(\.\d+)?)
+			if (number && (current < '0' || current > '9')) {
+				number = current == '.' && !decimal && i > 0 && i < length - 1;
+				decimal = true;
+			}
+			// The reader collapses whitespace and removes unescaped quotes
+			if (isSpace(current)) {
+				quoted |= current != ' ' || previousSpace;
+				previousSpace = true;
+			} else {
+				quoted |= current == STR_WRAPPER || Character.isISOControl(current);
+				previousSpace = false;
+			}
+		}
+
+		if (number) return ValueType.NUMBER;
+		return quoted ? ValueType.QUOTED:ValueType.PLAIN;
+	}
+
+	/**
+	 * Write the content wrapped in quotes and escaping all special characters.
+	 *
+	 * @param content the content to write
+	 * @param writer  the target writer
+	 * @throws IOException error if something goes wrong
+	 */
+	public static void writeQuoted(@NotNull String content, @NotNull Writer writer) throws IOException {
+		final int length = content.length();
+		int start = 0;
+
+		writer.write(STR_WRAPPER);
+		for (int i = 0; i < length; i++) {
+			char current = content.charAt(i);
+			char escape = escapeOf(current);
+			// Ignore regular characters
+			if (escape == 0 && !Character.isISOControl(current)) continue;
+			// Write the pending content
+			writer.write(content, start, i - start);
+			writer.write(ESCAPE_CHAR);
+			if (escape != 0) {
+				writer.write(escape);
+			} else {
+				writer.write('u');
+				for (int shift = 12; shift >= 0; shift -= 4) {
+					writer.write(HEX_DIGITS[(current >> shift) & 0xF]);
+				}
+			}
+			start = i + 1;
+		}
+		writer.write(content, start, length - start);
+		writer.write(STR_WRAPPER);
+	}
+
+	/**
+	 * Write the content wrapped in quotes without escaping any character.
+	 * Used when the escape sequences are disabled. The line breaks (and the quotes of the
+	 * attribute values) cannot be read back without escape sequences, so the values that
+	 * contain them are rejected.
+	 *
+	 * @param content the content to write
+	 * @param writer  the target writer
+	 * @param quotes  determines if the content can contain quotes
+	 * @throws IOException              error if something goes wrong
+	 * @throws IllegalArgumentException error if the content cannot be read back
+	 */
+	public static void writeWrapped(@NotNull String content, @NotNull Writer writer, boolean quotes)
+		throws IOException {
+		for (int i = 0; i < content.length(); i++) {
+			char current = content.charAt(i);
+			if (current == '\n' || current == '\r' || (!quotes && current == STR_WRAPPER)) {
+				throw new IllegalArgumentException(String.format(
+					"The value \"%s\" can only be written if the escape sequences are enabled", content));
+			}
+		}
+		writer.write(STR_WRAPPER);
+		writer.write(content);
+		writer.write(STR_WRAPPER);
+	}
+
+	/**
+	 * Removes the quotes of a quoted value. The escape sequences are only processed
+	 * if {@code escapes} is {@code true}, otherwise the backslashes are kept verbatim.
+	 *
+	 * @param content the content to check
+	 * @param escapes determines if the escape sequences are processed
+	 * @return the unquoted content or {@code null} if the content is not a single quoted value
+	 */
+	public static @Nullable String unquote(@NotNull String content, boolean escapes) {
+		final int length = content.length();
+		if (length < 2 || content.charAt(0) != STR_WRAPPER || content.charAt(length - 1) != STR_WRAPPER)
+			return null;
+		// Check if the content has escape sequences or invalid quotes
+		boolean escaped = false;
+		for (int i = 1; i < length - 1; i++) {
+			char current = content.charAt(i);
+			if (current == STR_WRAPPER) return null;
+			if (escapes && current == ESCAPE_CHAR) {
+				// The last quote cannot be escaped
+				if (i == length - 2) return null;
+				escaped = true;
+				i++;
+			}
+		}
+		return escaped ? unescape(content, 1, length - 1):
+			content.substring(1, length - 1);
+	}
+
+	/**
+	 * Removes all escape sequences of the content.
+	 *
+	 * @param content the content to convert
+	 * @return the unescaped content
+	 */
+	public static @NotNull String unescape(@NotNull String content) {
+		return content.indexOf(ESCAPE_CHAR) == -1 ? content:
+			unescape(content, 0, content.length());
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Removes all escape sequences of the content region.
+	 *
+	 * @param content the content to convert
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @return the unescaped content
+	 */
+	private static @NotNull String unescape(@NotNull String content, int start, int end) {
+		StringBuilder builder = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char current = content.charAt(i);
+			if (current != ESCAPE_CHAR || i == end - 1) {
+				builder.append(current);
+				continue;
+			}
+			// Process escape sequence
+			char next = content.charAt(++i);
+			switch (next) {
+				case 'n':
+					builder.append('\n');
+					break;
+				case 'r':
+					builder.append('\r');
+					break;
+				case 't':
+					builder.append('\t');
+					break;
+				case 'u':
+					int code = i + 4 < end ? parseHex(content, i + 1, i + 5):-1;
+					if (code == -1) {
+						builder.append(ESCAPE_CHAR).append(next);
+					} else {
+						builder.append((char) code);
+						i += 4;
+					}
+					break;
+				case ESCAPE_CHAR:
+				case STR_WRAPPER:
+					builder.append(next);
+					break;
+				default:
+					// Unknown sequences are kept as they are
+					builder.append(ESCAPE_CHAR).append(next);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the escape character of the given character.
+	 *
+	 * @param character the character to check
+	 * @return the escape character or {@code 0} if the character has no short escape
+	 */
+	private static char escapeOf(char character) {
+		switch (character) {
+			case '\n':
+				return 'n';
+			case '\r':
+				return 'r';
+			case '\t':
+				return 't';
+			case ESCAPE_CHAR:
+			case STR_WRAPPER:
+				return character;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Parse a hexadecimal region of the content.
+	 *
+	 * @param content the content to parse
+	 * @param start   the region start (inclusive)
+	 * @param end     the region end (exclusive)
+	 * @return the parsed value or {@code -1} if the region is not valid
+	 */
+	private static int parseHex(@NotNull String content, int start, int end) {
+		int result = 0;
+		for (int i = start; i < end; i++) {
+			int digit = Character.digit(content.charAt(i), 16);
+			if (digit == -1) return -1;
+			result = (result << 4) | digit;
+		}
+		return result;
+	}
+
+	/**
+	 * Check if the character is trimmed or collapsed by the reader.
+	 *
+	 * @param character the character to check
+	 * @return {@code true} if the character is a space or {@code false} otherwise
+	 */
+	private static boolean isSpace(char character) {
+		return character <= ' ' || Character.isWhitespace(character);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * The way a value has to be written
+	 */
+	public enum ValueType {
+		/**
+		 * Decimal number value. It can be written without quotes
+		 */
+		NUMBER,
+		/**
+		 * Regular value. It can be written without quotes
+		 */
+		PLAIN,
+		/**
+		 * Special value. It must be quoted and escaped
+		 */
+		QUOTED
+	}
+
+}
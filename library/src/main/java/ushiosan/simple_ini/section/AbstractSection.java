@@ -15,6 +15,7 @@ import ushiosan.jvm_utilities.lang.collection.elements.Pair;
 import ushiosan.simple_ini.conversion.BooleanConverter;
 import ushiosan.simple_ini.conversion.CollectionConverter;
 import ushiosan.simple_ini.conversion.NumberConverter;
+import ushiosan.simple_ini.internal.jfr.LookupEvent;
 import ushiosan.simple_ini.internal.utilities.SectionUtils;
 
 /**
@@ -42,6 +43,16 @@ public abstract class AbstractSection implements Section {
 	 */
 	private final Map<String, String> entryContainer;
 
+	/**
+	 * Object used to resolve the entry references or {@code null} if the references are not resolved
+	 */
+	private @Nullable Interpolator interpolator;
+
+	/**
+	 * Listener notified when the section is renamed or {@code null} if no object is notified
+	 */
+	private @Nullable SectionRenameListener renameListener;
+
 	/* -----------------------------------------------------
 	 * Constructors
 	 * ----------------------------------------------------- */
@@ -80,7 +91,28 @@ public abstract class AbstractSection implements Section {
 	 */
 	@Override
 	public void setName(@NotNull CharSequence newName) {
+		String previousName = name;
 		name = SectionUtils.getValidName(newName);
+		if (interpolator != null) interpolator.invalidateAll();
+		if (renameListener != null && !name.equals(previousName)) renameListener.onRename(this, previousName);
+	}
+
+	/**
+	 * Change the object used to resolve the entry references
+	 *
+	 * @param interpolator the interpolator object or {@code null} to read the values without resolving them
+	 */
+	public void setInterpolator(@Nullable Interpolator interpolator) {
+		this.interpolator = interpolator;
+	}
+
+	/**
+	 * Change the listener notified when the section is renamed
+	 *
+	 * @param renameListener the listener or {@code null} to stop the notifications
+	 */
+	public void setRenameListener(@Nullable SectionRenameListener renameListener) {
+		this.renameListener = renameListener;
 	}
 
 	/**
@@ -97,7 +129,9 @@ public abstract class AbstractSection implements Section {
 
 		// Blank keys are not valid
 		if (realKey.isBlank()) return Optional.empty();
-		return Optional.ofNullable(entryContainer.put(realKey, realValue));
+		Optional<String> result = Optional.ofNullable(entryContainer.put(realKey, realValue));
+		if (interpolator != null) interpolator.invalidate(name, realKey);
+		return result;
 	}
 
 	/**
@@ -133,7 +167,9 @@ public abstract class AbstractSection implements Section {
 	 */
 	@Override
 	public Optional<String> remove(@NotNull CharSequence key) {
-		return Optional.ofNullable(entryContainer.remove(key.toString()));
+		Optional<String> result = Optional.ofNullable(entryContainer.remove(key.toString()));
+		if (interpolator != null) interpolator.invalidate(name, key);
+		return result;
 	}
 
 	/**
@@ -142,6 +178,7 @@ public abstract class AbstractSection implements Section {
 	@Override
 	public void clear() {
 		entryContainer.clear();
+		if (interpolator != null) interpolator.invalidateAll();
 	}
 
 	/**
@@ -210,13 +247,39 @@ public abstract class AbstractSection implements Section {
 	}
 
 	/**
-	 * Returns the current content of the selected entry.
+	 * Returns the current content of the selected entry. If the section has an {@link Interpolator}
+	 * all references of the content are resolved.
 	 *
 	 * @param key the entry name
 	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 * @throws IllegalStateException if the content has a cyclic reference
 	 */
 	@Override
 	public @NotNull Optional<String> get(@NotNull CharSequence key) {
+		LookupEvent event = new LookupEvent();
+		event.begin();
+		String realKey = key.toString();
+		String value = entryContainer.get(realKey);
+		if (value != null && interpolator != null) value = interpolator.resolve(this, realKey, value);
+		// Notify the flight recorder
+		event.end();
+		if (event.shouldCommit()) {
+			event.section = name;
+			event.key = realKey;
+			event.found = value != null;
+			event.commit();
+		}
+		return Optional.ofNullable(value);
+	}
+
+	/**
+	 * Returns the content of the selected entry exactly as it is stored, without resolving its references.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<String> getRaw(@NotNull CharSequence key) {
 		return Optional.ofNullable(entryContainer.get(key.toString()));
 	}
 
@@ -0,0 +1,394 @@
+package ushiosan.simple_ini.section;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import ushiosan.simple_ini.Ini;
+
+/**
+ * Class used to resolve the references inside the entry values of an {@link Ini} object.
+ * <p>
+ * Supported references:
+ * <ul>
+ *     <li>{@code ${key}}: entry of the same section (or the default section if it does not exist)</li>
+ *     <li>{@code ${section.key}}: entry of another section</li>
+ *     <li>{@code ${env:NAME}}: environment variable</li>
+ * </ul>
+ * References that cannot be resolved are kept as text and the sequence <code>$${</code> is written as the
+ * literal text <code>${</code>.
+ * <p>
+ * Each value is compiled only once and the resolved result is stored until the value or any of its
+ * referenced entries changes, so reading a resolved value again costs the same as reading a plain value.
+ * Sections notify the changes of their entries automatically (see {@link AbstractSection#put(CharSequence, CharSequence)}).
+ *
+ * @see ushiosan.simple_ini.IniOptions#isInterpolation()
+ */
+public final class Interpolator {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Source ini object
+	 */
+	private final Ini<?> ini;
+
+	/**
+	 * Function used to get the environment variables
+	 */
+	private final Function<String, String> environment;
+
+	/**
+	 * Resolved values by section and entry name
+	 */
+	private final Map<String, Map<String, Resolved>> resolved = new ConcurrentHashMap<>();
+
+	/**
+	 * Entries that must be resolved again when the key entry changes
+	 */
+	private final Map<EntryRef, Set<EntryRef>> dependents = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of values read from the stored results
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Number of values that were resolved again
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor. The environment variables are obtained from {@link System#getenv(String)}.
+	 *
+	 * @param ini the source ini object
+	 */
+	public Interpolator(@NotNull Ini<?> ini) {
+		this(ini, System::getenv);
+	}
+
+	/**
+	 * Constructor with a custom environment
+	 *
+	 * @param ini         the source ini object
+	 * @param environment function used to get the environment variables ({@code null} if the variable does not exist)
+	 */
+	public Interpolator(@NotNull Ini<?> ini, @NotNull Function<String, String> environment) {
+		this.ini = ini;
+		this.environment = environment;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Resolve all references of the entry value
+	 *
+	 * @param section the entry section
+	 * @param key     the entry name
+	 * @param value   the entry value
+	 * @return the resolved value
+	 * @throws IllegalStateException if the value has a cyclic reference
+	 */
+	public @NotNull String resolve(@NotNull Section section, @NotNull String key, @NotNull String value) {
+		if (!ValueTemplate.isTemplate(value)) return value;
+		// Stored value
+		Resolved result = cached(section.getName(), key, value);
+		if (result != null) {
+			hits.increment();
+			return result.value;
+		}
+		misses.increment();
+		return resolveEntry(section.getName(), key, value, new ArrayList<>());
+	}
+
+	/**
+	 * Discard the resolved value of the entry and of all entries that reference it
+	 *
+	 * @param section the section name
+	 * @param key     the entry name
+	 */
+	public void invalidate(@NotNull CharSequence section, @NotNull CharSequence key) {
+		invalidate(new EntryRef(section.toString(), key.toString()));
+	}
+
+	/**
+	 * Discard all resolved values
+	 */
+	public void invalidateAll() {
+		resolved.clear();
+		dependents.clear();
+	}
+
+	/**
+	 * Returns the number of resolved values
+	 *
+	 * @return the number of resolved values
+	 */
+	public int cacheSize() {
+		int result = 0;
+		for (Map<String, Resolved> entries : resolved.values()) {
+			result += entries.size();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of values read from the stored results
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of values that had to be resolved
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the stored value of the entry
+	 *
+	 * @param section the section name
+	 * @param key     the entry name
+	 * @param value   the current entry value
+	 * @return the stored value or {@code null} if the value was not resolved or the entry changed
+	 */
+	private @Nullable Resolved cached(@NotNull String section, @NotNull String key, @NotNull String value) {
+		Map<String, Resolved> entries = resolved.get(section);
+		Resolved result = entries == null ? null:entries.get(key);
+		// The entries are not copied, so a different instance means a modified entry
+		return result != null && result.source == value ? result:null;
+	}
+
+	/**
+	 * Resolve the entry and store the result
+	 *
+	 * @param section the section name
+	 * @param key     the entry name
+	 * @param value   the entry value
+	 * @param stack   the entries that are being resolved
+	 * @return the resolved value
+	 * @throws IllegalStateException if the value has a cyclic reference
+	 */
+	private @NotNull String resolveEntry(
+		@NotNull String section,
+		@NotNull String key,
+		@NotNull String value,
+		@NotNull List<EntryRef> stack
+	) {
+		if (!ValueTemplate.isTemplate(value)) return value;
+		Resolved stored = cached(section, key, value);
+		if (stored != null) return stored.value;
+		ValueTemplate template = Objects.requireNonNull(ValueTemplate.compile(value));
+		// Check cyclic references
+		EntryRef current = new EntryRef(section, key);
+		if (stack.contains(current)) {
+			String chain = stack.subList(stack.indexOf(current), stack.size())
+				.stream()
+				.map(EntryRef::toString)
+				.collect(Collectors.joining(" -> "));
+			throw new IllegalStateException(String.format("Cyclic reference: %s -> %s", chain, current));
+		}
+		// Resolve all references
+		List<EntryRef> dependencies = new ArrayList<>(template.size());
+		StringBuilder builder = new StringBuilder(value.length());
+		stack.add(current);
+		for (int i = 0; i < template.size(); i++) {
+			ValueTemplate.Reference reference = template.getReference(i);
+			String content = resolveReference(reference, section, stack, dependencies);
+			builder.append(template.getFragment(i))
+				.append(content == null ? reference.source:content);
+		}
+		stack.remove(stack.size() - 1);
+		builder.append(template.getFragment(template.size()));
+		// Store the result
+		String result = builder.toString();
+		resolved.computeIfAbsent(section, it -> new ConcurrentHashMap<>())
+			.put(key, new Resolved(value, result));
+		for (EntryRef dependency : dependencies) {
+			dependents.computeIfAbsent(dependency, it -> ConcurrentHashMap.newKeySet())
+				.add(current);
+		}
+		return result;
+	}
+
+	/**
+	 * Resolve a single reference
+	 *
+	 * @param reference    the reference to resolve
+	 * @param section      the current section name
+	 * @param stack        the entries that are being resolved
+	 * @param dependencies the entries used by the current entry
+	 * @return the reference value or {@code null} if the reference does not exist
+	 */
+	private @Nullable String resolveReference(
+		@NotNull ValueTemplate.Reference reference,
+		@NotNull String section,
+		@NotNull List<EntryRef> stack,
+		@NotNull List<EntryRef> dependencies
+	) {
+		if (reference.environment) return environment.apply(reference.name);
+		// Entry reference. Missing entries are also registered to update the value when they are inserted
+		String target = reference.section == null ? section:reference.section;
+		dependencies.add(new EntryRef(target, reference.name));
+		Optional<String> content = rawValue(target, reference.name);
+		// Entries of the same section are also searched in the default section
+		if (content.isEmpty() && reference.section == null) {
+			target = ini.getDefaultSection().getName();
+			dependencies.add(new EntryRef(target, reference.name));
+			content = rawValue(target, reference.name);
+		}
+		if (content.isEmpty()) return null;
+		return resolveEntry(target, reference.name, content.get(), stack);
+	}
+
+	/**
+	 * Returns the entry value without resolving its references
+	 *
+	 * @param section the section name
+	 * @param key     the entry name
+	 * @return the entry value or {@link Optional#empty()} if the entry does not exist
+	 */
+	private @NotNull Optional<String> rawValue(@NotNull String section, @NotNull String key) {
+		Optional<? extends Section> result = ini.getSection(section);
+		return result.isPresent() ? result.get().getRaw(key):Optional.empty();
+	}
+
+	/**
+	 * Discard the resolved value of the entry and of all entries that reference it
+	 *
+	 * @param entry the entry to invalidate
+	 */
+	private void invalidate(@NotNull EntryRef entry) {
+		Map<String, Resolved> entries = resolved.get(entry.section);
+		if (entries != null) entries.remove(entry.key);
+		// Invalidate the dependent entries
+		Set<EntryRef> entryDependents = dependents.remove(entry);
+		if (entryDependents == null) return;
+		for (EntryRef dependent : entryDependents) {
+			invalidate(dependent);
+		}
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Resolved entry value
+	 */
+	private static final class Resolved {
+
+		/**
+		 * Original entry value
+		 */
+		final String source;
+
+		/**
+		 * Resolved entry value
+		 */
+		final String value;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param source the original entry value
+		 * @param value  the resolved entry value
+		 */
+		Resolved(@NotNull String source, @NotNull String value) {
+			this.source = source;
+			this.value = value;
+		}
+
+	}
+
+	/**
+	 * Entry location
+	 */
+	private static final class EntryRef {
+
+		/**
+		 * Section name
+		 */
+		final String section;
+
+		/**
+		 * Entry name
+		 */
+		final String key;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param section the section name
+		 * @param key     the entry name
+		 */
+		EntryRef(@NotNull String section, @NotNull String key) {
+			this.section = section;
+			this.key = key;
+		}
+
+		/**
+		 * Check if both objects are the same entry
+		 *
+		 * @param obj the object to compare
+		 * @return {@code true} if both objects are the same entry or {@code false} otherwise
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof EntryRef)) return false;
+			EntryRef other = (EntryRef) obj;
+			return section.equals(other.section) && key.equals(other.key);
+		}
+
+		/**
+		 * Object hash code
+		 *
+		 * @return object hash code
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(section, key);
+		}
+
+		/**
+		 * Object string representation
+		 *
+		 * @return object string representation
+		 */
+		@Override
+		public @NotNull String toString() {
+			return section + "." + key;
+		}
+
+	}
+
+}
@@ -10,6 +10,11 @@ import java.util.Optional;
 import java.util.Set;
 
 import ushiosan.jvm_utilities.lang.collection.elements.Pair;
+import ushiosan.simple_ini.binding.SectionBinder;
+import ushiosan.simple_ini.conversion.CollectionConverter;
+import ushiosan.simple_ini.conversion.ConverterRegistry;
+import ushiosan.simple_ini.conversion.NumberConverter;
+import ushiosan.simple_ini.conversion.ValueConverter;
 
 /**
  * Interface used as a data model to generate new implementations.
@@ -60,6 +65,17 @@ public interface Section {
 	 */
 	@NotNull Optional<String> get(@NotNull CharSequence key);
 
+	/**
+	 * Returns the content of the selected entry exactly as it is stored, without resolving its references.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 * @see Interpolator
+	 */
+	default @NotNull Optional<String> getRaw(@NotNull CharSequence key) {
+		return get(key);
+	}
+
 	/**
 	 * Returns the current content of the selected entry.
 	 *
@@ -195,6 +211,115 @@ public interface Section {
 		return getAsNumber(key).orElse(defaultValue);
 	}
 
+	/**
+	 * Returns the current content of the selected entry as exact integer value.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or is not a valid integer
+	 * @see NumberConverter#toLong(CharSequence)
+	 */
+	default @NotNull Optional<Long> getAsLong(@NotNull CharSequence key) {
+		return get(key).flatMap(NumberConverter::toLong);
+	}
+
+	/**
+	 * Returns the current content of the selected entry as exact integer value.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or is not a valid integer
+	 * @see NumberConverter#toInt(CharSequence)
+	 */
+	default @NotNull Optional<Integer> getAsInteger(@NotNull CharSequence key) {
+		return get(key).flatMap(NumberConverter::toInt);
+	}
+
+	/**
+	 * Returns the current content of the selected entry without boxing the value.
+	 *
+	 * @param key          the entry name
+	 * @param defaultValue a default value if the entry does not exist or is not a valid integer
+	 * @return the current content or {@code defaultValue} if entry does not exist
+	 * @see NumberConverter#parseLong(CharSequence, long)
+	 */
+	default long getAsLongOrDefault(@NotNull CharSequence key, long defaultValue) {
+		Optional<String> content = get(key);
+		return content.isPresent() ? NumberConverter.parseLong(content.get(), defaultValue):defaultValue;
+	}
+
+	/**
+	 * Returns the current content of the selected entry without boxing the value.
+	 *
+	 * @param key          the entry name
+	 * @param defaultValue a default value if the entry does not exist or is not a valid integer
+	 * @return the current content or {@code defaultValue} if entry does not exist
+	 * @see NumberConverter#parseInt(CharSequence, int)
+	 */
+	default int getAsIntOrDefault(@NotNull CharSequence key, int defaultValue) {
+		Optional<String> content = get(key);
+		return content.isPresent() ? NumberConverter.parseInt(content.get(), defaultValue):defaultValue;
+	}
+
+	/**
+	 * Returns the current content of the selected entry converted to the given type.
+	 * The converter is searched in the {@link ConverterRegistry#getDefault() default registry}.
+	 *
+	 * @param key  the entry name
+	 * @param type the target type
+	 * @param <T>  generic target type
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or is not a valid value
+	 * @throws IllegalArgumentException if the type has no converter
+	 */
+	default <T> @NotNull Optional<T> get(@NotNull CharSequence key, @NotNull Class<T> type) {
+		return get(key, type, ConverterRegistry.getDefault());
+	}
+
+	/**
+	 * Returns the current content of the selected entry converted to the given type.
+	 *
+	 * @param key      the entry name
+	 * @param type     the target type
+	 * @param registry the registry used to search the converter
+	 * @param <T>      generic target type
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or is not a valid value
+	 * @throws IllegalArgumentException if the type has no converter
+	 */
+	default <T> @NotNull Optional<T> get(@NotNull CharSequence key, @NotNull Class<T> type, @NotNull ConverterRegistry registry) {
+		ValueConverter<T> converter = registry.find(type);
+		Optional<String> content = get(key);
+		return content.isPresent() ? Optional.ofNullable(converter.convert(content.get())):Optional.empty();
+	}
+
+	/**
+	 * Returns the current content of the selected entry converted to the given type.
+	 *
+	 * @param key          the entry name
+	 * @param type         the target type
+	 * @param defaultValue a default value if the entry does not exist or is not a valid value
+	 * @param <T>          generic target type
+	 * @return the current content or {@code defaultValue} if entry does not exist
+	 * @throws IllegalArgumentException if the type has no converter
+	 */
+	default <T> T getOrDefault(@NotNull CharSequence key, @NotNull Class<T> type, T defaultValue) {
+		ValueConverter<T> converter = ConverterRegistry.getDefault().find(type);
+		Optional<String> content = get(key);
+		T result = content.isPresent() ? converter.convert(content.get()):null;
+		return result != null ? result:defaultValue;
+	}
+
+	/**
+	 * Generates a new object with the content of the section.
+	 *
+	 * @param type the object class
+	 * @param <T>  generic object type
+	 * @return a new object with the section content
+	 * @throws IllegalArgumentException if a field type has no converter
+	 * @throws IllegalStateException    if the class does not have an accessible no-arg constructor
+	 * @see SectionBinder
+	 */
+	default <T> @NotNull T bind(@NotNull Class<T> type) {
+		return SectionBinder.of(type).read(this);
+	}
+
 	/**
 	 * Returns the current content of the selected entry.
 	 *
@@ -237,4 +362,71 @@ public interface Section {
 		return getAsSet(key, ",");
 	}
 
+
+	/**
+	 * Returns the current content as int array of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the element separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or any element is not a valid integer
+	 * @see CollectionConverter#toIntArray(CharSequence, String)
+	 */
+	default @NotNull Optional<int[]> getAsIntArray(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		return get(key).flatMap(it -> CollectionConverter.toIntArray(it, regex));
+	}
+
+	/**
+	 * Returns the current content as int array of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or any element is not a valid integer
+	 */
+	default @NotNull Optional<int[]> getAsIntArray(@NotNull CharSequence key) {
+		return getAsIntArray(key, ",");
+	}
+
+	/**
+	 * Returns the current content as long array of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the element separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or any element is not a valid integer
+	 * @see CollectionConverter#toLongArray(CharSequence, String)
+	 */
+	default @NotNull Optional<long[]> getAsLongArray(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		return get(key).flatMap(it -> CollectionConverter.toLongArray(it, regex));
+	}
+
+	/**
+	 * Returns the current content as long array of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or any element is not a valid integer
+	 */
+	default @NotNull Optional<long[]> getAsLongArray(@NotNull CharSequence key) {
+		return getAsLongArray(key, ",");
+	}
+
+	/**
+	 * Returns the current content as double array of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the element separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or any element is not a valid number
+	 * @see CollectionConverter#toDoubleArray(CharSequence, String)
+	 */
+	default @NotNull Optional<double[]> getAsDoubleArray(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		return get(key).flatMap(it -> CollectionConverter.toDoubleArray(it, regex));
+	}
+
+	/**
+	 * Returns the current content as double array of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or any element is not a valid number
+	 */
+	default @NotNull Optional<double[]> getAsDoubleArray(@NotNull CharSequence key) {
+		return getAsDoubleArray(key, ",");
+	}
+
 }
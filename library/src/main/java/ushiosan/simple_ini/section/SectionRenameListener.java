@@ -0,0 +1,24 @@
+package ushiosan.simple_ini.section;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener notified each time a section is renamed.
+ * <p>
+ * The objects that index the sections by name use this listener to update the index
+ * when the section changes, so the lookups never need to check the names again.
+ *
+ * @see AbstractSection#setRenameListener(SectionRenameListener)
+ */
+@FunctionalInterface
+public interface SectionRenameListener {
+
+	/**
+	 * Method called after the section name changes
+	 *
+	 * @param section      the renamed section
+	 * @param previousName the previous section name
+	 */
+	void onRename(@NotNull Section section, @NotNull String previousName);
+
+}
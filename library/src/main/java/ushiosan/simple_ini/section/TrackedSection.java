@@ -0,0 +1,450 @@
+package ushiosan.simple_ini.section;
+
+import org.intellij.lang.annotations.RegExp;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.collection.elements.Pair;
+import ushiosan.simple_ini.AccessStats;
+import ushiosan.simple_ini.conversion.ConverterRegistry;
+
+/**
+ * {@link Section} decorator that counts the entry accesses.
+ * <p>
+ * The plain reads ({@link #get(CharSequence)}) and the reads with type conversion ({@code getAs*} methods)
+ * are counted separately. All other operations are delegated without changes.
+ *
+ * @see AccessStats#track(Section)
+ */
+public final class TrackedSection implements Section {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Decorated section
+	 */
+	private final Section delegate;
+
+	/**
+	 * Access counters
+	 */
+	private final AccessStats stats;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param delegate the decorated section
+	 * @param stats    the access counters
+	 */
+	public TrackedSection(@NotNull Section delegate, @NotNull AccessStats stats) {
+		this.delegate = delegate;
+		this.stats = stats;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the decorated section
+	 *
+	 * @return the decorated section
+	 */
+	public @NotNull Section getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Returns the access counters
+	 *
+	 * @return the access counters
+	 */
+	public @NotNull AccessStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * Returns the section name
+	 *
+	 * @return the section name
+	 */
+	@Override
+	public @NotNull String getName() {
+		return delegate.getName();
+	}
+
+	/**
+	 * Returns the default section to search for if it does not exist in the current section.
+	 *
+	 * @return the default section or {@link Optional#empty()} if not defined
+	 */
+	@Override
+	public @NotNull Optional<Section> getDefaultSection() {
+		return delegate.getDefaultSection();
+	}
+
+	/**
+	 * Returns size of entries that the current session has
+	 *
+	 * @return the size of entries
+	 */
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	/**
+	 * Returns {@code true} if section is empty
+	 *
+	 * @return {@code true} if section is empty or {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	/**
+	 * Check if the section contains the selected entry
+	 *
+	 * @param key the entry name
+	 * @return {@code true} if entry exists or {@code false} otherwise
+	 */
+	@Override
+	public boolean containsKey(@NotNull CharSequence key) {
+		return delegate.containsKey(key);
+	}
+
+	/**
+	 * Returns the current content of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<String> get(@NotNull CharSequence key) {
+		Optional<String> result = delegate.get(key);
+		stats.record(delegate.getName(), key, false, result.isPresent());
+		return result;
+	}
+
+	/**
+	 * Returns the content of the selected entry exactly as it is stored, without resolving its references.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<String> getRaw(@NotNull CharSequence key) {
+		Optional<String> result = delegate.getRaw(key);
+		stats.record(delegate.getName(), key, false, result.isPresent());
+		return result;
+	}
+
+	/**
+	 * Returns the current content of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<Number> getAsNumber(@NotNull CharSequence key) {
+		recordConversion(key);
+		return delegate.getAsNumber(key);
+	}
+
+	/**
+	 * Returns the current content of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<Boolean> getAsBoolean(@NotNull CharSequence key) {
+		recordConversion(key);
+		return delegate.getAsBoolean(key);
+	}
+
+	/**
+	 * Returns the current content as {@link List} of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the content separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull List<String> getAsList(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		recordConversion(key);
+		return delegate.getAsList(key, regex);
+	}
+
+	/**
+	 * Returns the current content as {@link Set} of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the content separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Set<String> getAsSet(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		recordConversion(key);
+		return delegate.getAsSet(key, regex);
+	}
+
+	/**
+	 * Returns the current content of the selected entry as long value.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or is not a valid number
+	 */
+	@Override
+	public @NotNull Optional<Long> getAsLong(@NotNull CharSequence key) {
+		recordConversion(key);
+		return delegate.getAsLong(key);
+	}
+
+	/**
+	 * Returns the current content of the selected entry as int value.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or is not a valid number
+	 */
+	@Override
+	public @NotNull Optional<Integer> getAsInteger(@NotNull CharSequence key) {
+		recordConversion(key);
+		return delegate.getAsInteger(key);
+	}
+
+	/**
+	 * Returns the current content of the selected entry as long value.
+	 *
+	 * @param key          the entry name
+	 * @param defaultValue the value used if the entry does not exist or is not a valid number
+	 * @return the entry content or {@code defaultValue}
+	 */
+	@Override
+	public long getAsLongOrDefault(@NotNull CharSequence key, long defaultValue) {
+		recordConversion(key);
+		return delegate.getAsLongOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Returns the current content of the selected entry as int value.
+	 *
+	 * @param key          the entry name
+	 * @param defaultValue the value used if the entry does not exist or is not a valid number
+	 * @return the entry content or {@code defaultValue}
+	 */
+	@Override
+	public int getAsIntOrDefault(@NotNull CharSequence key, int defaultValue) {
+		recordConversion(key);
+		return delegate.getAsIntOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Returns the current content of the selected entry converted to the given type.
+	 *
+	 * @param key      the entry name
+	 * @param type     the target type
+	 * @param registry the registry used to find the converter
+	 * @param <T>      the target type
+	 * @return the converted content or {@link Optional#empty()} if entry not exists or cannot be converted
+	 */
+	@Override
+	public <T> @NotNull Optional<T> get(@NotNull CharSequence key, @NotNull Class<T> type, @NotNull ConverterRegistry registry) {
+		recordConversion(key);
+		return delegate.get(key, type, registry);
+	}
+
+	/**
+	 * Returns the current content of the selected entry converted to the given type.
+	 *
+	 * @param key          the entry name
+	 * @param type         the target type
+	 * @param defaultValue the value used if the entry does not exist or cannot be converted
+	 * @param <T>          the target type
+	 * @return the converted content or {@code defaultValue}
+	 */
+	@Override
+	public <T> T getOrDefault(@NotNull CharSequence key, @NotNull Class<T> type, T defaultValue) {
+		recordConversion(key);
+		return delegate.getOrDefault(key, type, defaultValue);
+	}
+
+	/**
+	 * Returns the current content as int array of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the content separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or contains invalid numbers
+	 */
+	@Override
+	public @NotNull Optional<int[]> getAsIntArray(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		recordConversion(key);
+		return delegate.getAsIntArray(key, regex);
+	}
+
+	/**
+	 * Returns the current content as long array of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the content separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or contains invalid numbers
+	 */
+	@Override
+	public @NotNull Optional<long[]> getAsLongArray(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		recordConversion(key);
+		return delegate.getAsLongArray(key, regex);
+	}
+
+	/**
+	 * Returns the current content as double array of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the content separator
+	 * @return the entry content or {@link Optional#empty()} if entry not exists or contains invalid numbers
+	 */
+	@Override
+	public @NotNull Optional<double[]> getAsDoubleArray(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		recordConversion(key);
+		return delegate.getAsDoubleArray(key, regex);
+	}
+
+	/**
+	 * Returns all entry names
+	 *
+	 * @return all entry names
+	 */
+	@Override
+	public @NotNull Set<String> keys() {
+		return delegate.keys();
+	}
+
+	/**
+	 * Returns all entry values
+	 *
+	 * @return all entry values
+	 */
+	@Override
+	public @NotNull Set<String> values() {
+		return delegate.values();
+	}
+
+	/**
+	 * Returns all section entries
+	 *
+	 * @return all section entries
+	 */
+	@Override
+	public @NotNull Set<Pair<String, String>> pairSet() {
+		return delegate.pairSet();
+	}
+
+	/**
+	 * Change the section name
+	 *
+	 * @param newName the new section name
+	 */
+	@Override
+	public void setName(@NotNull CharSequence newName) {
+		delegate.setName(newName);
+	}
+
+	/**
+	 * Insert a new entry in the section.
+	 *
+	 * @param key   the entry name
+	 * @param value the entry value
+	 * @return the last value of the entry if it already existed or {@link Optional#empty()} otherwise.
+	 */
+	@Override
+	public @NotNull Optional<String> put(@NotNull CharSequence key, @Nullable CharSequence value) {
+		return delegate.put(key, value);
+	}
+
+	/**
+	 * Insert a multiple entries in the section.
+	 *
+	 * @param elements all elements to insert
+	 */
+	@Override
+	public void putAll(@NotNull Collection<Pair<String, String>> elements) {
+		delegate.putAll(elements);
+	}
+
+	/**
+	 * Insert a multiple entries in the section.
+	 *
+	 * @param elements all elements to insert
+	 */
+	@SafeVarargs
+	@Override
+	public final void putAll(Pair<String, String> @NotNull ... elements) {
+		delegate.putAll(elements);
+	}
+
+	/**
+	 * Remove a section entry
+	 *
+	 * @param key the entry to remove
+	 * @return the last value of the entry if it already existed {@link Optional#empty()} otherwise.
+	 */
+	@Override
+	public Optional<String> remove(@NotNull CharSequence key) {
+		return delegate.remove(key);
+	}
+
+	/**
+	 * Remove all section entries
+	 */
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	/**
+	 * Set a default session
+	 *
+	 * @param section the default section object
+	 * @return the last default section or {@link Optional#empty()} otherwise.
+	 */
+	@Override
+	public @NotNull Optional<Section> setDefaultSection(@Nullable Section section) {
+		return delegate.setDefaultSection(section);
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Register a read with type conversion
+	 *
+	 * @param key the entry name
+	 */
+	private void recordConversion(@NotNull CharSequence key) {
+		stats.record(delegate.getName(), key, true, delegate.containsKey(key));
+	}
+
+}
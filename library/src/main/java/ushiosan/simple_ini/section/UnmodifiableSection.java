@@ -0,0 +1,352 @@
+package ushiosan.simple_ini.section;
+
+import org.intellij.lang.annotations.RegExp;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import ushiosan.jvm_utilities.lang.Obj;
+import ushiosan.jvm_utilities.lang.collection.elements.Pair;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+/**
+ * {@link Section} decorator that only allows read operations.
+ * <p>
+ * All modification methods throw an {@link UnsupportedOperationException}. The default section
+ * is also returned as a read-only section. The {@link SectionAdvanced} sections are decorated with
+ * {@link UnmodifiableSectionAdvanced} objects, so their attributes can be read.
+ */
+public class UnmodifiableSection implements Section {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Decorated section
+	 */
+	private final Section delegate;
+
+	/**
+	 * Read-only default section or {@code null} if the section has no default section
+	 */
+	private final @Nullable Section defaultSection;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param delegate       the decorated section
+	 * @param defaultSection the read-only default section or {@code null} if the section has no default section
+	 */
+	UnmodifiableSection(@NotNull Section delegate, @Nullable Section defaultSection) {
+		this.delegate = delegate;
+		this.defaultSection = defaultSection;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the section name
+	 *
+	 * @return the section name
+	 */
+	@Override
+	public @NotNull String getName() {
+		return delegate.getName();
+	}
+
+	/**
+	 * Returns the read-only default section
+	 *
+	 * @return the default section or {@link Optional#empty()} if not defined
+	 */
+	@Override
+	public @NotNull Optional<Section> getDefaultSection() {
+		return Optional.ofNullable(defaultSection);
+	}
+
+	/**
+	 * Returns size of entries that the current session has
+	 *
+	 * @return the size of entries
+	 */
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	/**
+	 * Determines if the current session does not contain any entries.
+	 *
+	 * @return {@code true} if the section is empty or {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	/**
+	 * Method to check if an entry exists or not.
+	 *
+	 * @param key the entry name
+	 * @return {@code true} if the entry exists or {@code false} otherwise
+	 */
+	@Override
+	public boolean containsKey(@NotNull CharSequence key) {
+		return delegate.containsKey(key);
+	}
+
+	/**
+	 * Returns the current content of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<String> get(@NotNull CharSequence key) {
+		return delegate.get(key);
+	}
+
+	/**
+	 * Returns the content of the selected entry exactly as it is stored.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<String> getRaw(@NotNull CharSequence key) {
+		return delegate.getRaw(key);
+	}
+
+	/**
+	 * Returns the current content of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<Number> getAsNumber(@NotNull CharSequence key) {
+		return delegate.getAsNumber(key);
+	}
+
+	/**
+	 * Returns the current content of the selected entry.
+	 *
+	 * @param key the entry name
+	 * @return the entry content or {@link Optional#empty()} if entry not exists
+	 */
+	@Override
+	public @NotNull Optional<Boolean> getAsBoolean(@NotNull CharSequence key) {
+		return delegate.getAsBoolean(key);
+	}
+
+	/**
+	 * Returns the current content as {@link List} of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the content separator
+	 * @return the entry content
+	 */
+	@Override
+	public @NotNull List<String> getAsList(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		return delegate.getAsList(key, regex);
+	}
+
+	/**
+	 * Returns the current content as {@link Set} of the selected entry.
+	 *
+	 * @param key   the entry name
+	 * @param regex the content separator
+	 * @return the entry content
+	 */
+	@Override
+	public @NotNull Set<String> getAsSet(@NotNull CharSequence key, @NotNull @RegExp String regex) {
+		return delegate.getAsSet(key, regex);
+	}
+
+	/**
+	 * Returns all entry names in the current section.
+	 *
+	 * @return a read-only {@link Set} with all entry names
+	 */
+	@Override
+	public @NotNull Set<String> keys() {
+		return Collections.unmodifiableSet(delegate.keys());
+	}
+
+	/**
+	 * Returns all entry values in the current section.
+	 *
+	 * @return a read-only {@link Set} with all entry values
+	 */
+	@Override
+	public @NotNull Set<String> values() {
+		return Collections.unmodifiableSet(delegate.values());
+	}
+
+	/**
+	 * Returns all entries in the current section.
+	 *
+	 * @return a read-only {@link Set} with all entries
+	 */
+	@Override
+	public @NotNull Set<Pair<String, String>> pairSet() {
+		return Collections.unmodifiableSet(delegate.pairSet());
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param newName the new section name
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public void setName(@NotNull CharSequence newName) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param key   the entry name
+	 * @param value the entry value
+	 * @return never returns
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public @NotNull Optional<String> put(@NotNull CharSequence key, @Nullable CharSequence value) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param elements all elements to insert
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public void putAll(@NotNull Collection<Pair<String, String>> elements) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param elements all elements to insert
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@SafeVarargs
+	@Override
+	public final void putAll(Pair<String, String> @NotNull ... elements) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param key the entry to remove
+	 * @return never returns
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public Optional<String> remove(@NotNull CharSequence key) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public void clear() {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param section the default section object
+	 * @return never returns
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public @NotNull Optional<Section> setDefaultSection(@Nullable Section section) {
+		throw unsupported();
+	}
+
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Obj.toInstanceString(this);
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns a read-only view of the section
+	 *
+	 * @param section the section to decorate
+	 * @return the read-only section
+	 */
+	public static @NotNull Section of(@NotNull Section section) {
+		if (section instanceof UnmodifiableSection) return section;
+		return create(section, section.getDefaultSection().map(UnmodifiableSection::of).orElse(null));
+	}
+
+	/**
+	 * Returns a read-only view of the section that uses the given read-only default section.
+	 * The default section is shared instead of being decorated again.
+	 *
+	 * @param section        the section to decorate
+	 * @param defaultSection the read-only default section
+	 * @return the read-only section
+	 */
+	public static @NotNull Section of(@NotNull Section section, @NotNull Section defaultSection) {
+		return section instanceof UnmodifiableSection ? section:create(section, defaultSection);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Creates the read-only view of the section. The advanced sections keep their attributes.
+	 *
+	 * @param section        the section to decorate
+	 * @param defaultSection the read-only default section or {@code null} if the section has no default section
+	 * @return the read-only section
+	 */
+	private static @NotNull Section create(@NotNull Section section, @Nullable Section defaultSection) {
+		return section instanceof SectionAdvanced ?
+			new UnmodifiableSectionAdvanced((SectionAdvanced) section, defaultSection):
+			new UnmodifiableSection(section, defaultSection);
+	}
+
+	/**
+	 * Creates the modification error
+	 *
+	 * @return the modification error
+	 */
+	static @NotNull UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("Read-only section");
+	}
+
+}
@@ -0,0 +1,138 @@
+package ushiosan.simple_ini.section;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+import ushiosan.jvm_utilities.lang.collection.elements.Pair;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+import ushiosan.simple_ini.section.advanced.SectionAttributes;
+
+/**
+ * {@link SectionAdvanced} decorator that only allows read operations.
+ * <p>
+ * All modification methods throw an {@link UnsupportedOperationException}. The attributes
+ * are also returned as a read-only section.
+ *
+ * @see UnmodifiableSection#of(Section)
+ */
+public final class UnmodifiableSectionAdvanced extends UnmodifiableSection implements SectionAdvanced {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Read-only section attributes
+	 */
+	private final SectionAttributes attributes;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param delegate       the decorated section
+	 * @param defaultSection the read-only default section or {@code null} if the section has no default section
+	 */
+	UnmodifiableSectionAdvanced(@NotNull SectionAdvanced delegate, @Nullable Section defaultSection) {
+		super(delegate, defaultSection);
+		this.attributes = new Attributes(delegate.getAttributes());
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the read-only attributes of the section.
+	 *
+	 * @return the attributes as key value
+	 */
+	@Override
+	public @NotNull SectionAttributes getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param key   the attribute name
+	 * @param value the attribute value
+	 * @return never returns
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public @NotNull Optional<String> setAttribute(@NotNull CharSequence key, @Nullable CharSequence value) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param attributes the attributes to insert
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public void setAttributes(@NotNull SectionAttributes attributes) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param attributes the attributes to insert
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@SafeVarargs
+	@Override
+	public final void setAttributes(Pair<String, String> @NotNull ... attributes) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @param key the attribute to remove
+	 * @return never returns
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public Optional<String> removeAttribute(@NotNull CharSequence key) {
+		throw unsupported();
+	}
+
+	/**
+	 * Unsupported operation
+	 *
+	 * @throws UnsupportedOperationException the section cannot be modified
+	 */
+	@Override
+	public void clearAttributes() {
+		throw unsupported();
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * {@link SectionAttributes} decorator that only allows read operations
+	 */
+	private static final class Attributes extends UnmodifiableSection implements SectionAttributes {
+
+		/**
+		 * Default constructor
+		 *
+		 * @param delegate the decorated attributes
+		 */
+		Attributes(@NotNull SectionAttributes delegate) {
+			super(delegate, null);
+		}
+
+	}
+
+}
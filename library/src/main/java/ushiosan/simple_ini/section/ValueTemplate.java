@@ -0,0 +1,226 @@
+package ushiosan.simple_ini.section;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry value compiled into text fragments and references.
+ * <p>
+ * Supported references:
+ * <ul>
+ *     <li>{@code ${key}}: entry of the same section (or the default section)</li>
+ *     <li>{@code ${section.key}}: entry of another section</li>
+ *     <li>{@code ${env:NAME}}: environment variable</li>
+ * </ul>
+ * The sequence <code>$${</code> is written as the literal text <code>${</code>.
+ */
+final class ValueTemplate {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Reference start sequence
+	 */
+	private static final String REFERENCE_START = "${";
+
+	/**
+	 * Reference end character
+	 */
+	private static final char REFERENCE_END = '}';
+
+	/**
+	 * Environment reference prefix
+	 */
+	private static final String ENVIRONMENT_PREFIX = "env:";
+
+	/**
+	 * Section and key separator
+	 */
+	private static final char SECTION_SEPARATOR = '.';
+
+	/**
+	 * Text fragments. There is always one more fragment than references
+	 */
+	private final String[] fragments;
+
+	/**
+	 * Template references
+	 */
+	private final Reference[] references;
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param fragments  the text fragments
+	 * @param references the template references
+	 */
+	private ValueTemplate(String @NotNull [] fragments, Reference @NotNull [] references) {
+		this.fragments = fragments;
+		this.references = references;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the number of references
+	 *
+	 * @return the number of references
+	 */
+	int size() {
+		return references.length;
+	}
+
+	/**
+	 * Returns the text fragment at the given position
+	 *
+	 * @param index the fragment position
+	 * @return the text fragment
+	 */
+	@NotNull String getFragment(int index) {
+		return fragments[index];
+	}
+
+	/**
+	 * Returns the reference at the given position
+	 *
+	 * @param index the reference position
+	 * @return the template reference
+	 */
+	@NotNull Reference getReference(int index) {
+		return references[index];
+	}
+
+	/* -----------------------------------------------------
+	 * Static methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Check if the content can contain references
+	 *
+	 * @param content the content to check
+	 * @return {@code true} if the content contains the reference start sequence or {@code false} otherwise
+	 */
+	static boolean isTemplate(@NotNull String content) {
+		return content.contains(REFERENCE_START);
+	}
+
+	/**
+	 * Compile the content into a template
+	 *
+	 * @param content the content to compile
+	 * @return the compiled template or {@code null} if the content does not have references
+	 */
+	static @Nullable ValueTemplate compile(@NotNull String content) {
+		if (!isTemplate(content)) return null;
+		// Temporal variables
+		List<String> fragments = new ArrayList<>();
+		List<Reference> references = new ArrayList<>();
+		StringBuilder fragment = new StringBuilder(content.length());
+		int position = 0;
+		int start;
+
+		while ((start = content.indexOf(REFERENCE_START, position)) != -1) {
+			// Escaped sequence
+			if (start > 0 && content.charAt(start - 1) == '$') {
+				fragment.append(content, position, start - 1).append(REFERENCE_START);
+				position = start + REFERENCE_START.length();
+				continue;
+			}
+			int end = content.indexOf(REFERENCE_END, start);
+			if (end == -1) break;
+			// Invalid references are kept as text
+			Reference reference = Reference.parse(content.substring(start, end + 1),
+				content.substring(start + REFERENCE_START.length(), end).trim());
+			fragment.append(content, position, start);
+			if (reference == null) {
+				fragment.append(content, start, end + 1);
+			} else {
+				fragments.add(fragment.toString());
+				references.add(reference);
+				fragment.setLength(0);
+			}
+			position = end + 1;
+		}
+		fragment.append(content, position, content.length());
+		fragments.add(fragment.toString());
+		return new ValueTemplate(fragments.toArray(new String[0]), references.toArray(new Reference[0]));
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Template reference
+	 */
+	static final class Reference {
+
+		/**
+		 * Original reference text
+		 */
+		final String source;
+
+		/**
+		 * Referenced section or {@code null} if the reference uses the current section
+		 */
+		final @Nullable String section;
+
+		/**
+		 * Referenced entry or environment variable name
+		 */
+		final String name;
+
+		/**
+		 * Determines if the reference is an environment variable
+		 */
+		final boolean environment;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param source      the original reference text
+		 * @param section     the referenced section
+		 * @param name        the referenced name
+		 * @param environment determines if the reference is an environment variable
+		 */
+		private Reference(@NotNull String source, @Nullable String section, @NotNull String name, boolean environment) {
+			this.source = source;
+			this.section = section;
+			this.name = name;
+			this.environment = environment;
+		}
+
+		/**
+		 * Parse the reference content
+		 *
+		 * @param source  the original reference text
+		 * @param content the reference content (without wrappers)
+		 * @return the parsed reference or {@code null} if the content is not valid
+		 */
+		static @Nullable Reference parse(@NotNull String source, @NotNull String content) {
+			if (content.startsWith(ENVIRONMENT_PREFIX)) {
+				String name = content.substring(ENVIRONMENT_PREFIX.length()).trim();
+				return name.isEmpty() ? null:new Reference(source, null, name, true);
+			}
+			// Entry names cannot contain dots, so the last dot always separates the section name
+			int separator = content.lastIndexOf(SECTION_SEPARATOR);
+			String section = separator == -1 ? null:content.substring(0, separator).trim();
+			String name = content.substring(separator + 1).trim();
+			if (name.isEmpty() || (section != null && section.isEmpty())) return null;
+			return new Reference(source, section, name, false);
+		}
+
+	}
+
+}
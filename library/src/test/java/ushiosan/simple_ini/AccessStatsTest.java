@@ -0,0 +1,50 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import ushiosan.simple_ini.section.Section;
+
+public class AccessStatsTest {
+
+	@Test
+	public void trackingTest() throws IOException {
+		String content = "global = 1\n[server]\nhost = localhost\nport = 8080\ndebug = true\nunused = x\n";
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+		AccessStats stats = new AccessStats();
+		Ini<Section> tracked = stats.track(ini);
+		Section server = tracked.getSection("server").orElseThrow();
+		for (int i = 0; i < 10; i++) {
+			server.get("host");
+		}
+		Assert.assertEquals(8080, server.getAsIntOrDefault("port", 0));
+		Assert.assertEquals(8080L, (long) server.getAsLong("port").orElseThrow());
+		Assert.assertTrue(server.getAsBooleanOrDefault("debug", false));
+		Assert.assertTrue(server.get("missing").isEmpty());
+
+		Assert.assertEquals(10, stats.get("server", "host").getReads());
+		Assert.assertEquals(0, stats.get("server", "host").getConversions());
+		Assert.assertEquals(2, stats.get("server", "port").getConversions());
+		Assert.assertEquals(0, stats.get("server", "port").getReads());
+		Assert.assertEquals(1, stats.get("server", "debug").getConversions());
+		Assert.assertEquals(1, stats.get("server", "missing").getMisses());
+
+		List<AccessStats.KeyStats> ranking = stats.ranking();
+		Assert.assertEquals("host", ranking.get(0).getKey());
+		Assert.assertEquals("port", ranking.get(1).getKey());
+		Assert.assertEquals(List.of(SimpleIni.DEFAULT_NAME + ".global", "server.unused"), stats.unusedKeys(ini));
+
+		StringBuilder report = new StringBuilder();
+		stats.report(report, 3);
+		System.out.print(report);
+		Assert.assertEquals(4, report.toString().lines().count());
+	}
+
+}
\ No newline at end of file
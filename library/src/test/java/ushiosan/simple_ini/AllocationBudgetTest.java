@@ -0,0 +1,151 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import ushiosan.simple_ini.section.Section;
+
+/**
+ * Allocation budgets of the main operations. The budgets are stored in the
+ * {@code allocation_budgets.properties} resource and must only be increased on purpose.
+ */
+public class AllocationBudgetTest {
+
+	private static final int SECTIONS = 50;
+
+	private static final int ENTRIES_PER_SECTION = 20;
+
+	private static final int LINES = SECTIONS * (ENTRIES_PER_SECTION + 1);
+
+	private static final int ROUNDS = 5;
+
+	private static final byte[] CONTENT = generateContent();
+
+	private static final Properties BUDGETS = loadBudgets();
+
+	@Test
+	public void loadBudgetTest() {
+		double perLine = measure(20, AllocationBudgetTest::load) / LINES;
+		checkBudget("load.line", perLine);
+	}
+
+	@Test
+	public void lookupBudgetTest() throws IOException {
+		SimpleIni<Section> ini = load();
+		Section section = ini.getSection("section_10").orElseThrow();
+
+		checkBudget("lookup.string", measure(10_000, () -> section.get("text_3")));
+		checkBudget("lookup.number", measure(10_000, () -> section.getAsNumber("count_1")));
+		checkBudget("lookup.boolean", measure(10_000, () -> section.getAsBoolean("flag_2")));
+	}
+
+	@Test
+	public void storeBudgetTest() throws IOException {
+		SimpleIni<Section> ini = load();
+		ini.setOptions(IniOptions.createBuilder()
+			.setTimestampHeader(false)
+			.build());
+		double perEntry = measure(20, () -> store(ini)) / (SECTIONS * ENTRIES_PER_SECTION);
+		checkBudget("store.entry", perEntry);
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	private static void checkBudget(String name, double allocated) {
+		String budget = BUDGETS.getProperty(name);
+		Assert.assertNotNull("Missing budget: " + name, budget);
+
+		System.out.printf("%s: %.1f bytes (budget %s)\n", name, allocated, budget);
+		Assert.assertTrue(String.format("%s allocates %.1f bytes, budget is %s bytes", name, allocated, budget),
+			allocated <= Double.parseDouble(budget));
+	}
+
+	/**
+	 * Returns the number of bytes allocated by each execution of the action in the current thread.
+	 * The best round is used and the first round is discarded to warm up the code.
+	 */
+	private static double measure(int iterations, Runnable action) {
+		Assume.assumeTrue("Thread allocation measurement is not supported",
+			ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue("Thread allocation measurement is disabled", bean.isThreadAllocatedMemoryEnabled());
+		long thread = Thread.currentThread().getId();
+		long result = Long.MAX_VALUE;
+
+		for (int round = 0; round <= ROUNDS; round++) {
+			long start = bean.getThreadAllocatedBytes(thread);
+			for (int i = 0; i < iterations; i++) {
+				action.run();
+			}
+			long allocated = bean.getThreadAllocatedBytes(thread) - start;
+			if (round > 0) result = Math.min(result, allocated);
+		}
+		return result / (double) iterations;
+	}
+
+	private static SimpleIni<Section> load() {
+		try (InputStream stream = new ByteArrayInputStream(CONTENT)) {
+			SimpleIni<Section> ini = new SimpleIni<>();
+			ini.load(stream);
+			return ini;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void store(Ini<?> ini) {
+		try {
+			ini.store(Writer.nullWriter());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] generateContent() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < SECTIONS; i++) {
+			builder.append("[section_").append(i).append("]\n");
+			for (int j = 0; j < ENTRIES_PER_SECTION; j++) {
+				switch (j % 4) {
+					case 0:
+						builder.append("text_").append(j).append(" = some value ").append(i * j).append('\n');
+						break;
+					case 1:
+						builder.append("count_").append(j).append(" = ").append(i * j).append('\n');
+						break;
+					case 2:
+						builder.append("flag_").append(j).append(" = ").append(j % 3 == 0).append('\n');
+						break;
+					default:
+						builder.append("text_").append(j).append(" = \"quoted value\"\n");
+						break;
+				}
+			}
+		}
+		return builder.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static Properties loadBudgets() {
+		Properties result = new Properties();
+		try (InputStream stream = ClassLoader.getSystemResourceAsStream("allocation_budgets.properties")) {
+			Assert.assertNotNull(stream);
+			result.load(stream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result;
+	}
+
+}
\ No newline at end of file
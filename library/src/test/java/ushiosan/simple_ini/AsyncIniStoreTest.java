@@ -0,0 +1,127 @@
+package ushiosan.simple_ini;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import ushiosan.simple_ini.section.Section;
+
+public class AsyncIniStoreTest {
+
+	@Test
+	public void coalesceTest() throws IOException, InterruptedException {
+		Path location = Files.createTempFile("async_store", ".ini");
+		SimpleIni<Section> ini = new SimpleIni<>();
+
+		try (AsyncIniStore store = new AsyncIniStore(ini, location, Duration.ofMillis(100))) {
+			CompletableFuture<Void> last = null;
+			for (int i = 0; i < 100; i++) {
+				synchronized (ini) {
+					ini.getDefaultSection().put("key_" + i, String.valueOf(i));
+				}
+				last = store.requestStore();
+			}
+			AsyncIniStore.await(last);
+
+			Assert.assertEquals(1, store.getStoreCount());
+			System.out.printf("Store count: %s\n", store.getStoreCount());
+		}
+
+		SimpleIni<Section> result = new SimpleIni<>();
+		result.load(location);
+		Assert.assertEquals("99", result.getDefaultSection().getOrDefault("key_99", ""));
+		Files.deleteIfExists(location);
+	}
+
+	@Test
+	public void closeFlushTest() throws IOException {
+		Path location = Files.createTempFile("async_store", ".ini");
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.getDefaultSection().put("closed", "true");
+
+		AsyncIniStore store = new AsyncIniStore(ini, location, Duration.ofMinutes(1));
+		CompletableFuture<Void> future = store.requestStore();
+		store.close();
+
+		Assert.assertTrue(future.isDone());
+		Assert.assertTrue(Files.readString(location).contains("closed = true"));
+		Files.deleteIfExists(location);
+	}
+
+	@Test
+	public void compressedStoreTest() throws IOException {
+		Path location = Files.createTempFile("async_store", ".ini.gz");
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.getDefaultSection().put("compressed", "true");
+
+		try (AsyncIniStore store = new AsyncIniStore(ini, location, Duration.ofMinutes(1))) {
+			store.requestStore();
+			store.flush();
+		}
+
+		// The file must start with the gzip magic number
+		byte[] content = Files.readAllBytes(location);
+		Assert.assertEquals((byte) 0x1f, content[0]);
+		Assert.assertEquals((byte) 0x8b, content[1]);
+
+		SimpleIni<Section> result = new SimpleIni<>();
+		result.load(location);
+		Assert.assertEquals("true", result.getDefaultSection().getOrDefault("compressed", ""));
+		Files.deleteIfExists(location);
+	}
+
+	@Test
+	public void rejectedTest() throws IOException {
+		Path location = Files.createTempFile("async_store", ".ini");
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		executor.shutdown();
+
+		try (AsyncIniStore store = new AsyncIniStore(new SimpleIni<>(), location, Duration.ofMinutes(1), executor)) {
+			try {
+				store.requestStore();
+				Assert.fail();
+			} catch (RejectedExecutionException ignored) {
+			}
+			// The rejected request is not combined with the next requests
+			Assert.assertFalse(store.isPending());
+		}
+		Files.deleteIfExists(location);
+	}
+
+	@Test
+	public void failedStoreTest() throws IOException {
+		Path location = Files.createTempFile("async_store", ".ini");
+		SimpleIni<Section> ini = new SimpleIni<>() {
+			@Override
+			public void store(@NotNull Writer writer) throws IOException {
+				writer.write("partial");
+				throw new IOException("Store error");
+			}
+		};
+
+		try (AsyncIniStore store = new AsyncIniStore(ini, location, Duration.ofMinutes(1))) {
+			CompletableFuture<Void> future = store.requestStore();
+			try {
+				store.flush();
+				Assert.fail();
+			} catch (IOException ignored) {
+			}
+			Assert.assertTrue(future.isCompletedExceptionally());
+		}
+		// The temporary file is removed and the target file is not replaced
+		Assert.assertFalse(Files.exists(location.resolveSibling(location.getFileName() + ".tmp")));
+		Assert.assertEquals(0L, Files.size(location));
+		Files.deleteIfExists(location);
+	}
+
+}
\ No newline at end of file
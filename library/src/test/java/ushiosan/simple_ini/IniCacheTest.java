@@ -0,0 +1,105 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+public class IniCacheTest {
+
+	@Test
+	public void cacheTest() throws IOException {
+		Path location = Files.createTempFile("cached_example", ".ini");
+		Files.writeString(location, "name=first\n[server]\nport=8080\n");
+		AtomicInteger parsed = new AtomicInteger();
+		IniOptions options = IniOptions.createBuilder()
+			.setLoadListener(it -> parsed.incrementAndGet())
+			.build();
+
+		Ini<Section> first = IniCache.get(location, options);
+		Ini<Section> second = IniCache.get(location.getParent().resolve(".").resolve(location.getFileName()), options);
+		Assert.assertSame(first, second);
+		Assert.assertEquals(1, parsed.get());
+		Assert.assertEquals("8080", first.getSection("server").orElseThrow().get("port").orElseThrow());
+
+		// The instances are read only
+		try {
+			first.getSection("server").orElseThrow().put("port", "0");
+			Assert.fail();
+		} catch (UnsupportedOperationException ignored) {
+		}
+		try {
+			first.remove("server");
+			Assert.fail();
+		} catch (UnsupportedOperationException ignored) {
+		}
+
+		// Modified files are parsed again
+		Files.writeString(location, "name=second\n");
+		Files.setLastModifiedTime(location, FileTime.from(Instant.now().plusSeconds(60)));
+		Ini<Section> third = IniCache.get(location, options);
+		Assert.assertNotSame(first, third);
+		Assert.assertEquals(2, parsed.get());
+		Assert.assertEquals("second", third.getDefaultSection().get("name").orElseThrow());
+
+		IniCache.invalidate(location);
+		Assert.assertNotSame(third, IniCache.get(location, options));
+	}
+
+	@Test
+	public void advancedTest() throws IOException {
+		Path location = Files.createTempFile("cached_advanced", ".ini");
+		Files.writeString(location, "[server region=\"eu\" weight=2]\nport=8080\n");
+		IniOptions options = IniOptions.createBuilder()
+			.setAdvanced(true)
+			.build();
+
+		Section section = IniCache.get(location, options).getSection("server").orElseThrow();
+		Assert.assertTrue(section instanceof SectionAdvanced);
+		SectionAdvanced advanced = (SectionAdvanced) section;
+		Assert.assertEquals("eu", advanced.getAttributes().get("region").orElseThrow());
+		Assert.assertEquals("2", advanced.getAttributes().get("weight").orElseThrow());
+
+		// The attributes are read only
+		try {
+			advanced.setAttribute("region", "us");
+			Assert.fail();
+		} catch (UnsupportedOperationException ignored) {
+		}
+		try {
+			advanced.getAttributes().put("region", "us");
+			Assert.fail();
+		} catch (UnsupportedOperationException ignored) {
+		}
+		Assert.assertEquals("eu", advanced.getAttributes().get("region").orElseThrow());
+		Files.deleteIfExists(location);
+	}
+
+	@Test
+	public void evictionTest() throws IOException {
+		int previousSize = IniCache.getMaximumSize();
+		try {
+			IniCache.clear();
+			IniCache.setMaximumSize(1);
+			Path first = Files.writeString(Files.createTempFile("evicted_first", ".ini"), "key=1\n");
+			Path second = Files.writeString(Files.createTempFile("evicted_second", ".ini"), "key=2\n");
+
+			Ini<Section> firstIni = IniCache.get(first);
+			IniCache.get(second);
+			Assert.assertEquals(1, IniCache.size());
+			// The evicted entry is still reachable, so the soft reference is used
+			Assert.assertSame(firstIni, IniCache.get(first));
+		} finally {
+			IniCache.setMaximumSize(previousSize);
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import ushiosan.simple_ini.section.Section;
+
+public class IniColumnTest {
+
+	private final ClassLoader loader = ClassLoader.getSystemClassLoader();
+
+	@Test
+	public void columnTest() throws IOException {
+		InputStream stream = loader.getResourceAsStream("advanced_example.ini");
+		Assert.assertNotNull(stream);
+
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(stream);
+
+		IniColumn.OfDouble sequential = ini.doubleColumn("margin_left", false);
+		IniColumn.OfDouble parallel = ini.doubleColumn("margin_left", true);
+
+		Assert.assertEquals(ini.size(), sequential.size());
+		Assert.assertEquals(sequential.getPresence(), parallel.getPresence());
+		Assert.assertEquals(3, sequential.presentCount());
+
+		System.out.printf("margin_left: %s\n", Arrays.toString(sequential.toPresentArray()));
+	}
+
+	@Test
+	public void longColumnTest() throws IOException {
+		InputStream stream = loader.getResourceAsStream("simple_example.ini");
+		Assert.assertNotNull(stream);
+
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(stream);
+
+		IniColumn.OfLong column = ini.longColumn("width", -1, false);
+		int index = column.indexOf("Section_1");
+
+		Assert.assertEquals(1, column.presentCount());
+		Assert.assertTrue(column.isPresent(index));
+		Assert.assertEquals(1000L, column.get(index));
+		Assert.assertEquals(-1L, column.get(column.indexOf("Section_2")));
+	}
+
+}
@@ -0,0 +1,65 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import ushiosan.simple_ini.section.Section;
+
+public class IniCompressionTest {
+
+	private final ClassLoader loader = ClassLoader.getSystemClassLoader();
+
+	@Test
+	public void extensionTest() {
+		Assert.assertEquals(IniCompression.GZIP, IniCompression.ofLocation(Path.of("config.ini.gz")));
+		Assert.assertEquals(IniCompression.DEFLATE, IniCompression.ofLocation(Path.of("config.ini.deflate")));
+		Assert.assertEquals(IniCompression.NONE, IniCompression.ofLocation(Path.of("config.ini")));
+		Assert.assertEquals(Path.of("config.ini"), IniCompression.GZIP.removeExtension(Path.of("config.ini.gz")));
+	}
+
+	@Test
+	public void compressedStoreTest() throws IOException {
+		for (IniCompression compression : IniCompression.values()) {
+			InputStream stream = loader.getResourceAsStream("simple_example.ini");
+			Assert.assertNotNull(stream);
+
+			SimpleIni<Section> ini = new SimpleIni<>();
+			ini.load(stream);
+
+			String suffix = compression == IniCompression.NONE ? ".ini":".ini." + compression.getExtension();
+			Path location = Files.createTempFile("compressed_example", suffix);
+			ini.store(location);
+
+			SimpleIni<Section> result = new SimpleIni<>();
+			result.load(location);
+
+			Assert.assertEquals(ini.size(), result.size());
+			Assert.assertEquals(
+				ini.getSectionOrDefault("Section_3").pairSet(),
+				result.getSectionOrDefault("Section_3").pairSet());
+			System.out.printf("%s size: %s bytes\n", compression, Files.size(location));
+			Files.deleteIfExists(location);
+		}
+	}
+
+	@Test
+	public void magicDetectionTest() throws IOException {
+		Path location = Files.createTempFile("magic_example", ".ini");
+		try (OutputStream stream = IniCompression.GZIP.compress(Files.newOutputStream(location))) {
+			stream.write("global = true\n".getBytes());
+		}
+
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(location);
+
+		Assert.assertEquals("true", ini.getDefaultSection().getOrDefault("global", ""));
+		Files.deleteIfExists(location);
+	}
+
+}
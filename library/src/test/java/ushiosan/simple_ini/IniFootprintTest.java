@@ -0,0 +1,46 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.SimpleSection;
+
+public class IniFootprintTest {
+
+	@Test
+	public void estimationTest() {
+		SimpleIni<Section> ini = new SimpleIni<>();
+		long empty = ini.estimateFootprint().getTotal();
+
+		SimpleSection section = new SimpleSection("server");
+		section.put("host", "localhost");
+		section.put("name", "\u670d\u52a1\u5668");
+		section.setAttribute("id", "1");
+		ini.put(section);
+
+		IniFootprint footprint = ini.estimateFootprint();
+		IniFootprint.SectionFootprint server = footprint.getSections()
+			.stream()
+			.filter(it -> it.getName().equals("server"))
+			.findFirst()
+			.orElseThrow();
+		Assert.assertTrue(footprint.getTotal() > empty);
+		Assert.assertEquals(2, server.getEntries());
+		Assert.assertTrue(server.getAttributes() > 0);
+		Assert.assertEquals(server.getTotal(), server.getObject() + server.getKeys() + server.getValues() +
+			server.getMap() + server.getAttributes());
+		// "localhost" uses 1 byte per character and the other value 2 bytes per character
+		Assert.assertEquals(IniFootprint.STRING + 32 + IniFootprint.STRING + 24, server.getValues());
+
+		// The same string instance is only counted once
+		String shared = "shared value";
+		section.put("first", shared);
+		section.put("second", shared);
+		long values = IniFootprint.estimate(section).getValues();
+		Assert.assertEquals(server.getValues() + IniFootprint.STRING + 32, values);
+
+		System.out.println(footprint);
+	}
+
+}
\ No newline at end of file
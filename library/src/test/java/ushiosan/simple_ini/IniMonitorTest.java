@@ -0,0 +1,67 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import javax.management.MBeanServer;
+
+import ushiosan.simple_ini.section.Section;
+
+public class IniMonitorTest {
+
+	private static final String CONTENT = "[server]\nhost=localhost\nport=8080\n";
+
+	@Test
+	public void monitorTest() throws Exception {
+		SimpleIni<Section> ini = new SimpleIni<>();
+		IniMonitor monitor = IniMonitor.register(ini, "monitor-test");
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			Assert.assertTrue(server.isRegistered(monitor.getObjectName()));
+
+			byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+			ini.load(new ByteArrayInputStream(content), IniOptions.DEFAULT);
+			Assert.assertEquals(2, monitor.getSectionCount());
+			Assert.assertEquals(2L, monitor.getEntryCount());
+			// The counts follow the modifications
+			ini.getSection("server").orElseThrow().put("debug", "true");
+			Assert.assertEquals(3L, monitor.getEntryCount());
+			ini.remove("server");
+			Assert.assertEquals(1, monitor.getSectionCount());
+			Assert.assertEquals(0L, monitor.getEntryCount());
+			ini.load(new ByteArrayInputStream(content), IniOptions.DEFAULT);
+			Assert.assertTrue(ini.getSection("server").isPresent());
+
+			StringWriter writer = new StringWriter();
+			ini.store(writer);
+
+			Assert.assertEquals(2L, server.getAttribute(monitor.getObjectName(), "LoadCount"));
+			Assert.assertEquals(1L, server.getAttribute(monitor.getObjectName(), "ReloadCount"));
+			Assert.assertEquals(content.length * 2L, monitor.getLoadedBytes());
+			Assert.assertTrue(monitor.getLastLoadTime() > 0L);
+			Assert.assertEquals(1L, monitor.getStoreCount());
+			Assert.assertEquals(writer.toString().length(), monitor.getStoredCharacters());
+			Assert.assertTrue(monitor.getSectionLookups() > 0L);
+			Assert.assertEquals(0L, monitor.getErrorCount());
+
+			// Duplicated names are not valid
+			try {
+				IniMonitor.register(new SimpleIni<>(), "monitor-test");
+				Assert.fail();
+			} catch (IllegalArgumentException ignored) {
+			}
+
+			server.invoke(monitor.getObjectName(), "reset", null, null);
+			Assert.assertEquals(0L, monitor.getLoadCount());
+		} finally {
+			monitor.unregister();
+		}
+		Assert.assertFalse(server.isRegistered(monitor.getObjectName()));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+public class IniSnapshotTest {
+
+	private final ClassLoader loader = ClassLoader.getSystemClassLoader();
+
+	private final IniOptions options = IniOptions
+		.createBuilder()
+		.setAdvanced(true)
+		.setMultiline(true)
+		.build();
+
+	@Test
+	public void sidecarTest() throws IOException {
+		Path directory = Files.createTempDirectory("snapshot");
+		Path location = directory.resolve("stored_example.ini");
+		try (InputStream stream = loader.getResourceAsStream("stored_example.ini")) {
+			Assert.assertNotNull(stream);
+			Files.copy(stream, location);
+		}
+
+		SimpleIni<SectionAdvanced> parsed = new SimpleIni<>();
+		Assert.assertFalse(IniSnapshot.load(parsed, location, options));
+		Assert.assertTrue(Files.exists(IniSnapshot.snapshotLocation(location)));
+
+		SimpleIni<SectionAdvanced> cached = new SimpleIni<>();
+		Assert.assertTrue(IniSnapshot.load(cached, location, options));
+		Assert.assertEquals(parsed.size(), cached.size());
+		for (SectionAdvanced section : parsed.getSections()) {
+			SectionAdvanced other = cached.getSectionOrDefault(section.getName());
+			Assert.assertEquals(section.pairSet(), other.pairSet());
+			Assert.assertEquals(section.getAttributes().pairSet(), other.getAttributes().pairSet());
+		}
+
+		// Modified files must be parsed again
+		Files.writeString(location, "\nextra = true", StandardOpenOption.APPEND);
+		SimpleIni<SectionAdvanced> modified = new SimpleIni<>();
+		Assert.assertFalse(IniSnapshot.load(modified, location, options));
+		Assert.assertEquals("true", modified.getSectionOrDefault("Section_3").getOrDefault("extra", ""));
+
+		// Different options must be parsed again
+		Assert.assertFalse(IniSnapshot.load(new SimpleIni<>(), location, IniOptions.DEFAULT));
+
+		Files.deleteIfExists(IniSnapshot.snapshotLocation(location));
+		Files.deleteIfExists(location);
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	public void corruptedTest() throws IOException {
+		Path directory = Files.createTempDirectory("snapshot");
+		Path location = Files.writeString(directory.resolve("main.ini"), "[server]\nhost=localhost\n");
+		Path snapshot = IniSnapshot.snapshotLocation(location);
+		Assert.assertFalse(IniSnapshot.load(new SimpleIni<>(), location, options));
+		byte[] content = Files.readAllBytes(snapshot);
+
+		// Truncated snapshot
+		Files.write(snapshot, Arrays.copyOf(content, content.length - 3));
+		Assert.assertFalse(IniSnapshot.load(new SimpleIni<>(), location, options));
+		// Huge string count (the count follows the header without includes)
+		ByteBuffer.wrap(content).putInt(40, Integer.MAX_VALUE);
+		Files.write(snapshot, content);
+		SimpleIni<Section> parsed = new SimpleIni<>();
+		Assert.assertFalse(IniSnapshot.load(parsed, location, options));
+		Assert.assertEquals("localhost", parsed.getSectionOrDefault("server").getOrDefault("host", ""));
+		// Negative string count
+		ByteBuffer.wrap(content).putInt(40, -1);
+		try {
+			IniSnapshot.read(new SimpleIni<>(), new ByteArrayInputStream(content), options);
+			Assert.fail();
+		} catch (IOException ignored) {
+		}
+
+		// No temporary files are left
+		try (Stream<Path> files = Files.list(directory)) {
+			Assert.assertEquals(2L, files.count());
+		}
+		Files.deleteIfExists(snapshot);
+		Files.deleteIfExists(location);
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	public void includeTest() throws IOException {
+		Path directory = Files.createTempDirectory("snapshot");
+		Path fragment = Files.writeString(directory.resolve("common.conf"), "[server]\nhost=localhost\n");
+		Path location = Files.writeString(directory.resolve("main.ini"), "#include common.conf\n");
+		IniOptions includes = IniOptions
+			.createBuilder()
+			.setIncludes(true)
+			.build();
+
+		// Snapshots without includes are not used with includes
+		Assert.assertFalse(IniSnapshot.load(new SimpleIni<>(), location, IniOptions.DEFAULT));
+		SimpleIni<Section> parsed = new SimpleIni<>();
+		Assert.assertFalse(IniSnapshot.load(parsed, location, includes));
+		Assert.assertEquals("localhost", parsed.getSectionOrDefault("server").getOrDefault("host", ""));
+
+		SimpleIni<Section> cached = new SimpleIni<>();
+		Assert.assertTrue(IniSnapshot.load(cached, location, includes));
+		Assert.assertEquals("localhost", cached.getSectionOrDefault("server").getOrDefault("host", ""));
+
+		// Modified included files must be parsed again
+		Files.writeString(fragment, "[server]\nhost=remote\n");
+		Files.setLastModifiedTime(fragment, FileTime.from(Instant.now().plusSeconds(60)));
+		SimpleIni<Section> modified = new SimpleIni<>();
+		Assert.assertFalse(IniSnapshot.load(modified, location, includes));
+		Assert.assertEquals("remote", modified.getSectionOrDefault("server").getOrDefault("host", ""));
+
+		// Snapshots with includes are not used without includes
+		SimpleIni<Section> plain = new SimpleIni<>();
+		Assert.assertFalse(IniSnapshot.load(plain, location, IniOptions.DEFAULT));
+		Assert.assertFalse(plain.sectionExists("server"));
+
+		Files.deleteIfExists(IniSnapshot.snapshotLocation(location));
+		Files.deleteIfExists(location);
+		Files.deleteIfExists(fragment);
+		Files.deleteIfExists(directory);
+	}
+
+}
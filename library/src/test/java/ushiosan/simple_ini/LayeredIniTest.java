@@ -0,0 +1,113 @@
+package ushiosan.simple_ini;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import ushiosan.simple_ini.section.Section;
+
+public class LayeredIniTest {
+
+	@Test
+	public void layersTest() throws IOException {
+		Path root = Files.createTempDirectory("layered");
+		Path base = Files.writeString(root.resolve("app.ini"),
+			"name=base\n[server]\nhost=localhost\nport=8080\n[log]\nlevel=info\n");
+		Path directory = Files.createDirectory(root.resolve("conf.d"));
+		Files.writeString(directory.resolve("20-port.ini"), "[server]\nport=9090\n");
+		Files.writeString(directory.resolve("10-port.ini"), "[server]\nport=8081\ndebug=true\n");
+		Files.writeString(directory.resolve("30-extra.ini"), "name=override\n[extra]\nenabled=yes\n");
+		Files.writeString(directory.resolve("README.txt"), "[server]\nport=0\n");
+
+		LayeredIni ini = new LayeredIni();
+		ini.loadLayers(base, directory, IniOptions.DEFAULT);
+
+		Assert.assertEquals(List.of(base, directory.resolve("10-port.ini"), directory.resolve("20-port.ini"),
+			directory.resolve("30-extra.ini")), ini.getLayers());
+		// Sections are merged, not duplicated
+		Assert.assertEquals(4, ini.size());
+		Section server = ini.getSection("server").orElseThrow();
+		Assert.assertEquals("9090", server.get("port").orElseThrow());
+		Assert.assertEquals("localhost", server.get("host").orElseThrow());
+		Assert.assertEquals("true", server.get("debug").orElseThrow());
+		Assert.assertEquals("override", ini.getDefaultSection().get("name").orElseThrow());
+		Assert.assertTrue(ini.sectionExists("extra"));
+		Assert.assertSame(ini.getDefaultSection(), server.getDefaultSection().orElseThrow());
+
+		// A direct load is applied as the top layer
+		ini.load(new ByteArrayInputStream("[log]\nlevel=debug\n".getBytes()), IniOptions.DEFAULT);
+		Assert.assertEquals(4, ini.size());
+		Assert.assertEquals("debug", ini.getSection("log").orElseThrow().get("level").orElseThrow());
+
+		ini.remove("extra");
+		Assert.assertFalse(ini.sectionExists("extra"));
+		Assert.assertEquals(3, ini.size());
+	}
+
+	@Test
+	public void renameTest() throws IOException {
+		LayeredIni ini = new LayeredIni();
+		IniMonitor monitor = IniMonitor.register(ini, "layered-rename-test");
+		try {
+			ini.load(new ByteArrayInputStream("[a]\nkey=first\n".getBytes()), IniOptions.DEFAULT);
+			Section section = ini.getSection("a").orElseThrow();
+			section.setName("b");
+
+			// The index follows the renamed section
+			Assert.assertFalse(ini.getSection("a").isPresent());
+			Assert.assertSame(section, ini.getSection("b").orElseThrow());
+
+			// The next layer is merged into the renamed section
+			ini.load(new ByteArrayInputStream("[b]\nkey=second\n".getBytes()), IniOptions.DEFAULT);
+			Assert.assertEquals(2, ini.size());
+			Assert.assertEquals("second", section.get("key").orElseThrow());
+
+			// The lookups are measured
+			Assert.assertTrue(monitor.getSectionLookups() >= 3L);
+		} finally {
+			monitor.unregister();
+		}
+	}
+
+	@Test
+	public void renameCollisionTest() throws IOException {
+		LayeredIni ini = new LayeredIni();
+		ini.load(new ByteArrayInputStream("[a]\nkey=a\n[b]\nkey=b\n".getBytes()), IniOptions.DEFAULT);
+		Section first = ini.getSection("a").orElseThrow();
+		Section second = ini.getSection("b").orElseThrow();
+
+		// The section that already has the name keeps it in the index
+		first.setName("b");
+		Assert.assertFalse(ini.getSection("a").isPresent());
+		Assert.assertSame(second, ini.getSection("b").orElseThrow());
+
+		// The renamed section takes the name when it is released
+		second.setName("c");
+		Assert.assertSame(first, ini.getSection("b").orElseThrow());
+		Assert.assertSame(second, ini.getSection("c").orElseThrow());
+
+		// Removed sections do not modify the index
+		ini.remove("c");
+		second.setName("a");
+		Assert.assertFalse(ini.getSection("a").isPresent());
+		Assert.assertSame(first, ini.getSection("b").orElseThrow());
+	}
+
+	@Test
+	public void invalidLayerTest() throws IOException {
+		Path root = Files.createTempDirectory("layered");
+		LayeredIni ini = new LayeredIni();
+		try {
+			ini.loadLayers(List.of(root.resolve("missing.ini")), IniOptions.DEFAULT);
+			Assert.fail();
+		} catch (IOException ignored) {
+		}
+		Assert.assertTrue(ini.getLayers().isEmpty());
+	}
+
+}
\ No newline at end of file
@@ -3,10 +3,13 @@ package ushiosan.simple_ini;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import ushiosan.jvm_utilities.lang.collection.elements.Pair;
@@ -98,4 +101,75 @@ public class SimpleIniTest {
 		System.out.println();
 	}
 
+	@Test
+	public void storeIfChangedTest() throws IOException {
+		InputStream stream = loader.getResourceAsStream("simple_example.ini");
+		Assert.assertNotNull(stream);
+
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(stream);
+		ini.setOptions(IniOptions
+			.createBuilder()
+			.setTimestampHeader(false)
+			.setHeader("Generated file")
+			.build());
+
+		Path location = Files.createTempFile("unchanged_example", ".ini");
+		Assert.assertTrue(ini.storeIfChanged(location));
+		Assert.assertFalse(ini.storeIfChanged(location));
+		Assert.assertTrue(Files.readString(location).startsWith("; Generated file"));
+
+		ini.getDefaultSection().put("global_item", "2");
+		Assert.assertTrue(ini.storeIfChanged(location));
+		Files.deleteIfExists(location);
+	}
+
+	@Test
+	public void preserveValuesTest() throws IOException {
+		String content = "[values]\npadded = a   b\tc\nquoted = \"  x  \"\n";
+
+		SimpleIni<Section> normalized = new SimpleIni<>();
+		normalized.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		SimpleIni<Section> preserved = new SimpleIni<>();
+		preserved.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), IniOptions
+			.createBuilder()
+			.setPreserveValues(true)
+			.build());
+
+		Section normalizedSection = normalized.getSection("values").orElseThrow();
+		Section preservedSection = preserved.getSection("values").orElseThrow();
+		Assert.assertEquals("a b c", normalizedSection.get("padded").orElseThrow());
+		Assert.assertEquals("a   b\tc", preservedSection.get("padded").orElseThrow());
+		Assert.assertEquals("  x  ", preservedSection.get("quoted").orElseThrow());
+
+		System.out.printf("Preserved value: [%s]\n", preservedSection.get("padded").orElseThrow());
+	}
+
+	@Test
+	public void loadListenerTest() throws IOException {
+		String content = "; comment\nglobal = 1\n[first]\nname = value\n\tcontinued\n[second]\nkey = 2\n";
+		byte[] data = content.getBytes(StandardCharsets.UTF_8);
+		IniLoadStats[] result = new IniLoadStats[1];
+
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream(data), IniOptions
+			.createBuilder()
+			.setMultiline(true)
+			.setLoadListener(it -> result[0] = it)
+			.build());
+
+		IniLoadStats stats = result[0];
+		Assert.assertNotNull(stats);
+		Assert.assertTrue(stats.isCompleted());
+		Assert.assertEquals(data.length, stats.getBytes());
+		Assert.assertEquals(7, stats.getLines());
+		Assert.assertEquals(2, stats.getSections());
+		Assert.assertEquals(3, stats.getEntries());
+		Assert.assertEquals(1, stats.getContinuationMerges());
+		Assert.assertEquals("value continued", ini.getSection("first").orElseThrow().get("name").orElseThrow());
+		Assert.assertTrue(stats.getTotalNanos() >= stats.getClassificationNanos() + stats.getExtractionNanos());
+
+		System.out.println(stats);
+	}
+
 }
\ No newline at end of file
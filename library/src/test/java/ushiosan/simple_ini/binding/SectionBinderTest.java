@@ -0,0 +1,218 @@
+package ushiosan.simple_ini.binding;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import ushiosan.simple_ini.IniOptions;
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.SimpleSection;
+
+public class SectionBinderTest {
+
+	private final ClassLoader loader = ClassLoader.getSystemClassLoader();
+
+	@Test
+	public void bindTest() {
+		Section section = new SimpleSection("server");
+		section.put("host", "localhost");
+		section.put("port", "8080");
+		section.put("connect_timeout", "5s");
+		section.put("unit", "minutes");
+		section.put("weights", "1, 2, 3");
+
+		ServerConfig config = section.bind(ServerConfig.class);
+		Assert.assertEquals("localhost", config.host);
+		Assert.assertEquals(8080, config.port);
+		Assert.assertTrue(config.portAssigned);
+		Assert.assertEquals(Duration.ofSeconds(5), config.timeout);
+		Assert.assertEquals(ChronoUnit.MINUTES, config.unit);
+		Assert.assertArrayEquals(new int[]{1, 2, 3}, config.weights);
+		Assert.assertEquals(4, config.retries);
+		Assert.assertEquals("fixed", config.name);
+		Assert.assertSame(SectionBinder.of(ServerConfig.class), SectionBinder.of(ServerConfig.class));
+
+		System.out.printf("Binder: %s\n", SectionBinder.of(ServerConfig.class).getKeys());
+	}
+
+	@Test
+	public void bindAllTest() throws IOException {
+		InputStream stream = loader.getResourceAsStream("simple_example.ini");
+		Assert.assertNotNull(stream);
+
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(stream);
+
+		Size size = ini.bind("Section_1", Size.class).orElseThrow();
+		Assert.assertEquals(1000, size.width);
+		Assert.assertEquals(600L, size.height);
+
+		List<Size> sizes = ini.bindAll(Size.class);
+		Assert.assertEquals(ini.realSize(), sizes.size());
+		Assert.assertTrue(ini.bind("Section_9", Size.class).isEmpty());
+
+		try {
+			SectionBinder.of(Unsupported.class);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			System.out.printf("Unsupported binder: %s\n", e.getMessage());
+		}
+	}
+
+	@Test
+	public void writeTest() {
+		ServerConfig config = new ServerConfig();
+		config.host = "localhost";
+		config.setPort(8080);
+		config.timeout = Duration.ofSeconds(5);
+		config.unit = ChronoUnit.MINUTES;
+		config.weights = new int[]{1, 2, 3};
+
+		Section section = SectionBinder.of(ServerConfig.class).toSection(config, "server");
+		Assert.assertEquals("localhost", section.get("host").orElseThrow());
+		Assert.assertEquals("fixed", section.get("name").orElseThrow());
+		Assert.assertEquals("PT5S", section.get("connect_timeout").orElseThrow());
+		Assert.assertEquals("MINUTES", section.get("unit").orElseThrow());
+		Assert.assertEquals("1, 2, 3", section.get("weights").orElseThrow());
+		Assert.assertFalse(section.containsKey("portAssigned"));
+
+		ServerConfig copy = section.bind(ServerConfig.class);
+		Assert.assertEquals(config.port, copy.port);
+		Assert.assertEquals(config.timeout, copy.timeout);
+		Assert.assertArrayEquals(config.weights, copy.weights);
+
+		System.out.printf("Written section: %s\n", section);
+	}
+
+	@Test
+	public void storeTest() throws IOException {
+		List<Size> sizes = IntStream.range(0, 3)
+			.mapToObj(it -> {
+				Size size = new Size();
+				size.width = it * 100;
+				size.height = it * 50L;
+				return size;
+			})
+			.collect(Collectors.toList());
+		SectionBinder<Size> binder = SectionBinder.of(Size.class);
+		StringWriter writer = new StringWriter();
+		IniOptions options = IniOptions.createBuilder()
+			.setTimestampHeader(false)
+			.build();
+		binder.store(sizes, it -> "size_" + it.width, writer, options);
+
+		SimpleIni<Section> streamed = new SimpleIni<>();
+		streamed.load(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8)));
+		SimpleIni<Section> ini = new SimpleIni<>();
+		for (Size size : sizes) {
+			ini.putObject("size_" + size.width, size);
+		}
+		StringWriter expected = new StringWriter();
+		ini.store(expected);
+
+		Assert.assertEquals(3, streamed.realSize());
+		Assert.assertTrue(writer.toString().startsWith("[size_0]"));
+		Assert.assertTrue(expected.toString().endsWith(writer.toString()));
+		Assert.assertEquals(200, streamed.bind("size_200", Size.class).orElseThrow().width);
+
+		System.out.printf("Streamed content:\n%s\n", writer);
+	}
+
+	@Test
+	public void genericCollectionTest() {
+		Section section = new SimpleSection("generic");
+		section.put("ports", "80, 443");
+		section.put("ids", "7, 9");
+
+		GenericConfig first = section.bind(GenericConfig.class);
+		GenericConfig second = section.bind(GenericConfig.class);
+		Assert.assertEquals(List.of(80, 443), first.ports);
+		Assert.assertEquals(Set.of(7L, 9L), first.ids);
+		Assert.assertEquals(List.of("a", "b"), first.names);
+
+		// Mutable default values are not shared between objects
+		Assert.assertArrayEquals(new int[]{1, 2}, first.defaults);
+		Assert.assertNotSame(first.defaults, second.defaults);
+
+		try {
+			SectionBinder.of(UnsupportedGeneric.class);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			System.out.printf("Unsupported generic binder: %s\n", e.getMessage());
+		}
+	}
+
+	public static class ServerConfig {
+
+		private final String name = "fixed";
+
+		private String host;
+
+		private int port;
+
+		private transient boolean portAssigned;
+
+		@IniProperty(name = "connect_timeout")
+		private Duration timeout;
+
+		private ChronoUnit unit;
+
+		private int[] weights;
+
+		@IniProperty(defaultValue = "4")
+		private int retries;
+
+		public void setPort(int port) {
+			this.port = port;
+			this.portAssigned = true;
+		}
+
+	}
+
+	public static class Size {
+
+		private int width = -1;
+
+		private long height = -1;
+
+	}
+
+	public static class Unsupported {
+
+		private Object value;
+
+	}
+
+	public static class GenericConfig {
+
+		private List<Integer> ports;
+
+		private Set<Long> ids;
+
+		@IniProperty(defaultValue = "a, b")
+		private List<String> names;
+
+		@IniProperty(defaultValue = "1, 2")
+		private int[] defaults;
+
+	}
+
+	public static class UnsupportedGeneric {
+
+		private List<List<String>> values;
+
+	}
+
+}
\ No newline at end of file
@@ -3,6 +3,8 @@ package ushiosan.simple_ini.conversion;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -38,5 +40,42 @@ public class CollectionConverterTest {
 		System.out.printf("Set result size: %s\n\n", conversion.size());
 	}
 
+	@Test
+	public void splitterTest() {
+		String[] contents = Arrs.of("1, 2, 3", " a ,, b , ", ",,,", "", "single", "x::y::::", "a|b | c");
+		String[] separators = Arrs.of(",", "::", "\\|", "\\s*,\\s*");
+
+		for (String separator : separators) {
+			ValueSplitter splitter = ValueSplitter.of(separator);
+			Assert.assertSame(splitter, ValueSplitter.of(separator));
+
+			for (String content : contents) {
+				String[] expected = Arrays.stream(content.trim().split(separator))
+					.map(String::trim)
+					.toArray(String[]::new);
+				List<String> iterated = new ArrayList<>();
+				splitter.iterate(content).forEach(iterated::add);
+
+				Assert.assertArrayEquals(expected, splitter.split(content));
+				Assert.assertArrayEquals(expected, iterated.toArray(new String[0]));
+			}
+			System.out.printf("Splitter (%s) literal: %s\n", separator, splitter.isLiteral());
+		}
+	}
+
+	@Test
+	public void primitiveArrayTest() {
+		String content = "1, 2, 3, 4, 5, 6";
+
+		Assert.assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, CollectionConverter.toIntArray(content, ",").orElseThrow());
+		Assert.assertArrayEquals(new long[]{1, 2, 3, 4, 5, 6}, CollectionConverter.toLongArray(content, ",").orElseThrow());
+		Assert.assertArrayEquals(new double[]{1.5, -2, 3e2}, CollectionConverter.toDoubleArray("1.5;-2;3e2", ";").orElseThrow(), 0.0);
+		Assert.assertEquals(0, CollectionConverter.toLongArray("  ", ",").orElseThrow().length);
+		Assert.assertTrue(CollectionConverter.toIntArray("1, 2, x", ",").isEmpty());
+		Assert.assertTrue(CollectionConverter.toIntArray("1, 3000000000", ",").isEmpty());
+		Assert.assertTrue(CollectionConverter.toLongArray("1,, 2", ",").isEmpty());
+
+		System.out.printf("Long array: %s\n", Arrays.toString(CollectionConverter.toLongArray(content, ",").orElseThrow()));
+	}
 
 }
\ No newline at end of file
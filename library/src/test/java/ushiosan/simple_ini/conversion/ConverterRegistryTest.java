@@ -0,0 +1,71 @@
+package ushiosan.simple_ini.conversion;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.SimpleSection;
+
+public class ConverterRegistryTest {
+
+	@Test
+	public void builtInTest() {
+		ConverterRegistry registry = ConverterRegistry.getDefault();
+
+		Assert.assertEquals(Integer.valueOf(42), registry.convert(" 42 ", int.class));
+		Assert.assertEquals(Long.valueOf(0xFFL), registry.convert("0xFF", Long.class));
+		Assert.assertNull(registry.convert("300", byte.class));
+		Assert.assertEquals(Boolean.TRUE, registry.convert("Yes", boolean.class));
+		Assert.assertEquals(ChronoUnit.SECONDS, registry.convert("seconds", ChronoUnit.class));
+		Assert.assertEquals(Duration.ofMinutes(90), registry.convert("1h 30m", Duration.class));
+		Assert.assertEquals(Duration.ofMillis(250), registry.convert("250", Duration.class));
+		Assert.assertEquals(Duration.ofSeconds(5), registry.convert("PT5S", Duration.class));
+		Assert.assertNull(registry.convert("5 years", Duration.class));
+		Assert.assertEquals(512L * 1024, registry.convert("512KB", DataSize.class).toBytes());
+		Assert.assertEquals(1536L * 1024 * 1024, registry.convert("1.5 GiB", DataSize.class).toBytes());
+		Assert.assertNull(registry.convert("12 XB", DataSize.class));
+		Assert.assertNull(registry.convert(".", DataSize.class));
+		Assert.assertNull(registry.convert(".KB", DataSize.class));
+		Assert.assertNull(registry.convert("KB", DataSize.class));
+		Assert.assertEquals(512L, registry.convert(".5KB", DataSize.class).toBytes());
+		Assert.assertEquals(2L * 1024, registry.convert("2.KB", DataSize.class).toBytes());
+
+		InetSocketAddress address = registry.convert("localhost:8080", InetSocketAddress.class);
+		Assert.assertNotNull(address);
+		Assert.assertEquals(8080, address.getPort());
+
+		System.out.printf("Default registry: %s %s\n", address, registry.convert("10M", DataSize.class));
+	}
+
+	@Test
+	public void sectionTest() {
+		Section section = new SimpleSection("server");
+		section.put("port", "8080");
+		section.put("timeout", "30s");
+		section.put("mode", "invalid");
+
+		ConverterRegistry registry = new ConverterRegistry()
+			.register(StringBuilder.class, StringBuilder::new);
+
+		Assert.assertEquals(Optional.of(8080), section.get("port", Integer.class));
+		Assert.assertEquals(Optional.of(Duration.ofSeconds(30)), section.get("timeout", Duration.class));
+		Assert.assertTrue(section.get("mode", ChronoUnit.class).isEmpty());
+		Assert.assertTrue(section.get("missing", Integer.class).isEmpty());
+		Assert.assertEquals(ChronoUnit.DAYS, section.getOrDefault("mode", ChronoUnit.class, ChronoUnit.DAYS));
+		Assert.assertEquals("8080", section.get("port", StringBuilder.class, registry).map(String::valueOf).orElse(null));
+
+		Assert.assertFalse(ConverterRegistry.getDefault().isSupported(StringBuilder.class));
+		try {
+			section.get("port", StringBuilder.class);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			System.out.printf("Unsupported type: %s\n", e.getMessage());
+		}
+	}
+
+}
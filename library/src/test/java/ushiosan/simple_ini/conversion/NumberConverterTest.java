@@ -22,4 +22,52 @@ public class NumberConverterTest {
 		System.out.println(invalid);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void exactIntegerTest() {
+		Assert.assertEquals(Optional.of(9007199254740993L), NumberConverter.toLong("9007199254740993"));
+		Assert.assertEquals(Optional.of(Long.MIN_VALUE), NumberConverter.toLong("-9223372036854775808"));
+		Assert.assertEquals(Optional.of(255), NumberConverter.toInt("0xFF"));
+		Assert.assertEquals(Optional.of(-8), NumberConverter.toInt("-0o10"));
+		Assert.assertEquals(Optional.of(5), NumberConverter.toInt("0b101"));
+		Assert.assertEquals(Optional.of(1_000_000), NumberConverter.toInt(" 1_000_000 "));
+		Assert.assertEquals(Optional.of(1000), NumberConverter.toInt("1e3"));
+		Assert.assertEquals(Optional.of(12L), NumberConverter.toLong("12.0"));
+		Assert.assertEquals(Optional.of(9007199254740993L), NumberConverter.toLong("9007199254740993.0"));
+		Assert.assertEquals(Optional.of(Long.MAX_VALUE), NumberConverter.toLong("9223372036854775807.000"));
+		Assert.assertEquals(Optional.of(Long.MIN_VALUE), NumberConverter.toLong("-9.223372036854775808e18"));
+		Assert.assertEquals(Optional.of(1200), NumberConverter.toInt("+12000e-1"));
+		Assert.assertEquals(Optional.of(5), NumberConverter.toInt(".5e1"));
+		Assert.assertEquals(Optional.of(0), NumberConverter.toInt("0.000e999999999"));
+		Assert.assertEquals(Optional.of(0), NumberConverter.toInt("0e-5"));
+		Assert.assertEquals(Optional.of(-2147483648), NumberConverter.toInt("-2147483648.0"));
+
+		Assert.assertTrue(NumberConverter.toLong("9223372036854775808").isEmpty());
+		Assert.assertTrue(NumberConverter.toByte("128").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("12.5").isEmpty());
+		Assert.assertTrue(NumberConverter.toLong("9007199254740993.5").isEmpty());
+		Assert.assertTrue(NumberConverter.toLong("1e19").isEmpty());
+		Assert.assertTrue(NumberConverter.toLong("1e-999999999").isEmpty());
+		Assert.assertTrue(NumberConverter.toLong("9.223372036854775808e18").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("2147483648.0").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("12345e-2").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("1e999999999").isEmpty());
+		Assert.assertTrue(NumberConverter.toShort("3.2768e4").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("1__0").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("_10").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("0x").isEmpty());
+		Assert.assertTrue(NumberConverter.toInt("").isEmpty());
+
+		Assert.assertEquals(-1, NumberConverter.parseInt("invalid", -1));
+		Assert.assertEquals(42L, NumberConverter.parseLong("42", -1));
+	}
+
+	@Test
+	public void decimalTest() {
+		Assert.assertEquals(Optional.of(1.5), NumberConverter.toNumber("1.5"));
+		Assert.assertEquals(Optional.of(-0.25), NumberConverter.toNumber("-.25"));
+		Assert.assertEquals(Optional.of(Double.POSITIVE_INFINITY), NumberConverter.toNumber("Infinity"));
+		Assert.assertTrue(NumberConverter.toNumber("1.2.3").isEmpty());
+		Assert.assertTrue(NumberConverter.toNumber("hello").isEmpty());
+	}
+
+}
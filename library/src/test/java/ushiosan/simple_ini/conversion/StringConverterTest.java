@@ -16,4 +16,18 @@ public class StringConverterTest {
 		System.out.printf("Clean content: %s\n", cleanContent);
 	}
 
+	@Test
+	public void normalizeTest() {
+		String[] cases = {"", "  ", "plain", " a  b ", "a\tb", "a \t\n b", "\"quoted  value\"", "x\u000By", "a b c"};
+
+		for (String content : cases) {
+			String expected = content.trim().replaceAll("\\s+", " ");
+			Assert.assertEquals(expected, StringConverter.cleanMultipleSpaceContent(content));
+		}
+		Assert.assertSame("already clean", StringConverter.cleanMultipleSpaceContent("already clean"));
+		Assert.assertEquals("\"", StringConverter.cleanStringContent("\""));
+
+		System.out.printf("Normalized content: %s\n", StringConverter.cleanMultipleSpaceContent(" a \t b "));
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package ushiosan.simple_ini.internal.jfr;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+
+public class IniEventsTest {
+
+	@Test
+	public void recordingTest() throws IOException {
+		Path source = Files.createTempFile("recorded_example", ".ini");
+		Path target = Files.createTempFile("recorded_result", ".ini");
+		Path dump = Files.createTempFile("recording", ".jfr");
+		Files.writeString(source, "global = 1\n[first]\nname = value\n[second]\nkey = 2\n");
+
+		try (Recording recording = new Recording()) {
+			recording.enable(LoadEvent.class);
+			recording.enable(StoreEvent.class);
+			recording.enable(LookupEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+
+			SimpleIni<Section> ini = new SimpleIni<>();
+			ini.load(source);
+			Assert.assertTrue(ini.getSection("first").orElseThrow().get("name").isPresent());
+			ini.store(target);
+
+			recording.stop();
+			recording.dump(dump);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(dump)
+			.stream()
+			.filter(it -> it.getEventType().getName().startsWith(IniEvents.NAME_PREFIX))
+			.collect(Collectors.toList());
+		RecordedEvent load = find(events, "Load");
+		Assert.assertEquals(source.toString(), load.getString("location"));
+		Assert.assertEquals(Files.size(source), load.getLong("bytes"));
+		Assert.assertEquals(2, load.getLong("sections"));
+		Assert.assertEquals(3, load.getLong("entries"));
+		Assert.assertTrue(load.getBoolean("completed"));
+
+		RecordedEvent store = find(events, "Store");
+		Assert.assertEquals(target.toString(), store.getString("location"));
+		Assert.assertEquals(Files.size(target), store.getLong("characters"));
+
+		RecordedEvent lookup = find(events, "Lookup");
+		Assert.assertEquals("first", lookup.getString("section"));
+		Assert.assertTrue(lookup.getBoolean("found"));
+		Assert.assertNull(IniEvents.location());
+
+		System.out.println(load);
+		Files.deleteIfExists(source);
+		Files.deleteIfExists(target);
+		Files.deleteIfExists(dump);
+	}
+
+	private static RecordedEvent find(List<RecordedEvent> events, String name) {
+		return events.stream()
+			.filter(it -> it.getEventType().getName().equals(IniEvents.NAME_PREFIX + name))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("Event not recorded: " + name));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package ushiosan.simple_ini.internal.reader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import ushiosan.simple_ini.IniOptions;
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.section.Section;
+
+public class IncludeCacheTest {
+
+	private static final IniOptions OPTIONS = IniOptions.createBuilder()
+		.setIncludes(true)
+		.build();
+
+	@Test
+	public void includeTest() throws IOException {
+		Path root = Files.createTempDirectory("includes");
+		Path common = Files.createDirectory(root.resolve("common"));
+		Files.writeString(common.resolve("logging.conf"), "level=info\n#include \"format.conf\"\n");
+		Files.writeString(common.resolve("format.conf"), "format=json\n[database]\nhost=db\n");
+		Path first = Files.writeString(root.resolve("first.ini"),
+			"[log]\n#include common/logging.conf\nport=5432\n[server]\nport=8080\n");
+		Path second = Files.writeString(root.resolve("second.ini"), "#include common/logging.conf\n");
+
+		SimpleIni<Section> firstIni = new SimpleIni<>();
+		firstIni.load(first, OPTIONS);
+		Section log = firstIni.getSection("log").orElseThrow();
+		Assert.assertEquals("info", log.get("level").orElseThrow());
+		Assert.assertEquals("json", log.get("format").orElseThrow());
+		// The entries after the directive belong to the last included section
+		Assert.assertEquals("5432", firstIni.getSection("database").orElseThrow().get("port").orElseThrow());
+		Assert.assertEquals("8080", firstIni.getSection("server").orElseThrow().get("port").orElseThrow());
+
+		// The same parsed content is shared
+		int cached = IncludeCache.size();
+		SimpleIni<Section> secondIni = new SimpleIni<>();
+		secondIni.load(second, OPTIONS);
+		Assert.assertEquals(cached, IncludeCache.size());
+		Assert.assertEquals("info", secondIni.getDefaultSection().get("level").orElseThrow());
+
+		// Changes of nested files are detected
+		Path format = common.resolve("format.conf");
+		Files.writeString(format, "format=text\n[database]\nhost=replica\n");
+		Files.setLastModifiedTime(format, FileTime.from(Instant.now().plusSeconds(60)));
+		SimpleIni<Section> thirdIni = new SimpleIni<>();
+		thirdIni.load(second, OPTIONS);
+		Assert.assertEquals("text", thirdIni.getDefaultSection().get("format").orElseThrow());
+		Assert.assertEquals("replica", thirdIni.getSection("database").orElseThrow().get("host").orElseThrow());
+
+		// Disabled directives are ignored
+		SimpleIni<Section> plainIni = new SimpleIni<>();
+		plainIni.load(second, IniOptions.DEFAULT);
+		Assert.assertTrue(plainIni.getDefaultSection().isEmpty());
+	}
+
+	@Test
+	public void maximumSizeTest() throws IOException {
+		int previousSize = IncludeCache.getMaximumSize();
+		try {
+			IncludeCache.clear();
+			IncludeCache.setMaximumSize(1);
+			Path root = Files.createTempDirectory("includes");
+			Files.writeString(root.resolve("first.conf"), "first=1\n");
+			Files.writeString(root.resolve("second.conf"), "second=2\n");
+			Path main = Files.writeString(root.resolve("main.ini"), "#include first.conf\n#include second.conf\n");
+
+			SimpleIni<Section> ini = new SimpleIni<>();
+			ini.load(main, OPTIONS);
+			Assert.assertEquals("1", ini.getDefaultSection().get("first").orElseThrow());
+			Assert.assertEquals("2", ini.getDefaultSection().get("second").orElseThrow());
+			// Only the most recently used file is kept
+			Assert.assertEquals(1, IncludeCache.size());
+		} finally {
+			IncludeCache.setMaximumSize(previousSize);
+		}
+	}
+
+	@Test
+	public void cycleTest() throws IOException {
+		Path root = Files.createTempDirectory("includes");
+		Files.writeString(root.resolve("a.conf"), "#include b.conf\n");
+		Files.writeString(root.resolve("b.conf"), "#include a.conf\n");
+		Path main = Files.writeString(root.resolve("main.ini"), "#include a.conf\n");
+
+		try {
+			new SimpleIni<>().load(main, OPTIONS);
+			Assert.fail();
+		} catch (IOException e) {
+			Assert.assertTrue(e.getMessage().startsWith("Cyclic include"));
+			System.out.println(e.getMessage());
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+package ushiosan.simple_ini.internal.reader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import ushiosan.simple_ini.IniOptions;
+import ushiosan.simple_ini.SimpleIni;
+import ushiosan.simple_ini.internal.utilities.ValueUtils;
+import ushiosan.simple_ini.section.SimpleSection;
+import ushiosan.simple_ini.section.advanced.SectionAdvanced;
+
+public class IniWriterTest {
+
+	private static final char[] ALPHABET = "abcXYZ019 .,;=[]{}()\"\\\t\n\r\u0001".toCharArray();
+
+	private final IniOptions options = IniOptions
+		.createBuilder()
+		.setAdvanced(true)
+		.setMultiline(true)
+		.setEscapes(true)
+		.build();
+
+	@Test
+	public void classifyTest() {
+		Assert.assertEquals(ValueUtils.ValueType.NUMBER, ValueUtils.classify("120"));
+		Assert.assertEquals(ValueUtils.ValueType.NUMBER, ValueUtils.classify("12.5"));
+		Assert.assertEquals(ValueUtils.ValueType.PLAIN, ValueUtils.classify("12."));
+		Assert.assertEquals(ValueUtils.ValueType.PLAIN, ValueUtils.classify("Hello World"));
+		Assert.assertEquals(ValueUtils.ValueType.PLAIN, ValueUtils.classify("C:\\Users"));
+		Assert.assertEquals(ValueUtils.ValueType.QUOTED, ValueUtils.classify(" padded"));
+		Assert.assertEquals(ValueUtils.ValueType.QUOTED, ValueUtils.classify("two  spaces"));
+		Assert.assertEquals(ValueUtils.ValueType.QUOTED, ValueUtils.classify("line\nbreak"));
+		Assert.assertEquals(ValueUtils.ValueType.QUOTED, ValueUtils.classify("\"quoted\""));
+	}
+
+	@Test
+	public void windowsPathTest() throws IOException {
+		String content = "home_dir = \"C:\\new\\table\"\n" +
+			"[paths root=\"C:\\temp\\\"]\n" +
+			"plain = C:\\new\\table\n";
+		IniOptions defaultOptions = IniOptions.createBuilder()
+			.setAdvanced(true)
+			.build();
+		SimpleIni<SectionAdvanced> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream(content.getBytes()), defaultOptions);
+		SectionAdvanced section = ini.getSection("paths").orElseThrow();
+
+		// Backslashes are read verbatim unless the escape sequences are enabled
+		Assert.assertEquals("C:\\new\\table", ini.getDefaultSection().get("home_dir").orElseThrow());
+		Assert.assertEquals("C:\\new\\table", section.get("plain").orElseThrow());
+		Assert.assertEquals("C:\\temp\\", section.getAttributes().get("root").orElseThrow());
+
+		// The written content is read back identically
+		StringWriter writer = new StringWriter();
+		ini.store(writer);
+		SimpleIni<SectionAdvanced> result = new SimpleIni<>();
+		result.load(new ByteArrayInputStream(writer.toString().getBytes()), defaultOptions);
+		Assert.assertEquals(ini.getDefaultSection().pairSet(), result.getDefaultSection().pairSet());
+		Assert.assertEquals(section.getAttributes().pairSet(),
+			result.getSection("paths").orElseThrow().getAttributes().pairSet());
+
+		// Escaped content
+		SimpleIni<SectionAdvanced> escaped = new SimpleIni<>();
+		escaped.load(new ByteArrayInputStream(content.getBytes()), options);
+		Assert.assertEquals("C:\new\table", escaped.getDefaultSection().get("home_dir").orElseThrow());
+	}
+
+	@Test
+	public void defaultRoundTripTest() throws IOException {
+		String[] values = {"say \"hi\"", "\"quoted\"", "a;b", "a#b", "; leading", "# leading", "tab\tvalue", "C:\\new"};
+		IniOptions defaultOptions = IniOptions.createBuilder()
+			.setAdvanced(true)
+			.build();
+		SimpleIni<SectionAdvanced> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream(new byte[0]), defaultOptions);
+		SimpleSection section = new SimpleSection("values", null);
+		for (int i = 0; i < values.length; i++) {
+			section.put("key_" + i, values[i]);
+			// Attribute values cannot contain quotes without escape sequences
+			if (values[i].indexOf('"') == -1) section.setAttribute("attr_" + i, values[i]);
+		}
+		ini.put(section);
+
+		StringWriter writer = new StringWriter();
+		ini.store(writer);
+		SimpleIni<SectionAdvanced> result = new SimpleIni<>();
+		result.load(new ByteArrayInputStream(writer.toString().getBytes()), defaultOptions);
+		SectionAdvanced other = result.getSection("values").orElseThrow();
+		Assert.assertEquals(section.pairSet(), other.pairSet());
+		Assert.assertEquals(section.getAttributes().pairSet(), other.getAttributes().pairSet());
+
+		// Values that cannot be read back are rejected
+		section.put("key_0", "line1\nline2");
+		try {
+			ini.store(new StringWriter());
+			Assert.fail();
+		} catch (IllegalArgumentException ignored) {
+		}
+		section.put("key_0", values[0]);
+		section.setAttribute("attr_0", values[0]);
+		try {
+			ini.store(new StringWriter());
+			Assert.fail();
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	public void multilineRoundTripTest() throws IOException {
+		SimpleIni<SectionAdvanced> ini = new SimpleIni<>();
+		SimpleSection section = new SimpleSection("Section_1", ini.getDefaultSection());
+		section.put("text", "first line\nsecond line\n\tthird \"line\"");
+		section.setAttribute("path", "C:\\Users\\\"me\"");
+		ini.put(section);
+
+		SimpleIni<SectionAdvanced> result = roundTrip(ini);
+		SectionAdvanced resultSection = result.getSection("Section_1").orElseThrow();
+
+		Assert.assertEquals(section.get("text"), resultSection.get("text"));
+		Assert.assertEquals(section.getAttributes().get("path"), resultSection.getAttributes().get("path"));
+	}
+
+	@Test
+	public void randomRoundTripTest() throws IOException {
+		Random random = new Random(26);
+
+		for (int iteration = 0; iteration < 50; iteration++) {
+			SimpleIni<SectionAdvanced> ini = new SimpleIni<>();
+			SimpleSection section = new SimpleSection("Section_" + iteration, ini.getDefaultSection());
+			for (int i = 0; i < 20; i++) {
+				section.put("key_" + i, randomValue(random));
+				ini.getDefaultSection().put("global_" + i, randomValue(random));
+			}
+			section.setAttribute("attr", randomValue(random));
+			ini.put(section);
+
+			SimpleIni<SectionAdvanced> result = roundTrip(ini);
+			SectionAdvanced resultSection = result.getSection(section.getName()).orElseThrow();
+
+			Assert.assertEquals(ini.getDefaultSection().pairSet(), result.getDefaultSection().pairSet());
+			Assert.assertEquals(section.pairSet(), resultSection.pairSet());
+			Assert.assertEquals(section.getAttributes().pairSet(), resultSection.getAttributes().pairSet());
+		}
+	}
+
+	private SimpleIni<SectionAdvanced> roundTrip(SimpleIni<SectionAdvanced> ini) throws IOException {
+		StringWriter writer = new StringWriter();
+		ini.load(new ByteArrayInputStream(new byte[0]), options);
+		ini.store(writer);
+
+		SimpleIni<SectionAdvanced> result = new SimpleIni<>();
+		result.load(new ByteArrayInputStream(writer.toString().getBytes()), options);
+		return result;
+	}
+
+	private String randomValue(Random random) {
+		char[] content = new char[random.nextInt(16)];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+		}
+		return new String(content);
+	}
+
+}
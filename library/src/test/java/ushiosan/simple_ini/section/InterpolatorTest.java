@@ -0,0 +1,106 @@
+package ushiosan.simple_ini.section;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import ushiosan.simple_ini.IniOptions;
+import ushiosan.simple_ini.SimpleIni;
+
+public class InterpolatorTest {
+
+	private final IniOptions options = IniOptions.createBuilder()
+		.setInterpolation(true)
+		.build();
+
+	@Test
+	public void resolveTest() throws IOException {
+		String content = "root = /opt/app\n" +
+			"[paths]\n" +
+			"data = ${root}/data\n" +
+			"logs = ${data}/logs\n" +
+			"[server]\n" +
+			"log_file = ${paths.logs}/server.log\n" +
+			"user = ${env:SIMPLE_INI_USER}\n" +
+			"missing = ${paths.unknown}\n" +
+			"escaped = $${root}\n";
+		SimpleIni<Section> ini = load(content);
+		Section server = ini.getSection("server").orElseThrow();
+
+		Assert.assertEquals("/opt/app/data/logs/server.log", server.get("log_file").orElseThrow());
+		Assert.assertEquals("${paths.unknown}", server.get("missing").orElseThrow());
+		Assert.assertEquals("${root}", server.get("escaped").orElseThrow());
+		Assert.assertEquals("${paths.logs}/server.log", server.getRaw("log_file").orElseThrow());
+		Assert.assertSame(server.get("log_file").orElseThrow(), server.get("log_file").orElseThrow());
+
+		String user = System.getenv("SIMPLE_INI_USER");
+		Assert.assertEquals(Objects.requireNonNullElse(user, "${env:SIMPLE_INI_USER}"), server.get("user").orElseThrow());
+
+		System.out.printf("Resolved value: %s\n", server.get("log_file").orElseThrow());
+	}
+
+	@Test
+	public void invalidateTest() throws IOException {
+		SimpleIni<Section> ini = load("[a]\nfirst = 1\nsecond = ${first}-2\n[b]\nthird = ${a.second}-3\nlate = ${a.fourth}\n");
+		Section a = ini.getSection("a").orElseThrow();
+		Section b = ini.getSection("b").orElseThrow();
+		Assert.assertEquals("1-2-3", b.get("third").orElseThrow());
+		Assert.assertEquals("${a.fourth}", b.get("late").orElseThrow());
+
+		// Changes of referenced entries are propagated
+		a.put("first", "one");
+		Assert.assertEquals("one-2-3", b.get("third").orElseThrow());
+		a.put("fourth", "4");
+		Assert.assertEquals("4", b.get("late").orElseThrow());
+		Assert.assertEquals(Integer.valueOf(4), b.getOrDefault("late", Integer.class, 0));
+
+		a.remove("first");
+		Assert.assertEquals("${first}-2-3", b.get("third").orElseThrow());
+	}
+
+	@Test
+	public void cycleTest() throws IOException {
+		SimpleIni<Section> ini = load("[a]\nfirst = ${b.second}\n[b]\nsecond = ${a.first}\nself = ${self}\n");
+		Section a = ini.getSection("a").orElseThrow();
+		Section b = ini.getSection("b").orElseThrow();
+
+		try {
+			a.get("first");
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			System.out.printf("Cycle: %s\n", e.getMessage());
+		}
+		try {
+			b.get("self");
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			System.out.printf("Cycle: %s\n", e.getMessage());
+		}
+
+		// Breaking the cycle makes the values valid again
+		b.put("second", "value");
+		Assert.assertEquals("value", a.get("first").orElseThrow());
+	}
+
+	@Test
+	public void disabledTest() throws IOException {
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream("[a]\nfirst = 1\nsecond = ${first}\n".getBytes(StandardCharsets.UTF_8)));
+		Section a = ini.getSection("a").orElseThrow();
+		Assert.assertEquals("${first}", a.get("second").orElseThrow());
+
+		ini.setOptions(options);
+		Assert.assertEquals("1", a.get("second").orElseThrow());
+	}
+
+	private SimpleIni<Section> load(String content) throws IOException {
+		SimpleIni<Section> ini = new SimpleIni<>();
+		ini.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), options);
+		return ini;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+import defined.SimpleIniProcessorProject
+
+plugins {
+	id("common-java-library")
+	id("common-maven-publishing")
+}
+
+SimpleIniProcessorProject.configureAll(project)
\ No newline at end of file
@@ -0,0 +1,14 @@
+/**
+ * Annotation processor that generates the binding code of the classes annotated
+ * with {@code ushiosan.simple_ini.binding.IniSection}.
+ * <p>
+ * The generated code only uses the public API of the library, so it does not need reflection
+ * or runtime code generation.
+ */
+module com.github.ushiosan.simple_ini.processor {
+	requires java.compiler;
+	requires static org.jetbrains.annotations;
+
+	provides javax.annotation.processing.Processor
+		with ushiosan.simple_ini.processor.IniSectionProcessor;
+}
\ No newline at end of file
@@ -0,0 +1,552 @@
+package ushiosan.simple_ini.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Class used to generate the source code of a binding class
+ */
+final class BindingGenerator {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Section interface name
+	 */
+	private static final String SECTION_TYPE = "ushiosan.simple_ini.section.Section";
+
+	/**
+	 * Default section implementation name
+	 */
+	private static final String SIMPLE_SECTION_TYPE = "ushiosan.simple_ini.section.SimpleSection";
+
+	/**
+	 * Converter registry name
+	 */
+	private static final String REGISTRY_TYPE = "ushiosan.simple_ini.conversion.ConverterRegistry";
+
+	/**
+	 * Generated class package
+	 */
+	private final String packageName;
+
+	/**
+	 * Generated class name
+	 */
+	private final String className;
+
+	/**
+	 * Annotated type name
+	 */
+	private final String targetType;
+
+	/**
+	 * Determines if the annotated type can be instantiated
+	 */
+	private final boolean instantiable;
+
+	/**
+	 * All type properties
+	 */
+	private final List<Property> properties;
+
+	/**
+	 * Generated source content
+	 */
+	private final StringBuilder builder = new StringBuilder();
+
+	/* -----------------------------------------------------
+	 * Constructors
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Default constructor
+	 *
+	 * @param packageName  the generated class package
+	 * @param className    the generated class name
+	 * @param targetType   the annotated type name
+	 * @param instantiable determines if the annotated type can be instantiated
+	 * @param properties   all type properties
+	 */
+	BindingGenerator(
+		@NotNull String packageName,
+		@NotNull String className,
+		@NotNull String targetType,
+		boolean instantiable,
+		@NotNull List<Property> properties
+	) {
+		this.packageName = packageName;
+		this.className = className;
+		this.targetType = targetType;
+		this.instantiable = instantiable;
+		this.properties = properties;
+	}
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the generated class name
+	 *
+	 * @return the generated class name
+	 */
+	@NotNull String getClassName() {
+		return className;
+	}
+
+	/**
+	 * Generates the source code of the binding class
+	 *
+	 * @return the class source code
+	 */
+	@NotNull String generate() {
+		builder.setLength(0);
+		if (!packageName.isEmpty()) line(0, "package " + packageName + ";").line(0, "");
+		// Class declaration
+		line(0, "/**");
+		line(0, " * Binding code of {@link " + targetType + "}.");
+		line(0, " * <p>");
+		line(0, " * Generated by " + IniSectionProcessor.class.getName() + ". Do not modify this file.");
+		line(0, " */");
+		line(0, "public final class " + className + " {");
+		line(0, "");
+		generateProperties();
+		line(1, "/**");
+		line(1, " * This class cannot be instantiated.");
+		line(1, " */");
+		line(1, "private " + className + "() {");
+		line(1, "}");
+		line(0, "");
+		if (instantiable) generateRead();
+		generateReadInto();
+		generateWrite();
+		generateToSection();
+		generateDefaultValue();
+		if (properties.stream().anyMatch(it -> it.elementLiteral != null)) generateElements();
+		line(0, "}");
+		return builder.toString();
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Generates the constants of the class
+	 */
+	private void generateProperties() {
+		line(1, "/**");
+		line(1, " * Registry used to convert the entry values");
+		line(1, " */");
+		line(1, "private static final " + REGISTRY_TYPE + " REGISTRY = " + REGISTRY_TYPE + ".getDefault();");
+		line(0, "");
+		for (int i = 0; i < properties.size(); i++) {
+			Property property = properties.get(i);
+			if (property.defaultValue == null || property.writeTarget == null) continue;
+			line(1, "/**");
+			line(1, " * Default value of the {@code " + escapeDoc(property.key) + "} entry");
+			line(1, " */");
+			line(1, String.format(
+				"private static final %s DEFAULT_%d = defaultValue(%s, %s%s);",
+				property.typedGetter != null ? property.fieldType:property.localType,
+				i,
+				literalOf(property.defaultValue),
+				property.classLiteral,
+				property.elementLiteral != null ? ", " + property.elementLiteral:""));
+			line(0, "");
+		}
+	}
+
+	/**
+	 * Generates the read method
+	 */
+	private void generateRead() {
+		line(1, "/**");
+		line(1, " * Generates a new object with the content of the section");
+		line(1, " *");
+		line(1, " * @param section the section to read");
+		line(1, " * @return a new object with the section content");
+		line(1, " */");
+		line(1, "public static " + targetType + " read(" + SECTION_TYPE + " section) {");
+		line(2, "return readInto(section, new " + targetType + "());");
+		line(1, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the readInto method
+	 */
+	private void generateReadInto() {
+		line(1, "/**");
+		line(1, " * Assigns the content of the section to an existing object.");
+		line(1, " * The fields of entries that do not exist (and without default value) are not modified.");
+		line(1, " *");
+		line(1, " * @param section the section to read");
+		line(1, " * @param target  the object to modify");
+		line(1, " * @return the same target object");
+		line(1, " */");
+		line(1, "@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+		line(1, "public static " + targetType + " readInto(" + SECTION_TYPE + " section, " + targetType + " target) {");
+		for (int i = 0; i < properties.size(); i++) {
+			Property property = properties.get(i);
+			if (property.writeTarget != null) generateReadProperty(property, i);
+		}
+		line(2, "return target;");
+		line(1, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the code that reads a single property. The primitive and string values use the
+	 * typed section getters, so the values are not boxed.
+	 *
+	 * @param property the property to read
+	 * @param index    the property index
+	 */
+	private void generateReadProperty(@NotNull Property property, int index) {
+		String key = literalOf(property.key);
+		String local = "value" + index;
+		String defaultValue = property.defaultValue == null ? "null":"DEFAULT_" + index;
+		// Primitive values
+		if (property.typedGetter != null && property.primitive) {
+			if (property.defaultValue != null) {
+				String value = String.format("section.%s(%s, %s)", property.typedGetter, key, defaultValue);
+				line(2, "target." + String.format(property.writeTarget, value) + ";");
+				return;
+			}
+			// Entries that do not exist (or are not valid) keep the current value
+			if (property.readSource != null) {
+				String value = String.format("section.%s(%s, target.%s)", property.typedGetter, key, property.readSource);
+				line(2, "if (section.containsKey(" + key + ")) target." + String.format(property.writeTarget, value) + ";");
+				return;
+			}
+		}
+		// String values
+		if (property.typedGetter != null && !property.primitive) {
+			line(2, String.format(
+				"%s %s = section.%s(%s).orElse(%s);",
+				property.localType,
+				local,
+				property.typedGetter,
+				key,
+				defaultValue));
+			line(2, "if (" + local + " != null) target." + String.format(property.writeTarget, local) + ";");
+			return;
+		}
+		// Collection values. Each element is converted with the registry
+		if (property.elementLiteral != null) {
+			line(2, String.format(
+				"%s %s = elements(section.getOrDefault(%s, %s, null), %s);",
+				property.localType,
+				local,
+				key,
+				property.classLiteral,
+				property.elementLiteral));
+			if (property.defaultValue != null) line(2, "if (" + local + " == null) " + local + " = " + defaultValue + ";");
+			line(2, "if (" + local + " != null) target." + String.format(property.writeTarget, local) + ";");
+			return;
+		}
+		// Converted values. The array defaults are copied, so the objects never share them
+		line(2, String.format(
+			"%s %s = section.getOrDefault(%s, %s, %s);",
+			property.localType,
+			local,
+			key,
+			property.classLiteral,
+			property.array ? "null":defaultValue));
+		if (property.array && property.defaultValue != null) {
+			line(2, "if (" + local + " == null) " + local + " = " + defaultValue + ".clone();");
+			line(2, "target." + String.format(property.writeTarget, local) + ";");
+			return;
+		}
+		line(2, "if (" + local + " != null) target." + String.format(property.writeTarget, local) + ";");
+	}
+
+	/**
+	 * Generates the write method
+	 */
+	private void generateWrite() {
+		line(1, "/**");
+		line(1, " * Writes all fields of the object to the section. Fields with {@code null} value are not written.");
+		line(1, " *");
+		line(1, " * @param source  the object to write");
+		line(1, " * @param section the target section");
+		line(1, " */");
+		line(1, "public static void write(" + targetType + " source, " + SECTION_TYPE + " section) {");
+		for (int i = 0; i < properties.size(); i++) {
+			Property property = properties.get(i);
+			if (property.readSource == null) continue;
+			String key = literalOf(property.key);
+			if (property.primitive) {
+				line(2, "section.put(" + key + ", String.valueOf(source." + property.readSource + "));");
+				continue;
+			}
+			String local = "value" + i;
+			line(2, "Object " + local + " = source." + property.readSource + ";");
+			line(2, "if (" + local + " != null) section.put(" + key + ", REGISTRY.format(" + local + "));");
+		}
+		line(1, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the toSection method
+	 */
+	private void generateToSection() {
+		line(1, "/**");
+		line(1, " * Generates a new section with all fields of the object");
+		line(1, " *");
+		line(1, " * @param source the object to write");
+		line(1, " * @param name   the section name");
+		line(1, " * @return a new section with the object content");
+		line(1, " */");
+		line(1, "public static " + SECTION_TYPE + " toSection(" + targetType + " source, CharSequence name) {");
+		line(2, SECTION_TYPE + " result = new " + SIMPLE_SECTION_TYPE + "(name);");
+		line(2, "write(source, result);");
+		line(2, "return result;");
+		line(1, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the default value method
+	 */
+	private void generateDefaultValue() {
+		line(1, "/**");
+		line(1, " * Convert a default value");
+		line(1, " *");
+		line(1, " * @param content the default value content");
+		line(1, " * @param type    the value type");
+		line(1, " * @param <T>     generic value type");
+		line(1, " * @return the converted value");
+		line(1, " */");
+		line(1, "private static <T> T defaultValue(String content, Class<T> type) {");
+		line(2, "T result = REGISTRY.convert(content, type);");
+		line(2, "if (result == null)");
+		line(3, "throw new IllegalArgumentException(\"Invalid default value \\\"\" + content + \"\\\" of type \" + type.getName());");
+		line(2, "return result;");
+		line(1, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the collection conversion methods
+	 */
+	private void generateElements() {
+		line(1, "/**");
+		line(1, " * Convert a default collection value");
+		line(1, " *");
+		line(1, " * @param content     the default value content");
+		line(1, " * @param type        the collection type");
+		line(1, " * @param elementType the element type");
+		line(1, " * @param <C>         generic collection type");
+		line(1, " * @return the converted collection");
+		line(1, " */");
+		line(1, "private static <C> C defaultValue(String content, Class<?> type, Class<?> elementType) {");
+		line(2, "C result = elements((java.util.Collection<?>) defaultValue(content, type), elementType);");
+		line(2, "if (result == null)");
+		line(3, "throw new IllegalArgumentException(\"Invalid default value \\\"\" + content + \"\\\" of type \" + type.getName() + \"<\" + elementType.getName() + \">\");");
+		line(2, "return result;");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Convert each element of a text collection. Sets keep the element order.");
+		line(1, " *");
+		line(1, " * @param elements    the text collection");
+		line(1, " * @param elementType the element type");
+		line(1, " * @param <C>         generic collection type");
+		line(1, " * @return an unmodifiable collection or {@code null} if the collection or any element is not valid");
+		line(1, " */");
+		line(1, "@SuppressWarnings(\"unchecked\")");
+		line(1, "private static <C> C elements(java.util.Collection<?> elements, Class<?> elementType) {");
+		line(2, "if (elements == null) return null;");
+		line(2, "boolean set = elements instanceof java.util.Set;");
+		line(2, "java.util.Collection<Object> result = set ? new java.util.LinkedHashSet<>():new java.util.ArrayList<>(elements.size());");
+		line(2, "for (Object element : elements) {");
+		line(3, "Object value = REGISTRY.convert(String.valueOf(element), elementType);");
+		line(3, "if (value == null) return null;");
+		line(3, "result.add(value);");
+		line(2, "}");
+		line(2, "return (C) (set ? java.util.Collections.unmodifiableSet((java.util.Set<?>) result):");
+		line(3, "java.util.Collections.unmodifiableList((java.util.List<?>) result));");
+		line(1, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Append a source line
+	 *
+	 * @param indent the line indentation
+	 * @param line   the line content
+	 * @return the current instance
+	 */
+	private @NotNull BindingGenerator line(int indent, @NotNull String line) {
+		for (int i = 0; i < indent && !line.isEmpty(); i++) {
+			builder.append('\t');
+		}
+		builder.append(line).append('\n');
+		return this;
+	}
+
+	/**
+	 * Convert the content to a Java string literal
+	 *
+	 * @param content the content to convert
+	 * @return the string literal
+	 */
+	static @NotNull String literalOf(@NotNull String content) {
+		StringBuilder result = new StringBuilder(content.length() + 2).append('"');
+		for (int i = 0; i < content.length(); i++) {
+			char current = content.charAt(i);
+			switch (current) {
+				case '"':
+					result.append("\\\"");
+					break;
+				case '\\':
+					result.append("\\\\");
+					break;
+				case '\n':
+					result.append("\\n");
+					break;
+				case '\r':
+					result.append("\\r");
+					break;
+				case '\t':
+					result.append("\\t");
+					break;
+				default:
+					if (current < ' ' || current > '~') {
+						result.append(String.format("\\u%04x", (int) current));
+					} else {
+						result.append(current);
+					}
+			}
+		}
+		return result.append('"').toString();
+	}
+
+	/**
+	 * Removes the characters that cannot be used inside a documentation comment
+	 *
+	 * @param content the content to convert
+	 * @return the documentation content
+	 */
+	private static @NotNull String escapeDoc(@NotNull String content) {
+		return content.replace("*/", "*&#47;").replace('\n', ' ');
+	}
+
+	/* -----------------------------------------------------
+	 * Internal types
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Bound property information
+	 */
+	static final class Property {
+
+		/**
+		 * Entry name
+		 */
+		final String key;
+
+		/**
+		 * Declared field type
+		 */
+		final String fieldType;
+
+		/**
+		 * Type used by the local variables (primitive types are boxed)
+		 */
+		final String localType;
+
+		/**
+		 * Class literal used to search the converter
+		 */
+		final String classLiteral;
+
+		/**
+		 * Typed section getter ({@code getAsIntOrDefault}, {@code get}, etc...) or {@code null} if
+		 * the value is converted with the registry
+		 */
+		final @Nullable String typedGetter;
+
+		/**
+		 * Determines if the field type is primitive
+		 */
+		final boolean primitive;
+
+		/**
+		 * Determines if the field type is an array
+		 */
+		final boolean array;
+
+		/**
+		 * Class literal of the collection elements or {@code null} if the elements are not converted
+		 */
+		final @Nullable String elementLiteral;
+
+		/**
+		 * Default value content or {@code null} if the property has no default value
+		 */
+		final @Nullable String defaultValue;
+
+		/**
+		 * Assignment format (the value is inserted with {@link String#format(String, Object...)})
+		 * or {@code null} if the property cannot be modified
+		 */
+		final @Nullable String writeTarget;
+
+		/**
+		 * Expression used to get the property value or {@code null} if the property cannot be read
+		 */
+		final @Nullable String readSource;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param key            the entry name
+		 * @param fieldType      the declared field type
+		 * @param localType      the local variable type
+		 * @param classLiteral   the type class literal
+		 * @param typedGetter    the typed section getter
+		 * @param primitive      determines if the field type is primitive
+		 * @param array          determines if the field type is an array
+		 * @param elementLiteral the element class literal
+		 * @param defaultValue   the default value content
+		 * @param writeTarget    the assignment format
+		 * @param readSource     the value expression
+		 */
+		Property(
+			@NotNull String key,
+			@NotNull String fieldType,
+			@NotNull String localType,
+			@NotNull String classLiteral,
+			@Nullable String typedGetter,
+			boolean primitive,
+			boolean array,
+			@Nullable String elementLiteral,
+			@Nullable String defaultValue,
+			@Nullable String writeTarget,
+			@Nullable String readSource
+		) {
+			this.key = key;
+			this.fieldType = fieldType;
+			this.localType = localType;
+			this.classLiteral = classLiteral;
+			this.typedGetter = typedGetter;
+			this.primitive = primitive;
+			this.array = array;
+			this.elementLiteral = elementLiteral;
+			this.defaultValue = defaultValue;
+			this.writeTarget = writeTarget;
+			this.readSource = readSource;
+		}
+
+	}
+
+}
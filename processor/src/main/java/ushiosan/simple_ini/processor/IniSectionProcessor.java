@@ -0,0 +1,503 @@
+package ushiosan.simple_ini.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates the binding class of all classes annotated with
+ * {@code @IniSection}.
+ * <p>
+ * The generated class ({@code <ClassName>IniBinding}) is placed in the same package and contains
+ * straight-line code that reads each field with the typed section getters and writes it back with
+ * {@code put}, so the binding does not need reflection or runtime code generation.
+ */
+@SupportedAnnotationTypes(IniSectionProcessor.INI_SECTION_ANNOTATION)
+public final class IniSectionProcessor extends AbstractProcessor {
+
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Section annotation name
+	 */
+	static final String INI_SECTION_ANNOTATION = "ushiosan.simple_ini.binding.IniSection";
+
+	/**
+	 * Property annotation name
+	 */
+	static final String INI_PROPERTY_ANNOTATION = "ushiosan.simple_ini.binding.IniProperty";
+
+	/**
+	 * Value used to determine that the property has no default value
+	 */
+	static final String NO_DEFAULT = "\u0000";
+
+	/**
+	 * Generated class suffix
+	 */
+	static final String BINDING_SUFFIX = "IniBinding";
+
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Returns the latest supported source version
+	 *
+	 * @return the supported source version
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * Generates the binding class of all annotated classes
+	 *
+	 * @param annotations the annotations to process
+	 * @param round       the current round environment
+	 * @return always {@code true}, the annotations are claimed by this processor
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : round.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() != ElementKind.CLASS) {
+					error("@IniSection can only be applied to classes", element);
+					continue;
+				}
+				processType((TypeElement) element);
+			}
+		}
+		return true;
+	}
+
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+
+	/**
+	 * Generates the binding class of the type
+	 *
+	 * @param type the annotated type
+	 */
+	private void processType(@NotNull TypeElement type) {
+		if (!isValidType(type)) return;
+		// Collect all properties
+		List<BindingGenerator.Property> properties = propertiesOf(type);
+		if (properties == null) return;
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.isUnnamed() ? "":packageElement.getQualifiedName().toString();
+		BindingGenerator generator = new BindingGenerator(
+			packageName,
+			bindingNameOf(type),
+			type.getQualifiedName().toString(),
+			hasAccessibleConstructor(type),
+			properties);
+		// Write the source file
+		String qualifiedName = packageName.isEmpty() ? generator.getClassName():
+			packageName + "." + generator.getClassName();
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+			writer.write(generator.generate());
+		} catch (IOException e) {
+			error("Cannot write " + qualifiedName + ": " + e.getMessage(), type);
+		}
+	}
+
+	/**
+	 * Check if the type can be used by the generated code
+	 *
+	 * @param type the type to check
+	 * @return {@code true} if the type is valid or {@code false} otherwise
+	 */
+	private boolean isValidType(@NotNull TypeElement type) {
+		if (!type.getTypeParameters().isEmpty()) {
+			error("@IniSection classes cannot be generic", type);
+			return false;
+		}
+		// The generated class must access the type and all its enclosing types
+		for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+			TypeElement currentType = (TypeElement) current;
+			if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+				error("@IniSection classes cannot be private", currentType);
+				return false;
+			}
+			if (currentType.getNestingKind() == NestingKind.MEMBER && currentType.getKind() == ElementKind.CLASS &&
+				!currentType.getModifiers().contains(Modifier.STATIC)) {
+				error("Nested @IniSection classes must be static", currentType);
+				return false;
+			}
+			if (currentType.getNestingKind() == NestingKind.LOCAL || currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+				error("@IniSection classes cannot be local or anonymous classes", currentType);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Collect all properties of the type and its superclasses
+	 *
+	 * @param type the annotated type
+	 * @return all type properties or {@code null} if a property is not valid
+	 */
+	private @Nullable List<BindingGenerator.Property> propertiesOf(@NotNull TypeElement type) {
+		Map<String, BindingGenerator.Property> result = new LinkedHashMap<>();
+		boolean valid = true;
+		for (TypeElement current = type; current != null; current = superclassOf(current)) {
+			for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				Set<Modifier> modifiers = field.getModifiers();
+				if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) continue;
+				// Fields of subclasses hide the fields of superclasses
+				BindingGenerator.Property property = propertyOf(type, field);
+				if (property == null) {
+					valid = false;
+					continue;
+				}
+				if (property.writeTarget != null || property.readSource != null)
+					result.putIfAbsent(property.key, property);
+			}
+		}
+		return valid ? new ArrayList<>(result.values()):null;
+	}
+
+	/**
+	 * Generates the property of the field
+	 *
+	 * @param type  the annotated type
+	 * @param field the field to check
+	 * @return the field property or {@code null} if the field is not valid
+	 */
+	private @Nullable BindingGenerator.Property propertyOf(@NotNull TypeElement type, @NotNull VariableElement field) {
+		TypeMirror fieldType = field.asType();
+		String name = field.getSimpleName().toString();
+		// Type information
+		String localType;
+		String classLiteral;
+		String elementLiteral = null;
+		switch (fieldType.getKind()) {
+			case DECLARED:
+			case ARRAY:
+				// Only generic types need the complete type, other types are written without type annotations
+				TypeMirror erasure = processingEnv.getTypeUtils().erasure(fieldType);
+				boolean generic = fieldType.getKind() == TypeKind.DECLARED &&
+					!((DeclaredType) fieldType).getTypeArguments().isEmpty();
+				if (generic && isCollection(erasure)) {
+					// List and Set elements are converted one by one (same rules as SectionBinder)
+					TypeMirror element = elementTypeOf(((DeclaredType) fieldType).getTypeArguments().get(0));
+					if (element == null) {
+						error("Unsupported element type " + fieldType + " of @IniSection field " + name, field);
+						return null;
+					}
+					if (!isString(element) && !isCharSequence(element))
+						elementLiteral = processingEnv.getTypeUtils().erasure(element) + ".class";
+				} else if (generic) {
+					// The other converters only generate string elements
+					for (TypeMirror argument : ((DeclaredType) fieldType).getTypeArguments()) {
+						if (isString(argument)) continue;
+						error("Unsupported element type " + argument + " of @IniSection field " + name +
+							". Only String elements are supported", field);
+						return null;
+					}
+				}
+				localType = generic ? fieldType.toString():erasure.toString();
+				classLiteral = erasure + ".class";
+				break;
+			default:
+				if (!fieldType.getKind().isPrimitive()) {
+					error("Unsupported type of @IniSection field " + name, field);
+					return null;
+				}
+				localType = processingEnv.getTypeUtils().boxedClass((PrimitiveType) fieldType).getQualifiedName().toString();
+				classLiteral = localType + ".class";
+		}
+		// Annotation values
+		String key = name;
+		String defaultValue = null;
+		AnnotationMirror annotation = annotationOf(field, INI_PROPERTY_ANNOTATION);
+		if (annotation != null) {
+			String annotationName = annotationValueOf(annotation, "name");
+			String annotationDefault = annotationValueOf(annotation, "defaultValue");
+			if (annotationName != null && !annotationName.isEmpty()) key = annotationName;
+			if (annotationDefault != null && !annotationDefault.equals(NO_DEFAULT)) defaultValue = annotationDefault;
+		}
+		// Field access
+		boolean directAccess = isAccessible(type, field);
+		String writeTarget = null;
+		String readSource = null;
+		ExecutableElement setter = accessorOf(type, "set" + capitalize(name), fieldType, true);
+		if (setter != null) {
+			writeTarget = setter.getSimpleName() + "(%s)";
+		} else if (directAccess && !field.getModifiers().contains(Modifier.FINAL)) {
+			writeTarget = name + " = %s";
+		}
+		ExecutableElement getter = accessorOf(type, "get" + capitalize(name), fieldType, false);
+		if (getter == null && fieldType.getKind() == TypeKind.BOOLEAN)
+			getter = accessorOf(type, "is" + capitalize(name), fieldType, false);
+		if (getter != null) {
+			readSource = getter.getSimpleName() + "()";
+		} else if (directAccess) {
+			readSource = name;
+		}
+		// Private fields without setter cannot be read from the sections
+		if (writeTarget == null && !field.getModifiers().contains(Modifier.FINAL)) {
+			error("Field " + name + " is not accessible. Add a setter method or mark it as transient", field);
+			return null;
+		}
+		return new BindingGenerator.Property(
+			key,
+			fieldType.getKind().isPrimitive() ? fieldType.toString():localType,
+			localType,
+			classLiteral,
+			typedGetterOf(fieldType),
+			fieldType.getKind().isPrimitive(),
+			fieldType.getKind() == TypeKind.ARRAY,
+			elementLiteral,
+			defaultValue,
+			writeTarget,
+			readSource);
+	}
+
+	/**
+	 * Returns the typed section getter of the field type. The typed getters do not box the values.
+	 *
+	 * @param fieldType the field type
+	 * @return the getter name or {@code null} if the type does not have a typed getter
+	 */
+	private static @Nullable String typedGetterOf(@NotNull TypeMirror fieldType) {
+		switch (fieldType.getKind()) {
+			case INT:
+				return "getAsIntOrDefault";
+			case LONG:
+				return "getAsLongOrDefault";
+			case BOOLEAN:
+				return "getAsBooleanOrDefault";
+			default:
+				return isString(fieldType) ? "get":null;
+		}
+	}
+
+	/**
+	 * Check if the type is {@link String}
+	 *
+	 * @param type the type to check
+	 * @return {@code true} if the type is {@link String} or {@code false} otherwise
+	 */
+	private static boolean isString(@NotNull TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED &&
+			((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(String.class.getName());
+	}
+
+	/**
+	 * Checks if the type is {@link CharSequence}
+	 *
+	 * @param type the type to check
+	 * @return {@code true} if the type is {@link CharSequence} or {@code false} otherwise
+	 */
+	private static boolean isCharSequence(@NotNull TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED &&
+			((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(CharSequence.class.getName());
+	}
+
+	/**
+	 * Checks if the erased type is {@link List} or {@link Set}
+	 *
+	 * @param erasure the erased type to check
+	 * @return {@code true} if the elements of the type are converted one by one or {@code false} otherwise
+	 */
+	private static boolean isCollection(@NotNull TypeMirror erasure) {
+		String name = erasure.toString();
+		return name.equals(List.class.getName()) || name.equals(Set.class.getName());
+	}
+
+	/**
+	 * Returns the element type of a collection field
+	 *
+	 * @param argument the collection type argument
+	 * @return the element type, {@link String} for unbounded wildcards or {@code null} if the
+	 * 	element type is not a class (type variables, nested parameterized types, etc...)
+	 */
+	private @Nullable TypeMirror elementTypeOf(@NotNull TypeMirror argument) {
+		TypeMirror stringType = processingEnv.getElementUtils().getTypeElement(String.class.getName()).asType();
+		// Wildcards use its upper bound (List<?> and List<? extends Object> contain strings)
+		if (argument.getKind() == TypeKind.WILDCARD) {
+			WildcardType wildcard = (WildcardType) argument;
+			if (wildcard.getSuperBound() != null) return null;
+			argument = wildcard.getExtendsBound();
+			if (argument == null || argument.toString().equals(Object.class.getName())) return stringType;
+		}
+		return argument.getKind() == TypeKind.DECLARED &&
+			((DeclaredType) argument).getTypeArguments().isEmpty() ? argument:null;
+	}
+
+	/**
+	 * Search an accessible accessor method in the type hierarchy
+	 *
+	 * @param type      the annotated type
+	 * @param name      the method name
+	 * @param fieldType the field type
+	 * @param setter    determines if the method is a setter or a getter
+	 * @return the method or {@code null} if the method does not exist or is not accessible
+	 */
+	private @Nullable ExecutableElement accessorOf(
+		@NotNull TypeElement type,
+		@NotNull String name,
+		@NotNull TypeMirror fieldType,
+		boolean setter
+	) {
+		for (TypeElement current = type; current != null; current = superclassOf(current)) {
+			for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+				if (!method.getSimpleName().contentEquals(name) || method.getModifiers().contains(Modifier.STATIC))
+					continue;
+				if (!isAccessible(type, method)) continue;
+				// Check method signature
+				boolean valid = setter ?
+					method.getParameters().size() == 1 &&
+						processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), fieldType) :
+					method.getParameters().isEmpty() &&
+						processingEnv.getTypeUtils().isSameType(method.getReturnType(), fieldType);
+				if (valid) return method;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check if the generated class can access the member
+	 *
+	 * @param type   the annotated type (the generated class is in the same package)
+	 * @param member the member to check
+	 * @return {@code true} if the member is accessible or {@code false} otherwise
+	 */
+	private boolean isAccessible(@NotNull TypeElement type, @NotNull Element member) {
+		Set<Modifier> modifiers = member.getModifiers();
+		if (modifiers.contains(Modifier.PRIVATE)) return false;
+		if (modifiers.contains(Modifier.PUBLIC)) return true;
+		// Package and protected members are only accessible from the same package
+		return processingEnv.getElementUtils().getPackageOf(member)
+			.equals(processingEnv.getElementUtils().getPackageOf(type));
+	}
+
+	/**
+	 * Check if the type has an accessible no-arg constructor
+	 *
+	 * @param type the type to check
+	 * @return {@code true} if the constructor exists or {@code false} otherwise
+	 */
+	private boolean hasAccessibleConstructor(@NotNull TypeElement type) {
+		if (type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && isAccessible(type, constructor)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the superclass of the type
+	 *
+	 * @param type the type to check
+	 * @return the superclass or {@code null} if the superclass is {@link Object}
+	 */
+	private @Nullable TypeElement superclassOf(@NotNull TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) return null;
+		TypeElement result = (TypeElement) ((DeclaredType) superclass).asElement();
+		return result.getQualifiedName().contentEquals(Object.class.getName()) ? null:result;
+	}
+
+	/**
+	 * Search an annotation of the element by its name
+	 *
+	 * @param element the element to check
+	 * @param name    the annotation qualified name
+	 * @return the annotation or {@code null} if the element does not have the annotation
+	 */
+	private static @Nullable AnnotationMirror annotationOf(@NotNull Element element, @NotNull String name) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().contentEquals(name)) return annotation;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns an explicit value of the annotation
+	 *
+	 * @param annotation the annotation to check
+	 * @param name       the value name
+	 * @return the annotation value or {@code null} if the value is not defined
+	 */
+	private static @Nullable String annotationValueOf(@NotNull AnnotationMirror annotation, @NotNull String name) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) return String.valueOf(entry.getValue().getValue());
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the name of the generated class. Nested classes include the name of the enclosing classes.
+	 *
+	 * @param type the annotated type
+	 * @return the generated class name
+	 */
+	private static @NotNull String bindingNameOf(@NotNull TypeElement type) {
+		StringBuilder builder = new StringBuilder(type.getSimpleName());
+		for (Element current = type.getEnclosingElement(); current instanceof TypeElement; current = current.getEnclosingElement()) {
+			builder.insert(0, '_').insert(0, current.getSimpleName());
+		}
+		return builder.append(BINDING_SUFFIX).toString();
+	}
+
+	/**
+	 * Converts the first character to uppercase
+	 *
+	 * @param name the name to convert
+	 * @return the capitalized name
+	 */
+	private static @NotNull String capitalize(@NotNull String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	/**
+	 * Report a compilation error
+	 *
+	 * @param message the error message
+	 * @param element the element with the error
+	 */
+	private void error(@NotNull String message, @NotNull Element element) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+}
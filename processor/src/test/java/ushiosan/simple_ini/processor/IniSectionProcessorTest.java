@@ -0,0 +1,160 @@
+package ushiosan.simple_ini.processor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import ushiosan.simple_ini.section.Section;
+import ushiosan.simple_ini.section.SimpleSection;
+
+public class IniSectionProcessorTest {
+
+	private static final String SOURCE = String.join("\n",
+		"package sample;",
+		"",
+		"import java.time.Duration;",
+		"import java.util.List;",
+		"import ushiosan.simple_ini.binding.IniProperty;",
+		"import ushiosan.simple_ini.binding.IniSection;",
+		"",
+		"@IniSection",
+		"public class ServerConfig {",
+		"	String host;",
+		"	int port;",
+		"	@IniProperty(name = \"connect_timeout\", defaultValue = \"10s\")",
+		"	private Duration timeout;",
+		"	List<String> tags;",
+		"	@IniProperty(defaultValue = \"4\")",
+		"	int retries;",
+		"	long limit = 7;",
+		"	boolean secure;",
+		"	@IniProperty(defaultValue = \"guest\")",
+		"	String user;",
+		"	@IniProperty(defaultValue = \"1, 2\")",
+		"	int[] weights;",
+		"	private transient boolean ignored;",
+		"	public Duration getTimeout() { return timeout; }",
+		"	public void setTimeout(Duration timeout) { this.timeout = timeout; }",
+		"}");
+
+	@Test
+	public void generateTest() throws Exception {
+		Path directory = Files.createTempDirectory("ini_processor");
+		Path source = directory.resolve("sample/ServerConfig.java");
+		Files.createDirectories(source.getParent());
+		Files.writeString(source, SOURCE);
+
+		Assert.assertTrue(compile(directory, source));
+		Path generated = directory.resolve("sample/ServerConfigIniBinding.java");
+		Assert.assertTrue(Files.exists(generated));
+		System.out.println(Files.readString(generated));
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+			Class<?> binding = loader.loadClass("sample.ServerConfigIniBinding");
+			Section section = new SimpleSection("server");
+			section.put("host", "localhost");
+			section.put("port", "8080");
+			section.put("tags", "a, b");
+
+			Object config = binding.getMethod("read", Section.class).invoke(null, section);
+			Assert.assertEquals("localhost", fieldOf(config, "host"));
+			Assert.assertEquals(8080, fieldOf(config, "port"));
+			Assert.assertEquals(java.time.Duration.ofSeconds(10), fieldOf(config, "timeout"));
+			Assert.assertEquals(List.of("a", "b"), fieldOf(config, "tags"));
+			Assert.assertEquals(4, fieldOf(config, "retries"));
+			Assert.assertEquals(7L, fieldOf(config, "limit"));
+			Assert.assertEquals(false, fieldOf(config, "secure"));
+			Assert.assertEquals("guest", fieldOf(config, "user"));
+			Assert.assertArrayEquals(new int[]{1, 2}, (int[]) fieldOf(config, "weights"));
+
+			// Array defaults are not shared between objects
+			Object other = binding.getMethod("read", Section.class).invoke(null, section);
+			Assert.assertNotSame(fieldOf(config, "weights"), fieldOf(other, "weights"));
+
+			Method toSection = binding.getMethod("toSection", config.getClass(), CharSequence.class);
+			Section result = (Section) toSection.invoke(null, config, "copy");
+			Assert.assertEquals("PT10S", result.get("connect_timeout").orElseThrow());
+			Assert.assertEquals("a, b", result.get("tags").orElseThrow());
+			Assert.assertFalse(result.containsKey("ignored"));
+		}
+	}
+
+	@Test
+	public void genericElementTest() throws Exception {
+		Path directory = Files.createTempDirectory("ini_processor");
+		Path source = directory.resolve("Generic.java");
+		Files.writeString(source, "@ushiosan.simple_ini.binding.IniSection public class Generic {" +
+			" java.util.List<Integer> values;" +
+			" java.util.Set<? extends Long> ids;" +
+			" @ushiosan.simple_ini.binding.IniProperty(defaultValue = \"1, 2\") java.util.List<Integer> defaults; }");
+
+		Assert.assertTrue(compile(directory, source));
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+			Class<?> binding = loader.loadClass("GenericIniBinding");
+			Section section = new SimpleSection("generic");
+			section.put("values", "3, 4");
+			section.put("ids", "5, 6");
+
+			Object generic = binding.getMethod("read", Section.class).invoke(null, section);
+			Assert.assertEquals(List.of(3, 4), fieldOf(generic, "values"));
+			Assert.assertEquals(java.util.Set.of(5L, 6L), fieldOf(generic, "ids"));
+			Assert.assertEquals(List.of(1, 2), fieldOf(generic, "defaults"));
+
+			// Invalid elements keep the current value
+			section.put("values", "3, x");
+			Assert.assertNull(fieldOf(binding.getMethod("read", Section.class).invoke(null, section), "values"));
+		}
+	}
+
+	@Test
+	public void nestedElementTest() throws IOException {
+		Path directory = Files.createTempDirectory("ini_processor");
+		Path source = directory.resolve("Nested.java");
+		Files.writeString(source, "@ushiosan.simple_ini.binding.IniSection public class Nested { java.util.List<java.util.List<String>> values; }");
+
+		Assert.assertFalse(compile(directory, source));
+	}
+
+	@Test
+	public void inaccessibleFieldTest() throws IOException {
+		Path directory = Files.createTempDirectory("ini_processor");
+		Path source = directory.resolve("Invalid.java");
+		Files.writeString(source, "@ushiosan.simple_ini.binding.IniSection public class Invalid { private int value; }");
+
+		Assert.assertFalse(compile(directory, source));
+	}
+
+	private static boolean compile(Path output, Path source) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+			Iterable<? extends JavaFileObject> units = manager.getJavaFileObjects(source);
+			List<String> options = List.of(
+				"-classpath", System.getProperty("java.class.path"),
+				"-processor", IniSectionProcessor.class.getName(),
+				"-d", output.toString(),
+				"-s", output.toString());
+			return compiler.getTask(null, manager, null, options, null, units).call();
+		}
+	}
+
+	private static Object fieldOf(Object instance, String name) throws ReflectiveOperationException {
+		Field field = instance.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(instance);
+	}
+
+}
@@ -1,2 +1,4 @@
 rootProject.name = "simple-ini"
-include(":library")
\ No newline at end of file
+include(":library")
+include(":processor")
+include(":benchmark")
\ No newline at end of file